@@ -0,0 +1,93 @@
+package ru.otus.hw.build;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes {@code .br} and {@code .gz} siblings next to the compressible files of the copied static
+ * resources, so that the EncodedResourceResolver can send them without compressing on every request.
+ * A variant is kept only when it is smaller than the original. Every web module runs this one file from
+ * source in its build with {@code java PrecompressStaticResources.java <static dir>} on its test classpath,
+ * which brings brotli4j and the logger; brotli is skipped with a warning where the native encoder is not
+ * available.
+ */
+public final class PrecompressStaticResources {
+
+    private static final Set<String> EXTENSIONS = Set.of("js", "css", "html", "svg", "json", "ico", "txt", "map");
+
+    private static final int BROTLI_QUALITY = 11;
+
+    private static final Logger log = LoggerFactory.getLogger(PrecompressStaticResources.class);
+
+    private PrecompressStaticResources() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path root = Path.of(args[0]);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        boolean brotli = Brotli4jLoader.isAvailable();
+        if (!brotli) {
+            log.warn("Brotli encoder is not available, writing gzip only");
+        }
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile).filter(PrecompressStaticResources::isCompressible).toList();
+        }
+        long original = 0;
+        long compressed = 0;
+        for (Path file : files) {
+            byte[] content = Files.readAllBytes(file);
+            original += content.length;
+            long smallest = content.length;
+            if (brotli) {
+                smallest = Math.min(smallest, write(file, ".br", content,
+                        Encoder.compress(content, new Encoder.Parameters().setQuality(BROTLI_QUALITY))));
+            }
+            smallest = Math.min(smallest, write(file, ".gz", content, gzip(content)));
+            compressed += smallest;
+        }
+        log.info("Precompressed {} files of {}: {} bytes -> {} bytes", files.size(), root, original, compressed);
+    }
+
+    private static boolean isCompressible(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 && EXTENSIONS.contains(name.substring(dot + 1));
+    }
+
+    private static long write(Path file, String suffix, byte[] content, byte[] encoded) throws IOException {
+        Path target = file.resolveSibling(file.getFileName() + suffix);
+        if (encoded.length >= content.length) {
+            Files.deleteIfExists(target);
+            return content.length;
+        }
+        Files.write(target, encoded);
+        return encoded.length;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(content);
+        }
+        return bytes.toByteArray();
+    }
+}
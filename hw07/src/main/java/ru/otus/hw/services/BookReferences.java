@@ -0,0 +1,23 @@
+package ru.otus.hw.services;
+
+import ru.otus.hw.dto.AuthorDto;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
+
+import java.util.List;
+
+/**
+ * Validated author and genres references of a book write, with the names they were validated with
+ */
+public record BookReferences(Author author, List<Genre> genres, AuthorDto authorDto, List<GenreDto> genreDtos) {
+
+    /**
+     * Maps the written book without initialising its author and genres references
+     */
+    public BookDto toBookDto(Book book) {
+        return new BookDto(book.getId(), book.getTitle(), authorDto, genreDtos);
+    }
+}
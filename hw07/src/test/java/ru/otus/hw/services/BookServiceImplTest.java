@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 @DisplayName("Сервис для работы с книгами")
 @DataJpaTest
 @Import({BookServiceImpl.class,
+        BookReferenceServiceImpl.class,
         AuthorMapperImpl.class,
         GenreMapperImpl.class,
         CommentMapperImpl.class,
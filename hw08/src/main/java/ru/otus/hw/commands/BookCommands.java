@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 import ru.otus.hw.converters.BookConverter;
 import ru.otus.hw.dto.mappers.BookMapper;
 import ru.otus.hw.services.BookService;
@@ -29,6 +30,13 @@ public class BookCommands {
                 .collect(Collectors.joining("," + System.lineSeparator()));
     }
 
+    @ShellMethod(value = "Search books by title words (example: bsrch --query 'war peace' --limit 10)", key = "bsrch")
+    public String searchBooks(String query, @ShellOption(defaultValue = "20") int limit) {
+        return bookService.searchBooks(query, limit).stream()
+                .map(bookConverter::bookToString)
+                .collect(Collectors.joining("," + System.lineSeparator()));
+    }
+
     @ShellMethod(value = "Find books by id", key = "bbid")
     public String findBookById(String id) {
         return bookService.findById(id)
@@ -48,6 +56,12 @@ public class BookCommands {
         return bookConverter.bookToString(savedBook);
     }
 
+    @ShellMethod(value = "Update book title only", key = "butl")
+    public String updateBookTitle(String id, @Valid String title) {
+        var savedBook = bookService.updateTitle(id, title);
+        return bookConverter.bookToString(savedBook);
+    }
+
     @ShellMethod(value = "Delete book by id", key = "bdel")
     public void deleteBook(String id) {
         bookService.deleteById(id);
@@ -4,8 +4,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 import ru.otus.hw.converters.CommentConverter;
 import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.dto.CommentPageDto;
 import ru.otus.hw.models.Comment;
 import ru.otus.hw.services.CommentService;
 
@@ -30,6 +32,28 @@ public class CommentCommands {
                 .collect(Collectors.joining("," + System.lineSeparator()));
     }
 
+    @ShellMethod(value = "Find comments page by Book id (example: cpbbid --book-id 1 --after-id 2 --limit 20)",
+            key = "cpbbid")
+    public String findCommentsPageByBookId(String bookId,
+                                           @ShellOption(defaultValue = ShellOption.NULL) String afterId,
+                                           @ShellOption(defaultValue = "20") int limit) {
+        CommentPageDto page = commentService.findPageByBookId(bookId, afterId, limit);
+        String comments = page.comments().stream()
+                .map(commentConverter::commentMinToString)
+                .collect(Collectors.joining("," + System.lineSeparator()));
+        return page.nextAfterId() == null
+                ? comments
+                : comments + System.lineSeparator() + "Next page after id: %s".formatted(page.nextAfterId());
+    }
+
+    @ShellMethod(value = "Search comments by text words (example: csrch --query 'great book' --limit 10)",
+            key = "csrch")
+    public String searchComments(String query, @ShellOption(defaultValue = "20") int limit) {
+        return commentService.searchComments(query, limit).stream()
+                .map(commentConverter::commentMinToString)
+                .collect(Collectors.joining("," + System.lineSeparator()));
+    }
+
     @ShellMethod(value = "Find comment by id", key = "cbid")
     public String findCommentById(String id) {
         return commentService.findById(id)
@@ -0,0 +1,11 @@
+package ru.otus.hw.dto;
+
+import java.util.List;
+
+/**
+ * Page of {@link ru.otus.hw.models.Comment} ordered from newest to oldest.
+ * {@code nextAfterId} is the cursor for the next page or {@code null} if there are no more comments.
+ */
+public record CommentPageDto(List<CommentMinDto> comments,
+                             String nextAfterId) {
+}
@@ -13,6 +13,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.DocumentReference;
 
@@ -34,6 +35,7 @@ public class Book {
 
     @Indexed(unique = true)
     @NotBlank(message = "Book title can't be blank")
+    @TextIndexed
     @EqualsAndHashCode.Include
     @ToString.Include
     private String title;
@@ -11,7 +11,9 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.DocumentReference;
 
@@ -24,15 +26,16 @@ import java.time.OffsetDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "comments")
+@CompoundIndex(name = "book_id_desc", def = "{'book': 1, '_id': -1}")
 public class Comment {
     @Id
     private String id;
 
     @NotBlank(message = "Comment text can't be blank")
     @Indexed(unique = true)
+    @TextIndexed
     private String text;
 
-    @Indexed
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     @DocumentReference(lazy = true)
@@ -1,7 +1,17 @@
 package ru.otus.hw.repositories;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import ru.otus.hw.models.Author;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface AuthorRepository extends MongoRepository<Author, String> {
+
+    @Query(value = "{}", fields = "{ 'full_name': 1 }")
+    List<Author> findAllFullNames();
+
+    @Query(fields = "{ 'full_name': 1 }")
+    List<Author> findFullNamesByIdIn(Collection<String> ids);
 }
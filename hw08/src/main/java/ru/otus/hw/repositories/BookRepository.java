@@ -1,11 +1,19 @@
 package ru.otus.hw.repositories;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import ru.otus.hw.models.Book;
 
 import java.util.List;
+import java.util.Optional;
 
-public interface BookRepository extends MongoRepository<Book, String> {
+public interface BookRepository extends MongoRepository<Book, String>, BookRepositoryCustom {
+
+    @Query(value = "{}", fields = "{ 'title': 1, 'author': 1, 'genres': 1 }")
+    List<Book> findAllSummaries();
+
+    @Query(fields = "{ 'version': 1 }")
+    Optional<Book> findVersionById(String id);
 
     List<Book> findAllByAuthorId(String authorId);
 
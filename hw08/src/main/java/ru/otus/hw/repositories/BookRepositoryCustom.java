@@ -0,0 +1,12 @@
+package ru.otus.hw.repositories;
+
+import ru.otus.hw.models.Book;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BookRepositoryCustom {
+    List<Book> searchByTitle(String query, int limit);
+
+    Optional<Book> updateTitle(String id, String title, Long expectedVersion);
+}
@@ -0,0 +1,53 @@
+package ru.otus.hw.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import ru.otus.hw.models.Book;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class BookRepositoryCustomImpl implements BookRepositoryCustom {
+
+    private final MongoOperations mongoOperations;
+
+    @Override
+    public List<Book> searchByTitle(String query, int limit) {
+        return mongoOperations.find(searchByTitleQuery(query, limit), Book.class);
+    }
+
+    /**
+     * The {@code $text} query of {@link #searchByTitle}: best matches first, limited, with only the fields
+     * the book list shows. Package-private so that the query plan can be checked on exactly this query.
+     */
+    static TextQuery searchByTitleQuery(String query, int limit) {
+        TextQuery textQuery = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(query))
+                .sortByScore();
+        textQuery.fields().include("id", "title", "author", "genres");
+        textQuery.limit(limit);
+        return textQuery;
+    }
+
+    /**
+     * Title-only update as one findAndModify: $set is applied only if the stored version still matches,
+     * otherwise nothing is written and an empty result is returned.
+     */
+    @Override
+    public Optional<Book> updateTitle(String id, String title, Long expectedVersion) {
+        Query query = Query.query(Criteria.where("id").is(id).and("version").is(expectedVersion));
+        Update update = new Update()
+                .set("title", title)
+                .set("updated", OffsetDateTime.now())
+                .inc("version", 1);
+        return Optional.ofNullable(mongoOperations.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Book.class));
+    }
+}
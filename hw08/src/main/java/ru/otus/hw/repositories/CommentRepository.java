@@ -1,12 +1,23 @@
 package ru.otus.hw.repositories;
 
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import ru.otus.hw.models.Comment;
 
 import java.util.List;
+import java.util.Optional;
+
+public interface CommentRepository extends MongoRepository<Comment, String>, CommentRepositoryCustom {
+    @Query(fields = "{ 'version': 1 }")
+    Optional<Comment> findVersionById(String id);
 
-public interface CommentRepository extends MongoRepository<Comment, String> {
     List<Comment> findAllByBookId(String bookId);
 
+    List<Comment> findAllByBookIdOrderByIdDesc(String bookId, Limit limit);
+
+    List<Comment> findAllByBookIdAndIdLessThanOrderByIdDesc(String bookId, ObjectId afterId, Limit limit);
+
     void deleteAllByBookId(String bookId);
 }
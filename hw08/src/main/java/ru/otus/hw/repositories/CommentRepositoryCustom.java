@@ -0,0 +1,12 @@
+package ru.otus.hw.repositories;
+
+import ru.otus.hw.models.Comment;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CommentRepositoryCustom {
+    List<Comment> searchByText(String query, int limit);
+
+    Optional<Comment> updateText(String id, String text, Long expectedVersion);
+}
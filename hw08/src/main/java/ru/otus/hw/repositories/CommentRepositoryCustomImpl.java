@@ -0,0 +1,45 @@
+package ru.otus.hw.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import ru.otus.hw.models.Comment;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    private final MongoOperations mongoOperations;
+
+    @Override
+    public List<Comment> searchByText(String query, int limit) {
+        TextQuery textQuery = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(query))
+                .sortByScore();
+        textQuery.fields().include("id", "text");
+        textQuery.limit(limit);
+        return mongoOperations.find(textQuery, Comment.class);
+    }
+
+    /**
+     * Atomically sets the text with a single findAndModify guarded on the expected version.
+     * Returns the updated document or empty when the document was changed (or deleted) concurrently.
+     */
+    @Override
+    public Optional<Comment> updateText(String id, String text, Long expectedVersion) {
+        Query query = Query.query(Criteria.where("id").is(id).and("version").is(expectedVersion));
+        Update update = new Update()
+                .set("text", text)
+                .set("updated", OffsetDateTime.now())
+                .inc("version", 1);
+        return Optional.ofNullable(mongoOperations.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Comment.class));
+    }
+}
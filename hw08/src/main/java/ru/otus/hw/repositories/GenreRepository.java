@@ -1,7 +1,17 @@
 package ru.otus.hw.repositories;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import ru.otus.hw.models.Genre;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface GenreRepository extends MongoRepository<Genre, String> {
+
+    @Query(value = "{}", fields = "{ 'name': 1 }")
+    List<Genre> findAllNames();
+
+    @Query(fields = "{ 'name': 1 }")
+    List<Genre> findNamesByIdIn(Collection<String> ids);
 }
@@ -34,7 +34,7 @@ public class AuthorServiceImpl implements AuthorService {
 
     @Override
     public List<AuthorDto> findAll() {
-        return authorRepository.findAll().stream().map(mapper::toAuthorDto).toList();
+        return authorRepository.findAllFullNames().stream().map(mapper::toAuthorDto).toList();
     }
 
     @Override
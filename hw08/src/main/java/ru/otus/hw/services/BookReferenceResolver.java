@@ -0,0 +1,74 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Genre;
+import ru.otus.hw.repositories.AuthorRepository;
+import ru.otus.hw.repositories.GenreRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.springframework.util.CollectionUtils.isEmpty;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_LIST_NOT_FOUND_MESSAGE;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
+
+/**
+ * Validates author and genres ids of one or many book writes.
+ * Unknown ids are checked with a single {@code $in} projection query per collection and found documents
+ * (id and name only) are cached for the resolver lifetime, so a resolver should live no longer than one
+ * (bulk) operation.
+ */
+@RequiredArgsConstructor
+public class BookReferenceResolver {
+
+    private final AuthorRepository authorRepository;
+
+    private final GenreRepository genreRepository;
+
+    private final Map<String, Author> existingAuthors = new HashMap<>();
+
+    private final Map<String, Genre> existingGenres = new HashMap<>();
+
+    public BookReferenceResolver prefetch(Collection<String> authorIds, Collection<String> genresIds) {
+        loadExisting(authorIds, existingAuthors, authorRepository::findFullNamesByIdIn, Author::getId);
+        loadExisting(genresIds, existingGenres, genreRepository::findNamesByIdIn, Genre::getId);
+        return this;
+    }
+
+    public BookReferences resolve(String authorId, Set<String> genresIds) {
+        if (isEmpty(genresIds)) {
+            throw new IllegalArgumentException(ILLEGAL_ARGUMENT_MESSAGE.getMessage(Genre.class.getSimpleName()));
+        }
+        prefetch(authorId == null ? Set.of() : Set.of(authorId), genresIds);
+        Author author = existingAuthors.get(authorId);
+        if (author == null) {
+            throw new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                    .getMessage(Author.class.getSimpleName(), authorId));
+        }
+        if (!existingGenres.keySet().containsAll(genresIds)) {
+            throw new IllegalArgumentException(ENTITY_LIST_NOT_FOUND_MESSAGE
+                    .getMessage(Genre.class.getSimpleName().toLowerCase(Locale.ROOT), genresIds));
+        }
+        List<Genre> genres = genresIds.stream().map(existingGenres::get).toList();
+        return new BookReferences(author, genres);
+    }
+
+    private static <T> void loadExisting(Collection<String> ids, Map<String, T> existing,
+                                         Function<Collection<String>, List<T>> finder, Function<T, String> idGetter) {
+        Set<String> unknownIds = new HashSet<>();
+        ids.stream().filter(Objects::nonNull).filter(id -> !existing.containsKey(id)).forEach(unknownIds::add);
+        if (!unknownIds.isEmpty()) {
+            finder.apply(unknownIds).forEach(entity -> existing.put(idGetter.apply(entity), entity));
+        }
+    }
+}
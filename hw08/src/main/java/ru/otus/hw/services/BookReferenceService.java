@@ -0,0 +1,6 @@
+package ru.otus.hw.services;
+
+public interface BookReferenceService {
+
+    BookReferenceResolver newResolver();
+}
@@ -0,0 +1,12 @@
+package ru.otus.hw.services;
+
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Genre;
+
+import java.util.List;
+
+/**
+ * Validated author and genres references of a book write
+ */
+public record BookReferences(Author author, List<Genre> genres) {
+}
@@ -12,9 +12,13 @@ public interface BookService {
 
     List<BookDto> findAll();
 
+    List<BookDto> searchBooks(String query, int limit);
+
     BookDto insert(@Valid String title, String authorId, Set<String> genresIds);
 
     BookDto update(String id, @Valid String title, String authorId, Set<String> genresIds);
 
+    BookDto updateTitle(String id, @Valid String title);
+
     void deleteById(String id);
 }
@@ -2,6 +2,8 @@ package ru.otus.hw.services;
 
 import jakarta.validation.Valid;
 import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.dto.CommentMinDto;
+import ru.otus.hw.dto.CommentPageDto;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +16,10 @@ public interface CommentService {
 
     List<CommentDto> findByBookId(String bookId);
 
+    CommentPageDto findPageByBookId(String bookId, String afterId, int limit);
+
+    List<CommentMinDto> searchComments(String query, int limit);
+
     CommentDto insert(@Valid String text, String bookId);
 
     CommentDto update(String id, @Valid String text);
@@ -2,8 +2,14 @@ package ru.otus.hw.services;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.dto.CommentMinDto;
+import ru.otus.hw.dto.CommentPageDto;
 import ru.otus.hw.dto.mappers.CommentMapper;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Book;
@@ -16,19 +22,28 @@ import java.util.Optional;
 import java.util.Set;
 
 import static org.springframework.util.CollectionUtils.isEmpty;
+import static ru.otus.hw.utils.Lists.getLast;
+import static ru.otus.hw.utils.ValidationMessages.CONCURRENT_MODIFICATION_MESSAGE;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
+import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_CURSOR_MESSAGE;
+import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_PAGE_SIZE_MESSAGE;
+import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_SEARCH_QUERY_MESSAGE;
 
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BookRepository bookRepository;
 
     private final CommentRepository commentRepository;
 
     private final CommentMapper mapper;
 
+    private final OptimisticLockRetrier optimisticLockRetrier;
+
     @Override
     public Optional<CommentDto> findById(String id) {
         return commentRepository.findById(id).map(mapper::toCommentDto);
@@ -52,6 +67,40 @@ public class CommentServiceImpl implements CommentService {
                 .map(mapper::toCommentDto).toList();
     }
 
+    @Override
+    public CommentPageDto findPageByBookId(String bookId, String afterId, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(ILLEGAL_PAGE_SIZE_MESSAGE.getMessage(MAX_PAGE_SIZE));
+        }
+        if (afterId != null && !ObjectId.isValid(afterId)) {
+            throw new IllegalArgumentException(ILLEGAL_CURSOR_MESSAGE.getMessage(afterId));
+        }
+        if (!bookRepository.existsById(bookId)) {
+            throw new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE.getMessage(Book.class.getSimpleName(), bookId));
+        }
+        Limit pageLimit = Limit.of(limit + 1);
+        List<Comment> comments = afterId == null
+                ? commentRepository.findAllByBookIdOrderByIdDesc(bookId, pageLimit)
+                : commentRepository.findAllByBookIdAndIdLessThanOrderByIdDesc(bookId, new ObjectId(afterId), pageLimit);
+        boolean hasNext = comments.size() > limit;
+        List<CommentMinDto> page = comments.stream()
+                .limit(limit)
+                .map(mapper::toCommentMinDto)
+                .toList();
+        return new CommentPageDto(page, hasNext ? getLast(page).id() : null);
+    }
+
+    @Override
+    public List<CommentMinDto> searchComments(String query, int limit) {
+        if (!StringUtils.hasText(query)) {
+            throw new IllegalArgumentException(ILLEGAL_SEARCH_QUERY_MESSAGE.getMessage());
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(ILLEGAL_PAGE_SIZE_MESSAGE.getMessage(MAX_PAGE_SIZE));
+        }
+        return commentRepository.searchByText(query, limit).stream().map(mapper::toCommentMinDto).toList();
+    }
+
     @Override
     public CommentDto insert(@Valid String text, String bookId) {
         Book book = bookRepository.findById(bookId)
@@ -62,11 +111,15 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public CommentDto update(String id, @Valid String text) {
-        Comment comment = commentRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
-                        .getMessage(Comment.class.getSimpleName(), id)));
-        comment.setText(text);
-        return mapper.toCommentDto(commentRepository.save(comment));
+        return optimisticLockRetrier.execute(() -> {
+            Comment current = commentRepository.findVersionById(id)
+                    .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                            .getMessage(Comment.class.getSimpleName(), id)));
+            return commentRepository.updateText(id, text, current.getVersion())
+                    .map(mapper::toCommentDto)
+                    .orElseThrow(() -> new OptimisticLockingFailureException(CONCURRENT_MODIFICATION_MESSAGE
+                            .getMessage(Comment.class.getSimpleName(), id)));
+        });
     }
 
     @Override
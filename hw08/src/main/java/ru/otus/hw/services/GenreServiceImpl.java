@@ -27,7 +27,7 @@ public class GenreServiceImpl implements GenreService {
 
     @Override
     public List<GenreDto> findAll() {
-        return genreRepository.findAll().stream().map(mapper::toGenreDto).toList();
+        return genreRepository.findAllNames().stream().map(mapper::toGenreDto).toList();
     }
 
     @Override
@@ -0,0 +1,69 @@
+package ru.otus.hw.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a versioned write that lost an optimistic locking race.
+ * Attempts are separated by exponential backoff with full jitter, so concurrent writers of the same document
+ * spread out instead of colliding again on the next attempt. The write must re-read the document itself.
+ */
+@Component
+public class OptimisticLockRetrier {
+
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private final int maxAttempts;
+
+    private final long initialBackoffMillis;
+
+    private final long maxBackoffMillis;
+
+    private final LongAdder retries = new LongAdder();
+
+    public OptimisticLockRetrier(@Value("${application.optimistic-lock.max-attempts:16}") int maxAttempts,
+                                 @Value("${application.optimistic-lock.initial-backoff-millis:2}")
+                                 long initialBackoffMillis,
+                                 @Value("${application.optimistic-lock.max-backoff-millis:100}")
+                                 long maxBackoffMillis) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    public <T> T execute(Supplier<T> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return write.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                retries.increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * Number of writes re-run after a lost race since start-up, a measure of how contended the documents are
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, MAX_BACKOFF_SHIFT));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry a versioned write", e);
+        }
+    }
+}
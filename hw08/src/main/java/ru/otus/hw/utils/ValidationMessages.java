@@ -7,7 +7,11 @@ import lombok.RequiredArgsConstructor;
 public enum ValidationMessages {
     ENTITY_NOT_FOUND_MESSAGE("%s with id %s not found"),
     ILLEGAL_ARGUMENT_MESSAGE("%s id list can't be null or empty"),
-    ENTITY_LIST_NOT_FOUND_MESSAGE("One or all %ss with ids %s not found");
+    ENTITY_LIST_NOT_FOUND_MESSAGE("One or all %ss with ids %s not found"),
+    ILLEGAL_PAGE_SIZE_MESSAGE("Page size must be between 1 and %d"),
+    ILLEGAL_CURSOR_MESSAGE("%s is not a valid page cursor"),
+    ILLEGAL_SEARCH_QUERY_MESSAGE("Search query can't be blank"),
+    CONCURRENT_MODIFICATION_MESSAGE("%s with id %s was modified concurrently");
 
     private final String message;
 
@@ -2,7 +2,11 @@ package ru.otus.hw.mongock.testchangelog;
 
 import com.github.cloudyrock.mongock.ChangeLog;
 import com.github.cloudyrock.mongock.ChangeSet;
+import com.github.cloudyrock.mongock.driver.mongodb.springdata.v3.decorator.impl.MongockTemplate;
 import com.mongodb.client.MongoDatabase;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Comment;
@@ -13,6 +17,7 @@ import ru.otus.hw.repositories.CommentRepository;
 import ru.otus.hw.repositories.GenreRepository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @SuppressWarnings("unused")
 @ChangeLog
@@ -70,4 +75,21 @@ public class TestDatabaseChangelog {
 
         commentRepository.saveAll(List.of(comment1, comment2, comment3, comment4, comment5, comment6));
     }
+
+    @ChangeSet(order = "006", id = "init-comment-indexes", author = "alexnika")
+    public void initCommentIndexes(MongockTemplate mongoTemplate) {
+        ensureIndexes(mongoTemplate, Comment.class);
+    }
+
+    @ChangeSet(order = "007", id = "init-indexes", author = "alexnika")
+    public void initIndexes(MongockTemplate mongoTemplate) {
+        Stream.of(Author.class, Genre.class, Book.class).forEach(type -> ensureIndexes(mongoTemplate, type));
+    }
+
+    private static void ensureIndexes(MongockTemplate mongoTemplate, Class<?> type) {
+        IndexResolver indexResolver = new MongoPersistentEntityIndexResolver(
+                mongoTemplate.getConverter().getMappingContext());
+        IndexOperations indexOperations = mongoTemplate.indexOps(type);
+        indexResolver.resolveIndexFor(type).forEach(indexOperations::ensureIndex);
+    }
 }
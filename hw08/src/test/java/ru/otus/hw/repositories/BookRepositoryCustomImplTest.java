@@ -0,0 +1,61 @@
+package ru.otus.hw.repositories;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.services.AbstractServiceTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Explains the very {@link TextQuery} the repository runs, mapped to the collection the way
+ * {@code MongoTemplate} maps it, so a change of its filter, sort or projection shows up in the plan.
+ * Since MongoDB 4.4 the former {@code TEXT} stage is split into {@code TEXT_MATCH} over {@code TEXT_OR}.
+ */
+@DisplayName("Запрос полнотекстового поиска книг")
+class BookRepositoryCustomImplTest extends AbstractServiceTest {
+
+    @DisplayName("должен использовать текстовый индекс при поиске книг")
+    @Test
+    void whenSearchByTitle_thenQueryUsesTextIndex() {
+        //Given
+        TextQuery query = BookRepositoryCustomImpl.searchByTitleQuery("messiah", 10);
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(Book.class);
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+
+        //When
+        Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Book.class))
+                .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .projection(queryMapper.getMappedFields(query.getFieldsObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                .limit(query.getLimit())
+                .explain();
+
+        //Then
+        List<String> stages = new ArrayList<>();
+        collectStages(explain.get("queryPlanner", Document.class).get("winningPlan"), stages);
+        assertThat(stages)
+                .contains("TEXT_MATCH", "TEXT_OR", "IXSCAN")
+                .doesNotContain("COLLSCAN");
+        assertThat(explain.toJson()).contains("_TextIndex");
+    }
+
+    private static void collectStages(Object plan, List<String> stages) {
+        if (plan instanceof Document document) {
+            if (document.get("stage") instanceof String stage) {
+                stages.add(stage);
+            }
+            document.values().forEach(value -> collectStages(value, stages));
+        } else if (plan instanceof List<?> inputStages) {
+            inputStages.forEach(value -> collectStages(value, stages));
+        }
+    }
+}
@@ -33,6 +33,8 @@ import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
 @Import({
         AuthorServiceImpl.class,
         BookServiceImpl.class,
+        BookReferenceServiceImpl.class,
+        OptimisticLockRetrier.class,
         AuthorMapperImpl.class,
         BookMapperImpl.class,
         GenreMapperImpl.class,
@@ -22,10 +22,13 @@ import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_SEARCH_QUERY_MESSAGE;
 
 @DisplayName("Сервис для работы с книгами")
 
 @Import({BookServiceImpl.class,
+        BookReferenceServiceImpl.class,
+        OptimisticLockRetrier.class,
         AuthorMapperImpl.class,
         GenreMapperImpl.class,
         CommentMapperImpl.class,
@@ -244,4 +247,86 @@ class BookServiceImplTest extends AbstractServiceTest {
         //Then
         assertThat(bookService.findById(newBookId)).isNotNull().isEmpty();
     }
+
+    @DisplayName("должен искать книги по словам из названия с сортировкой по релевантности")
+    @Order(11)
+    @Test
+    void whenSearchBooks_thenReturnBooksMatchingTitle() {
+        //Given
+        Author newAuthor = this.insertAuthor("New_Author_8");
+        Book bestMatch = this.insertBook("Dune Messiah Messiah", newAuthor);
+        Book otherMatch = this.insertBook("Messiah of the Sands", newAuthor);
+        this.insertBook("Children of Dune", newAuthor);
+
+        //When
+        List<BookDto> books = bookService.searchBooks("messiah", 10);
+
+        //Then
+        assertThat(books)
+                .extracting(BookDto::id)
+                .containsExactly(bestMatch.getId(), otherMatch.getId());
+        assertThat(books).allSatisfy(book -> assertThat(book.author().fullName()).isEqualTo("New_Author_8"));
+    }
+
+    @DisplayName("должен выбрасывать исключение при поиске книг по пустому запросу")
+    @Order(13)
+    @Test
+    void whenSearchBooksByBlankQuery_thenThrowIllegalArgumentException() {
+        //Then
+        assertThatThrownBy(() -> bookService.searchBooks(" ", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ILLEGAL_SEARCH_QUERY_MESSAGE.getMessage());
+    }
+
+    @DisplayName("должен возвращать имена автора и жанров при создании книги")
+    @Order(14)
+    @Test
+    void whenSaveNewBook_thenReturnAuthorAndGenreNames() {
+        //Given
+        Author newAuthor = this.insertAuthor("New_Author_9");
+        Genre newGenre = this.insertGenre("New_Genre_9");
+
+        //When
+        BookDto book = bookService.insert("New_BookTitle_9", newAuthor.getId(), Set.of(newGenre.getId()));
+
+        //Then
+        assertThat(book.author().fullName()).isEqualTo(newAuthor.getFullName());
+        assertThat(book.genres())
+                .extracting(GenreDto::name)
+                .containsExactly(newGenre.getName());
+    }
+
+    @DisplayName("должен атомарно обновлять только название книги")
+    @Order(15)
+    @Test
+    void whenUpdateBookTitle_thenKeepReferencesAndIncrementVersion() {
+        //Given
+        Author newAuthor = this.insertAuthor("New_Author_10");
+        Genre newGenre = this.insertGenre("New_Genre_10");
+        Book newBook = this.insertBook("New_BookTitle_10", newAuthor);
+        newBook.setGenres(List.of(newGenre));
+        newBook = mongoTemplate.save(newBook);
+        String updatedTitle = "Updated_BookTitle_10";
+
+        //When
+        BookDto book = bookService.updateTitle(newBook.getId(), updatedTitle);
+
+        //Then
+        assertThat(book.title()).isEqualTo(updatedTitle);
+        assertThat(book.author().id()).isEqualTo(newAuthor.getId());
+        assertThat(book.genres()).extracting(GenreDto::id).containsExactly(newGenre.getId());
+        assertThat(mongoTemplate.findById(newBook.getId(), Book.class))
+                .extracting(Book::getTitle, Book::getVersion)
+                .containsExactly(updatedTitle, newBook.getVersion() + 1);
+    }
+
+    @DisplayName("должен выбрасывать исключение при обновлении названия книги по несуществующему id")
+    @Order(16)
+    @Test
+    void whenUpdateBookTitleByNonExistentId_thenThrowEntityNotFoundException() {
+        //Then
+        assertThatThrownBy(() -> bookService.updateTitle(MISSING_ID, "Updated_BookTitle_11"))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining(ENTITY_NOT_FOUND_MESSAGE.getMessage(Book.class.getSimpleName(), MISSING_ID));
+    }
 }
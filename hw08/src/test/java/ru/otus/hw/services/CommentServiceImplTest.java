@@ -1,5 +1,6 @@
 package ru.otus.hw.services;
 
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -7,8 +8,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
 import ru.otus.hw.dto.BookDto;
 import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.dto.CommentMinDto;
+import ru.otus.hw.dto.CommentPageDto;
 import ru.otus.hw.dto.mappers.AuthorMapperImpl;
 import ru.otus.hw.dto.mappers.BookMapperImpl;
 import ru.otus.hw.dto.mappers.CommentMapperImpl;
@@ -24,16 +30,20 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static ru.otus.hw.utils.Lists.getFirst;
 import static ru.otus.hw.utils.Lists.getLast;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
+import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_CURSOR_MESSAGE;
 
 @DisplayName("Сервис для работы с комментариями")
 @Import({CommentServiceImpl.class,
         AuthorServiceImpl.class,
         BookServiceImpl.class,
+        BookReferenceServiceImpl.class,
+        OptimisticLockRetrier.class,
         CommentMapperImpl.class,
         AuthorMapperImpl.class,
         BookMapperImpl.class,
@@ -283,4 +293,91 @@ class CommentServiceImplTest extends AbstractServiceTest {
         //Then
         assertThat(commentService.findById(newCommentId)).isEmpty();
     }
+
+    @DisplayName("должен загружать комментарии книги постранично от новых к старым")
+    @Order(13)
+    @Test
+    void whenFindCommentsPageByBookId_thenReturnPagesByCursor() {
+        //Given
+        Author newAuthor = this.insertAuthor("New_Author_7");
+        Book newBook = this.insertBook("New_Book_7", newAuthor);
+        Comment first = this.insertComment("New_Comment_7_1", newBook);
+        Comment second = this.insertComment("New_Comment_7_2", newBook);
+        Comment third = this.insertComment("New_Comment_7_3", newBook);
+
+        //When
+        CommentPageDto firstPage = commentService.findPageByBookId(newBook.getId(), null, 2);
+        CommentPageDto lastPage = commentService.findPageByBookId(newBook.getId(), firstPage.nextAfterId(), 2);
+
+        //Then
+        assertThat(firstPage.comments())
+                .extracting(CommentMinDto::id)
+                .containsExactly(third.getId(), second.getId());
+        assertThat(firstPage.nextAfterId()).isEqualTo(second.getId());
+        assertThat(lastPage.comments())
+                .extracting(CommentMinDto::id)
+                .containsExactly(first.getId());
+        assertThat(lastPage.nextAfterId()).isNull();
+    }
+
+    @DisplayName("должен выбрасывать исключение при постраничном поиске с некорректным курсором")
+    @Order(14)
+    @Test
+    void whenFindCommentsPageByInvalidCursor_thenThrowIllegalArgumentException() {
+        //Given
+        String invalidCursor = "not-an-object-id";
+
+        //Then
+        assertThatThrownBy(() -> commentService.findPageByBookId(MISSING_ID, invalidCursor, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ILLEGAL_CURSOR_MESSAGE.getMessage(invalidCursor));
+    }
+
+    @DisplayName("должен выбрасывать исключение при постраничном поиске по несуществующему id книги")
+    @Order(15)
+    @Test
+    void whenFindCommentsPageByNonExistentBookId_thenThrowEntityNotFoundException() {
+        //Given - book MISSING_ID
+
+        //Then
+        assertThatThrownBy(() -> commentService.findPageByBookId(MISSING_ID, null, 10))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining(ENTITY_NOT_FOUND_MESSAGE.getMessage(Book.class.getSimpleName(), MISSING_ID));
+    }
+
+    @DisplayName("должен искать комментарии по словам из текста")
+    @Order(16)
+    @Test
+    void whenSearchComments_thenReturnCommentsMatchingText() {
+        //Given
+        Author newAuthor = this.insertAuthor("New_Author_8");
+        Book newBook = this.insertBook("New_Book_8", newAuthor);
+        Comment matched = this.insertComment("Brilliant translation", newBook);
+        this.insertComment("Boring plot", newBook);
+
+        //When
+        List<CommentMinDto> comments = commentService.searchComments("translation", 10);
+
+        //Then
+        assertThat(comments)
+                .extracting(CommentMinDto::id, CommentMinDto::text)
+                .containsExactly(tuple(matched.getId(), matched.getText()));
+    }
+
+    @DisplayName("должен создавать индекс, по которому читаются страницы комментариев книги")
+    @Order(17)
+    @Test
+    void whenDatabaseInitialized_thenCommentPagingIndexExists() {
+        //When
+        List<IndexInfo> indexes = mongoTemplate.indexOps(Comment.class).getIndexInfo();
+
+        //Then
+        assertThat(indexes)
+                .filteredOn(index -> "book_id_desc".equals(index.getName()))
+                .singleElement()
+                .extracting(IndexInfo::getIndexFields)
+                .asInstanceOf(InstanceOfAssertFactories.list(IndexField.class))
+                .extracting(IndexField::getKey, IndexField::getDirection)
+                .containsExactly(tuple("book", Sort.Direction.ASC), tuple("_id", Sort.Direction.DESC));
+    }
 }
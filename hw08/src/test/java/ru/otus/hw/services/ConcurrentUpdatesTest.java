@@ -0,0 +1,135 @@
+package ru.otus.hw.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import ru.otus.hw.dto.mappers.AuthorMapperImpl;
+import ru.otus.hw.dto.mappers.BookMapperImpl;
+import ru.otus.hw.dto.mappers.CommentMapperImpl;
+import ru.otus.hw.dto.mappers.GenreMapperImpl;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Comment;
+import ru.otus.hw.models.Genre;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Конкурентное обновление книг и комментариев")
+@Import({BookServiceImpl.class,
+        CommentServiceImpl.class,
+        BookReferenceServiceImpl.class,
+        OptimisticLockRetrier.class,
+        AuthorMapperImpl.class,
+        GenreMapperImpl.class,
+        CommentMapperImpl.class,
+        BookMapperImpl.class
+})
+@TestPropertySource(properties = {
+        "application.optimistic-lock.max-attempts=" + ConcurrentUpdatesTest.MAX_ATTEMPTS,
+        "logging.level.ru.otus.hw.services.ConcurrentUpdatesTest=info"
+})
+class ConcurrentUpdatesTest extends AbstractServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrentUpdatesTest.class);
+
+    static final int WRITERS = 64;
+
+    /**
+     * A writer loses a race only to a write of another writer, so it needs at most {@code WRITERS} attempts;
+     * the headroom keeps the test from depending on that bound being exact.
+     */
+    static final int MAX_ATTEMPTS = WRITERS * 4;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private OptimisticLockRetrier retrier;
+
+    @DisplayName("не должен терять обновления текста комментария при 64 параллельных писателях")
+    @Test
+    void whenConcurrentCommentTextUpdates_thenApplyEveryWrite() throws Exception {
+        //Given
+        Book newBook = this.insertBook("Concurrent_Book_1", this.insertAuthor("Concurrent_Author_1"));
+        Comment newComment = this.insertComment("Concurrent_Comment", newBook);
+
+        //When
+        List<String> texts = runWriters("comment text", i -> () -> commentService.update(newComment.getId(), "Comment_" + i).text());
+
+        //Then
+        Comment stored = mongoTemplate.findById(newComment.getId(), Comment.class);
+        assertThat(texts).hasSize(WRITERS).doesNotHaveDuplicates();
+        assertThat(stored).isNotNull();
+        assertThat(stored.getVersion()).isEqualTo(newComment.getVersion() + WRITERS);
+        assertThat(texts).contains(stored.getText());
+    }
+
+    @DisplayName("не должен терять обновления книги при 64 параллельных писателях")
+    @Test
+    void whenConcurrentBookUpdates_thenApplyEveryWrite() throws Exception {
+        //Given
+        Author newAuthor = this.insertAuthor("Concurrent_Author_2");
+        Genre newGenre = this.insertGenre("Concurrent_Genre_2");
+        Book newBook = this.insertBook("Concurrent_Book_2", newAuthor);
+        Set<String> genresIds = Set.of(newGenre.getId());
+
+        //When
+        List<String> titles = runWriters("book", i -> () -> i % 2 == 0
+                ? bookService.updateTitle(newBook.getId(), "Book_" + i).title()
+                : bookService.update(newBook.getId(), "Book_" + i, newAuthor.getId(), genresIds).title());
+
+        //Then
+        Book stored = mongoTemplate.findById(newBook.getId(), Book.class);
+        assertThat(titles).hasSize(WRITERS).doesNotHaveDuplicates();
+        assertThat(stored).isNotNull();
+        assertThat(stored.getVersion()).isEqualTo(newBook.getVersion() + WRITERS);
+        assertThat(titles).contains(stored.getTitle());
+    }
+
+    /**
+     * Runs the writers all at once and logs the throughput they reached together with the retries it took
+     */
+    private List<String> runWriters(String name, IntFunction<Callable<String>> writer) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            IntStream.range(0, WRITERS).forEach(i -> futures.add(executor.submit(() -> {
+                start.await();
+                return writer.apply(i).call();
+            })));
+            long retriesBefore = retrier.getRetries();
+            long startedAt = System.nanoTime();
+            start.countDown();
+            List<String> results = new ArrayList<>();
+            for (Future<String> future : futures) {
+                results.add(future.get(1, TimeUnit.MINUTES));
+            }
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+            log.info("{} concurrent {} updates in {} ms: {} writes/s, {} retries", WRITERS, name,
+                    Math.round(seconds * 1000), Math.round(WRITERS / seconds), retrier.getRetries() - retriesBefore);
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
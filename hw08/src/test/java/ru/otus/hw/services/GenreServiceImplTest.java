@@ -24,6 +24,8 @@ import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
 @DisplayName("Сервис для работы с жанрами")
 @Import({GenreServiceImpl.class,
         BookServiceImpl.class,
+        BookReferenceServiceImpl.class,
+        OptimisticLockRetrier.class,
         AuthorMapperImpl.class,
         BookMapperImpl.class,
         GenreMapperImpl.class,
@@ -0,0 +1,65 @@
+package ru.otus.hw.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Повтор записи при конфликте оптимистической блокировки")
+class OptimisticLockRetrierTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final OptimisticLockRetrier retrier = new OptimisticLockRetrier(MAX_ATTEMPTS, 1, 2);
+
+    @DisplayName("должен повторять запись до успешной попытки")
+    @Test
+    void whenWriteConflictsBelowMaxAttempts_thenReturnResultOfSuccessfulAttempt() {
+        //Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        //When
+        String result = retrier.execute(() -> {
+            if (attempts.incrementAndGet() < MAX_ATTEMPTS) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "saved";
+        });
+
+        //Then
+        assertThat(result).isEqualTo("saved");
+        assertThat(attempts).hasValue(MAX_ATTEMPTS);
+    }
+
+    @DisplayName("должен пробрасывать конфликт после исчерпания попыток")
+    @Test
+    void whenWriteAlwaysConflicts_thenThrowOptimisticLockingFailureException() {
+        //Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        //Then
+        assertThatThrownBy(() -> retrier.execute(() -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(attempts).hasValue(MAX_ATTEMPTS);
+    }
+
+    @DisplayName("не должен повторять запись при других исключениях")
+    @Test
+    void whenWriteFailsWithOtherException_thenThrowWithoutRetry() {
+        //Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        //Then
+        assertThatThrownBy(() -> retrier.execute(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("invalid");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(attempts).hasValue(1);
+    }
+}
@@ -0,0 +1,128 @@
+package ru.otus.hw.controllers;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.support.RequestContext;
+import org.springframework.web.servlet.view.AbstractTemplateView;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.TemplateSpec;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.context.webmvc.SpringWebMvcThymeleafRequestContext;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.spring6.naming.SpringContextVariableNames;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+import ru.otus.hw.services.ListView;
+import ru.otus.hw.services.ListViewVersions;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the rendered table rows of the list pages. An entry is served while it carries the current
+ * {@link ListViewVersions} stamp of its view, so a hit touches neither the database nor the template engine.
+ * Rows are rendered the same way {@code ThymeleafView} renders a page, with URL rewriting disabled
+ * so that no session id ends up in the shared HTML.
+ */
+@Component
+public class RenderedFragmentCache {
+
+    private static final String METRIC_NAME = "library.fragment.cache";
+
+    private final ListViewVersions versions;
+
+    private final ITemplateEngine templateEngine;
+
+    private final ApplicationContext applicationContext;
+
+    private final Map<ListView, Fragment> fragments = new ConcurrentHashMap<>();
+
+    private final Map<ListView, Counter> hits = new EnumMap<>(ListView.class);
+
+    private final Map<ListView, Counter> misses = new EnumMap<>(ListView.class);
+
+    public RenderedFragmentCache(ListViewVersions versions, ITemplateEngine templateEngine,
+                                 ApplicationContext applicationContext, MeterRegistry meterRegistry) {
+        this.versions = versions;
+        this.templateEngine = templateEngine;
+        this.applicationContext = applicationContext;
+        for (ListView view : ListView.values()) {
+            String viewTag = view.name().toLowerCase(Locale.ROOT);
+            hits.put(view, Counter.builder(METRIC_NAME).tag("view", viewTag).tag("result", "hit")
+                    .register(meterRegistry));
+            misses.put(view, Counter.builder(METRIC_NAME).tag("view", viewTag).tag("result", "miss")
+                    .register(meterRegistry));
+        }
+        Gauge.builder(METRIC_NAME + ".size", fragments, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Returns the rows of {@code view}: the cached HTML when it is up to date, otherwise the fragment
+     * {@code fragment} of {@code template} rendered with the variables from {@code variables}.
+     */
+    public String getOrRender(ListView view, String template, String fragment,
+                              HttpServletRequest request, HttpServletResponse response,
+                              Supplier<Map<String, Object>> variables) {
+        long version = versions.current(view);
+        Fragment cached = fragments.get(view);
+        if (cached != null && cached.version() == version) {
+            hits.get(view).increment();
+            return cached.html();
+        }
+        misses.get(view).increment();
+        String html = render(template, fragment, request, response, variables.get());
+        fragments.merge(view, new Fragment(version, html),
+                (current, rendered) -> rendered.version() >= current.version() ? rendered : current);
+        return html;
+    }
+
+    private String render(String template, String fragment, HttpServletRequest request,
+                          HttpServletResponse response, Map<String, Object> variables) {
+        HttpServletResponse noUrlRewriting = new NoUrlRewritingResponse(response);
+        Map<String, Object> model = new HashMap<>(variables);
+        RequestContext requestContext = new RequestContext(request, noUrlRewriting, request.getServletContext(), model);
+        model.put(AbstractTemplateView.SPRING_MACRO_REQUEST_CONTEXT_ATTRIBUTE, requestContext);
+        model.put(SpringContextVariableNames.SPRING_REQUEST_CONTEXT, requestContext);
+        model.put(SpringContextVariableNames.THYMELEAF_REQUEST_CONTEXT,
+                new SpringWebMvcThymeleafRequestContext(requestContext, request));
+        model.put(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                new ThymeleafEvaluationContext(applicationContext,
+                        (ConversionService) request.getAttribute(ConversionService.class.getName())));
+        WebContext context = new WebContext(JakartaServletWebApplication
+                .buildApplication(request.getServletContext())
+                .buildExchange(request, noUrlRewriting), requestContext.getLocale(), model);
+        return templateEngine.process(new TemplateSpec(template, Set.of(fragment), TemplateMode.HTML, null), context);
+    }
+
+    private record Fragment(long version, String html) {
+    }
+
+    private static class NoUrlRewritingResponse extends HttpServletResponseWrapper {
+
+        NoUrlRewritingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public String encodeURL(String url) {
+            return url;
+        }
+
+        @Override
+        public String encodeRedirectURL(String url) {
+            return url;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ru.otus.hw.services;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version stamps of the list pages. Services bump them on every write; a rendered list is valid
+ * only while the stamp it was rendered with is still current.
+ */
+@Component
+public class ListViewVersions {
+
+    private final Map<ListView, AtomicLong> versions = new EnumMap<>(ListView.class);
+
+    public ListViewVersions() {
+        for (ListView view : ListView.values()) {
+            versions.put(view, new AtomicLong());
+        }
+    }
+
+    public long current(ListView view) {
+        return versions.get(view).get();
+    }
+
+    /**
+     * Bumps the stamps once the current transaction completes, so a list rendered from not yet committed
+     * data can't be stored under the new stamp. Outside a transaction the stamps are bumped at once.
+     */
+    public void invalidate(ListView... views) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(views);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                bump(views);
+            }
+        });
+    }
+
+    private void bump(ListView... views) {
+        for (ListView view : views) {
+            versions.get(view).incrementAndGet();
+        }
+    }
+}
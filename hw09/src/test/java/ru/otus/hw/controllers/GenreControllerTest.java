@@ -1,19 +1,24 @@
 package ru.otus.hw.controllers;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.otus.hw.dto.GenreDto;
 import ru.otus.hw.services.GenreService;
+import ru.otus.hw.services.ListView;
+import ru.otus.hw.services.ListViewVersions;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -22,6 +27,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @DisplayName("Контроллер для работы с жанрами")
 @WebMvcTest(GenreController.class)
+@Import({RenderedFragmentCache.class, ListViewVersions.class, SimpleMeterRegistry.class})
 class GenreControllerTest {
 
     private static final Long MISSING_ID = 42L;
@@ -30,6 +36,9 @@ class GenreControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ListViewVersions listViewVersions;
+
     @MockitoBean
     private GenreService genreService;
 
@@ -37,6 +46,7 @@ class GenreControllerTest {
 
     @BeforeEach
     void setUp() {
+        listViewVersions.invalidate(ListView.values());
         testGenreDto = new GenreDto(PRESENT_ID, "Fantasy");
     }
 
@@ -54,7 +64,7 @@ class GenreControllerTest {
                         .header("Referer", "/books"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("genres"))
-                .andExpect(model().attribute("genres", genres))
+                .andExpect(model().attribute("genreRows", containsString("Science Fiction")))
                 .andExpect(model().attribute("previousUrl", "/books"));
 
         verify(genreService, times(1)).findAll();
@@ -0,0 +1,156 @@
+package ru.otus.hw.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Static files are linked under content-hashed names ({@code /js/books-<md5>.js}): Thymeleaf {@code @{...}}
+ * links are rewritten by the ResourceUrlEncodingFilter Boot registers for the enabled resource chain.
+ * A hashed URL never changes content, so a file found by its hash is cached for a year as immutable. Any
+ * other URL, such as {@code /favicon.ico} that browsers request on their own, is revalidated daily. The
+ * {@code .br}/{@code .gz} variants written by the build are sent to clients that accept them.
+ * <p>
+ * Ordered ahead of Boot's MVC configuration so that its default {@code /**} handler backs off.
+ */
+@Configuration
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StaticResourcesConfiguration implements WebMvcConfigurer {
+
+    private static final String LOCATION = "classpath:/static/";
+
+    private static final CacheControl VERSIONED = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private static final CacheControl UNVERSIONED = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/**")
+                .addResourceLocations(LOCATION)
+                .setCacheControl(UNVERSIONED)
+                .resourceChain(true)
+                .addResolver(new ImmutableResourceResolver())
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    /**
+     * Marks a file resolved under another name than requested as immutable: only the version resolver does
+     * that, once the hash it strips from the request path matches the file content. The handler writes the
+     * headers of an {@link HttpResource} after its own cache period, so they win.
+     */
+    private static final class ImmutableResourceResolver extends AbstractResourceResolver {
+
+        @Override
+        protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                                   List<? extends Resource> locations, ResourceResolverChain chain) {
+            Resource resource = chain.resolveResource(request, requestPath, locations);
+            if (resource == null || Objects.equals(StringUtils.getFilename(requestPath), resource.getFilename())) {
+                return resource;
+            }
+            return new ImmutableResource(resource);
+        }
+
+        @Override
+        protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                                ResourceResolverChain chain) {
+            return chain.resolveUrlPath(resourceUrlPath, locations);
+        }
+    }
+
+    /**
+     * The resolved file with the immutable cache period on top of its own headers. Its description differs
+     * from the file's, so the resource chain cache, which compares resources by description, keeps it apart
+     * from the same file requested by its plain name.
+     */
+    private static final class ImmutableResource extends AbstractResource implements HttpResource {
+
+        private final Resource resource;
+
+        ImmutableResource(Resource resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders responseHeaders = new HttpHeaders();
+            if (resource instanceof HttpResource httpResource) {
+                responseHeaders.putAll(httpResource.getResponseHeaders());
+            }
+            responseHeaders.setCacheControl(VERSIONED);
+            return responseHeaders;
+        }
+
+        @Override
+        public boolean exists() {
+            return resource.exists();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return resource.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return resource.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return resource.getFile();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return resource.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return resource.lastModified();
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            return resource.createRelative(relativePath);
+        }
+
+        @Override
+        public String getFilename() {
+            return resource.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return "immutable " + resource.getDescription();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return resource.getInputStream();
+        }
+    }
+}
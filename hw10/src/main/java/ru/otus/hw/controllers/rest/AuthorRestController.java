@@ -1,6 +1,8 @@
 package ru.otus.hw.controllers.rest;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -11,16 +13,24 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import ru.otus.hw.dto.AuthorDto;
 import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.services.AuthorService;
 import ru.otus.hw.services.BookService;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
+import static ru.otus.hw.controllers.rest.ConditionalResponses.okOrNotModified;
+import static ru.otus.hw.controllers.rest.ConditionalResponses.pageOrNotModified;
+import static ru.otus.hw.utils.KeysetPages.MAX_PAGE_SIZE;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 
 @Slf4j
@@ -34,17 +44,26 @@ public class AuthorRestController {
     private final BookService bookService;
 
     @GetMapping
-    public ResponseEntity<List<AuthorDto>> getAllAuthors() {
-        List<AuthorDto> authors = authorService.findAll();
-        return ResponseEntity.ok(authors);
+    public ResponseEntity<List<AuthorDto>> getAllAuthors(@RequestParam(required = false) Long after,
+                                                         @RequestParam(required = false)
+                                                         @Min(1) @Max(MAX_PAGE_SIZE) Integer limit,
+                                                         WebRequest request) {
+        ResourceStamp stamp = authorService.getCollectionStamp();
+        if (limit == null) {
+            return okOrNotModified(request, stamp.weakETag(), stamp.lastModified(), authorService::findAll);
+        }
+        return pageOrNotModified(request, stamp.weakETag(), stamp.lastModified(),
+                () -> authorService.findPage(after, limit));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<AuthorDto> getAuthor(@PathVariable("id") Long id) {
-        AuthorDto author = authorService.findById(id)
+    public ResponseEntity<AuthorDto> getAuthor(@PathVariable("id") Long id, WebRequest request) {
+        Supplier<AuthorDto> author = () -> authorService.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Author.class.getSimpleName(), id)));
-        return ResponseEntity.ok(author);
+        Optional<ResourceStamp> stamp = authorService.findStampById(id);
+        return stamp.map(s -> okOrNotModified(request, s.strongETag(), s.lastModified(), author))
+                .orElseGet(() -> ResponseEntity.ok(author.get()));
     }
 
     @GetMapping("/{id}/books")
@@ -0,0 +1,38 @@
+package ru.otus.hw.controllers.rest;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.otus.hw.dto.BookBatchResultDto;
+import ru.otus.hw.dto.CreateUpdateBookDto;
+import ru.otus.hw.services.BookBatchService;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class BookBatchRestController {
+
+    private static final int MAX_BATCH_SIZE = 10_000;
+
+    private final BookBatchService bookBatchService;
+
+    @PostMapping("/books:batch")
+    public ResponseEntity<List<BookBatchResultDto>> createBooks(@RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE)
+                                                                List<CreateUpdateBookDto> books) {
+        return ResponseEntity.ok(bookBatchService.insertAll(books));
+    }
+
+    @PutMapping("/books:batch")
+    public ResponseEntity<List<BookBatchResultDto>> updateBooks(@RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE)
+                                                                List<CreateUpdateBookDto> books) {
+        return ResponseEntity.ok(bookBatchService.updateAll(books));
+    }
+}
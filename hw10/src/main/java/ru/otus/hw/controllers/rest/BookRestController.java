@@ -1,8 +1,13 @@
 package ru.otus.hw.controllers.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,18 +16,34 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.BookField;
 import ru.otus.hw.dto.CreateUpdateBookDto;
+import ru.otus.hw.dto.ResourceStamp;
+import ru.otus.hw.dto.SparseBookDto;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.services.AuthorService;
 import ru.otus.hw.services.BookService;
 import ru.otus.hw.services.GenreService;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
+import static ru.otus.hw.controllers.rest.ConditionalResponses.okIfUnchanged;
+import static ru.otus.hw.controllers.rest.ConditionalResponses.okOrNotModified;
+import static ru.otus.hw.controllers.rest.ConditionalResponses.pageOrNotModified;
+import static ru.otus.hw.utils.KeysetPages.MAX_PAGE_SIZE;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 
 @Slf4j
@@ -31,24 +52,69 @@ import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 @RequestMapping("/api/v1/books")
 public class BookRestController {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 100;
+
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final BookService bookService;
 
     private final AuthorService authorService;
 
     private final GenreService genreService;
 
+    private final ObjectMapper objectMapper;
+
     @GetMapping
-    public ResponseEntity<List<BookDto>> getAllBooks() {
-        List<BookDto> books = bookService.findAll();
-        return ResponseEntity.ok(books);
+    public ResponseEntity<? extends List<?>> getAllBooks(@RequestParam(required = false) Long after,
+                                                        @RequestParam(required = false)
+                                                        @Min(1) @Max(MAX_PAGE_SIZE) Integer limit,
+                                                        @RequestParam(required = false) Set<BookField> fields,
+                                                        WebRequest request) {
+        ResourceStamp stamp = bookService.getCollectionStamp();
+        Set<BookField> requested = BookField.orAll(fields);
+        if (limit == null && fields == null) {
+            return okOrNotModified(request, stamp.weakETag(), stamp.lastModified(), bookService::findAll);
+        }
+        if (limit == null) {
+            return okOrNotModified(request, stamp.weakETag(), stamp.lastModified(),
+                    () -> SparseBookDto.ofAll(bookService.findAll(requested)));
+        }
+        if (fields == null) {
+            return pageOrNotModified(request, stamp.weakETag(), stamp.lastModified(),
+                    () -> bookService.findPage(after, limit, requested));
+        }
+        return pageOrNotModified(request, stamp.weakETag(), stamp.lastModified(),
+                () -> SparseBookDto.ofPage(bookService.findPage(after, limit, requested)));
+    }
+
+    /**
+     * Whole catalog as newline-delimited JSON. Each book is written as soon as it is mapped
+     * and the response is flushed every {@value #EXPORT_FLUSH_INTERVAL} books. The stream is bound by
+     * {@code spring.mvc.async.request-timeout}, not by the container's 30 seconds default for async requests.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportBooks() {
+        ObjectWriter writer = objectMapper.writerFor(BookDto.class);
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+            int[] written = {0};
+            bookService.exportAll(book -> writeLine(writer, out, book, ++written[0] % EXPORT_FLUSH_INTERVAL == 0));
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<BookDto> getBook(@PathVariable Long id) {
-        BookDto book = bookService.findById(id)
+    public ResponseEntity<Object> getBook(@PathVariable Long id,
+                                          @RequestParam(required = false) Set<BookField> fields,
+                                          WebRequest request) {
+        Supplier<Object> book = () -> (fields == null ? bookService.findById(id)
+                : bookService.findById(id, BookField.orAll(fields)).map(SparseBookDto::of))
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Book.class.getSimpleName(), id)));
-        return ResponseEntity.ok(book);
+        Optional<ResourceStamp> stamp = bookService.findStampById(id);
+        return stamp.map(s -> okOrNotModified(request, s.strongETag(), s.lastModified(), book))
+                .orElseGet(() -> ResponseEntity.ok(book.get()));
     }
 
     @PostMapping
@@ -57,12 +123,19 @@ public class BookRestController {
         return ResponseEntity.ok(createdBook);
     }
 
+    /**
+     * Honours {@code If-Match} with the strong ETag of {@link #getBook}. A write that passes the check but loses the
+     * race to another one is rejected by the book version and answered with 409 Conflict.
+     */
     @PutMapping("/{id}")
     public ResponseEntity<BookDto> updateBook(@PathVariable Long id,
-                                              @Valid @RequestBody CreateUpdateBookDto bookDto) {
-        BookDto updatedBook = bookService.update(id, bookDto.title(), bookDto.authorId(),
+                                              @Valid @RequestBody CreateUpdateBookDto bookDto,
+                                              WebRequest request) {
+        Supplier<BookDto> update = () -> bookService.update(id, bookDto.title(), bookDto.authorId(),
                 Set.copyOf(bookDto.genreIds()));
-        return ResponseEntity.ok(updatedBook);
+        return bookService.findStampById(id)
+                .map(s -> okIfUnchanged(request, s.strongETag(), s.lastModified(), update))
+                .orElseGet(() -> ResponseEntity.ok(update.get()));
     }
 
     @DeleteMapping("/{id}")
@@ -70,4 +143,16 @@ public class BookRestController {
         bookService.deleteById(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private static void writeLine(ObjectWriter writer, OutputStream out, BookDto book, boolean flush) {
+        try {
+            out.write(writer.writeValueAsBytes(book));
+            out.write('\n');
+            if (flush) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package ru.otus.hw.controllers.rest;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -13,16 +15,25 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import ru.otus.hw.dto.CommentCreateDto;
 import ru.otus.hw.dto.CommentDto;
 import ru.otus.hw.dto.CommentMinDto;
 import ru.otus.hw.dto.CommentRestDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Comment;
 import ru.otus.hw.services.CommentService;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
+import static ru.otus.hw.controllers.rest.ConditionalResponses.okOrNotModified;
+import static ru.otus.hw.controllers.rest.ConditionalResponses.page;
+import static ru.otus.hw.controllers.rest.ConditionalResponses.pageOrNotModified;
+import static ru.otus.hw.utils.KeysetPages.MAX_PAGE_SIZE;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 
 @Slf4j
@@ -35,25 +46,31 @@ public class CommentRestController {
     private final CommentService commentService;
 
     @GetMapping
-    public ResponseEntity<List<CommentDto>> getAllComments(@RequestParam Long bookId) {
-        List<CommentDto> comments = commentService.findByBookId(bookId);
-        return ResponseEntity.ok(comments);
+    public ResponseEntity<List<CommentRestDto>> getAllComments(@RequestParam Long bookId,
+                                                               @RequestParam(required = false) Long after,
+                                                               @RequestParam(required = false)
+                                                               @Min(1) @Max(MAX_PAGE_SIZE) Integer limit,
+                                                               WebRequest request) {
+        Optional<ResourceStamp> stamp = commentService.findCollectionStampByBookId(bookId);
+        if (limit == null) {
+            Supplier<List<CommentRestDto>> comments = () -> commentService.findWithBookTitleByBookId(bookId);
+            return stamp.map(s -> okOrNotModified(request, s.weakETag(), s.lastModified(), comments))
+                    .orElseGet(() -> ResponseEntity.ok(comments.get()));
+        }
+        Supplier<PageDto<CommentRestDto>> comments =
+                () -> commentService.findPageWithBookTitleByBookId(bookId, after, limit);
+        return stamp.map(s -> pageOrNotModified(request, s.weakETag(), s.lastModified(), comments))
+                .orElseGet(() -> page(comments.get()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<CommentRestDto> getComment(@PathVariable Long id) {
-        CommentDto comment = commentService.findById(id)
+    public ResponseEntity<CommentRestDto> getComment(@PathVariable Long id, WebRequest request) {
+        Supplier<CommentRestDto> restComment = () -> commentService.findWithBookTitleById(id)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Comment.class.getSimpleName(), id)));
-
-        CommentRestDto restComment = CommentRestDto.builder()
-                .id(comment.id())
-                .text(comment.text())
-                .bookId(comment.book().getId())
-                .bookTitle(comment.book().getTitle())
-                .build();
-
-        return ResponseEntity.ok(restComment);
+        Optional<ResourceStamp> stamp = commentService.findStampById(id);
+        return stamp.map(s -> okOrNotModified(request, s.strongETag(), s.lastModified(), restComment))
+                .orElseGet(() -> ResponseEntity.ok(restComment.get()));
     }
 
     @PostMapping
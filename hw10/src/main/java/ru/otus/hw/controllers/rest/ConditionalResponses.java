@@ -0,0 +1,85 @@
+package ru.otus.hw.controllers.rest;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import ru.otus.hw.dto.PageDto;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET and PUT for REST controllers. The validators are checked before the body or write supplier is
+ * called, so a 304 or 412 answer never loads entities or runs the mappers.
+ */
+public final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    public static <T> ResponseEntity<T> okOrNotModified(WebRequest request, String eTag, long lastModified,
+                                                        Supplier<T> body) {
+        if (request.checkNotModified(eTag, lastModified)) {
+            return notModified(eTag);
+        }
+        return validated(ResponseEntity.ok(), eTag, lastModified).body(body.get());
+    }
+
+    public static <T> ResponseEntity<List<T>> pageOrNotModified(WebRequest request, String eTag, long lastModified,
+                                                                Supplier<PageDto<T>> page) {
+        if (request.checkNotModified(eTag, lastModified)) {
+            return notModified(eTag);
+        }
+        PageDto<T> loadedPage = page.get();
+        return withNextLink(validated(ResponseEntity.ok(), eTag, lastModified), loadedPage)
+                .body(loadedPage.content());
+    }
+
+    /**
+     * Conditional write: a request whose {@code If-Match} no longer matches the current strong ETag is answered with
+     * 412 Precondition Failed, carrying the current ETag, before the write runs.
+     */
+    public static <T> ResponseEntity<T> okIfUnchanged(WebRequest request, String eTag, long lastModified,
+                                                      Supplier<T> write) {
+        if (request.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok(write.get());
+    }
+
+    public static <T> ResponseEntity<List<T>> page(PageDto<T> page) {
+        return withNextLink(ResponseEntity.ok(), page).body(page.content());
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
+    private static ResponseEntity.BodyBuilder validated(ResponseEntity.BodyBuilder builder, String eTag,
+                                                        long lastModified) {
+        builder.eTag(eTag).cacheControl(CacheControl.noCache());
+        if (lastModified >= 0) {
+            builder.lastModified(lastModified);
+        }
+        return builder;
+    }
+
+    /**
+     * Adds {@code Link: <current uri with after=cursor>; rel="next"} when the page is not the last one.
+     */
+    private static ResponseEntity.BodyBuilder withNextLink(ResponseEntity.BodyBuilder builder, PageDto<?> page) {
+        if (page.nextAfterId() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", page.nextAfterId())
+                    .toUriString();
+            builder.header(HttpHeaders.LINK, "<%s>; rel=\"next\"".formatted(next));
+        }
+        return builder;
+    }
+}
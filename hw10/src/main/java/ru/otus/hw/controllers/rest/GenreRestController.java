@@ -1,6 +1,8 @@
 package ru.otus.hw.controllers.rest;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -11,14 +13,22 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Genre;
 import ru.otus.hw.services.GenreService;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
+import static ru.otus.hw.controllers.rest.ConditionalResponses.okOrNotModified;
+import static ru.otus.hw.controllers.rest.ConditionalResponses.pageOrNotModified;
+import static ru.otus.hw.utils.KeysetPages.MAX_PAGE_SIZE;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 
 @Slf4j
@@ -30,17 +40,26 @@ public class GenreRestController {
     private final GenreService genreService;
 
     @GetMapping
-    public ResponseEntity<List<GenreDto>> getAllGenres() {
-        List<GenreDto> genres = genreService.findAll();
-        return ResponseEntity.ok(genres);
+    public ResponseEntity<List<GenreDto>> getAllGenres(@RequestParam(required = false) Long after,
+                                                       @RequestParam(required = false)
+                                                       @Min(1) @Max(MAX_PAGE_SIZE) Integer limit,
+                                                       WebRequest request) {
+        ResourceStamp stamp = genreService.getCollectionStamp();
+        if (limit == null) {
+            return okOrNotModified(request, stamp.weakETag(), stamp.lastModified(), genreService::findAll);
+        }
+        return pageOrNotModified(request, stamp.weakETag(), stamp.lastModified(),
+                () -> genreService.findPage(after, limit));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<GenreDto> getGenre(@PathVariable("id") Long id) {
-        GenreDto genre = genreService.findById(id)
+    public ResponseEntity<GenreDto> getGenre(@PathVariable("id") Long id, WebRequest request) {
+        Supplier<GenreDto> genre = () -> genreService.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Genre.class.getSimpleName(), id)));
-        return ResponseEntity.ok(genre);
+        Optional<ResourceStamp> stamp = genreService.findStampById(id);
+        return stamp.map(s -> okOrNotModified(request, s.strongETag(), s.lastModified(), genre))
+                .orElseGet(() -> ResponseEntity.ok(genre.get()));
     }
 
     @PostMapping
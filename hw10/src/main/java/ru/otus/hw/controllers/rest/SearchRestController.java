@@ -0,0 +1,31 @@
+package ru.otus.hw.controllers.rest;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.otus.hw.dto.SearchHitDto;
+import ru.otus.hw.services.SearchService;
+
+import java.util.List;
+
+import static ru.otus.hw.utils.KeysetPages.MAX_PAGE_SIZE;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/search")
+public class SearchRestController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<List<SearchHitDto>> search(@RequestParam("q") String query,
+                                                     @RequestParam(defaultValue = "20")
+                                                     @Min(1) @Max(MAX_PAGE_SIZE) int limit) {
+        return ResponseEntity.ok(searchService.search(query, limit));
+    }
+}
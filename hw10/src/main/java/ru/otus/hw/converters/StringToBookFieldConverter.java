@@ -0,0 +1,15 @@
+package ru.otus.hw.converters;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.dto.BookField;
+
+import java.util.Locale;
+
+@Component
+public class StringToBookFieldConverter implements Converter<String, BookField> {
+    @Override
+    public BookField convert(String source) {
+        return BookField.valueOf(source.trim().toUpperCase(Locale.ROOT));
+    }
+}
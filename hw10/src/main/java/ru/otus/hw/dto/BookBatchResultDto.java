@@ -0,0 +1,30 @@
+package ru.otus.hw.dto;
+
+/**
+ * Outcome of one item of a batch book write. {@code index} is the position of the item in the request.
+ */
+public record BookBatchResultDto(int index, Long id, Status status, String message) {
+
+    public static BookBatchResultDto created(int index, Long id) {
+        return new BookBatchResultDto(index, id, Status.CREATED, null);
+    }
+
+    public static BookBatchResultDto updated(int index, Long id) {
+        return new BookBatchResultDto(index, id, Status.UPDATED, null);
+    }
+
+    public static BookBatchResultDto invalid(int index, Long id, String message) {
+        return new BookBatchResultDto(index, id, Status.INVALID, message);
+    }
+
+    public static BookBatchResultDto notFound(int index, Long id, String message) {
+        return new BookBatchResultDto(index, id, Status.NOT_FOUND, message);
+    }
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        INVALID,
+        NOT_FOUND
+    }
+}
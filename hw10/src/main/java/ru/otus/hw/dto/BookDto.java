@@ -7,7 +7,8 @@ import lombok.Builder;
 import java.util.List;
 
 /**
- * DTO for {@link ru.otus.hw.models.Book}
+ * DTO for {@link ru.otus.hw.models.Book}. Properties left out by a {@code fields=} request are null,
+ * the controller answers such a request with a {@link SparseBookDto}.
  */
 @Builder
 public record BookDto(Long id,
@@ -16,4 +17,8 @@ public record BookDto(Long id,
                       String title,
                       AuthorDto author,
                       List<GenreDto> genres) {
-}
\ No newline at end of file
+
+    public BookDto(Long id, String title) {
+        this(id, title, null, null);
+    }
+}
@@ -0,0 +1,23 @@
+package ru.otus.hw.dto;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Properties of {@link BookDto} a client can ask for with {@code fields=}. The id is always returned.
+ */
+public enum BookField {
+    ID,
+    TITLE,
+    AUTHOR,
+    GENRES;
+
+    public static Set<BookField> all() {
+        return EnumSet.allOf(BookField.class);
+    }
+
+    public static Set<BookField> orAll(Collection<BookField> fields) {
+        return fields == null || fields.isEmpty() ? all() : EnumSet.copyOf(fields);
+    }
+}
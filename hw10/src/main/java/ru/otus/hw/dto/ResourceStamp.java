@@ -0,0 +1,37 @@
+package ru.otus.hw.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Cheap change marker of a resource or collection: rows behind its representation, the version of the rows that
+ * have one and their latest update time. Computed by a single aggregate query, it backs HTTP validators without
+ * loading the entities.
+ */
+public record ResourceStamp(long count, long version, LocalDateTime updated) {
+
+    public ResourceStamp(long count, LocalDateTime updated) {
+        this(count, 0, updated);
+    }
+
+    public String strongETag() {
+        if (updated == null) {
+            return "\"%d.%d\"".formatted(count, version);
+        }
+        Instant instant = toInstant();
+        return "\"%d.%d-%d.%d\"".formatted(count, version, instant.getEpochSecond(), instant.getNano());
+    }
+
+    public String weakETag() {
+        return "W/" + strongETag();
+    }
+
+    public long lastModified() {
+        return updated == null ? -1 : toInstant().toEpochMilli();
+    }
+
+    private Instant toInstant() {
+        return updated.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,10 @@
+package ru.otus.hw.dto;
+
+/**
+ * Kinds of documents in the search index. The declaration order is the order of search results.
+ */
+public enum SearchDocumentType {
+    BOOK,
+    AUTHOR,
+    COMMENT
+}
@@ -0,0 +1,14 @@
+package ru.otus.hw.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One search result: a book title, an author name or a comment text. {@code bookId} is set for comments only.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SearchHitDto(SearchDocumentType type, Long id, String text, Long bookId) {
+
+    public SearchHitDto(SearchDocumentType type, Long id, String text) {
+        this(type, id, text, null);
+    }
+}
@@ -0,0 +1,25 @@
+package ru.otus.hw.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Book answered to a {@code fields=} request. Properties that were not requested are null in the source
+ * {@link BookDto} and left out of the JSON; the full representation keeps all of them.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SparseBookDto(Long id, String title, AuthorDto author, List<GenreDto> genres) {
+
+    public static SparseBookDto of(BookDto book) {
+        return new SparseBookDto(book.id(), book.title(), book.author(), book.genres());
+    }
+
+    public static List<SparseBookDto> ofAll(List<BookDto> books) {
+        return books.stream().map(SparseBookDto::of).toList();
+    }
+
+    public static PageDto<SparseBookDto> ofPage(PageDto<BookDto> page) {
+        return new PageDto<>(ofAll(page.content()), page.nextAfterId());
+    }
+}
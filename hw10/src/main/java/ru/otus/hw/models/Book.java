@@ -16,6 +16,7 @@ import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -43,7 +44,7 @@ import java.util.Objects;
 public class Book {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq_gen")
-    @SequenceGenerator(name = "book_seq_gen", sequenceName = "book_seq", allocationSize = 1)
+    @SequenceGenerator(name = "book_seq_gen", sequenceName = "book_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Book title can't be blank")
@@ -78,6 +79,13 @@ public class Book {
     @Column(nullable = false)
     private LocalDateTime updated;
 
+    /**
+     * Incremented by Hibernate also when only the genres change, which leaves {@code updated} as it was,
+     * so the book stamps include it.
+     */
+    @Version
+    private Long version;
+
     public Book(String title, Author author, List<Genre> genres) {
         this.title = title;
         this.author = author;
@@ -1,7 +1,31 @@
 package ru.otus.hw.repositories;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.otus.hw.dto.AuthorDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.models.Author;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface AuthorRepository extends JpaRepository<Author, Long> {
+    List<Author> findAllByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @Query("select new ru.otus.hw.dto.ResourceStamp(count(a), max(a.updated)) from Author a")
+    ResourceStamp getCollectionStamp();
+
+    @Query("""
+            select new ru.otus.hw.dto.ResourceStamp(count(a), max(a.updated))
+            from Author a
+            where a.id = :id
+            group by a.id
+            """)
+    Optional<ResourceStamp> findStampById(@Param("id") Long id);
+
+    @Query("select new ru.otus.hw.dto.AuthorDto(a.id, a.fullName) from Author a where a.id in :ids")
+    List<AuthorDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
 }
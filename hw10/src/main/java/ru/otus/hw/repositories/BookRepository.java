@@ -1,10 +1,15 @@
 package ru.otus.hw.repositories;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.models.Book;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +22,25 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     @EntityGraph(value = "book-author-genres")
     Optional<Book> findById(Long id);
 
+    @Query("select new ru.otus.hw.dto.BookDto(b.id, b.title) from Book b order by b.id")
+    List<BookDto> findAllTitles();
+
+    @EntityGraph(attributePaths = "author")
+    @Query("select b from Book b order by b.id")
+    List<Book> findAllWithAuthor();
+
+    @Query("select new ru.otus.hw.dto.BookDto(b.id, b.title) from Book b where b.id = :id")
+    Optional<BookDto> findTitleById(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = "author")
+    Optional<Book> findWithAuthorById(Long id);
+
+    @Query("select new ru.otus.hw.dto.BookDto(b.id, b.title) from Book b where b.id in :ids order by b.id")
+    List<BookDto> findTitlesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "author")
+    List<Book> findWithAuthorByIdInOrderByIdAsc(Collection<Long> ids);
+
     @Query("""
             select distinct b
             from Book b
@@ -33,4 +57,31 @@ public interface BookRepository extends JpaRepository<Book, Long> {
 
     List<Book> findBooksByAuthorId(Long id);
 
+    @Query("select b.id from Book b where b.author.id = :authorId")
+    List<Long> findIdsByAuthorId(@Param("authorId") Long authorId);
+
+    @Query("select b.id from Book b where b.id > :afterId order by b.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @EntityGraph(value = "book-author-genres")
+    List<Book> findAllByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @Query("""
+            select new ru.otus.hw.dto.ResourceStamp(count(g), (select coalesce(sum(v.version), 0) from Book v),
+                greatest(max(b.updated), max(g.updated), (select max(a.updated) from Author a)))
+            from Book b
+            left join b.genres g
+            """)
+    ResourceStamp getCollectionStamp();
+
+    @Query("""
+            select new ru.otus.hw.dto.ResourceStamp(count(g), max(b.version),
+                greatest(max(b.updated), max(a.updated), max(g.updated)))
+            from Book b
+            join b.author a
+            left join b.genres g
+            where b.id = :id
+            group by b.id
+            """)
+    Optional<ResourceStamp> findStampById(@Param("id") Long id);
 }
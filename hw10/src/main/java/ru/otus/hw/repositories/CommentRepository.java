@@ -1,10 +1,78 @@
 package ru.otus.hw.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import ru.otus.hw.dto.CommentMinDto;
+import ru.otus.hw.dto.CommentRestDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.models.Comment;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findAllByBookId(Long bookId);
+
+    @Query("select c.id from Comment c where c.book.id = :bookId")
+    List<Long> findIdsByBookId(@Param("bookId") Long bookId);
+
+    @Query("select c.id from Comment c where c.book.author.id = :authorId")
+    List<Long> findIdsByBookAuthorId(@Param("authorId") Long authorId);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new ru.otus.hw.dto.CommentMinDto(c.id, c.text) from Comment c order by c.id")
+    Stream<CommentMinDto> streamAllTexts();
+
+    @Query("""
+            select new ru.otus.hw.dto.CommentRestDto(c.id, c.text, b.id, b.title)
+            from Comment c
+            join c.book b
+            where c.id in :ids
+            """)
+    List<CommentRestDto> findWithBookTitleByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select new ru.otus.hw.dto.CommentRestDto(c.id, c.text, b.id, b.title)
+            from Comment c
+            join c.book b
+            where c.id = :id
+            """)
+    Optional<CommentRestDto> findWithBookTitleById(@Param("id") Long id);
+
+    @Query("""
+            select new ru.otus.hw.dto.CommentRestDto(c.id, c.text, b.id, b.title)
+            from Comment c
+            join c.book b
+            where b.id = :bookId and c.id > :afterId
+            order by c.id
+            """)
+    List<CommentRestDto> findWithBookTitleByBookId(@Param("bookId") Long bookId, @Param("afterId") Long afterId,
+                                                   Limit limit);
+
+    @Query("""
+            select new ru.otus.hw.dto.ResourceStamp(count(c), max(c.updated))
+            from Book b
+            left join b.comments c
+            where b.id = :bookId
+            group by b.id
+            """)
+    Optional<ResourceStamp> findCollectionStampByBookId(@Param("bookId") Long bookId);
+
+    @Query("""
+            select new ru.otus.hw.dto.ResourceStamp(count(c), greatest(max(c.updated), max(b.updated)))
+            from Comment c
+            join c.book b
+            where c.id = :id
+            group by c.id
+            """)
+    Optional<ResourceStamp> findStampById(@Param("id") Long id);
 }
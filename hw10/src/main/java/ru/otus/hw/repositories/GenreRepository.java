@@ -1,7 +1,31 @@
 package ru.otus.hw.repositories;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.models.Genre;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface GenreRepository extends JpaRepository<Genre, Long> {
+    List<Genre> findAllByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @Query("select new ru.otus.hw.dto.ResourceStamp(count(g), max(g.updated)) from Genre g")
+    ResourceStamp getCollectionStamp();
+
+    @Query("""
+            select new ru.otus.hw.dto.ResourceStamp(count(g), max(g.updated))
+            from Genre g
+            where g.id = :id
+            group by g.id
+            """)
+    Optional<ResourceStamp> findStampById(@Param("id") Long id);
+
+    @Query("select new ru.otus.hw.dto.GenreDto(g.id, g.name) from Genre g where g.id in :ids")
+    List<GenreDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
 }
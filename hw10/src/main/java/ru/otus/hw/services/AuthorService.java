@@ -2,6 +2,8 @@ package ru.otus.hw.services;
 
 import jakarta.validation.Valid;
 import ru.otus.hw.dto.AuthorDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.ResourceStamp;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +16,12 @@ public interface AuthorService {
 
     Optional<AuthorDto> findById(long id);
 
+    PageDto<AuthorDto> findPage(Long afterId, int limit);
+
+    ResourceStamp getCollectionStamp();
+
+    Optional<ResourceStamp> findStampById(long id);
+
     AuthorDto insert(@Valid String name);
 
     AuthorDto update(long id, @Valid String name);
@@ -2,20 +2,29 @@ package ru.otus.hw.services;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import ru.otus.hw.dto.AuthorDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.dto.mapper.AuthorMapper;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.repositories.AuthorRepository;
+import ru.otus.hw.repositories.BookRepository;
+import ru.otus.hw.repositories.CommentRepository;
+import ru.otus.hw.utils.KeysetPages;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.springframework.util.CollectionUtils.isEmpty;
+import static ru.otus.hw.dto.SearchDocumentType.AUTHOR;
+import static ru.otus.hw.dto.SearchDocumentType.BOOK;
+import static ru.otus.hw.dto.SearchDocumentType.COMMENT;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
 
@@ -26,8 +35,14 @@ public class AuthorServiceImpl implements AuthorService {
 
     private final AuthorRepository authorRepository;
 
+    private final BookRepository bookRepository;
+
+    private final CommentRepository commentRepository;
+
     private final AuthorMapper mapper;
 
+    private final SearchService searchService;
+
     @Override
     public List<AuthorDto> findAll() {
         return authorRepository.findAll().stream().map(mapper::toAuthorDto).toList();
@@ -46,10 +61,31 @@ public class AuthorServiceImpl implements AuthorService {
         return authorRepository.findById(id).map(mapper::toAuthorDto);
     }
 
+    @Override
+    public PageDto<AuthorDto> findPage(Long afterId, int limit) {
+        KeysetPages.checkLimit(limit);
+        List<AuthorDto> rows = authorRepository
+                .findAllByIdGreaterThanOrderByIdAsc(KeysetPages.startAfter(afterId), Limit.of(limit + 1))
+                .stream().map(mapper::toAuthorDto).toList();
+        return KeysetPages.toPage(rows, limit, AuthorDto::id);
+    }
+
+    @Override
+    public ResourceStamp getCollectionStamp() {
+        return authorRepository.getCollectionStamp();
+    }
+
+    @Override
+    public Optional<ResourceStamp> findStampById(long id) {
+        return authorRepository.findStampById(id);
+    }
+
     @Override
     @Transactional
     public AuthorDto insert(@Valid String fullName) {
-        return mapper.toAuthorDto(authorRepository.save(new Author(fullName)));
+        Author author = authorRepository.save(new Author(fullName));
+        searchService.index(AUTHOR, author.getId(), author.getFullName());
+        return mapper.toAuthorDto(author);
     }
 
     @Override
@@ -59,12 +95,16 @@ public class AuthorServiceImpl implements AuthorService {
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Author.class.getSimpleName(), id)));
         author.setFullName(fullName);
+        searchService.index(AUTHOR, id, fullName);
         return mapper.toAuthorDto(authorRepository.save(author));
     }
 
     @Override
     @Transactional
     public void deleteById(Long id) {
+        searchService.remove(COMMENT, commentRepository.findIdsByBookAuthorId(id));
+        searchService.remove(BOOK, bookRepository.findIdsByAuthorId(id));
+        searchService.remove(AUTHOR, List.of(id));
         authorRepository.deleteById(id);
     }
 }
@@ -0,0 +1,12 @@
+package ru.otus.hw.services;
+
+import ru.otus.hw.dto.BookBatchResultDto;
+import ru.otus.hw.dto.CreateUpdateBookDto;
+
+import java.util.List;
+
+public interface BookBatchService {
+    List<BookBatchResultDto> insertAll(List<CreateUpdateBookDto> books);
+
+    List<BookBatchResultDto> updateAll(List<CreateUpdateBookDto> books);
+}
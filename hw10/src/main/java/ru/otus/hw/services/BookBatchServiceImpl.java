@@ -0,0 +1,172 @@
+package ru.otus.hw.services;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.dto.BookBatchResultDto;
+import ru.otus.hw.dto.CreateUpdateBookDto;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.repositories.BookRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static ru.otus.hw.dto.SearchDocumentType.BOOK;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+import static ru.otus.hw.utils.ValidationMessages.ID_REQUIRED_MESSAGE;
+
+/**
+ * Bulk book writes. All referenced authors and genres are checked with one query per table, every item
+ * is validated on its own, and the valid ones are written in a single transaction so Hibernate can send
+ * the inserts/updates as JDBC batches. Items are written in chunks of {@code hibernate.jdbc.batch_size}: each chunk
+ * is flushed as one JDBC batch and the persistence context is cleared after it, so a large request does not keep
+ * every written book managed until the commit. An invalid item is reported in the results and does not fail the rest.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookBatchServiceImpl implements BookBatchService {
+
+    private static final String EMPTY_ITEM_MESSAGE = "Книга не может быть пустой";
+
+    private final BookRepository bookRepository;
+
+    private final BookReferenceService bookReferenceService;
+
+    private final Validator validator;
+
+    private final SearchService searchService;
+
+    private final EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    @Transactional
+    public List<BookBatchResultDto> insertAll(List<CreateUpdateBookDto> books) {
+        BookReferenceResolver resolver = prefetchReferences(books);
+        List<BookBatchResultDto> results = new ArrayList<>(books.size());
+        for (int i = 0; i < books.size(); i++) {
+            results.add(insert(i, books.get(i), resolver));
+            if ((i + 1) % batchSize == 0) {
+                flushAndClear();
+            }
+        }
+        return results;
+    }
+
+    @Override
+    @Transactional
+    public List<BookBatchResultDto> updateAll(List<CreateUpdateBookDto> books) {
+        BookReferenceResolver resolver = prefetchReferences(books);
+        List<BookBatchResultDto> results = new ArrayList<>(books.size());
+        for (int from = 0; from < books.size(); from += batchSize) {
+            List<CreateUpdateBookDto> chunk = books.subList(from, Math.min(from + batchSize, books.size()));
+            Map<Long, Book> existing = findExisting(chunk);
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(update(from + i, chunk.get(i), existing, resolver));
+            }
+            flushAndClear();
+        }
+        return results;
+    }
+
+    private BookBatchResultDto insert(int index, CreateUpdateBookDto dto, BookReferenceResolver resolver) {
+        String error = validate(dto);
+        if (error != null) {
+            return BookBatchResultDto.invalid(index, null, error);
+        }
+        try {
+            BookReferences references = resolver.resolve(dto.authorId(), Set.copyOf(dto.genreIds()));
+            Book book = bookRepository.save(new Book(dto.title(), references.author(), references.genres()));
+            searchService.index(BOOK, book.getId(), book.getTitle());
+            return BookBatchResultDto.created(index, book.getId());
+        } catch (EntityNotFoundException | IllegalArgumentException e) {
+            return BookBatchResultDto.invalid(index, null, e.getMessage());
+        }
+    }
+
+    private BookBatchResultDto update(int index, CreateUpdateBookDto dto, Map<Long, Book> existing,
+                                      BookReferenceResolver resolver) {
+        String error = validate(dto);
+        if (error == null && dto.id() == null) {
+            error = ID_REQUIRED_MESSAGE.getMessage(Book.class.getSimpleName());
+        }
+        if (error != null) {
+            return BookBatchResultDto.invalid(index, dto == null ? null : dto.id(), error);
+        }
+        Book book = existing.get(dto.id());
+        if (book == null) {
+            return BookBatchResultDto.notFound(index, dto.id(),
+                    ENTITY_NOT_FOUND_MESSAGE.getMessage(Book.class.getSimpleName(), dto.id()));
+        }
+        try {
+            BookReferences references = resolver.resolve(dto.authorId(), Set.copyOf(dto.genreIds()));
+            book.setTitle(dto.title());
+            book.setAuthor(references.author());
+            book.setGenres(references.genres());
+            searchService.index(BOOK, book.getId(), book.getTitle());
+            return BookBatchResultDto.updated(index, book.getId());
+        } catch (EntityNotFoundException | IllegalArgumentException e) {
+            return BookBatchResultDto.invalid(index, dto.id(), e.getMessage());
+        }
+    }
+
+    private Map<Long, Book> findExisting(List<CreateUpdateBookDto> books) {
+        return bookRepository.findAllById(books.stream()
+                        .filter(Objects::nonNull)
+                        .map(CreateUpdateBookDto::id)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+    }
+
+    /**
+     * Flushed through the repository so a lost update still surfaces as a translated optimistic locking failure.
+     */
+    private void flushAndClear() {
+        bookRepository.flush();
+        entityManager.clear();
+    }
+
+    private BookReferenceResolver prefetchReferences(List<CreateUpdateBookDto> books) {
+        Set<Long> authorIds = books.stream()
+                .filter(Objects::nonNull)
+                .map(CreateUpdateBookDto::authorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> genreIds = books.stream()
+                .filter(Objects::nonNull)
+                .map(CreateUpdateBookDto::genreIds)
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return bookReferenceService.newResolver().prefetch(authorIds, genreIds);
+    }
+
+    private String validate(CreateUpdateBookDto dto) {
+        if (dto == null) {
+            return EMPTY_ITEM_MESSAGE;
+        }
+        Set<ConstraintViolation<CreateUpdateBookDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
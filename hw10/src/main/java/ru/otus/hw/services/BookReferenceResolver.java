@@ -0,0 +1,87 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import ru.otus.hw.dto.AuthorDto;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Genre;
+import ru.otus.hw.repositories.AuthorRepository;
+import ru.otus.hw.repositories.GenreRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.util.CollectionUtils.isEmpty;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_LIST_NOT_FOUND_MESSAGE;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
+
+/**
+ * Validates author and genres ids of one or many book writes without loading the entities.
+ * Unknown ids are looked up with a single id and name query per table; the names found and the ids found missing
+ * are cached for the resolver lifetime, so a resolver should live no longer than one (bulk) operation.
+ * Resolved entities are references obtained with {@code getReferenceById} and must be used in the same transaction.
+ */
+@RequiredArgsConstructor
+public class BookReferenceResolver {
+
+    private final AuthorRepository authorRepository;
+
+    private final GenreRepository genreRepository;
+
+    private final Map<Long, AuthorDto> authors = new HashMap<>();
+
+    private final Map<Long, GenreDto> genres = new HashMap<>();
+
+    private final Set<Long> checkedAuthorIds = new HashSet<>();
+
+    private final Set<Long> checkedGenreIds = new HashSet<>();
+
+    public BookReferenceResolver prefetch(Collection<Long> authorIds, Collection<Long> genresIds) {
+        loadExisting(authorIds, checkedAuthorIds, authors, authorRepository::findDtosByIdIn, AuthorDto::id);
+        loadExisting(genresIds, checkedGenreIds, genres, genreRepository::findDtosByIdIn, GenreDto::id);
+        return this;
+    }
+
+    public BookReferences resolve(Long authorId, Set<Long> genresIds) {
+        if (isEmpty(genresIds)) {
+            throw new IllegalArgumentException(ILLEGAL_ARGUMENT_MESSAGE.getMessage(Genre.class.getSimpleName()));
+        }
+        prefetch(authorId == null ? Set.of() : Set.of(authorId), genresIds);
+        AuthorDto author = authorId == null ? null : authors.get(authorId);
+        if (author == null) {
+            throw new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                    .getMessage(Author.class.getSimpleName(), authorId));
+        }
+        if (!genres.keySet().containsAll(genresIds)) {
+            throw new IllegalArgumentException(ENTITY_LIST_NOT_FOUND_MESSAGE
+                    .getMessage(Genre.class.getSimpleName().toLowerCase(Locale.ROOT), genresIds));
+        }
+        List<Long> bookGenreIds = List.copyOf(genresIds);
+        List<Genre> bookGenres = bookGenreIds.stream()
+                .map(genreRepository::getReferenceById)
+                .collect(Collectors.toCollection(ArrayList::new));
+        return new BookReferences(authorRepository.getReferenceById(authorId), bookGenres,
+                author, bookGenreIds.stream().map(genres::get).toList());
+    }
+
+    private static <T> void loadExisting(Collection<Long> ids, Set<Long> checkedIds, Map<Long, T> loaded,
+                                         Function<Set<Long>, List<T>> finder, Function<T, Long> idGetter) {
+        Set<Long> unknownIds = new HashSet<>();
+        ids.stream().filter(Objects::nonNull).filter(id -> !checkedIds.contains(id)).forEach(unknownIds::add);
+        if (!unknownIds.isEmpty()) {
+            finder.apply(unknownIds).forEach(found -> loaded.put(idGetter.apply(found), found));
+            checkedIds.addAll(unknownIds);
+        }
+    }
+}
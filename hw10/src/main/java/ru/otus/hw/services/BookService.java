@@ -2,17 +2,33 @@ package ru.otus.hw.services;
 
 import jakarta.validation.Valid;
 import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.BookField;
 import ru.otus.hw.dto.BookWithCommentMinDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.ResourceStamp;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public interface BookService {
     Optional<BookDto> findById(Long id);
 
+    Optional<BookDto> findById(Long id, Set<BookField> fields);
+
+    PageDto<BookDto> findPage(Long afterId, int limit, Set<BookField> fields);
+
+    ResourceStamp getCollectionStamp();
+
+    Optional<ResourceStamp> findStampById(Long id);
+
     List<BookDto> findAll();
 
+    List<BookDto> findAll(Set<BookField> fields);
+
+    void exportAll(Consumer<BookDto> consumer);
+
     List<BookDto> findBooksByAuthorId(Long id);
 
     List<BookWithCommentMinDto> findAllWithGenresAndComments();
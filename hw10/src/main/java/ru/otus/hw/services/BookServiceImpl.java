@@ -1,47 +1,102 @@
 package ru.otus.hw.services;
 
+import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.BookField;
 import ru.otus.hw.dto.BookWithCommentMinDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.ResourceStamp;
+import ru.otus.hw.dto.mapper.AuthorMapper;
 import ru.otus.hw.dto.mapper.BookMapper;
+import ru.otus.hw.dto.mapper.GenreMapper;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
-import ru.otus.hw.models.Genre;
 import ru.otus.hw.repositories.AuthorRepository;
 import ru.otus.hw.repositories.BookRepository;
-import ru.otus.hw.repositories.GenreRepository;
+import ru.otus.hw.repositories.CommentRepository;
+import ru.otus.hw.utils.KeysetPages;
 
 import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
-
-import static org.springframework.util.CollectionUtils.isEmpty;
-import static ru.otus.hw.utils.ValidationMessages.ENTITY_LIST_NOT_FOUND_MESSAGE;
+import java.util.function.Consumer;
+
+import static ru.otus.hw.dto.BookField.AUTHOR;
+import static ru.otus.hw.dto.BookField.GENRES;
+import static ru.otus.hw.dto.BookField.TITLE;
+import static ru.otus.hw.dto.SearchDocumentType.BOOK;
+import static ru.otus.hw.dto.SearchDocumentType.COMMENT;
+import static ru.otus.hw.utils.Lists.getLast;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
-import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
 
 @Service
 @RequiredArgsConstructor
 public class BookServiceImpl implements BookService {
 
-    private final AuthorRepository authorRepository;
+    private static final int EXPORT_PAGE_SIZE = 500;
 
-    private final GenreRepository genreRepository;
+    private final AuthorRepository authorRepository;
 
     private final BookRepository bookRepository;
 
+    private final BookReferenceService bookReferenceService;
+
     private final BookMapper mapper;
 
+    private final AuthorMapper authorMapper;
+
+    private final GenreMapper genreMapper;
+
+    private final EntityManager entityManager;
+
+    private final CommentRepository commentRepository;
+
+    private final SearchService searchService;
+
     @Override
     public List<BookDto> findAll() {
         return bookRepository.findAll().stream().map(mapper::toBookDto).toList();
     }
 
+    /**
+     * Loads only what the requested fields need: genres use the full entity graph, author alone joins
+     * just the author, and id/title are read as a projection without any join.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookDto> findAll(Set<BookField> fields) {
+        if (fields.contains(GENRES)) {
+            return bookRepository.findAll().stream().map(book -> toBookDto(book, fields)).toList();
+        }
+        if (fields.contains(AUTHOR)) {
+            return bookRepository.findAllWithAuthor().stream().map(book -> toBookDto(book, fields)).toList();
+        }
+        return bookRepository.findAllTitles().stream().map(book -> withTitleIfRequested(book, fields)).toList();
+    }
+
+    /**
+     * Streams the whole catalog in id order. Books are read in keyset pages of {@value #EXPORT_PAGE_SIZE},
+     * mapped one by one, and the persistence context is cleared between pages, never inside a book's genre rows,
+     * so memory does not grow with the catalog.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<BookDto> consumer) {
+        long afterId = 0;
+        List<Long> ids;
+        while (!(ids = bookRepository.findIdsAfter(afterId, Limit.of(EXPORT_PAGE_SIZE))).isEmpty()) {
+            bookRepository.findAllByIdInOrderByIdAsc(ids).forEach(book -> consumer.accept(mapper.toBookDto(book)));
+            entityManager.clear();
+            afterId = getLast(ids);
+        }
+    }
+
     @Override
     public List<BookDto> findBooksByAuthorId(Long authorId) {
         Author author = authorRepository.findById(authorId)
@@ -63,48 +118,95 @@ public class BookServiceImpl implements BookService {
         return bookRepository.findById(id).map(mapper::toBookDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<BookDto> findById(Long id, Set<BookField> fields) {
+        if (fields.contains(GENRES)) {
+            return bookRepository.findById(id).map(book -> toBookDto(book, fields));
+        }
+        if (fields.contains(AUTHOR)) {
+            return bookRepository.findWithAuthorById(id).map(book -> toBookDto(book, fields));
+        }
+        return bookRepository.findTitleById(id).map(book -> withTitleIfRequested(book, fields));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDto<BookDto> findPage(Long afterId, int limit, Set<BookField> fields) {
+        KeysetPages.checkLimit(limit);
+        List<Long> ids = bookRepository.findIdsAfter(KeysetPages.startAfter(afterId), Limit.of(limit + 1));
+        PageDto<Long> idsPage = KeysetPages.toPage(ids, limit, id -> id);
+        if (idsPage.content().isEmpty()) {
+            return new PageDto<>(List.of(), null);
+        }
+        return new PageDto<>(findAllByIds(idsPage.content(), fields), idsPage.nextAfterId());
+    }
+
+    @Override
+    public ResourceStamp getCollectionStamp() {
+        return bookRepository.getCollectionStamp();
+    }
+
+    @Override
+    public Optional<ResourceStamp> findStampById(Long id) {
+        return bookRepository.findStampById(id);
+    }
+
     @Override
     @Transactional
     public BookDto insert(@Valid String title, Long authorId, Set<Long> genresIds) {
-        ValidationResult validationResult = getValidationResult(authorId, genresIds);
-        return mapper.toBookDto(bookRepository
-                .save(new Book(title, validationResult.author(), validationResult.genres())));
+        BookReferences references = bookReferenceService.newResolver().resolve(authorId, genresIds);
+        Book book = bookRepository.save(new Book(title, references.author(), references.genres()));
+        searchService.index(BOOK, book.getId(), book.getTitle());
+        return references.toBookDto(book);
     }
 
     @Override
     @Transactional
     public BookDto update(Long id, @Valid String title, Long authorId, Set<Long> genresIds) {
-        ValidationResult validationResult = getValidationResult(authorId, genresIds);
+        BookReferences references = bookReferenceService.newResolver().resolve(authorId, genresIds);
         Book book = bookRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Book.class.getSimpleName(), id)));
         book.setTitle(title);
-        book.setAuthor(validationResult.author());
-        book.setGenres(validationResult.genres);
-        return mapper.toBookDto(bookRepository.save(book));
+        book.setAuthor(references.author());
+        book.setGenres(references.genres());
+        searchService.index(BOOK, id, title);
+        return references.toBookDto(bookRepository.save(book));
     }
 
     @Override
     @Transactional
     public void deleteById(Long id) {
+        searchService.remove(COMMENT, commentRepository.findIdsByBookId(id));
+        searchService.remove(BOOK, List.of(id));
         bookRepository.deleteById(id);
     }
 
-    private ValidationResult getValidationResult(Long authorId, Set<Long> genresIds) {
-        if (isEmpty(genresIds)) {
-            throw new IllegalArgumentException(ILLEGAL_ARGUMENT_MESSAGE.getMessage(Genre.class.getSimpleName()));
+    private List<BookDto> findAllByIds(List<Long> ids, Set<BookField> fields) {
+        if (fields.contains(GENRES)) {
+            return bookRepository.findAllByIdInOrderByIdAsc(ids).stream()
+                    .map(book -> toBookDto(book, fields))
+                    .toList();
         }
-        Author author = authorRepository.findById(authorId)
-                .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
-                        .getMessage(Author.class.getSimpleName(), authorId)));
-        List<Genre> genres = genreRepository.findAllById(genresIds);
-        if (genresIds.size() != genres.size()) {
-            throw new IllegalArgumentException(ENTITY_LIST_NOT_FOUND_MESSAGE
-                    .getMessage(Genre.class.getSimpleName().toLowerCase(Locale.ROOT), genresIds));
+        if (fields.contains(AUTHOR)) {
+            return bookRepository.findWithAuthorByIdInOrderByIdAsc(ids).stream()
+                    .map(book -> toBookDto(book, fields))
+                    .toList();
         }
-        return new ValidationResult(author, genres);
+        return bookRepository.findTitlesByIdIn(ids).stream()
+                .map(book -> withTitleIfRequested(book, fields))
+                .toList();
+    }
+
+    private BookDto toBookDto(Book book, Set<BookField> fields) {
+        return new BookDto(book.getId(),
+                fields.contains(TITLE) ? book.getTitle() : null,
+                fields.contains(AUTHOR) ? authorMapper.toAuthorDto(book.getAuthor()) : null,
+                fields.contains(GENRES) ? book.getGenres().stream().map(genreMapper::toGenreDto).toList() : null);
     }
 
-    private record ValidationResult(Author author, List<Genre> genres) {
+    private static BookDto withTitleIfRequested(BookDto book, Set<BookField> fields) {
+        return fields.contains(TITLE) ? book : new BookDto(book.id(), null);
     }
 }
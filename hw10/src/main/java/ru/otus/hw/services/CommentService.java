@@ -2,6 +2,9 @@ package ru.otus.hw.services;
 
 import jakarta.validation.Valid;
 import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.dto.CommentRestDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.ResourceStamp;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,10 +13,20 @@ import java.util.Set;
 public interface CommentService {
     Optional<CommentDto> findById(Long id);
 
+    Optional<CommentRestDto> findWithBookTitleById(Long id);
+
     List<CommentDto> findByIds(Set<Long> ids);
 
     List<CommentDto> findByBookId(Long bookId);
 
+    List<CommentRestDto> findWithBookTitleByBookId(Long bookId);
+
+    PageDto<CommentRestDto> findPageWithBookTitleByBookId(Long bookId, Long afterId, int limit);
+
+    Optional<ResourceStamp> findStampById(Long id);
+
+    Optional<ResourceStamp> findCollectionStampByBookId(Long bookId);
+
     CommentDto insert(@Valid String text, Long bookId);
 
     CommentDto update(Long id, @Valid String text);
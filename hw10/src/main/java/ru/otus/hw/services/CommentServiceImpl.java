@@ -2,21 +2,27 @@ package ru.otus.hw.services;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.dto.CommentRestDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.dto.mapper.CommentMapper;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Comment;
 import ru.otus.hw.repositories.BookRepository;
 import ru.otus.hw.repositories.CommentRepository;
+import ru.otus.hw.utils.KeysetPages;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.springframework.util.CollectionUtils.isEmpty;
+import static ru.otus.hw.dto.SearchDocumentType.COMMENT;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
 
@@ -30,11 +36,21 @@ public class CommentServiceImpl implements CommentService {
 
     private final CommentMapper mapper;
 
+    private final SearchService searchService;
+
     @Override
     public Optional<CommentDto> findById(Long id) {
         return commentRepository.findById(id).map(mapper::toCommentDto);
     }
 
+    /**
+     * Reads the comment and the id and title of its book in one query, without loading the book entity.
+     */
+    @Override
+    public Optional<CommentRestDto> findWithBookTitleById(Long id) {
+        return commentRepository.findWithBookTitleById(id);
+    }
+
     @Override
     public List<CommentDto> findByIds(Set<Long> ids) {
         if (isEmpty(ids)) {
@@ -54,13 +70,40 @@ public class CommentServiceImpl implements CommentService {
                 .map(mapper::toCommentDto).toList();
     }
 
+    @Override
+    public List<CommentRestDto> findWithBookTitleByBookId(Long bookId) {
+        checkBookExists(bookId);
+        return commentRepository.findWithBookTitleByBookId(bookId, KeysetPages.startAfter(null), Limit.unlimited());
+    }
+
+    @Override
+    public PageDto<CommentRestDto> findPageWithBookTitleByBookId(Long bookId, Long afterId, int limit) {
+        KeysetPages.checkLimit(limit);
+        checkBookExists(bookId);
+        List<CommentRestDto> rows = commentRepository
+                .findWithBookTitleByBookId(bookId, KeysetPages.startAfter(afterId), Limit.of(limit + 1));
+        return KeysetPages.toPage(rows, limit, CommentRestDto::id);
+    }
+
+    @Override
+    public Optional<ResourceStamp> findStampById(Long id) {
+        return commentRepository.findStampById(id);
+    }
+
+    @Override
+    public Optional<ResourceStamp> findCollectionStampByBookId(Long bookId) {
+        return commentRepository.findCollectionStampByBookId(bookId);
+    }
+
     @Override
     @Transactional
     public CommentDto insert(@Valid String text, Long bookId) {
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Book.class.getSimpleName(), bookId)));
-        return mapper.toCommentDto(commentRepository.save(new Comment(text, book)));
+        Comment comment = commentRepository.save(new Comment(text, book));
+        searchService.index(COMMENT, comment.getId(), comment.getText());
+        return mapper.toCommentDto(comment);
     }
 
     @Override
@@ -70,12 +113,20 @@ public class CommentServiceImpl implements CommentService {
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Comment.class.getSimpleName(), id)));
         comment.setText(text);
+        searchService.index(COMMENT, id, text);
         return mapper.toCommentDto(commentRepository.save(comment));
     }
 
     @Override
     @Transactional
     public void deleteById(Long id) {
+        searchService.remove(COMMENT, List.of(id));
         commentRepository.deleteById(id);
     }
+
+    private void checkBookExists(Long bookId) {
+        if (!bookRepository.existsById(bookId)) {
+            throw new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE.getMessage(Book.class.getSimpleName(), bookId));
+        }
+    }
 }
@@ -2,6 +2,8 @@ package ru.otus.hw.services;
 
 import jakarta.validation.Valid;
 import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.ResourceStamp;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +16,12 @@ public interface GenreService {
 
     Optional<GenreDto> findById(Long id);
 
+    PageDto<GenreDto> findPage(Long afterId, int limit);
+
+    ResourceStamp getCollectionStamp();
+
+    Optional<ResourceStamp> findStampById(Long id);
+
     GenreDto insert(@Valid String name);
 
     GenreDto update(Long id, @Valid String name);
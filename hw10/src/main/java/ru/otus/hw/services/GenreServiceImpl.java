@@ -2,13 +2,17 @@ package ru.otus.hw.services;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.dto.mapper.GenreMapper;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Genre;
 import ru.otus.hw.repositories.GenreRepository;
+import ru.otus.hw.utils.KeysetPages;
 
 import java.util.List;
 import java.util.Optional;
@@ -44,6 +48,25 @@ public class GenreServiceImpl implements GenreService {
         return genreRepository.findById(id).map(mapper::toGenreDto);
     }
 
+    @Override
+    public PageDto<GenreDto> findPage(Long afterId, int limit) {
+        KeysetPages.checkLimit(limit);
+        List<GenreDto> rows = genreRepository
+                .findAllByIdGreaterThanOrderByIdAsc(KeysetPages.startAfter(afterId), Limit.of(limit + 1))
+                .stream().map(mapper::toGenreDto).toList();
+        return KeysetPages.toPage(rows, limit, GenreDto::id);
+    }
+
+    @Override
+    public ResourceStamp getCollectionStamp() {
+        return genreRepository.getCollectionStamp();
+    }
+
+    @Override
+    public Optional<ResourceStamp> findStampById(Long id) {
+        return genreRepository.findStampById(id);
+    }
+
     @Override
     @Transactional
     public GenreDto insert(@Valid String name) {
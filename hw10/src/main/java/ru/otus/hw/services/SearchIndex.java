@@ -0,0 +1,297 @@
+package ru.otus.hw.services;
+
+import org.springframework.stereotype.Component;
+import ru.otus.hw.dto.SearchDocumentType;
+import ru.otus.hw.utils.SearchTokenizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory inverted index over book titles, author names and comment texts. A document is identified by
+ * its type and id packed into one {@code long} key; every term keeps a sorted array of such keys, so a
+ * query is a merge of sorted arrays and results come out ordered by type and id. The terms of each
+ * document are kept as well, which lets a document be replaced or removed without its old text.
+ * <p>
+ * Query terms are matched exactly, and those of {@value #MIN_PREFIX_LENGTH} or more characters also as
+ * a prefix of indexed terms, which covers most Russian and English word endings. All query terms have to
+ * match.
+ */
+@Component
+public class SearchIndex {
+
+    static final int MIN_PREFIX_LENGTH = 3;
+
+    private static final int TYPE_SHIFT = 56;
+
+    private static final long ID_MASK = (1L << TYPE_SHIFT) - 1;
+
+    private static final long[] NO_KEYS = new long[0];
+
+    private static final SearchDocumentType[] TYPES = SearchDocumentType.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final NavigableMap<String, Postings> postings = new TreeMap<>();
+
+    private final Map<Long, String[]> documents = new HashMap<>();
+
+    /**
+     * Replaces the whole content with the documents {@code loader} passes to the sink. Searches wait
+     * until the new content is complete.
+     */
+    public void rebuild(Consumer<DocumentSink> loader) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            loader.accept((type, id, text) -> add(key(type, id), text, true));
+            postings.values().forEach(Postings::seal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(SearchDocumentType type, long id, String text) {
+        long key = key(type, id);
+        lock.writeLock().lock();
+        try {
+            remove(key);
+            add(key, text, false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(SearchDocumentType type, long id) {
+        lock.writeLock().lock();
+        try {
+            remove(key(type, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Documents containing every term of {@code query}, books first, then authors, then comments,
+     * each ordered by id.
+     */
+    public List<Hit> search(String query, int limit) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        long[] keys = null;
+        lock.readLock().lock();
+        try {
+            for (String term : terms) {
+                long[] matches = match(term);
+                keys = keys == null ? matches : intersect(keys, matches);
+                if (keys.length == 0) {
+                    return List.of();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Hit> hits = new ArrayList<>(Math.min(limit, keys.length));
+        for (int i = 0; i < keys.length && hits.size() < limit; i++) {
+            hits.add(new Hit(TYPES[(int) (keys[i] >>> TYPE_SHIFT)], keys[i] & ID_MASK));
+        }
+        return hits;
+    }
+
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            long postingCount = postings.values().stream().mapToLong(p -> p.size).sum();
+            return new Stats(documents.size(), postings.size(), postingCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes one document; with {@code bulk} the keys are only appended and {@link Postings#seal()}
+     * has to sort them before the next search.
+     */
+    private void add(long key, String text, boolean bulk) {
+        List<String> tokens = SearchTokenizer.tokenize(text);
+        if (tokens.isEmpty()) {
+            return;
+        }
+        String[] terms = new String[tokens.size()];
+        for (int i = 0; i < terms.length; i++) {
+            Postings termPostings = postings.computeIfAbsent(tokens.get(i), Postings::new);
+            if (bulk) {
+                termPostings.append(key);
+            } else {
+                termPostings.add(key);
+            }
+            terms[i] = termPostings.term;
+        }
+        documents.put(key, terms);
+    }
+
+    private void remove(long key) {
+        String[] terms = documents.remove(key);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Postings termPostings = postings.get(term);
+            termPostings.remove(key);
+            if (termPostings.size == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private long[] match(String term) {
+        if (term.length() < MIN_PREFIX_LENGTH) {
+            Postings exact = postings.get(term);
+            return exact == null ? NO_KEYS : exact.toArray();
+        }
+        Collection<Postings> expansions = postings.subMap(term, term + Character.MAX_VALUE).values();
+        if (expansions.isEmpty()) {
+            return NO_KEYS;
+        }
+        if (expansions.size() == 1) {
+            return expansions.iterator().next().toArray();
+        }
+        int total = 0;
+        for (Postings expansion : expansions) {
+            total += expansion.size;
+        }
+        long[] keys = new long[total];
+        int offset = 0;
+        for (Postings expansion : expansions) {
+            System.arraycopy(expansion.keys, 0, keys, offset, expansion.size);
+            offset += expansion.size;
+        }
+        Arrays.sort(keys);
+        return distinct(keys);
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static long[] distinct(long[] sorted) {
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (size == 0 || sorted[size - 1] != sorted[i]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, size);
+    }
+
+    private static long key(SearchDocumentType type, long id) {
+        return ((long) type.ordinal() << TYPE_SHIFT) | id;
+    }
+
+    @FunctionalInterface
+    public interface DocumentSink {
+
+        void add(SearchDocumentType type, long id, String text);
+    }
+
+    public record Hit(SearchDocumentType type, long id) {
+    }
+
+    public record Stats(int documents, int terms, long postings) {
+    }
+
+    /**
+     * Sorted keys of the documents containing one term. A rebuild appends keys in loader order and sorts
+     * every list once at the end instead of shifting the array on each out-of-order key.
+     */
+    private static final class Postings {
+
+        private final String term;
+
+        private long[] keys = new long[2];
+
+        private int size;
+
+        Postings(String term) {
+            this.term = term;
+        }
+
+        void add(long key) {
+            if (size > 0 && keys[size - 1] >= key) {
+                int index = Arrays.binarySearch(keys, 0, size, key);
+                if (index >= 0) {
+                    return;
+                }
+                insert(-index - 1, key);
+                return;
+            }
+            insert(size, key);
+        }
+
+        void append(long key) {
+            insert(size, key);
+        }
+
+        void remove(long key) {
+            int index = Arrays.binarySearch(keys, 0, size, key);
+            if (index >= 0) {
+                System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+                size--;
+            }
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(keys, size);
+        }
+
+        void seal() {
+            Arrays.sort(keys, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || keys[distinct - 1] != keys[i]) {
+                    keys[distinct++] = keys[i];
+                }
+            }
+            size = distinct;
+            if (keys.length > size) {
+                keys = Arrays.copyOf(keys, size);
+            }
+        }
+
+        private void insert(int index, long key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, Math.max(2, size + (size >> 1)));
+            }
+            System.arraycopy(keys, index, keys, index + 1, size - index);
+            keys[index] = key;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package ru.otus.hw.services;
+
+import ru.otus.hw.dto.SearchDocumentType;
+import ru.otus.hw.dto.SearchHitDto;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SearchService {
+    List<SearchHitDto> search(String query, int limit);
+
+    void rebuildIndex();
+
+    void index(SearchDocumentType type, long id, String text);
+
+    void remove(SearchDocumentType type, Collection<Long> ids);
+}
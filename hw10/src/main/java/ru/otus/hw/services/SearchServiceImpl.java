@@ -0,0 +1,126 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.otus.hw.dto.CommentMinDto;
+import ru.otus.hw.dto.SearchDocumentType;
+import ru.otus.hw.dto.SearchHitDto;
+import ru.otus.hw.repositories.AuthorRepository;
+import ru.otus.hw.repositories.BookRepository;
+import ru.otus.hw.repositories.CommentRepository;
+import ru.otus.hw.utils.KeysetPages;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static ru.otus.hw.dto.SearchDocumentType.AUTHOR;
+import static ru.otus.hw.dto.SearchDocumentType.BOOK;
+import static ru.otus.hw.dto.SearchDocumentType.COMMENT;
+
+/**
+ * Search over the {@link SearchIndex}. The index only knows keys, so the texts of the hits on a page are
+ * read back with one query per document type; hits that are no longer in the database are dropped from
+ * the index on the way. Changes made by the services reach the index after their transaction commits.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    private final SearchIndex searchIndex;
+
+    private final BookRepository bookRepository;
+
+    private final AuthorRepository authorRepository;
+
+    private final CommentRepository commentRepository;
+
+    @Override
+    public List<SearchHitDto> search(String query, int limit) {
+        KeysetPages.checkLimit(limit);
+        List<SearchIndex.Hit> hits = searchIndex.search(query, limit);
+        Map<SearchDocumentType, List<Long>> ids = hits.stream().collect(Collectors.groupingBy(SearchIndex.Hit::type,
+                () -> new EnumMap<>(SearchDocumentType.class),
+                Collectors.mapping(SearchIndex.Hit::id, Collectors.toList())));
+        Map<SearchDocumentType, Map<Long, SearchHitDto>> found = new EnumMap<>(SearchDocumentType.class);
+        ids.forEach((type, typeIds) -> found.put(type, load(type, typeIds).stream()
+                .collect(Collectors.toMap(SearchHitDto::id, Function.identity()))));
+        List<SearchHitDto> result = new ArrayList<>(hits.size());
+        for (SearchIndex.Hit hit : hits) {
+            SearchHitDto dto = found.get(hit.type()).get(hit.id());
+            if (dto == null) {
+                searchIndex.remove(hit.type(), hit.id());
+            } else {
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildIndex() {
+        long start = System.nanoTime();
+        searchIndex.rebuild(sink -> {
+            bookRepository.findAllTitles().forEach(book -> sink.add(BOOK, book.id(), book.title()));
+            authorRepository.findAll().forEach(author -> sink.add(AUTHOR, author.getId(), author.getFullName()));
+            try (Stream<CommentMinDto> comments = commentRepository.streamAllTexts()) {
+                comments.forEach(comment -> sink.add(COMMENT, comment.id(), comment.text()));
+            }
+        });
+        SearchIndex.Stats stats = searchIndex.stats();
+        log.info("Search index of {} documents, {} terms and {} postings built in {} ms", stats.documents(),
+                stats.terms(), stats.postings(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public void index(SearchDocumentType type, long id, String text) {
+        afterCommit(() -> searchIndex.put(type, id, text));
+    }
+
+    @Override
+    public void remove(SearchDocumentType type, Collection<Long> ids) {
+        List<Long> removed = List.copyOf(ids);
+        afterCommit(() -> removed.forEach(id -> searchIndex.remove(type, id)));
+    }
+
+    private List<SearchHitDto> load(SearchDocumentType type, List<Long> ids) {
+        return switch (type) {
+            case BOOK -> bookRepository.findTitlesByIdIn(ids).stream()
+                    .map(book -> new SearchHitDto(BOOK, book.id(), book.title()))
+                    .toList();
+            case AUTHOR -> authorRepository.findAllById(ids).stream()
+                    .map(author -> new SearchHitDto(AUTHOR, author.getId(), author.getFullName()))
+                    .toList();
+            case COMMENT -> commentRepository.findWithBookTitleByIdIn(ids).stream()
+                    .map(comment -> new SearchHitDto(COMMENT, comment.id(), comment.text(), comment.bookId()))
+                    .toList();
+        };
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package ru.otus.hw.utils;
+
+import ru.otus.hw.dto.PageDto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static ru.otus.hw.utils.Lists.getLast;
+import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_PAGE_SIZE_MESSAGE;
+
+/**
+ * Helpers for "id > after order by id limit n" pagination. Pages are read with one extra row,
+ * which tells whether a next page exists without a count query.
+ */
+public final class KeysetPages {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private KeysetPages() {
+    }
+
+    public static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(ILLEGAL_PAGE_SIZE_MESSAGE.getMessage(MAX_PAGE_SIZE));
+        }
+    }
+
+    public static long startAfter(Long afterId) {
+        return afterId == null ? 0L : afterId;
+    }
+
+    public static <T> PageDto<T> toPage(List<T> rows, int limit, Function<T, Long> idGetter) {
+        boolean hasNext = rows.size() > limit;
+        List<T> content = hasNext ? rows.subList(0, limit) : rows;
+        return new PageDto<>(content, hasNext ? idGetter.apply(getLast(content)) : null);
+    }
+}
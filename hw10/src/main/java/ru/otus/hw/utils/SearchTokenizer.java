@@ -0,0 +1,61 @@
+package ru.otus.hw.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits Russian and English text into search terms: runs of letters and digits, lower-cased with
+ * {@code ё} folded into {@code е}. Single characters and the commonest function words of both languages
+ * are dropped, they would only produce huge posting lists.
+ */
+public final class SearchTokenizer {
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "без", "во", "да", "для", "до", "же", "за", "из", "или", "как", "ко", "ли", "на", "не", "ни", "но",
+            "об", "от", "по", "под", "при", "со", "то", "что", "это",
+            "an", "and", "are", "as", "at", "be", "by", "for", "in", "is", "it", "of", "on", "or", "the", "to");
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * Distinct terms of {@code text} in the order of their first occurrence.
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint)) {
+                token.appendCodePoint(fold(codePoint));
+            } else {
+                flush(token, tokens);
+            }
+        }
+        flush(token, tokens);
+        return new ArrayList<>(tokens);
+    }
+
+    private static int fold(int codePoint) {
+        int lowerCase = Character.toLowerCase(codePoint);
+        return lowerCase == 'ё' ? 'е' : lowerCase;
+    }
+
+    private static void flush(StringBuilder token, Set<String> tokens) {
+        if (token.length() >= MIN_TOKEN_LENGTH) {
+            String term = token.toString();
+            if (!STOP_WORDS.contains(term)) {
+                tokens.add(term);
+            }
+        }
+        token.setLength(0);
+    }
+}
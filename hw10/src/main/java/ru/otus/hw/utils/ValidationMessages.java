@@ -7,7 +7,9 @@ import lombok.RequiredArgsConstructor;
 public enum ValidationMessages {
     ENTITY_NOT_FOUND_MESSAGE("%s with id %d not found"),
     ILLEGAL_ARGUMENT_MESSAGE("%s id list can't be null or empty"),
-    ENTITY_LIST_NOT_FOUND_MESSAGE("One or all %ss with ids %s not found");
+    ENTITY_LIST_NOT_FOUND_MESSAGE("One or all %ss with ids %s not found"),
+    ILLEGAL_PAGE_SIZE_MESSAGE("Page size must be between 1 and %d"),
+    ID_REQUIRED_MESSAGE("%s id is required");
 
     private final String message;
 
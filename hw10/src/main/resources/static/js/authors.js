@@ -3,6 +3,8 @@ class AuthorsManager extends FormBase {
         super();
         this.apiUrl = '/api/v1/authors';
         this.booksApiUrl = '/api/v1/books';
+        this.pageSize = 20;
+        this.scroll = null;
     }
 
     init() {
@@ -12,29 +14,37 @@ class AuthorsManager extends FormBase {
     }
 
     loadAuthors() {
-        fetch(this.apiUrl)
-            .then(response => response.json())
-            .then(authors => {
-                const tbody = document.getElementById('authors-table-body');
-                if (tbody) {
-                    tbody.innerHTML = '';
-
-                    const promises = authors.map(author =>
-                        this.loadAuthorBooksWithDetails(author)
-                    );
-
-                    Promise.all(promises).then(results => {
-                        results.forEach(result => {
-                            const row = this.createAuthorRow(result.author, result.books);
-                            tbody.appendChild(row);
-                        });
-                    });
-                }
-            })
-            .catch(error => {
+        if (this.scroll) {
+            this.scroll.stop();
+        }
+        this.scroll = new InfiniteScroll(`${this.apiUrl}?limit=${this.pageSize}`,
+            document.getElementById('authors-scroll-sentinel'),
+            (authors, firstPage) => this.appendAuthors(authors, firstPage),
+            error => {
                 console.error('Ошибка загрузки авторов:', error);
                 this.showError('Ошибка загрузки списка авторов');
             });
+        this.scroll.start();
+    }
+
+    appendAuthors(authors, firstPage) {
+        const tbody = document.getElementById('authors-table-body');
+        if (tbody) {
+            if (firstPage) {
+                tbody.innerHTML = '';
+            }
+
+            const promises = authors.map(author =>
+                this.loadAuthorBooksWithDetails(author)
+            );
+
+            Promise.all(promises).then(results => {
+                results.forEach(result => {
+                    const row = this.createAuthorRow(result.author, result.books);
+                    tbody.appendChild(row);
+                });
+            });
+        }
     }
 
     loadAuthorBooksWithDetails(author) {
@@ -2,6 +2,8 @@ class BooksManager extends FormBase {
     constructor() {
         super();
         this.apiUrl = '/api/v1/books';
+        this.pageSize = 20;
+        this.scroll = null;
     }
 
     init() {
@@ -11,27 +13,35 @@ class BooksManager extends FormBase {
     }
 
     loadBooks() {
-        fetch(this.apiUrl)
-            .then(response => response.json())
-            .then(books => {
-                const tbody = document.getElementById('books-table-body');
-                if (tbody) {
-                    tbody.innerHTML = '';
-
-                    if (books && books.length > 0) {
-                        books.forEach(book => {
-                            const row = this.createBookRow(book);
-                            tbody.appendChild(row);
-                        });
-                    } else {
-                        tbody.innerHTML = '<tr><td colspan="5" class="text-center">Книги отсутствуют</td></tr>';
-                    }
-                }
-            })
-            .catch(error => {
+        if (this.scroll) {
+            this.scroll.stop();
+        }
+        this.scroll = new InfiniteScroll(`${this.apiUrl}?limit=${this.pageSize}`,
+            document.getElementById('books-scroll-sentinel'),
+            (books, firstPage) => this.appendBooks(books, firstPage),
+            error => {
                 console.error('Ошибка загрузки книг:', error);
                 this.showError('Ошибка загрузки списка книг');
             });
+        this.scroll.start();
+    }
+
+    appendBooks(books, firstPage) {
+        const tbody = document.getElementById('books-table-body');
+        if (tbody) {
+            if (firstPage) {
+                tbody.innerHTML = '';
+            }
+
+            if (books && books.length > 0) {
+                books.forEach(book => {
+                    const row = this.createBookRow(book);
+                    tbody.appendChild(row);
+                });
+            } else if (firstPage) {
+                tbody.innerHTML = '<tr><td colspan="5" class="text-center">Книги отсутствуют</td></tr>';
+            }
+        }
     }
 
     createBookRow(book) {
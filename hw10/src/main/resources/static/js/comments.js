@@ -3,6 +3,8 @@ class CommentsManager extends FormBase {
         super();
         this.apiUrl = '/api/v1/comments';
         this.bookId = null;
+        this.pageSize = 20;
+        this.scroll = null;
     }
 
     init(bookId) {
@@ -13,27 +15,35 @@ class CommentsManager extends FormBase {
     }
 
     loadComments() {
-        fetch(`${this.apiUrl}?bookId=${this.bookId}`)
-            .then(response => response.json())
-            .then(comments => {
-                const tbody = document.getElementById('comments-table-body');
-                if (tbody) {
-                    tbody.innerHTML = '';
-
-                    if (comments && comments.length > 0) {
-                        comments.forEach(comment => {
-                            const row = this.createCommentRow(comment);
-                            tbody.appendChild(row);
-                        });
-                    } else {
-                        tbody.innerHTML = '<tr><td colspan="4" class="text-center">Комментарии отсутствуют</td></tr>';
-                    }
-                }
-            })
-            .catch(error => {
+        if (this.scroll) {
+            this.scroll.stop();
+        }
+        this.scroll = new InfiniteScroll(`${this.apiUrl}?bookId=${this.bookId}&limit=${this.pageSize}`,
+            document.getElementById('comments-scroll-sentinel'),
+            (comments, firstPage) => this.appendComments(comments, firstPage),
+            error => {
                 console.error('Ошибка загрузки комментариев:', error);
                 this.showError('Ошибка загрузки списка комментариев');
             });
+        this.scroll.start();
+    }
+
+    appendComments(comments, firstPage) {
+        const tbody = document.getElementById('comments-table-body');
+        if (tbody) {
+            if (firstPage) {
+                tbody.innerHTML = '';
+            }
+
+            if (comments && comments.length > 0) {
+                comments.forEach(comment => {
+                    const row = this.createCommentRow(comment);
+                    tbody.appendChild(row);
+                });
+            } else if (firstPage) {
+                tbody.innerHTML = '<tr><td colspan="4" class="text-center">Комментарии отсутствуют</td></tr>';
+            }
+        }
     }
 
     createCommentRow(comment) {
@@ -2,6 +2,8 @@ class GenresManager extends FormBase {
     constructor() {
         super();
         this.apiUrl = '/api/v1/genres';
+        this.pageSize = 20;
+        this.scroll = null;
     }
 
     init() {
@@ -11,23 +13,31 @@ class GenresManager extends FormBase {
     }
 
     loadGenres() {
-        fetch(this.apiUrl)
-            .then(response => response.json())
-            .then(genres => {
-                const tbody = document.getElementById('genres-table-body');
-                if (tbody) {
-                    tbody.innerHTML = '';
-
-                    genres.forEach(genre => {
-                        const row = this.createGenreRow(genre);
-                        tbody.appendChild(row);
-                    });
-                }
-            })
-            .catch(error => {
+        if (this.scroll) {
+            this.scroll.stop();
+        }
+        this.scroll = new InfiniteScroll(`${this.apiUrl}?limit=${this.pageSize}`,
+            document.getElementById('genres-scroll-sentinel'),
+            (genres, firstPage) => this.appendGenres(genres, firstPage),
+            error => {
                 console.error('Ошибка загрузки жанров:', error);
                 this.showError('Ошибка загрузки списка жанров');
             });
+        this.scroll.start();
+    }
+
+    appendGenres(genres, firstPage) {
+        const tbody = document.getElementById('genres-table-body');
+        if (tbody) {
+            if (firstPage) {
+                tbody.innerHTML = '';
+            }
+
+            genres.forEach(genre => {
+                const row = this.createGenreRow(genre);
+                tbody.appendChild(row);
+            });
+        }
     }
 
     createGenreRow(genre) {
@@ -0,0 +1,75 @@
+class InfiniteScroll {
+    constructor(firstPageUrl, sentinel, onPage, onError) {
+        this.nextUrl = firstPageUrl;
+        this.sentinel = sentinel;
+        this.onPage = onPage;
+        this.onError = onError;
+        this.loading = false;
+        this.firstPage = true;
+        this.observer = null;
+    }
+
+    start() {
+        if (this.sentinel && 'IntersectionObserver' in window) {
+            this.observer = new IntersectionObserver(entries => {
+                if (entries.some(entry => entry.isIntersecting)) {
+                    this.loadNext();
+                }
+            });
+            this.observer.observe(this.sentinel);
+        }
+        this.loadNext();
+    }
+
+    stop() {
+        if (this.observer) {
+            this.observer.disconnect();
+        }
+        this.nextUrl = null;
+    }
+
+    loadNext() {
+        if (this.loading || !this.nextUrl) {
+            return;
+        }
+        this.loading = true;
+        fetch(this.nextUrl)
+            .then(response => {
+                if (!response.ok) {
+                    throw new Error(`HTTP ${response.status}`);
+                }
+                this.nextUrl = InfiniteScroll.parseNextLink(response.headers.get('Link'));
+                return response.json();
+            })
+            .then(items => {
+                this.onPage(items, this.firstPage);
+                this.firstPage = false;
+                this.loading = false;
+                if (!this.nextUrl) {
+                    this.stop();
+                } else if (this.isSentinelVisible()) {
+                    this.loadNext();
+                }
+            })
+            .catch(error => {
+                this.loading = false;
+                this.stop();
+                this.onError(error);
+            });
+    }
+
+    isSentinelVisible() {
+        if (!this.sentinel) {
+            return true;
+        }
+        return this.sentinel.getBoundingClientRect().top <= window.innerHeight;
+    }
+
+    static parseNextLink(linkHeader) {
+        if (!linkHeader) {
+            return null;
+        }
+        const match = linkHeader.match(/<([^>]+)>\s*;\s*rel="next"/);
+        return match ? match[1] : null;
+    }
+}
@@ -0,0 +1,63 @@
+class SearchBox extends FormBase {
+    constructor() {
+        super();
+        this.apiUrl = '/api/v1/search';
+        this.limit = 20;
+        this.typeNames = {BOOK: 'Книга', AUTHOR: 'Автор', COMMENT: 'Комментарий'};
+    }
+
+    init() {
+        document.addEventListener('DOMContentLoaded', () => {
+            const form = document.getElementById('search-form');
+            if (form) {
+                form.addEventListener('submit', event => {
+                    event.preventDefault();
+                    this.search(document.getElementById('search-query').value.trim());
+                });
+            }
+        });
+    }
+
+    async search(query) {
+        const results = document.getElementById('search-results');
+        if (!query) {
+            results.classList.add('d-none');
+            return;
+        }
+        try {
+            const response = await fetch(`${this.apiUrl}?q=${encodeURIComponent(query)}&limit=${this.limit}`);
+            if (!response.ok) {
+                throw new Error(`HTTP ${response.status}`);
+            }
+            this.showHits(await response.json());
+        } catch (error) {
+            console.error('Ошибка поиска:', error);
+            alert('Ошибка поиска');
+        }
+    }
+
+    showHits(hits) {
+        const results = document.getElementById('search-results');
+        results.innerHTML = hits.length > 0
+            ? hits.map(hit => `
+                <a class="list-group-item list-group-item-action text-start" href="${this.hitUrl(hit)}">
+                    <span class="badge text-bg-info me-2">${this.typeNames[hit.type]}</span>${this.escapeHtml(hit.text)}
+                </a>`).join('')
+            : '<div class="list-group-item">Ничего не найдено</div>';
+        results.classList.remove('d-none');
+    }
+
+    hitUrl(hit) {
+        switch (hit.type) {
+            case 'BOOK':
+                return `/books/${hit.id}/details`;
+            case 'AUTHOR':
+                return `/authors/${hit.id}/details`;
+            default:
+                return `/books/${hit.bookId}/comments/${hit.id}/details`;
+        }
+    }
+}
+
+const searchBox = new SearchBox();
+searchBox.init();
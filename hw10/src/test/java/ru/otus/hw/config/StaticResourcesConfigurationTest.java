@@ -0,0 +1,72 @@
+package ru.otus.hw.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.otus.hw.controllers.page.GenrePageController;
+import ru.otus.hw.services.GenreService;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Раздача статических ресурсов с хэшем содержимого в URL")
+@WebMvcTest(GenrePageController.class)
+class StaticResourcesConfigurationTest {
+
+    private static final Pattern VERSIONED_SCRIPT = Pattern.compile("src=\"(/js/genres-[0-9a-f]{32}\\.js)\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private GenreService genreService;
+
+    @DisplayName("должен ссылаться на версионированные скрипты и отдавать их сжатыми с immutable кэшированием")
+    @Test
+    void whenRenderPage_thenLinksVersionedScriptServedCompressedAndImmutable() throws Exception {
+        //Given
+        String page = mockMvc.perform(get("/genres"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Matcher script = VERSIONED_SCRIPT.matcher(page);
+
+        //When
+        assertThat(script.find()).as("versioned genres.js link in %s", page).isTrue();
+
+        //Then
+        assertThat(page).containsPattern("href=\"/favicon-[0-9a-f]{32}\\.ico\"");
+        mockMvc.perform(get(script.group(1)).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+        mockMvc.perform(get(script.group(1)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(containsString("class GenresManager")));
+    }
+
+    @DisplayName("должен отдавать ресурсы по адресу без хэша с ежедневной перепроверкой, в том числе сжатыми")
+    @Test
+    void whenGetUnversionedResource_thenCachedForOneDay() throws Exception {
+        //When - Then
+        mockMvc.perform(get("/favicon.ico"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, public"));
+        mockMvc.perform(get("/js/genres.js").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, public"));
+    }
+}
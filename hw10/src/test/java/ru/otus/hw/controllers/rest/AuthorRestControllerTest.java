@@ -11,10 +11,12 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.otus.hw.dto.AuthorDto;
 import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.services.AuthorService;
 import ru.otus.hw.services.BookService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -39,6 +41,7 @@ class AuthorRestControllerTest {
 
     private static final Long MISSING_ID = 42L;
     private static final Long PRESENT_ID = 1L;
+    private static final ResourceStamp STAMP = new ResourceStamp(1, LocalDateTime.of(2025, 7, 5, 12, 0));
 
     @Autowired
     private MockMvc mockMvc;
@@ -66,6 +69,7 @@ class AuthorRestControllerTest {
         List<AuthorDto> authors = List.of(authorDto);
 
         //When
+        when(authorService.getCollectionStamp()).thenReturn(STAMP);
         when(authorService.findAll()).thenReturn(authors);
 
         //Then
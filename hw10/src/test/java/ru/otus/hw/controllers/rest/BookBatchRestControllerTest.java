@@ -0,0 +1,98 @@
+package ru.otus.hw.controllers.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.otus.hw.dto.BookBatchResultDto;
+import ru.otus.hw.dto.CreateUpdateBookDto;
+import ru.otus.hw.services.BookBatchService;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("REST контроллер для пакетной записи книг ")
+@WebMvcTest(BookBatchRestController.class)
+class BookBatchRestControllerTest {
+
+    private static final Long PRESENT_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private BookBatchService bookBatchService;
+
+    @DisplayName("должен создавать книги пакетом и возвращать результат по каждой")
+    @Test
+    void whenCreateBooksBatch_thenReturnsPerItemResults() throws Exception {
+        //Given
+        List<CreateUpdateBookDto> books = List.of(
+                CreateUpdateBookDto.builder()
+                        .title("Book_1").authorId(PRESENT_ID).genreIds(List.of(PRESENT_ID)).build(),
+                CreateUpdateBookDto.builder()
+                        .title("").authorId(PRESENT_ID).genreIds(List.of(PRESENT_ID)).build());
+
+        //When
+        when(bookBatchService.insertAll(books)).thenReturn(List.of(
+                BookBatchResultDto.created(0, 9L),
+                BookBatchResultDto.invalid(1, null, "Название книги не может быть пустым")));
+
+        //Then
+        mockMvc.perform(post("/api/v1/books:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(books)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").value(9))
+                .andExpect(jsonPath("$[1].status").value("INVALID"))
+                .andExpect(jsonPath("$[1].message").value("Название книги не может быть пустым"));
+    }
+
+    @DisplayName("должен обновлять книги пакетом и возвращать результат по каждой")
+    @Test
+    void whenUpdateBooksBatch_thenReturnsPerItemResults() throws Exception {
+        //Given
+        List<CreateUpdateBookDto> books = List.of(CreateUpdateBookDto.builder()
+                .id(PRESENT_ID).title("Book_1").authorId(PRESENT_ID).genreIds(List.of(PRESENT_ID)).build());
+
+        //When
+        when(bookBatchService.updateAll(books)).thenReturn(List.of(BookBatchResultDto.updated(0, PRESENT_ID)));
+
+        //Then
+        mockMvc.perform(put("/api/v1/books:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(books)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$[0].id").value(PRESENT_ID));
+    }
+
+    @DisplayName("должен возвращать 400 для пустого пакета")
+    @Test
+    void whenCreateEmptyBatch_thenReturnsBadRequest() throws Exception {
+        //Then
+        mockMvc.perform(post("/api/v1/books:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verify(bookBatchService, never()).insertAll(anyList());
+    }
+}
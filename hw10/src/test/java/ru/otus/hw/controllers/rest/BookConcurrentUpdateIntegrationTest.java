@@ -0,0 +1,129 @@
+package ru.otus.hw.controllers.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.otus.hw.dto.CreateUpdateBookDto;
+import ru.otus.hw.services.SearchService;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.otus.hw.dto.SearchDocumentType.BOOK;
+
+/**
+ * Another writer commits between the read and the write of an update: the search indexing an update runs in
+ * between is replaced by a change of the same book in its own transaction.
+ */
+@DisplayName("Конкурентное обновление книг через REST API")
+@SpringBootTest
+@AutoConfigureMockMvc
+class BookConcurrentUpdateIntegrationTest {
+
+    private static final long STALE_BOOK_ID = 1L;
+
+    private static final long RACED_BOOK_ID = 2L;
+
+    private static final long RACED_BATCH_BOOK_ID = 3L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private SearchService searchService;
+
+    @DisplayName("должен отвечать 412 на обновление книги с устаревшим If-Match")
+    @Test
+    void whenUpdateBookWithStaleIfMatch_thenPreconditionFailed() throws Exception {
+        //Given
+        String eTag = mockMvc.perform(get("/api/v1/books/{id}", STALE_BOOK_ID))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(put("/api/v1/books/{id}", STALE_BOOK_ID)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(book(STALE_BOOK_ID, "First_Writer_Title"))))
+                .andExpect(status().isOk());
+
+        //When
+        mockMvc.perform(put("/api/v1/books/{id}", STALE_BOOK_ID)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(book(STALE_BOOK_ID, "Second_Writer_Title"))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+
+        //Then
+        assertThat(title(STALE_BOOK_ID)).isEqualTo("First_Writer_Title");
+    }
+
+    @DisplayName("должен отвечать 409, если книгу изменили во время ее обновления")
+    @Test
+    void whenBookChangedDuringUpdate_thenConflict() throws Exception {
+        //Given
+        changeDuringIndexing(RACED_BOOK_ID);
+
+        //When
+        mockMvc.perform(put("/api/v1/books/{id}", RACED_BOOK_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(book(RACED_BOOK_ID, "Lost_Title"))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").exists());
+
+        //Then
+        assertThat(title(RACED_BOOK_ID)).isEqualTo("Concurrent_Title");
+    }
+
+    @DisplayName("должен отвечать 409, если книгу пакета изменили во время его обновления")
+    @Test
+    void whenBookChangedDuringBatchUpdate_thenConflict() throws Exception {
+        //Given
+        changeDuringIndexing(RACED_BATCH_BOOK_ID);
+
+        //When
+        mockMvc.perform(put("/api/v1/books:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(book(RACED_BATCH_BOOK_ID, "Lost_Title")))))
+                .andExpect(status().isConflict());
+
+        //Then
+        assertThat(title(RACED_BATCH_BOOK_ID)).isEqualTo("Concurrent_Title");
+    }
+
+    private void changeDuringIndexing(long bookId) {
+        doAnswer(invocation -> CompletableFuture.runAsync(() -> jdbcTemplate.update(
+                "update books set title = ?, version = version + 1 where id = ?", "Concurrent_Title", bookId)).get())
+                .when(searchService).index(eq(BOOK), eq(bookId), anyString());
+    }
+
+    private String title(long bookId) {
+        return jdbcTemplate.queryForObject("select title from books where id = ?", String.class, bookId);
+    }
+
+    private static CreateUpdateBookDto book(long id, String title) {
+        return CreateUpdateBookDto.builder().id(id).title(title).authorId(1L).genreIds(List.of(1L)).build();
+    }
+}
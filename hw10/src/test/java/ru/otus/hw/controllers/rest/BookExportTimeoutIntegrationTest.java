@@ -0,0 +1,79 @@
+package ru.otus.hw.controllers.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import ru.otus.hw.dto.AuthorDto;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.services.BookService;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * The container's async timeout is cut to {@value #CONTAINER_ASYNC_TIMEOUT_MS} ms, standing in for its 30 seconds
+ * default, and the export outlives it: only the configured {@code spring.mvc.async.request-timeout} may end it.
+ */
+@DisplayName("Потоковая выгрузка книг на сервере")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BookExportTimeoutIntegrationTest {
+
+    private static final long CONTAINER_ASYNC_TIMEOUT_MS = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @MockitoBean
+    private BookService bookService;
+
+    @DisplayName("должен выгружать книги дольше таймаута асинхронных запросов контейнера")
+    @Test
+    void whenExportRunsPastContainerAsyncTimeout_thenStreamsWholeCatalog() throws Exception {
+        //Given
+        doAnswer(invocation -> {
+            Consumer<BookDto> consumer = invocation.getArgument(0);
+            consumer.accept(book(1L));
+            Thread.sleep(CONTAINER_ASYNC_TIMEOUT_MS * 4);
+            consumer.accept(book(2L));
+            return null;
+        }).when(bookService).exportAll(any());
+
+        //When
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/books/export")).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        //Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body().lines()).hasSize(2);
+    }
+
+    private static BookDto book(long id) {
+        return new BookDto(id, "Book_" + id, new AuthorDto(1L, "Author_1"), List.of(new GenreDto(1L, "Genre_1")));
+    }
+
+    @TestConfiguration
+    static class ContainerAsyncTimeoutConfiguration {
+
+        @Bean
+        WebServerFactoryCustomizer<TomcatServletWebServerFactory> shortAsyncTimeout() {
+            return factory -> factory.addConnectorCustomizers(
+                    connector -> connector.setAsyncTimeout(CONTAINER_ASYNC_TIMEOUT_MS));
+        }
+    }
+}
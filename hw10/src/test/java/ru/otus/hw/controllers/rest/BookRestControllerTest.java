@@ -6,36 +6,51 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.otus.hw.dto.AuthorDto;
 import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.BookField;
 import ru.otus.hw.dto.CreateUpdateBookDto;
 import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.services.AuthorService;
 import ru.otus.hw.services.BookService;
 import ru.otus.hw.services.GenreService;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -45,6 +60,7 @@ class BookRestControllerTest {
 
     private static final Long MISSING_ID = 42L;
     private static final Long PRESENT_ID = 1L;
+    private static final ResourceStamp STAMP = new ResourceStamp(1, LocalDateTime.of(2025, 7, 5, 12, 0));
     private static final Long PRESENT_ID2 = 2L;
 
     @Autowired
@@ -91,6 +107,7 @@ class BookRestControllerTest {
         List<BookDto> books = List.of(bookDto);
 
         //When
+        when(bookService.getCollectionStamp()).thenReturn(STAMP);
         when(bookService.findAll()).thenReturn(books);
 
         //Then
@@ -120,6 +137,165 @@ class BookRestControllerTest {
         verify(bookService, times(1)).findById(PRESENT_ID);
     }
 
+    @DisplayName("должен возвращать 304 для списка книг с актуальным ETag без загрузки книг")
+    @Test
+    void whenGetAllBooksWithMatchingETag_thenReturnsNotModified() throws Exception {
+        //When
+        when(bookService.getCollectionStamp()).thenReturn(STAMP);
+
+        //Then
+        mockMvc.perform(get("/api/v1/books").header(HttpHeaders.IF_NONE_MATCH, STAMP.weakETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, STAMP.weakETag()))
+                .andExpect(content().string(""));
+
+        verify(bookService, never()).findAll();
+    }
+
+    @DisplayName("должен возвращать страницу книг со ссылкой на следующую страницу")
+    @Test
+    void whenGetBooksPage_thenReturnsPageWithNextLink() throws Exception {
+        //When
+        when(bookService.getCollectionStamp()).thenReturn(STAMP);
+        when(bookService.findPage(null, 1, BookField.all())).thenReturn(new PageDto<>(List.of(bookDto), PRESENT_ID));
+
+        //Then
+        mockMvc.perform(get("/api/v1/books").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(PRESENT_ID))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + PRESENT_ID)))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")));
+
+        verify(bookService, never()).findAll();
+    }
+
+    @DisplayName("не должен возвращать ссылку на следующую страницу для последней страницы")
+    @Test
+    void whenGetLastBooksPage_thenReturnsPageWithoutNextLink() throws Exception {
+        //When
+        when(bookService.getCollectionStamp()).thenReturn(STAMP);
+        when(bookService.findPage(PRESENT_ID, 1, BookField.all())).thenReturn(new PageDto<>(List.of(bookDto), null));
+
+        //Then
+        mockMvc.perform(get("/api/v1/books").param("after", "1").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @DisplayName("должен возвращать 400 для недопустимого размера страницы")
+    @Test
+    void whenGetBooksPageWithIllegalLimit_thenReturnsBadRequest() throws Exception {
+        //Then
+        mockMvc.perform(get("/api/v1/books").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(bookService, never()).findPage(any(), anyInt(), anySet());
+    }
+
+    @DisplayName("должен выгружать книги в формате NDJSON по одной книге на строку")
+    @Test
+    void whenExportBooks_thenStreamsNdjsonLines() throws Exception {
+        //Given
+        BookDto secondBook = BookDto.builder().id(PRESENT_ID2).title("Test_Book_2")
+                .author(bookDto.author()).genres(bookDto.genres()).build();
+
+        //When
+        doAnswer(invocation -> {
+            Consumer<BookDto> consumer = invocation.getArgument(0);
+            consumer.accept(bookDto);
+            consumer.accept(secondBook);
+            return null;
+        }).when(bookService).exportAll(any());
+
+        //Then
+        MvcResult result = mockMvc.perform(get("/api/v1/books/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String expected = objectMapper.writeValueAsString(bookDto) + "\n"
+                + objectMapper.writeValueAsString(secondBook) + "\n";
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expected));
+
+        verify(bookService, never()).findAll();
+    }
+
+    @DisplayName("должен возвращать только запрошенные поля книг")
+    @Test
+    void whenGetBooksWithFields_thenReturnsOnlyRequestedProperties() throws Exception {
+        //When
+        when(bookService.getCollectionStamp()).thenReturn(STAMP);
+        when(bookService.findAll(Set.of(BookField.ID, BookField.TITLE)))
+                .thenReturn(List.of(new BookDto(PRESENT_ID, "Test_Book")));
+
+        //Then
+        mockMvc.perform(get("/api/v1/books").param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(PRESENT_ID))
+                .andExpect(jsonPath("$[0].title").value("Test_Book"))
+                .andExpect(jsonPath("$[0].author").doesNotExist())
+                .andExpect(jsonPath("$[0].genres").doesNotExist());
+
+        verify(bookService, never()).findAll();
+    }
+
+    @DisplayName("должен возвращать 400 для неизвестного поля книги")
+    @Test
+    void whenGetBooksWithUnknownField_thenReturnsBadRequest() throws Exception {
+        //When
+        when(bookService.getCollectionStamp()).thenReturn(STAMP);
+
+        //Then
+        mockMvc.perform(get("/api/v1/books").param("fields", "id,isbn"))
+                .andExpect(status().isBadRequest());
+
+        verify(bookService, never()).findAll(anySet());
+    }
+
+    @DisplayName("должен возвращать книгу со строгим ETag и Last-Modified")
+    @Test
+    void whenGetBookByIdWithStamp_thenReturnsBookWithValidators() throws Exception {
+        //When
+        when(bookService.findStampById(PRESENT_ID)).thenReturn(Optional.of(STAMP));
+        when(bookService.findById(PRESENT_ID)).thenReturn(Optional.of(bookDto));
+
+        //Then
+        mockMvc.perform(get("/api/v1/books/{id}", PRESENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, STAMP.strongETag()))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, STAMP.lastModified() / 1000 * 1000))
+                .andExpect(jsonPath("$.id").value(PRESENT_ID));
+    }
+
+    @DisplayName("должен возвращать полное представление книги вместе с пустыми свойствами")
+    @Test
+    void whenGetBookByIdWithoutFields_thenReturnsNullPropertiesToo() throws Exception {
+        //When
+        when(bookService.findById(PRESENT_ID)).thenReturn(Optional.of(new BookDto(PRESENT_ID, "Test_Book")));
+
+        //Then
+        mockMvc.perform(get("/api/v1/books/{id}", PRESENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {"id": %d, "title": "Test_Book", "author": null, "genres": null}
+                        """.formatted(PRESENT_ID)));
+    }
+
+    @DisplayName("должен возвращать 304 для книги с актуальным ETag без загрузки книги")
+    @Test
+    void whenGetBookByIdWithMatchingETag_thenReturnsNotModified() throws Exception {
+        //When
+        when(bookService.findStampById(PRESENT_ID)).thenReturn(Optional.of(STAMP));
+
+        //Then
+        mockMvc.perform(get("/api/v1/books/{id}", PRESENT_ID).header(HttpHeaders.IF_NONE_MATCH, STAMP.strongETag()))
+                .andExpect(status().isNotModified());
+
+        verify(bookService, never()).findById(anyLong());
+    }
+
     @DisplayName("должен возвращать 404 при попытке получить несуществующую книгу")
     @Test
     void whenGetNonExistentBookById_thenReturnsNotFound() throws Exception {
@@ -244,6 +420,7 @@ class BookRestControllerTest {
         List<AuthorDto> authors = List.of(AuthorDto.builder().id(PRESENT_ID).fullName("Author_1").build());
 
         //When
+        when(authorService.getCollectionStamp()).thenReturn(STAMP);
         when(authorService.findAll()).thenReturn(authors);
 
         //Then
@@ -264,6 +441,7 @@ class BookRestControllerTest {
         List<GenreDto> genres = List.of(GenreDto.builder().id(PRESENT_ID).name("Genre_1").build());
 
         //When
+        when(genreService.getCollectionStamp()).thenReturn(STAMP);
         when(genreService.findAll()).thenReturn(genres);
 
         //Then
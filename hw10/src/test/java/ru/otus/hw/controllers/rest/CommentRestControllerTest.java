@@ -6,19 +6,26 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.otus.hw.dto.CommentCreateDto;
 import ru.otus.hw.dto.CommentDto;
 import ru.otus.hw.dto.CommentMinDto;
+import ru.otus.hw.dto.CommentRestDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.services.CommentService;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
@@ -32,6 +39,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -52,6 +60,7 @@ class CommentRestControllerTest {
     private CommentService commentService;
 
     private CommentDto commentDto;
+    private CommentRestDto commentRestDto;
     private Book book;
 
     @BeforeEach
@@ -59,16 +68,17 @@ class CommentRestControllerTest {
         Author author = new Author(PRESENT_ID, "Author_1");
         book = new Book(PRESENT_ID, "Test_Book", author, List.of());
         commentDto = CommentDto.builder().id(PRESENT_ID).text("Test_Comment").book(book).build();
+        commentRestDto = new CommentRestDto(PRESENT_ID, "Test_Comment", PRESENT_ID, "Test_Book");
     }
 
     @DisplayName("должен возвращать список всех комментариев по книге")
     @Test
     void whenGetAllCommentsByBookId_thenReturnsCommentsList() throws Exception {
         //Given
-        List<CommentDto> comments = List.of(commentDto);
+        List<CommentRestDto> comments = List.of(commentRestDto);
 
         //When
-        when(commentService.findByBookId(PRESENT_ID)).thenReturn(comments);
+        when(commentService.findWithBookTitleByBookId(PRESENT_ID)).thenReturn(comments);
 
         //Then
         mockMvc.perform(get("/api/v1/comments?bookId={bookId}", PRESENT_ID))
@@ -76,16 +86,55 @@ class CommentRestControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].id").value(PRESENT_ID))
-                .andExpect(jsonPath("$[0].text").value("Test_Comment"));
+                .andExpect(jsonPath("$[0].text").value("Test_Comment"))
+                .andExpect(jsonPath("$[0].bookId").value(PRESENT_ID))
+                .andExpect(jsonPath("$[0].bookTitle").value("Test_Book"));
 
-        verify(commentService, times(1)).findByBookId(PRESENT_ID);
+        verify(commentService, times(1)).findWithBookTitleByBookId(PRESENT_ID);
+        verify(commentService, never()).findByBookId(anyLong());
+    }
+
+    @DisplayName("должен возвращать страницу комментариев книги со ссылкой на следующую страницу")
+    @Test
+    void whenGetCommentsPageByBookId_thenReturnsPageWithNextLink() throws Exception {
+        //Given
+        PageDto<CommentRestDto> page = new PageDto<>(List.of(commentRestDto), PRESENT_ID);
+
+        //When
+        when(commentService.findPageWithBookTitleByBookId(PRESENT_ID, null, 1)).thenReturn(page);
+
+        //Then
+        mockMvc.perform(get("/api/v1/comments?bookId={bookId}&limit=1", PRESENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].bookTitle").value("Test_Book"))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + PRESENT_ID)));
+
+        verify(commentService, times(1)).findPageWithBookTitleByBookId(PRESENT_ID, null, 1);
+    }
+
+    @DisplayName("должен возвращать 304 для комментариев книги с актуальным ETag без загрузки комментариев")
+    @Test
+    void whenGetAllCommentsByBookIdWithMatchingETag_thenReturnsNotModified() throws Exception {
+        //Given
+        ResourceStamp stamp = new ResourceStamp(1, LocalDateTime.of(2025, 7, 17, 12, 0));
+
+        //When
+        when(commentService.findCollectionStampByBookId(PRESENT_ID)).thenReturn(Optional.of(stamp));
+
+        //Then
+        mockMvc.perform(get("/api/v1/comments?bookId={bookId}", PRESENT_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, stamp.weakETag()))
+                .andExpect(status().isNotModified());
+
+        verify(commentService, never()).findWithBookTitleByBookId(anyLong());
     }
 
     @DisplayName("должен возвращать комментарий по существующему ID")
     @Test
     void whenGetCommentById_thenReturnsComment() throws Exception {
         //When
-        when(commentService.findById(PRESENT_ID)).thenReturn(java.util.Optional.of(commentDto));
+        when(commentService.findWithBookTitleById(PRESENT_ID)).thenReturn(Optional.of(commentRestDto));
 
         //Then
         mockMvc.perform(get("/api/v1/comments/{id}", PRESENT_ID))
@@ -96,20 +145,21 @@ class CommentRestControllerTest {
                 .andExpect(jsonPath("$.bookId").value(PRESENT_ID))
                 .andExpect(jsonPath("$.bookTitle").value("Test_Book"));
 
-        verify(commentService, times(1)).findById(PRESENT_ID);
+        verify(commentService, times(1)).findWithBookTitleById(PRESENT_ID);
+        verify(commentService, never()).findById(anyLong());
     }
 
     @DisplayName("должен возвращать 404 при попытке получить несуществующий комментарий")
     @Test
     void whenGetNonExistentCommentById_thenReturnsNotFound() throws Exception {
         //When
-        when(commentService.findById(MISSING_ID)).thenReturn(java.util.Optional.empty());
+        when(commentService.findWithBookTitleById(MISSING_ID)).thenReturn(Optional.empty());
 
         //Then
         mockMvc.perform(get("/api/v1/comments/{id}", MISSING_ID))
                 .andExpect(status().isNotFound());
 
-        verify(commentService, times(1)).findById(MISSING_ID);
+        verify(commentService, times(1)).findWithBookTitleById(MISSING_ID);
     }
 
     @DisplayName("должен успешно создать новый комментарий с валидными данными")
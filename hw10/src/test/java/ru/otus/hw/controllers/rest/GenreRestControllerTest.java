@@ -10,9 +10,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.services.GenreService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -37,6 +39,7 @@ class GenreRestControllerTest {
 
     private static final Long MISSING_ID = 42L;
     private static final Long PRESENT_ID = 1L;
+    private static final ResourceStamp STAMP = new ResourceStamp(1, LocalDateTime.of(2025, 7, 5, 12, 0));
 
     @Autowired
     private MockMvc mockMvc;
@@ -61,6 +64,7 @@ class GenreRestControllerTest {
         List<GenreDto> genres = List.of(genreDto);
 
         //When
+        when(genreService.getCollectionStamp()).thenReturn(STAMP);
         when(genreService.findAll()).thenReturn(genres);
 
         //Then
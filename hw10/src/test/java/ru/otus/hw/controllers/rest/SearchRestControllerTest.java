@@ -0,0 +1,70 @@
+package ru.otus.hw.controllers.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.otus.hw.dto.SearchHitDto;
+import ru.otus.hw.services.SearchService;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.otus.hw.dto.SearchDocumentType.BOOK;
+import static ru.otus.hw.dto.SearchDocumentType.COMMENT;
+
+@DisplayName("REST контроллер полнотекстового поиска")
+@WebMvcTest(SearchRestController.class)
+class SearchRestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SearchService searchService;
+
+    @DisplayName("должен возвращать найденные документы с типом и ссылкой на книгу у комментариев")
+    @Test
+    void whenSearch_thenReturnsHits() throws Exception {
+        //Given
+        List<SearchHitDto> hits = List.of(new SearchHitDto(BOOK, 1L, "Землянин"),
+                new SearchHitDto(COMMENT, 6L, "Третья книга серии «Землянин»", 3L));
+
+        //When
+        when(searchService.search("землянин", 20)).thenReturn(hits);
+
+        //Then
+        mockMvc.perform(get("/api/v1/search").param("q", "землянин"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].type").value("BOOK"))
+                .andExpect(jsonPath("$[0].bookId").doesNotExist())
+                .andExpect(jsonPath("$[1].type").value("COMMENT"))
+                .andExpect(jsonPath("$[1].bookId").value(3L));
+    }
+
+    @DisplayName("должен возвращать 400 при недопустимом размере выдачи")
+    @Test
+    void whenSearchWithIllegalLimit_thenReturnsBadRequest() throws Exception {
+        //Given - limit больше максимального размера страницы
+
+        //When
+        mockMvc.perform(get("/api/v1/search").param("q", "землянин").param("limit", "100000"))
+
+        //Then
+                .andExpect(status().isBadRequest());
+        verify(searchService, never()).search(anyString(), anyInt());
+    }
+}
@@ -0,0 +1,92 @@
+package ru.otus.hw.load;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the real HTTP endpoints of the running application: the books page and the servlet REST list
+ * {@code /api/v1/books}. Excluded from the regular build, run with {@code mvn test -Pload-test -Dtest=LibraryLoadTest}
+ * for platform request threads and with {@code -Pload-test,virtual-threads} (builds and runs on Java 21) for
+ * virtual ones; the report names the mode that was active. Levels and timings are set with
+ * {@code -Dload.concurrency=1,8,32,128}, {@code -Dload.warmup=PT3S} and {@code -Dload.duration=PT10S}.
+ */
+@Tag("load")
+@DisplayName("Нагрузочный тест HTTP эндпоинтов книг")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LibraryLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${load.concurrency:1,8,32,128}")
+    private List<Integer> concurrencyLevels;
+
+    @Value("${load.warmup:PT3S}")
+    private Duration warmUp;
+
+    @Value("${load.duration:PT10S}")
+    private Duration duration;
+
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @DisplayName("должен отдавать страницу и REST список книг без ошибок на всех уровнях нагрузки")
+    @Test
+    void whenLoadBookEndpoints_thenReportThroughputAndLatencies() throws Exception {
+        //Given
+        LoadTestHarness harness = new LoadTestHarness(warmUp, duration);
+        List<LoadReport> reports = new ArrayList<>();
+
+        //When
+        for (String path : List.of("/books", "/api/v1/books")) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+            for (int concurrency : concurrencyLevels) {
+                reports.add(harness.run("GET " + path, concurrency, () -> () -> isOk(request)));
+            }
+        }
+
+        //Then
+        print(reports);
+        assertThat(reports).allSatisfy(report -> {
+            assertThat(report.requests()).isPositive();
+            assertThat(report.errors()).isZero();
+        });
+    }
+
+    private boolean isOk(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    private void print(List<LoadReport> reports) {
+        String mode = Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform";
+        System.out.printf("%nServer: Tomcat + JPA, %s request threads (Java %s)%n%s%n", mode,
+                Runtime.version().feature(), LoadReport.header());
+        reports.forEach(report -> System.out.println(report.row()));
+    }
+}
@@ -0,0 +1,46 @@
+package ru.otus.hw.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Result of one scenario at one concurrency level. Percentiles use the nearest-rank method.
+ */
+public record LoadReport(String scenario, int concurrency, long requests, long errors,
+                         double throughput, double p50Millis, double p99Millis) {
+
+    private static final String HEADER_FORMAT = "%-28s %11s %9s %7s %10s %9s %9s";
+
+    private static final String ROW_FORMAT = "%-28s %11d %9d %7d %10.1f %9.2f %9.2f";
+
+    static LoadReport of(String scenario, int concurrency, Duration duration,
+                         List<LoadTestHarness.WorkerResult> results) {
+        long[] latencies = results.stream()
+                .flatMapToLong(result -> Arrays.stream(result.latencies()))
+                .sorted()
+                .toArray();
+        long errors = results.stream().mapToLong(LoadTestHarness.WorkerResult::errors).sum();
+        double seconds = duration.toNanos() / 1e9;
+        return new LoadReport(scenario, concurrency, latencies.length, errors, latencies.length / seconds,
+                percentileMillis(latencies, 50), percentileMillis(latencies, 99));
+    }
+
+    public static String header() {
+        return HEADER_FORMAT.formatted("scenario", "concurrency", "requests", "errors", "req/s", "p50 ms", "p99 ms");
+    }
+
+    public String row() {
+        return String.format(Locale.ROOT, ROW_FORMAT, scenario, concurrency, requests, errors,
+                throughput, p50Millis, p99Millis);
+    }
+
+    private static double percentileMillis(long[] sortedLatencies, int percentile) {
+        if (sortedLatencies.length == 0) {
+            return Double.NaN;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length);
+        return sortedLatencies[Math.max(rank, 1) - 1] / 1e6;
+    }
+}
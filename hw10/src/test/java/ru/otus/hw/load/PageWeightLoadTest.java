@@ -0,0 +1,116 @@
+package ru.otus.hw.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes on the wire per page view of the list pages. "Before" replays the old behaviour: plain asset
+ * URLs without compression, and a repeat view that revalidates every asset. "After" uses the hashed URLs
+ * from the page with {@code Accept-Encoding: br, gzip}; a repeat view fetches only the (compressed) page
+ * because the assets are immutable. Response bodies are counted, headers are not. Excluded from the regular build,
+ * run with {@code mvn test -Pload-test -Dtest=PageWeightLoadTest}.
+ */
+@Tag("load")
+@DisplayName("Объём передаваемых данных на просмотр страницы")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PageWeightLoadTest {
+
+    private static final Pattern LOCAL_ASSET =
+            Pattern.compile("(?:src|href)=\"(/(?:js|webjars)/[^\"]+|/favicon[^\"]*)\"");
+
+    private static final Pattern CONTENT_HASH = Pattern.compile("-[0-9a-f]{32}(\\.\\w+)$");
+
+    private static final String ENCODINGS = "br, gzip";
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @DisplayName("должен уменьшать объём первого и повторного просмотра страниц списков")
+    @Test
+    void whenViewListPages_thenReportBytesPerPageView() throws Exception {
+        //Given
+        List<String> rows = new ArrayList<>();
+        List<PageWeight> weights = new ArrayList<>();
+
+        //When
+        for (String page : List.of("/books", "/authors", "/genres")) {
+            HttpResponse<byte[]> html = get(page, null, null);
+            long compressedHtml = get(page, ENCODINGS, null).body().length;
+            Set<String> assets = assets(new String(html.body(), StandardCharsets.UTF_8));
+            long before = html.body().length;
+            long after = compressedHtml;
+            int revalidations = 0;
+            for (String asset : assets) {
+                HttpResponse<byte[]> plain = get(CONTENT_HASH.matcher(asset).replaceFirst("$1"), null, null);
+                before += plain.body().length;
+                String lastModified = plain.headers().firstValue("Last-Modified").orElse(null);
+                if (lastModified != null && get(plain.uri().getPath(), null, lastModified).statusCode() == 304) {
+                    revalidations++;
+                }
+                after += get(asset, ENCODINGS, null).body().length;
+            }
+            weights.add(new PageWeight(page, assets.size(), before, after, revalidations, html.body().length,
+                    compressedHtml));
+        }
+
+        //Then
+        weights.forEach(weight -> rows.add(weight.row()));
+        System.out.printf("%n%-9s %6s %14s %13s %21s %20s%n", "page", "assets", "first before B",
+                "first after B", "repeat before req/B", "repeat after req/B");
+        rows.forEach(System.out::println);
+        assertThat(weights).allSatisfy(weight -> assertThat(weight.firstAfter()).isLessThan(weight.firstBefore()));
+    }
+
+    private Set<String> assets(String html) {
+        Set<String> assets = new LinkedHashSet<>();
+        Matcher matcher = LOCAL_ASSET.matcher(html);
+        while (matcher.find()) {
+            assets.add(matcher.group(1));
+        }
+        return assets;
+    }
+
+    private HttpResponse<byte[]> get(String path, String encodings, String ifModifiedSince)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+        if (encodings != null) {
+            request.header("Accept-Encoding", encodings);
+        }
+        if (ifModifiedSince != null) {
+            request.header("If-Modified-Since", ifModifiedSince);
+        }
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).as(path).isIn(200, 304);
+        return response;
+    }
+
+    private record PageWeight(String page, int assets, long firstBefore, long firstAfter, int revalidations,
+                              long pageBytes, long compressedPageBytes) {
+
+        String row() {
+            return String.format(Locale.ROOT, "%-9s %6d %14d %13d %14d/%-6d %13d/%-6d", page, assets, firstBefore,
+                    firstAfter, 1 + revalidations, pageBytes, 1, compressedPageBytes);
+        }
+    }
+}
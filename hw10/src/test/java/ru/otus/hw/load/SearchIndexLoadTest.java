@@ -0,0 +1,138 @@
+package ru.otus.hw.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import ru.otus.hw.dto.SearchDocumentType;
+import ru.otus.hw.services.SearchIndex;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Builds the search index over synthetic Russian/English documents and measures build time, retained
+ * heap and query latency. Excluded from the regular build, run with {@code mvn test -Pload-test
+ * -Dtest=SearchIndexLoadTest}; the corpus size is set with {@code -Dsearch.documents=1000000}.
+ */
+@Tag("load")
+@DisplayName("Нагрузочный тест индекса полнотекстового поиска")
+class SearchIndexLoadTest {
+
+    private static final int VOCABULARY_SIZE = 50_000;
+
+    private static final int WORDS_PER_DOCUMENT = 12;
+
+    private static final int QUERIES = 10_000;
+
+    private static final String[] RU_STEMS = {"книг", "автор", "сюжет", "герой", "войн", "мир", "звезд", "земл",
+            "истори", "роман", "глав", "серия", "дом", "служб", "пароль", "трагеди"};
+
+    private static final String[] EN_STEMS = {"book", "author", "plot", "hero", "war", "peace", "star", "earth",
+            "story", "novel", "chapter", "series", "house", "service", "password", "tragedy"};
+
+    private static final String[] ENDINGS = {"", "а", "ы", "ом", "ами", "ах", "s", "ed", "ing", "er"};
+
+    @DisplayName("должен строить индекс из миллиона документов и отвечать на запросы")
+    @Test
+    void whenBuildAndQueryLargeIndex_thenReportBuildTimeHeapAndLatencies() {
+        //Given
+        int documents = Integer.getInteger("search.documents", 1_000_000);
+        String[] vocabulary = vocabulary();
+        SplittableRandom random = new SplittableRandom(42);
+        SearchIndex index = new SearchIndex();
+        long heapBefore = usedHeap();
+
+        //When
+        long buildStart = System.nanoTime();
+        index.rebuild(sink -> {
+            SearchDocumentType[] types = SearchDocumentType.values();
+            for (int i = 1; i <= documents; i++) {
+                sink.add(types[i % types.length], i, document(vocabulary, random));
+            }
+        });
+        long buildNanos = System.nanoTime() - buildStart;
+        long heapAfter = usedHeap();
+        long[] single = query(index, vocabulary, random, 1);
+        long[] pair = query(index, vocabulary, random, 2);
+        long[] prefix = queryPrefixes(index, random);
+
+        //Then
+        SearchIndex.Stats stats = index.stats();
+        System.out.printf(Locale.ROOT, "%nSearch index: %d documents, %d terms, %d postings%n"
+                        + "build %.1f s, retained heap %.1f MB%n%-20s %9s %9s%n",
+                stats.documents(), stats.terms(), stats.postings(), buildNanos / 1e9,
+                (heapAfter - heapBefore) / 1024.0 / 1024.0, "query", "p50 ms", "p99 ms");
+        print("one word", single);
+        print("two words", pair);
+        print("3-letter prefix", prefix);
+        assertThat(stats.documents()).isEqualTo(documents);
+    }
+
+    private static String[] vocabulary() {
+        String[] words = new String[VOCABULARY_SIZE];
+        for (int i = 0; i < VOCABULARY_SIZE; i++) {
+            String[] stems = i % 2 == 0 ? RU_STEMS : EN_STEMS;
+            words[i] = stems[i % stems.length] + Integer.toString(i / stems.length, 36) + ENDINGS[i % ENDINGS.length];
+        }
+        return words;
+    }
+
+    /**
+     * Picks words with a skewed distribution so that, as in real text, a few words are very frequent
+     * and most are rare.
+     */
+    private static String document(String[] vocabulary, SplittableRandom random) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < WORDS_PER_DOCUMENT; i++) {
+            double skew = random.nextDouble();
+            text.append(vocabulary[(int) (skew * skew * skew * vocabulary.length)]).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static long[] query(SearchIndex index, String[] vocabulary, SplittableRandom random, int words) {
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            StringBuilder query = new StringBuilder();
+            for (int w = 0; w < words; w++) {
+                double skew = random.nextDouble();
+                query.append(vocabulary[(int) (skew * skew * vocabulary.length)]).append(' ');
+            }
+            latencies[i] = timed(index, query.toString());
+        }
+        return latencies;
+    }
+
+    private static long[] queryPrefixes(SearchIndex index, SplittableRandom random) {
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String[] stems = i % 2 == 0 ? RU_STEMS : EN_STEMS;
+            latencies[i] = timed(index, stems[random.nextInt(stems.length)].substring(0, 3));
+        }
+        return latencies;
+    }
+
+    private static long timed(SearchIndex index, String query) {
+        long start = System.nanoTime();
+        List<SearchIndex.Hit> hits = index.search(query, 20);
+        long elapsed = System.nanoTime() - start;
+        assertThat(hits).hasSizeLessThanOrEqualTo(20);
+        return elapsed;
+    }
+
+    private static void print(String name, long[] latencies) {
+        Arrays.sort(latencies);
+        System.out.printf(Locale.ROOT, "%-20s %9.3f %9.3f%n", name, latencies[latencies.length / 2] / 1e6,
+                latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1e6);
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
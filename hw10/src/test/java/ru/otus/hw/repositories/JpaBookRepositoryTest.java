@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import ru.otus.hw.dto.ResourceStamp;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Comment;
@@ -12,6 +13,7 @@ import ru.otus.hw.models.Genre;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -169,4 +171,67 @@ class JpaBookRepositoryTest {
         //Then
         assertAll(() -> bookRepository.deleteById(MISSING_ID));
     }
-}
\ No newline at end of file
+
+    @DisplayName("должен возвращать штамп списка книг одним агрегирующим запросом")
+    @Test
+    void whenGetCollectionStamp_thenReturnLinksCountAndLastUpdate() {
+        //Given
+        long expectedCount = testEntityManager.getEntityManager()
+                .createQuery("select count(g) from Book b join b.genres g", Long.class)
+                .getSingleResult();
+
+        //When
+        ResourceStamp stamp = bookRepository.getCollectionStamp();
+
+        //Then
+        assertThat(stamp.count()).isEqualTo(expectedCount);
+        assertThat(stamp.updated()).isNotNull();
+    }
+
+    @DisplayName("должен менять штамп книги при изменении её автора")
+    @Test
+    void whenBookAuthorUpdated_thenBookStampChanges() {
+        //Given - book PRESENT_ID
+        ResourceStamp stamp = bookRepository.findStampById(PRESENT_ID).orElseThrow();
+        Book book = testEntityManager.find(Book.class, PRESENT_ID);
+
+        //When
+        book.getAuthor().setFullName("Updated Author");
+        testEntityManager.flush();
+        ResourceStamp updatedStamp = bookRepository.findStampById(PRESENT_ID).orElseThrow();
+
+        //Then
+        assertThat(updatedStamp.updated()).isAfter(stamp.updated());
+        assertThat(updatedStamp.strongETag()).isNotEqualTo(stamp.strongETag());
+    }
+
+    @DisplayName("должен менять штамп книги и списка книг при замене жанров на столько же других")
+    @Test
+    void whenBookGenresSwappedForSameSizeSet_thenStampsChange() {
+        //Given - book PRESENT_ID with genres 1-4
+        ResourceStamp stamp = bookRepository.findStampById(PRESENT_ID).orElseThrow();
+        ResourceStamp collectionStamp = bookRepository.getCollectionStamp();
+        Book book = testEntityManager.find(Book.class, PRESENT_ID);
+        List<Genre> otherGenres = LongStream.rangeClosed(5, 8)
+                .mapToObj(id -> testEntityManager.find(Genre.class, id))
+                .toList();
+
+        //When
+        book.getGenres().clear();
+        book.getGenres().addAll(otherGenres);
+        testEntityManager.flush();
+        ResourceStamp updatedStamp = bookRepository.findStampById(PRESENT_ID).orElseThrow();
+
+        //Then
+        assertThat(updatedStamp.count()).isEqualTo(stamp.count());
+        assertThat(updatedStamp.strongETag()).isNotEqualTo(stamp.strongETag());
+        assertThat(bookRepository.getCollectionStamp().weakETag()).isNotEqualTo(collectionStamp.weakETag());
+    }
+
+    @DisplayName("должен возвращать Optional.empty вместо штампа несуществующей книги")
+    @Test
+    void whenFindStampByNonExistentBookId_thenReturnOptionalEmpty() {
+        //Then
+        assertThat(bookRepository.findStampById(MISSING_ID)).isEmpty();
+    }
+}
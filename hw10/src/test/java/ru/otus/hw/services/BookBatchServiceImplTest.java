@@ -0,0 +1,151 @@
+package ru.otus.hw.services;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.otus.hw.dto.BookBatchResultDto;
+import ru.otus.hw.dto.CreateUpdateBookDto;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.otus.hw.dto.BookBatchResultDto.Status.CREATED;
+import static ru.otus.hw.dto.BookBatchResultDto.Status.INVALID;
+import static ru.otus.hw.dto.BookBatchResultDto.Status.NOT_FOUND;
+import static ru.otus.hw.dto.BookBatchResultDto.Status.UPDATED;
+
+@DisplayName("Сервис пакетной записи книг")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({BookBatchServiceImpl.class, BookReferenceServiceImpl.class, SearchServiceImpl.class, SearchIndex.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+class BookBatchServiceImplTest {
+
+    private static final Long MISSING_ID = 42L;
+
+    @Autowired
+    private BookBatchService bookBatchService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("должен создавать корректные книги пакетами и возвращать результат по каждой")
+    @Test
+    void whenInsertAll_thenCreateValidBooksAndReportInvalidOnes() {
+        //Given
+        List<CreateUpdateBookDto> books = List.of(
+                book(null, "Batch_1", 1L, List.of(1L, 2L)),
+                book(null, "", 1L, List.of(1L)),
+                book(null, "Batch_2", 2L, List.of(3L)),
+                book(null, "Batch_3", 1L, List.of(MISSING_ID)),
+                book(null, "Batch_4", MISSING_ID, List.of(1L)),
+                book(null, "Batch_5", 3L, List.of(2L, 3L)));
+
+        //When
+        List<BookBatchResultDto> results = bookBatchService.insertAll(books);
+        testEntityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+
+        //Then
+        assertThat(results).extracting(BookBatchResultDto::index).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(results).extracting(BookBatchResultDto::status)
+                .containsExactly(CREATED, INVALID, CREATED, INVALID, INVALID, CREATED);
+        assertThat(results.get(1).message()).isEqualTo("Название книги не может быть пустым");
+        assertThat(results.get(3).message()).contains(String.valueOf(MISSING_ID));
+        assertThat(results.get(4).message()).contains(String.valueOf(MISSING_ID));
+        testEntityManager.clear();
+        assertThat(results).filteredOn(result -> result.status() == CREATED)
+                .allSatisfy(result -> assertThat(testEntityManager.find(Book.class, result.id()))
+                        .isNotNull()
+                        .extracting(Book::getTitle)
+                        .asString()
+                        .startsWith("Batch_"));
+        assertThat(testEntityManager.find(Book.class, results.get(5).id()).getGenres())
+                .extracting(Genre::getId)
+                .containsExactlyInAnyOrder(2L, 3L);
+        // author ids, genre ids, one sequence call, books insert batch, books_genres insert batch
+        assertThat(statements).isEqualTo(5);
+    }
+
+    @DisplayName("должен обновлять существующие книги и сообщать об отсутствующих")
+    @Test
+    void whenUpdateAll_thenUpdateExistingBooksAndReportMissingOnes() {
+        //Given
+        List<CreateUpdateBookDto> books = List.of(
+                book(1L, "Updated_1", 2L, List.of(3L)),
+                book(MISSING_ID, "Updated_42", 1L, List.of(1L)),
+                book(null, "Updated_null", 1L, List.of(1L)),
+                book(2L, "Updated_2", 1L, List.of(1L, 2L)));
+
+        //When
+        List<BookBatchResultDto> results = bookBatchService.updateAll(books);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        //Then
+        assertThat(results).extracting(BookBatchResultDto::status)
+                .containsExactly(UPDATED, NOT_FOUND, INVALID, UPDATED);
+        assertThat(results).extracting(BookBatchResultDto::id).containsExactly(1L, MISSING_ID, null, 2L);
+        Book first = testEntityManager.find(Book.class, 1L);
+        assertThat(first.getTitle()).isEqualTo("Updated_1");
+        assertThat(first.getAuthor().getId()).isEqualTo(2L);
+        assertThat(first.getGenres()).extracting(Genre::getId).containsExactly(3L);
+        assertThat(testEntityManager.find(Book.class, 2L).getTitle()).isEqualTo("Updated_2");
+    }
+
+    @DisplayName("должен сбрасывать и очищать контекст персистентности после каждой пачки книг")
+    @Test
+    void whenInsertAllMoreThanBatchSize_thenKeepOnlyLastChunkManaged() {
+        //Given
+        List<CreateUpdateBookDto> books = IntStream.rangeClosed(1, batchSize * 2 + 1)
+                .mapToObj(i -> book(null, "Chunk_" + i, 1L, List.of(1L)))
+                .toList();
+
+        //When
+        List<BookBatchResultDto> results = bookBatchService.insertAll(books);
+        long managedBooks = testEntityManager.getEntityManager().unwrap(Session.class).getStatistics()
+                .getEntityKeys().stream()
+                .filter(key -> key instanceof EntityKey entityKey
+                        && Book.class.getName().equals(entityKey.getEntityName()))
+                .count();
+        long flushedBatches = statistics.getFlushCount();
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        //Then
+        assertThat(results).extracting(BookBatchResultDto::status).containsOnly(CREATED);
+        assertThat(managedBooks).isEqualTo(1);
+        assertThat(flushedBatches).isEqualTo(2);
+        assertThat(testEntityManager.find(Book.class, results.get(batchSize * 2).id()).getTitle())
+                .isEqualTo("Chunk_" + (batchSize * 2 + 1));
+    }
+
+    private static CreateUpdateBookDto book(Long id, String title, Long authorId, List<Long> genreIds) {
+        return CreateUpdateBookDto.builder().id(id).title(title).authorId(authorId).genreIds(genreIds).build();
+    }
+}
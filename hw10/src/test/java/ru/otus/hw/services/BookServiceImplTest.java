@@ -5,20 +5,25 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.TransactionSystemException;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.otus.hw.dto.AuthorDto;
 import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.BookField;
 import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.dto.PageDto;
 import ru.otus.hw.dto.mapper.*;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Genre;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -27,6 +32,9 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 @DisplayName("Сервис для работы с книгами")
 @DataJpaTest
 @Import({BookServiceImpl.class,
+        BookReferenceServiceImpl.class,
+        SearchServiceImpl.class,
+        SearchIndex.class,
         AuthorMapperImpl.class,
         GenreMapperImpl.class,
         CommentMapperImpl.class,
@@ -41,6 +49,9 @@ class BookServiceImplTest {
     @Autowired
     private BookService bookService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @DisplayName("должен загружать список всех книг")
     @Test
     void whenFindAllBooks_thenReturnAllBooksWithoutLazyInitializationException() {
@@ -223,4 +234,115 @@ class BookServiceImplTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("One or all genres with ids %s not found".formatted(genresIds));
     }
+
+    @DisplayName("должен отдавать книги страницами по курсору id")
+    @Test
+    void whenFindPage_thenReturnBooksAfterCursorWithNextCursor() {
+        //Given - 8 books
+        int limit = 5;
+
+        //When
+        PageDto<BookDto> first = bookService.findPage(null, limit, BookField.all());
+        PageDto<BookDto> last = bookService.findPage(first.nextAfterId(), limit, BookField.all());
+
+        //Then
+        assertThat(first.content()).extracting(BookDto::id).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(first.nextAfterId()).isEqualTo(5L);
+        assertThat(first.content()).allSatisfy(book -> {
+            assertThat(book.author().fullName()).isNotBlank();
+            assertThat(book.genres()).isNotEmpty();
+        });
+        assertThat(last.content()).extracting(BookDto::id).containsExactly(6L, 7L, 8L);
+        assertThat(last.nextAfterId()).isNull();
+    }
+
+    @DisplayName("должен выбрасывать исключение при недопустимом размере страницы")
+    @Test
+    void whenFindPageWithIllegalLimit_thenThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> bookService.findPage(null, 0, BookField.all()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Page size must be between 1 and 100");
+    }
+
+    @DisplayName("должен выгружать все книги потоком по одной в порядке id")
+    @Test
+    void whenExportAll_thenStreamEveryBookOnceWithAuthorAndGenres() {
+        //Given
+        List<BookDto> expected = bookService.findAll();
+        List<BookDto> exported = new ArrayList<>();
+
+        //When
+        bookService.exportAll(exported::add);
+
+        //Then
+        assertThat(exported)
+                .extracting(BookDto::id)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+        assertThat(exported).usingRecursiveFieldByFieldElementComparatorIgnoringFields("genres")
+                .containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(exported).allSatisfy(book -> assertThat(book.genres())
+                .containsExactlyInAnyOrderElementsOf(expected.stream()
+                        .filter(e -> e.id().equals(book.id())).findFirst().orElseThrow().genres()));
+    }
+
+    @DisplayName("должен выгружать каждую книгу со всеми жанрами и при каталоге больше одной страницы выгрузки")
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    @Test
+    void whenExportMoreBooksThanOnePage_thenEveryBookKeepsAllGenres() {
+        //Given books 101-1300 with 1-3 genres each after the 8 books of the data set
+        List<Object[]> books = LongStream.rangeClosed(101, 1300)
+                .mapToObj(id -> new Object[]{id, "Export_Book_" + id, id % 5 + 1})
+                .toList();
+        List<Object[]> links = books.stream()
+                .flatMap(book -> LongStream.rangeClosed(1, (Long) book[0] % 3 + 1)
+                        .mapToObj(genreId -> new Object[]{book[0], genreId}))
+                .toList();
+        jdbcTemplate.batchUpdate("insert into books(id, title, author_id) values (?, ?, ?)", books);
+        jdbcTemplate.batchUpdate("insert into books_genres(book_id, genre_id) values (?, ?)", links);
+        List<BookDto> exported = new ArrayList<>();
+
+        //When
+        bookService.exportAll(exported::add);
+
+        //Then
+        assertThat(exported).hasSize(8 + books.size())
+                .extracting(BookDto::id)
+                .isSorted()
+                .doesNotHaveDuplicates();
+        assertThat(exported).filteredOn(book -> book.id() > 100)
+                .allSatisfy(book -> assertThat(book.genres())
+                        .extracting(GenreDto::id)
+                        .containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, book.id() % 3 + 1)
+                                .boxed().toList()));
+    }
+
+    @DisplayName("должен загружать только id и названия книг без автора и жанров")
+    @Test
+    void whenFindAllWithIdAndTitle_thenReturnBooksWithoutAuthorAndGenres() {
+        //When
+        List<BookDto> books = bookService.findAll(Set.of(BookField.ID, BookField.TITLE));
+
+        //Then
+        assertThat(books).hasSize(8).allSatisfy(book -> {
+            assertThat(book.id()).isPositive();
+            assertThat(book.title()).isNotBlank();
+            assertThat(book.author()).isNull();
+            assertThat(book.genres()).isNull();
+        });
+    }
+
+    @DisplayName("должен загружать книгу только с автором, если жанры не запрошены")
+    @Test
+    void whenFindByIdWithAuthor_thenReturnBookWithAuthorOnly() {
+        //When
+        Optional<BookDto> book = bookService.findById(PRESENT_ID, Set.of(BookField.AUTHOR));
+
+        //Then
+        assertThat(book).hasValueSatisfying(found -> {
+            assertThat(found.id()).isEqualTo(PRESENT_ID);
+            assertThat(found.title()).isNull();
+            assertThat(found.author().fullName()).isNotBlank();
+            assertThat(found.genres()).isNull();
+        });
+    }
 }
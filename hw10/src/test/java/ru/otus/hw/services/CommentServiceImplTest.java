@@ -12,10 +12,13 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.dto.CommentRestDto;
+import ru.otus.hw.dto.PageDto;
 import ru.otus.hw.dto.mapper.CommentMapperImpl;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Book;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -29,7 +32,9 @@ import static ru.otus.hw.utils.Lists.getLast;
 @DisplayName("Сервис для работы с комментариями")
 @DataJpaTest
 @Import({CommentServiceImpl.class,
-        CommentMapperImpl.class})
+        CommentMapperImpl.class,
+        SearchServiceImpl.class,
+        SearchIndex.class})
 @Transactional(propagation = Propagation.NEVER)
 class CommentServiceImplTest {
 
@@ -95,6 +100,46 @@ class CommentServiceImplTest {
         assertThat(optionalComment.get().book().getId()).isEqualTo(PRESENT_ID);
     }
 
+    @DisplayName("должен загружать комментарий с id и названием книги одним запросом")
+    @Test
+    void whenFindCommentWithBookTitleById_thenReturnProjection() {
+        //Given - PRESENT_ID
+
+        //When
+        Optional<CommentRestDto> comment = commentService.findWithBookTitleById(PRESENT_ID);
+
+        //Then
+        assertThat(comment).get().satisfies(c -> {
+            assertThat(c.id()).isEqualTo(PRESENT_ID);
+            assertThat(c.text()).isNotBlank();
+            assertThat(c.bookId()).isEqualTo(PRESENT_ID);
+            assertThat(c.bookTitle()).isEqualTo("Землянин");
+        });
+        assertThat(commentService.findWithBookTitleById(MISSING_ID)).isEmpty();
+    }
+
+    @DisplayName("должен загружать комментарии книги с названием книги целиком и постранично")
+    @Test
+    void whenFindCommentsWithBookTitleByBookId_thenReturnProjectionsOrderedById() {
+        //Given - PRESENT_ID
+
+        //When
+        List<CommentRestDto> comments = commentService.findWithBookTitleByBookId(PRESENT_ID);
+        PageDto<CommentRestDto> firstPage = commentService.findPageWithBookTitleByBookId(PRESENT_ID, null, 1);
+        PageDto<CommentRestDto> lastPage = commentService
+                .findPageWithBookTitleByBookId(PRESENT_ID, firstPage.nextAfterId(), 1);
+
+        //Then
+        assertThat(comments).hasSize(2)
+                .isSortedAccordingTo(Comparator.comparing(CommentRestDto::id))
+                .allSatisfy(comment -> assertThat(comment.bookTitle()).isEqualTo("Землянин"));
+        assertThat(firstPage.content()).containsExactly(comments.get(0));
+        assertThat(lastPage.content()).containsExactly(comments.get(1));
+        assertThat(lastPage.nextAfterId()).isNull();
+        assertThatThrownBy(() -> commentService.findWithBookTitleByBookId(MISSING_ID))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
     @DisplayName("должен возвращать пустой список если комментариев нет по ids")
     @Test
     void whenFindCommentsByNonExistentIds_thenReturnEmptyList() {
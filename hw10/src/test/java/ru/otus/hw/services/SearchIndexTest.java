@@ -0,0 +1,105 @@
+package ru.otus.hw.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.otus.hw.dto.SearchDocumentType.AUTHOR;
+import static ru.otus.hw.dto.SearchDocumentType.BOOK;
+import static ru.otus.hw.dto.SearchDocumentType.COMMENT;
+
+@DisplayName("Инвертированный индекс полнотекстового поиска")
+class SearchIndexTest {
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new SearchIndex();
+        searchIndex.rebuild(sink -> {
+            sink.add(BOOK, 1, "Война и мир. В 4-х томах");
+            sink.add(BOOK, 2, "Граф Монте-Кристо");
+            sink.add(AUTHOR, 1, "Лев Толстой");
+            sink.add(COMMENT, 1, "Толстой написал ВОЙНУ и мир, а ещё «Анну Каренину»");
+        });
+    }
+
+    @DisplayName("должен находить документы без учёта регистра, по префиксу и с заменой ё на е")
+    @Test
+    void whenSearchByCaseInsensitivePrefix_thenReturnMatchingDocuments() {
+        //Given - индекс из setUp
+
+        //When
+        List<SearchIndex.Hit> byPrefix = searchIndex.search("ТОЛСТ", 10);
+        List<SearchIndex.Hit> byFoldedLetter = searchIndex.search("еще", 10);
+
+        //Then
+        assertThat(byPrefix).containsExactly(new SearchIndex.Hit(AUTHOR, 1), new SearchIndex.Hit(COMMENT, 1));
+        assertThat(byFoldedLetter).containsExactly(new SearchIndex.Hit(COMMENT, 1));
+    }
+
+    @DisplayName("должен возвращать только документы, содержащие все слова запроса")
+    @Test
+    void whenSearchBySeveralTerms_thenReturnIntersection() {
+        //Given - индекс из setUp
+
+        //When
+        List<SearchIndex.Hit> hits = searchIndex.search("войн толстой", 10);
+
+        //Then
+        assertThat(hits).containsExactly(new SearchIndex.Hit(COMMENT, 1));
+    }
+
+    @DisplayName("должен заменять текст документа при повторном добавлении и удалять документ")
+    @Test
+    void whenPutAndRemoveDocument_thenIndexReflectsChanges() {
+        //Given
+        searchIndex.put(BOOK, 2, "Три мушкетёра");
+
+        //When
+        List<SearchIndex.Hit> oldTitle = searchIndex.search("монте", 10);
+        List<SearchIndex.Hit> newTitle = searchIndex.search("мушкетер", 10);
+        searchIndex.remove(BOOK, 2);
+        List<SearchIndex.Hit> removed = searchIndex.search("мушкетер", 10);
+
+        //Then
+        assertThat(oldTitle).isEmpty();
+        assertThat(newTitle).containsExactly(new SearchIndex.Hit(BOOK, 2));
+        assertThat(removed).isEmpty();
+        assertThat(searchIndex.stats().documents()).isEqualTo(3);
+    }
+
+    @DisplayName("должен ограничивать число результатов и игнорировать пустые запросы")
+    @Test
+    void whenSearchWithLimitOrBlankQuery_thenReturnLimitedOrEmptyResult() {
+        //Given - индекс из setUp
+
+        //When
+        List<SearchIndex.Hit> limited = searchIndex.search("мир", 1);
+        List<SearchIndex.Hit> blank = searchIndex.search("  и  ", 10);
+
+        //Then
+        assertThat(limited).containsExactly(new SearchIndex.Hit(BOOK, 1));
+        assertThat(blank).isEmpty();
+    }
+
+    @DisplayName("должен находить документы по всем словам с общим префиксом, сколько бы их ни было")
+    @Test
+    void whenPrefixMatchesManyTerms_thenReturnDocumentsOfEveryTerm() {
+        //Given
+        int bookCount = 600;
+        searchIndex.rebuild(sink -> IntStream.rangeClosed(1, bookCount)
+                .forEach(id -> sink.add(BOOK, id, "Серия" + id)));
+
+        //When
+        List<SearchIndex.Hit> hits = searchIndex.search("серия", bookCount + 1);
+
+        //Then
+        assertThat(hits).hasSize(bookCount)
+                .contains(new SearchIndex.Hit(BOOK, 1), new SearchIndex.Hit(BOOK, bookCount));
+    }
+}
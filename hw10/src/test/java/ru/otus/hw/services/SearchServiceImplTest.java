@@ -0,0 +1,71 @@
+package ru.otus.hw.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.dto.SearchHitDto;
+import ru.otus.hw.dto.mapper.CommentMapperImpl;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.otus.hw.dto.SearchDocumentType.AUTHOR;
+import static ru.otus.hw.dto.SearchDocumentType.BOOK;
+import static ru.otus.hw.dto.SearchDocumentType.COMMENT;
+
+@DisplayName("Сервис полнотекстового поиска")
+@DataJpaTest
+@Import({SearchServiceImpl.class,
+        SearchIndex.class,
+        CommentServiceImpl.class,
+        CommentMapperImpl.class})
+@Transactional(propagation = Propagation.NEVER)
+class SearchServiceImplTest {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @DisplayName("должен строить индекс при старте и возвращать книги, авторов и комментарии с текстом из БД")
+    @Test
+    void whenSearchAfterStartup_thenReturnHitsOfAllTypes() {
+        //Given - индекс построен по данным миграций
+
+        //When
+        List<SearchHitDto> books = searchService.search("землянин", 20);
+        List<SearchHitDto> authors = searchService.search("злотник", 20);
+
+        //Then
+        assertThat(books).first().isEqualTo(new SearchHitDto(BOOK, 1L, "Землянин"));
+        assertThat(books).filteredOn(hit -> hit.type() == COMMENT)
+                .isNotEmpty()
+                .allSatisfy(hit -> assertThat(hit.bookId()).isPositive());
+        assertThat(authors).first().isEqualTo(new SearchHitDto(AUTHOR, 1L, "Роман Злотников"));
+    }
+
+    @DisplayName("должен индексировать добавленный комментарий и убирать удалённый после коммита")
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    @Test
+    void whenInsertAndDeleteComment_thenIndexFollowsCommittedChanges() {
+        //Given
+        String text = "Квазипериодический трансцендентный комментарий";
+
+        //When
+        CommentDto comment = commentService.insert(text, 2L);
+        List<SearchHitDto> inserted = searchService.search("квазипериод трансцендент", 20);
+        commentService.deleteById(comment.id());
+        List<SearchHitDto> deleted = searchService.search("квазипериод трансцендент", 20);
+
+        //Then
+        assertThat(inserted).containsExactly(new SearchHitDto(COMMENT, comment.id(), text, 2L));
+        assertThat(deleted).isEmpty();
+    }
+}
@@ -0,0 +1 @@
+alter table books add column version bigint default 0 not null;
@@ -0,0 +1,76 @@
+package ru.otus.hw.config;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rewrites links to static files into the content-hashed form the {@link StaticResourcesConfiguration}
+ * chain accepts. WebFlux has no counterpart of the servlet ResourceUrlEncodingFilter, and the
+ * ResourceUrlProvider only answers asynchronously, so the hashed paths are computed once at startup
+ * (the same MD5 and {@code name-<hash>.ext} form as the VersionResourceResolver) and every request gets
+ * a URL transformer that Thymeleaf applies to {@code @{...}} links.
+ */
+@Component
+public class StaticResourceUrls implements WebFilter {
+
+    private final Map<String, String> versionedPaths;
+
+    public StaticResourceUrls() throws IOException {
+        String location = StaticResourcesConfiguration.LOCATION;
+        Resource root = new PathMatchingResourcePatternResolver().getResource(location);
+        String rootUrl = root.getURL().toString();
+        Map<String, String> paths = new HashMap<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location + "**/*")) {
+            String path = resource.getURL().toString().substring(rootUrl.length());
+            if (path.isEmpty() || path.endsWith("/") || !resource.isReadable() || isEncodedVariant(path)) {
+                continue;
+            }
+            paths.put("/" + path, "/" + addVersion(path, md5(resource)));
+        }
+        this.versionedPaths = Map.copyOf(paths);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        exchange.addUrlTransformer(this::versioned);
+        return chain.filter(exchange);
+    }
+
+    String versioned(String url) {
+        int query = url.indexOf('?');
+        String path = query < 0 ? url : url.substring(0, query);
+        String versioned = versionedPaths.get(path);
+        return versioned == null ? url : versioned + (query < 0 ? "" : url.substring(query));
+    }
+
+    private static boolean isEncodedVariant(String path) {
+        return path.endsWith(".br") || path.endsWith(".gz");
+    }
+
+    private static String addVersion(String path, String version) {
+        String extension = StringUtils.getFilenameExtension(path);
+        return extension == null ? path + "-" + version
+                : path.substring(0, path.length() - extension.length() - 1) + "-" + version + "." + extension;
+    }
+
+    private static String md5(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            return DigestUtils.md5DigestAsHex(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
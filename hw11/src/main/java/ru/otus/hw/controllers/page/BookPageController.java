@@ -0,0 +1,99 @@
+package ru.otus.hw.controllers.page;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.CreateUpdateBookDto;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.services.AuthorService;
+import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.GenreService;
+
+import java.util.ArrayList;
+
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+
+/**
+ * Pages only; every change goes through {@code /api/v1/books} from the page scripts.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class BookPageController {
+
+    private final BookService bookService;
+
+    private final AuthorService authorService;
+
+    private final GenreService genreService;
+
+    @GetMapping("/books")
+    public String getAllBooks() {
+        return "books";
+    }
+
+    @GetMapping("/books/{id}/details")
+    public Mono<String> getBook(@RequestHeader(value = HttpHeaders.REFERER, required = false) final String referrer,
+                                @PathVariable("id") Long id,
+                                Model model) {
+        return findBook(id).map(book -> {
+            model.addAttribute("book", book);
+            model.addAttribute("previousUrl", referrer);
+            model.addAttribute("id", book.id());
+            return "book-view";
+        });
+    }
+
+    @GetMapping("/books/add")
+    public String showAddBookForm(@RequestHeader(value = HttpHeaders.REFERER, required = false) final String referrer,
+                                  Model model) {
+        CreateUpdateBookDto book = CreateUpdateBookDto.builder().genreIds(new ArrayList<>()).build();
+        prepareBookFormModel(model, book, referrer, "/books/add", "Создание новой книги");
+        return "book-upsert";
+    }
+
+    @GetMapping("/books/{id}/edit")
+    public Mono<String> showEditBookForm(@PathVariable Long id,
+                                         @RequestHeader(value = HttpHeaders.REFERER, required = false)
+                                             final String referrer,
+                                         Model model) {
+        return findBook(id).map(book -> {
+            CreateUpdateBookDto form = CreateUpdateBookDto.builder()
+                    .id(book.id())
+                    .title(book.title())
+                    .authorId(book.author().id())
+                    .genreIds(book.genres().stream().map(GenreDto::id).toList())
+                    .build();
+            prepareBookFormModel(model, form, referrer, "/books/" + id + "/edit", "Редактирование книги");
+            return "book-upsert";
+        });
+    }
+
+    private Mono<BookDto> findBook(Long id) {
+        return bookService.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                        .getMessage(Book.class.getSimpleName(), id))));
+    }
+
+    /**
+     * Authors and genres are added as {@code Flux}; the view resolves them before rendering.
+     */
+    private void prepareBookFormModel(Model model, CreateUpdateBookDto book, String previousUrl, String formAction,
+                                      String formTitle) {
+        model.addAttribute("book", book);
+        model.addAttribute("authors", authorService.findAll());
+        model.addAttribute("genres", genreService.findAll());
+        model.addAttribute("previousUrl", previousUrl);
+        model.addAttribute("formAction", formAction);
+        model.addAttribute("formTitle", formTitle);
+    }
+}
@@ -0,0 +1,104 @@
+package ru.otus.hw.controllers.page;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Comment;
+import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.CommentService;
+
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class CommentPageController {
+
+    private final CommentService commentService;
+
+    private final BookService bookService;
+
+    @GetMapping("/books/{bookId}/comments")
+    public Mono<String> getAllCommentsByBookId(@PathVariable(name = "bookId") Long bookId,
+                                               @RequestHeader(value = HttpHeaders.REFERER, required = false)
+                                                   final String referrer,
+                                               Model model) {
+        return findBook(bookId).map(book -> {
+            model.addAttribute("id", bookId);
+            model.addAttribute("bookId", bookId);
+            model.addAttribute("bookTitle", book.title());
+            model.addAttribute("previousUrl", referrer);
+            return "comments";
+        });
+    }
+
+    @GetMapping("/books/{bookId}/comments/{commentId}/details")
+    public Mono<String> getComment(@PathVariable(name = "bookId") Long bookId,
+                                   @PathVariable(name = "commentId") Long commentId,
+                                   @RequestHeader(value = HttpHeaders.REFERER, required = false)
+                                       final String referrer,
+                                   Model model) {
+        return findComment(commentId).map(comment -> {
+            model.addAttribute("comment", comment);
+            model.addAttribute("bookId", bookId);
+            model.addAttribute("commentId", commentId);
+            model.addAttribute("previousUrl", referrer);
+            return "comment-view";
+        });
+    }
+
+    @GetMapping("/books/{bookId}/comments/add")
+    public Mono<String> showAddCommentForm(@PathVariable(name = "bookId") Long bookId,
+                                           @RequestHeader(value = HttpHeaders.REFERER, required = false)
+                                               final String referrer,
+                                           Model model) {
+        return findBook(bookId).map(book -> {
+            prepareModelData(model, CommentDto.builder().build(), referrer, "/books/" + bookId + "/comments/add",
+                    "Создание нового комментария");
+            return "comment-upsert";
+        });
+    }
+
+    @GetMapping("/books/{bookId}/comments/{commentId}/edit")
+    public Mono<String> showEditCommentForm(@PathVariable(name = "bookId") Long bookId,
+                                            @PathVariable(name = "commentId") Long commentId,
+                                            @RequestHeader(value = HttpHeaders.REFERER, required = false)
+                                                final String referrer,
+                                            Model model) {
+        return findBook(bookId).then(findComment(commentId)).map(comment -> {
+            prepareModelData(model, comment, referrer, "/books/" + bookId + "/comments/" + commentId + "/edit",
+                    "Редактирование комментария");
+            return "comment-upsert";
+        });
+    }
+
+    private Mono<BookDto> findBook(Long bookId) {
+        return bookService.findById(bookId)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                        .getMessage(Book.class.getSimpleName(), bookId))));
+    }
+
+    private Mono<CommentDto> findComment(Long commentId) {
+        return commentService.findById(commentId)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                        .getMessage(Comment.class.getSimpleName(), commentId))));
+    }
+
+    private void prepareModelData(Model model, CommentDto comment, String previousUrl, String formAction,
+                                  String formTitle) {
+        model.addAttribute("comment", comment);
+        model.addAttribute("previousUrl", previousUrl);
+        model.addAttribute("formAction", formAction);
+        model.addAttribute("formTitle", formTitle);
+    }
+}
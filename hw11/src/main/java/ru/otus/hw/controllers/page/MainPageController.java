@@ -0,0 +1,13 @@
+package ru.otus.hw.controllers.page;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+
+@Controller
+public class MainPageController {
+
+    @GetMapping("/")
+    public String getMainPage() {
+        return "index";
+    }
+}
@@ -0,0 +1,85 @@
+package ru.otus.hw.controllers.rest;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.AuthorDto;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.services.AuthorService;
+import ru.otus.hw.services.BookService;
+
+import java.util.List;
+
+import static ru.otus.hw.utils.KeysetPages.MAX_PAGE_SIZE;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/authors")
+public class AuthorRestController {
+
+    private final AuthorService authorService;
+
+    private final BookService bookService;
+
+    @GetMapping(params = "!limit")
+    public Flux<AuthorDto> getAllAuthors() {
+        return authorService.findAll();
+    }
+
+    @GetMapping(params = "limit")
+    public Mono<ResponseEntity<List<AuthorDto>>> getAuthorsPage(@RequestParam(required = false) Long after,
+                                                                @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+                                                                ServerHttpRequest request) {
+        return authorService.findPage(after, limit).map(page -> PageResponses.page(request, page));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<AuthorDto> getAuthor(@PathVariable("id") Long id) {
+        return findAuthor(id);
+    }
+
+    @GetMapping("/{id}/books")
+    public Flux<BookDto> getAuthorBooks(@PathVariable("id") Long id) {
+        return findAuthor(id).thenMany(bookService.findBooksByAuthorId(id));
+    }
+
+    @PostMapping
+    public Mono<AuthorDto> createAuthor(@Valid @RequestBody AuthorDto authorDto) {
+        return authorService.insert(authorDto.fullName());
+    }
+
+    @PutMapping("/{id}")
+    public Mono<AuthorDto> updateAuthor(@PathVariable("id") Long id, @Valid @RequestBody AuthorDto authorDto) {
+        return authorService.update(id, authorDto.fullName());
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteAuthor(@PathVariable("id") Long id) {
+        return authorService.deleteById(id).thenReturn(ResponseEntity.ok().build());
+    }
+
+    private Mono<AuthorDto> findAuthor(Long id) {
+        return authorService.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                        .getMessage(Author.class.getSimpleName(), id))));
+    }
+}
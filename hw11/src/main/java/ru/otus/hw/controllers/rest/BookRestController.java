@@ -0,0 +1,86 @@
+package ru.otus.hw.controllers.rest;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.CreateUpdateBookDto;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.services.BookService;
+
+import java.util.List;
+import java.util.Set;
+
+import static ru.otus.hw.utils.KeysetPages.MAX_PAGE_SIZE;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/books")
+public class BookRestController {
+
+    private final BookService bookService;
+
+    /**
+     * Whole catalog as a JSON array; books are written while the rows are still being read.
+     */
+    @GetMapping(params = "!limit")
+    public Flux<BookDto> getAllBooks() {
+        return bookService.findAll();
+    }
+
+    @GetMapping(params = "limit")
+    public Mono<ResponseEntity<List<BookDto>>> getBooksPage(@RequestParam(required = false) Long after,
+                                                            @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+                                                            ServerHttpRequest request) {
+        return bookService.findPage(after, limit).map(page -> PageResponses.page(request, page));
+    }
+
+    /**
+     * Whole catalog as newline-delimited JSON, one line per book as soon as it is mapped.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BookDto> exportBooks() {
+        return bookService.findAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<BookDto> getBook(@PathVariable Long id) {
+        return bookService.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                        .getMessage(Book.class.getSimpleName(), id))));
+    }
+
+    @PostMapping
+    public Mono<BookDto> createBook(@Valid @RequestBody CreateUpdateBookDto bookDto) {
+        return bookService.insert(bookDto.title(), bookDto.authorId(), Set.copyOf(bookDto.genreIds()));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<BookDto> updateBook(@PathVariable Long id, @Valid @RequestBody CreateUpdateBookDto bookDto) {
+        return bookService.update(id, bookDto.title(), bookDto.authorId(), Set.copyOf(bookDto.genreIds()));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteBook(@PathVariable Long id) {
+        return bookService.deleteById(id).thenReturn(ResponseEntity.noContent().build());
+    }
+}
@@ -0,0 +1,76 @@
+package ru.otus.hw.controllers.rest;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.CommentCreateDto;
+import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.dto.CommentMinDto;
+import ru.otus.hw.dto.CommentRestDto;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Comment;
+import ru.otus.hw.services.CommentService;
+
+import java.util.List;
+
+import static ru.otus.hw.utils.KeysetPages.MAX_PAGE_SIZE;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/comments")
+public class CommentRestController {
+
+    private final CommentService commentService;
+
+    @GetMapping(params = "!limit")
+    public Flux<CommentDto> getAllComments(@RequestParam Long bookId) {
+        return commentService.findByBookId(bookId);
+    }
+
+    @GetMapping(params = "limit")
+    public Mono<ResponseEntity<List<CommentDto>>> getCommentsPage(@RequestParam Long bookId,
+                                                                  @RequestParam(required = false) Long after,
+                                                                  @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+                                                                  ServerHttpRequest request) {
+        return commentService.findPageByBookId(bookId, after, limit).map(page -> PageResponses.page(request, page));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<CommentRestDto> getComment(@PathVariable Long id) {
+        return commentService.findWithBookById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                        .getMessage(Comment.class.getSimpleName(), id))));
+    }
+
+    @PostMapping
+    public Mono<CommentDto> createComment(@Valid @RequestBody CommentCreateDto commentDto) {
+        return commentService.insert(commentDto.text(), commentDto.bookId());
+    }
+
+    @PutMapping("/{id}")
+    public Mono<CommentDto> updateComment(@PathVariable Long id, @Valid @RequestBody CommentMinDto commentDto) {
+        return commentService.update(id, commentDto.text());
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteComment(@PathVariable Long id) {
+        return commentService.deleteById(id).thenReturn(ResponseEntity.noContent().build());
+    }
+}
@@ -0,0 +1,72 @@
+package ru.otus.hw.controllers.rest;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Genre;
+import ru.otus.hw.services.GenreService;
+
+import java.util.List;
+
+import static ru.otus.hw.utils.KeysetPages.MAX_PAGE_SIZE;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/genres")
+public class GenreRestController {
+
+    private final GenreService genreService;
+
+    @GetMapping(params = "!limit")
+    public Flux<GenreDto> getAllGenres() {
+        return genreService.findAll();
+    }
+
+    @GetMapping(params = "limit")
+    public Mono<ResponseEntity<List<GenreDto>>> getGenresPage(@RequestParam(required = false) Long after,
+                                                              @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+                                                              ServerHttpRequest request) {
+        return genreService.findPage(after, limit).map(page -> PageResponses.page(request, page));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<GenreDto> getGenre(@PathVariable("id") Long id) {
+        return genreService.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                        .getMessage(Genre.class.getSimpleName(), id))));
+    }
+
+    @PostMapping
+    public Mono<GenreDto> createGenre(@Valid @RequestBody GenreDto genreDto) {
+        return genreService.insert(genreDto.name());
+    }
+
+    @PutMapping("/{id}")
+    public Mono<GenreDto> updateGenre(@PathVariable("id") Long id, @Valid @RequestBody GenreDto genreDto) {
+        return genreService.update(id, genreDto.name());
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteGenre(@PathVariable("id") Long id) {
+        return genreService.deleteById(id).thenReturn(ResponseEntity.ok().build());
+    }
+}
@@ -0,0 +1,30 @@
+package ru.otus.hw.controllers.rest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.util.UriComponentsBuilder;
+import ru.otus.hw.dto.PageDto;
+
+import java.util.List;
+
+public final class PageResponses {
+
+    private PageResponses() {
+    }
+
+    /**
+     * Page content as the body plus {@code Link: <current uri with after=cursor>; rel="next"} when the page
+     * is not the last one.
+     */
+    public static <T> ResponseEntity<List<T>> page(ServerHttpRequest request, PageDto<T> page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.nextAfterId() != null) {
+            String next = UriComponentsBuilder.fromUri(request.getURI())
+                    .replaceQueryParam("after", page.nextAfterId())
+                    .toUriString();
+            builder.header(HttpHeaders.LINK, "<%s>; rel=\"next\"".formatted(next));
+        }
+        return builder.body(page.content());
+    }
+}
@@ -0,0 +1,10 @@
+package ru.otus.hw.dto;
+
+import java.util.List;
+
+/**
+ * Keyset page of a collection ordered by id; {@code nextAfterId} is the cursor of the next page
+ * or null on the last page.
+ */
+public record PageDto<T>(List<T> content, Long nextAfterId) {
+}
@@ -0,0 +1,15 @@
+package ru.otus.hw.dto.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.dto.AuthorDto;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE,
+        componentModel = MappingConstants.ComponentModel.SPRING)
+public interface AuthorMapper {
+    Author toEntity(AuthorDto authorDto);
+
+    AuthorDto toAuthorDto(Author author);
+}
\ No newline at end of file
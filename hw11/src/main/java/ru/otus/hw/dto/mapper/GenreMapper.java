@@ -0,0 +1,14 @@
+package ru.otus.hw.dto.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.models.Genre;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE, componentModel = MappingConstants.ComponentModel.SPRING)
+public interface GenreMapper {
+    Genre toEntity(GenreDto genreDto);
+
+    GenreDto toGenreDto(Genre genre);
+}
\ No newline at end of file
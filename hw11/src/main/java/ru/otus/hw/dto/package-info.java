@@ -0,0 +1,4 @@
+@NonNullApi
+package ru.otus.hw.dto;
+
+import org.springframework.lang.NonNullApi;
\ No newline at end of file
@@ -0,0 +1,7 @@
+package ru.otus.hw.exceptions;
+
+public class EntityNotFoundException extends RuntimeException {
+    public EntityNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package ru.otus.hw.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Row of {@code books}. R2DBC has no relation mapping, so the author is kept as a key and the genres
+ * are loaded from {@code books_genres} by the service in batches.
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("books")
+public class Book {
+    @Id
+    private Long id;
+
+    private String title;
+
+    @Column("author_id")
+    private Long authorId;
+}
@@ -0,0 +1,7 @@
+package ru.otus.hw.models;
+
+/**
+ * Genre of a book read from {@code books_genres}, used to attach genres to a batch of books.
+ */
+public record BookGenre(Long bookId, Long genreId, String name) {
+}
@@ -0,0 +1,26 @@
+package ru.otus.hw.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("comments")
+public class Comment {
+    @Id
+    private Long id;
+
+    private String text;
+
+    @Column("book_id")
+    private Long bookId;
+}
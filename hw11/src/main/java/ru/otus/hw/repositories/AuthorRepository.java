@@ -0,0 +1,13 @@
+package ru.otus.hw.repositories;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import ru.otus.hw.models.Author;
+
+public interface AuthorRepository extends R2dbcRepository<Author, Long> {
+    Flux<Author> findAllByOrderByIdAsc();
+
+    @Query("select * from authors where id > :afterId order by id limit :limit")
+    Flux<Author> findPage(long afterId, int limit);
+}
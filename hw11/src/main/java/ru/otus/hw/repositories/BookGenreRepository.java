@@ -0,0 +1,53 @@
+package ru.otus.hw.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.models.BookGenre;
+
+import java.util.Collection;
+
+/**
+ * Access to the {@code books_genres} link table, which has no entity of its own. Genres are always
+ * read for a whole batch of books in one query.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookGenreRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<BookGenre> findAllByBookIdIn(Collection<Long> bookIds) {
+        return databaseClient.sql("""
+                        select bg.book_id, g.id, g.name
+                        from books_genres bg
+                        join genres g on g.id = bg.genre_id
+                        where bg.book_id in (:bookIds)
+                        order by bg.book_id, g.id
+                        """)
+                .bind("bookIds", bookIds)
+                .map((row, metadata) -> new BookGenre(row.get("book_id", Long.class), row.get("id", Long.class),
+                        row.get("name", String.class)))
+                .all();
+    }
+
+    public Mono<Long> insertAll(Long bookId, Collection<Long> genreIds) {
+        return databaseClient.sql("""
+                        insert into books_genres(book_id, genre_id)
+                        select :bookId, g.id from genres g where g.id in (:genreIds)
+                        """)
+                .bind("bookId", bookId)
+                .bind("genreIds", genreIds)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteAllByBookId(Long bookId) {
+        return databaseClient.sql("delete from books_genres where book_id = :bookId")
+                .bind("bookId", bookId)
+                .fetch()
+                .rowsUpdated();
+    }
+}
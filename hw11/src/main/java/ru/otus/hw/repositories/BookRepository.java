@@ -0,0 +1,15 @@
+package ru.otus.hw.repositories;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import ru.otus.hw.models.Book;
+
+public interface BookRepository extends R2dbcRepository<Book, Long> {
+    Flux<Book> findAllByOrderByIdAsc();
+
+    Flux<Book> findAllByAuthorIdOrderByIdAsc(Long authorId);
+
+    @Query("select * from books where id > :afterId order by id limit :limit")
+    Flux<Book> findPage(long afterId, int limit);
+}
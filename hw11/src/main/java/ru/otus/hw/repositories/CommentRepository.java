@@ -0,0 +1,13 @@
+package ru.otus.hw.repositories;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import ru.otus.hw.models.Comment;
+
+public interface CommentRepository extends R2dbcRepository<Comment, Long> {
+    Flux<Comment> findAllByBookIdOrderByIdAsc(Long bookId);
+
+    @Query("select * from comments where book_id = :bookId and id > :afterId order by id limit :limit")
+    Flux<Comment> findPageByBookId(Long bookId, long afterId, int limit);
+}
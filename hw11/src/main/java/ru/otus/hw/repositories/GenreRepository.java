@@ -0,0 +1,13 @@
+package ru.otus.hw.repositories;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import ru.otus.hw.models.Genre;
+
+public interface GenreRepository extends R2dbcRepository<Genre, Long> {
+    Flux<Genre> findAllByOrderByIdAsc();
+
+    @Query("select * from genres where id > :afterId order by id limit :limit")
+    Flux<Genre> findPage(long afterId, int limit);
+}
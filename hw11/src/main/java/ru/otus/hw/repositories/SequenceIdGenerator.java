@@ -0,0 +1,31 @@
+package ru.otus.hw.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Takes ids of new rows from the Flyway sequences, the same ones the JPA modules use, so inserted rows
+ * never collide with the seeded data. Sequence names are constants of the services, never user input.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SequenceIdGenerator {
+
+    public static final String AUTHOR_SEQUENCE = "author_seq";
+
+    public static final String GENRE_SEQUENCE = "genre_seq";
+
+    public static final String BOOK_SEQUENCE = "book_seq";
+
+    public static final String COMMENT_SEQUENCE = "comment_seq";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Long> nextId(String sequence) {
+        return databaseClient.sql("select nextval('" + sequence + "')")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+}
@@ -0,0 +1,4 @@
+@NonNullApi
+package ru.otus.hw.repositories;
+
+import org.springframework.lang.NonNullApi;
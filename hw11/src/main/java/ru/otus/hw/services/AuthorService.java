@@ -0,0 +1,20 @@
+package ru.otus.hw.services;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.AuthorDto;
+import ru.otus.hw.dto.PageDto;
+
+public interface AuthorService {
+    Flux<AuthorDto> findAll();
+
+    Mono<AuthorDto> findById(long id);
+
+    Mono<PageDto<AuthorDto>> findPage(Long afterId, int limit);
+
+    Mono<AuthorDto> insert(String name);
+
+    Mono<AuthorDto> update(long id, String name);
+
+    Mono<Void> deleteById(Long id);
+}
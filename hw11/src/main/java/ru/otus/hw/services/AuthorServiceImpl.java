@@ -0,0 +1,78 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.AuthorDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.mapper.AuthorMapper;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.repositories.AuthorRepository;
+import ru.otus.hw.repositories.SequenceIdGenerator;
+import ru.otus.hw.utils.KeysetPages;
+
+import static ru.otus.hw.repositories.SequenceIdGenerator.AUTHOR_SEQUENCE;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+
+@Service
+@RequiredArgsConstructor
+public class AuthorServiceImpl implements AuthorService {
+
+    private final AuthorRepository authorRepository;
+
+    private final SequenceIdGenerator idGenerator;
+
+    private final R2dbcEntityTemplate template;
+
+    private final AuthorMapper mapper;
+
+    @Override
+    public Flux<AuthorDto> findAll() {
+        return authorRepository.findAllByOrderByIdAsc().map(mapper::toAuthorDto);
+    }
+
+    @Override
+    public Mono<AuthorDto> findById(long id) {
+        return authorRepository.findById(id).map(mapper::toAuthorDto);
+    }
+
+    @Override
+    public Mono<PageDto<AuthorDto>> findPage(Long afterId, int limit) {
+        KeysetPages.checkLimit(limit);
+        return authorRepository.findPage(KeysetPages.startAfter(afterId), limit + 1)
+                .map(mapper::toAuthorDto)
+                .collectList()
+                .map(rows -> KeysetPages.toPage(rows, limit, AuthorDto::id));
+    }
+
+    @Override
+    @Transactional
+    public Mono<AuthorDto> insert(String fullName) {
+        return idGenerator.nextId(AUTHOR_SEQUENCE)
+                .flatMap(id -> template.insert(new Author(id, fullName)))
+                .map(mapper::toAuthorDto);
+    }
+
+    @Override
+    @Transactional
+    public Mono<AuthorDto> update(long id, String fullName) {
+        return authorRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                        .getMessage(Author.class.getSimpleName(), id))))
+                .flatMap(author -> {
+                    author.setFullName(fullName);
+                    return authorRepository.save(author);
+                })
+                .map(mapper::toAuthorDto);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteById(Long id) {
+        return authorRepository.deleteById(id);
+    }
+}
@@ -0,0 +1,24 @@
+package ru.otus.hw.services;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.PageDto;
+
+import java.util.Set;
+
+public interface BookService {
+    Flux<BookDto> findAll();
+
+    Mono<BookDto> findById(long id);
+
+    Mono<PageDto<BookDto>> findPage(Long afterId, int limit);
+
+    Flux<BookDto> findBooksByAuthorId(long authorId);
+
+    Mono<BookDto> insert(String title, long authorId, Set<Long> genresIds);
+
+    Mono<BookDto> update(long id, String title, long authorId, Set<Long> genresIds);
+
+    Mono<Void> deleteById(long id);
+}
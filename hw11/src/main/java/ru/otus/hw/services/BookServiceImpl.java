@@ -0,0 +1,160 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.AuthorDto;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.mapper.AuthorMapper;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.BookGenre;
+import ru.otus.hw.models.Genre;
+import ru.otus.hw.repositories.AuthorRepository;
+import ru.otus.hw.repositories.BookGenreRepository;
+import ru.otus.hw.repositories.BookRepository;
+import ru.otus.hw.repositories.GenreRepository;
+import ru.otus.hw.repositories.SequenceIdGenerator;
+import ru.otus.hw.utils.KeysetPages;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+import static org.springframework.util.CollectionUtils.isEmpty;
+import static ru.otus.hw.repositories.SequenceIdGenerator.BOOK_SEQUENCE;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_LIST_NOT_FOUND_MESSAGE;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
+
+/**
+ * Books are streamed from {@code books} and mapped in batches of {@value #RELATION_BATCH_SIZE}: every batch
+ * costs one query for its authors and one for its genres, whatever the size of the catalog. The two
+ * queries run one after another, so a batch never needs a second connection inside a transaction.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookServiceImpl implements BookService {
+
+    private static final int RELATION_BATCH_SIZE = 256;
+
+    private final BookRepository bookRepository;
+
+    private final AuthorRepository authorRepository;
+
+    private final GenreRepository genreRepository;
+
+    private final BookGenreRepository bookGenreRepository;
+
+    private final SequenceIdGenerator idGenerator;
+
+    private final R2dbcEntityTemplate template;
+
+    private final AuthorMapper authorMapper;
+
+    @Override
+    public Flux<BookDto> findAll() {
+        return toBookDtos(bookRepository.findAllByOrderByIdAsc());
+    }
+
+    @Override
+    public Mono<BookDto> findById(long id) {
+        return toBookDtos(bookRepository.findById(id).flux()).next();
+    }
+
+    @Override
+    public Mono<PageDto<BookDto>> findPage(Long afterId, int limit) {
+        KeysetPages.checkLimit(limit);
+        return toBookDtos(bookRepository.findPage(KeysetPages.startAfter(afterId), limit + 1))
+                .collectList()
+                .map(rows -> KeysetPages.toPage(rows, limit, BookDto::id));
+    }
+
+    @Override
+    public Flux<BookDto> findBooksByAuthorId(long authorId) {
+        return toBookDtos(bookRepository.findAllByAuthorIdOrderByIdAsc(authorId));
+    }
+
+    @Override
+    @Transactional
+    public Mono<BookDto> insert(String title, long authorId, Set<Long> genresIds) {
+        return checkReferences(authorId, genresIds)
+                .then(idGenerator.nextId(BOOK_SEQUENCE))
+                .flatMap(id -> template.insert(new Book(id, title, authorId)))
+                .flatMap(book -> bookGenreRepository.insertAll(book.getId(), genresIds)
+                        .then(findById(book.getId())));
+    }
+
+    @Override
+    @Transactional
+    public Mono<BookDto> update(long id, String title, long authorId, Set<Long> genresIds) {
+        return checkReferences(authorId, genresIds)
+                .then(bookRepository.findById(id))
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                        .getMessage(Book.class.getSimpleName(), id))))
+                .flatMap(book -> {
+                    book.setTitle(title);
+                    book.setAuthorId(authorId);
+                    return bookRepository.save(book);
+                })
+                .flatMap(book -> bookGenreRepository.deleteAllByBookId(id)
+                        .then(bookGenreRepository.insertAll(id, genresIds)))
+                .then(findById(id));
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteById(long id) {
+        return bookRepository.deleteById(id);
+    }
+
+    private Flux<BookDto> toBookDtos(Flux<Book> books) {
+        return books.buffer(RELATION_BATCH_SIZE).concatMap(this::toBookDtos);
+    }
+
+    private Flux<BookDto> toBookDtos(List<Book> books) {
+        Set<Long> authorIds = books.stream().map(Book::getAuthorId).collect(toSet());
+        List<Long> bookIds = books.stream().map(Book::getId).toList();
+        return authorRepository.findAllById(authorIds)
+                .collectMap(Author::getId, authorMapper::toAuthorDto)
+                .flatMap(authors -> bookGenreRepository.findAllByBookIdIn(bookIds)
+                        .collectMultimap(BookGenre::bookId, genre -> new GenreDto(genre.genreId(), genre.name()))
+                        .map(genres -> toBookDtos(books, authors, genres)))
+                .flatMapIterable(dtos -> dtos);
+    }
+
+    private static List<BookDto> toBookDtos(List<Book> books, Map<Long, AuthorDto> authors,
+                                            Map<Long, Collection<GenreDto>> genres) {
+        return books.stream()
+                .map(book -> new BookDto(book.getId(), book.getTitle(), authors.get(book.getAuthorId()),
+                        List.copyOf(genres.getOrDefault(book.getId(), List.of()))))
+                .toList();
+    }
+
+    private Mono<Void> checkReferences(long authorId, Set<Long> genresIds) {
+        if (isEmpty(genresIds)) {
+            return Mono.error(new IllegalArgumentException(ILLEGAL_ARGUMENT_MESSAGE
+                    .getMessage(Genre.class.getSimpleName())));
+        }
+        Mono<Void> author = authorRepository.existsById(authorId)
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                        .getMessage(Author.class.getSimpleName(), authorId))))
+                .then();
+        Mono<Void> genres = genreRepository.findAllById(genresIds)
+                .count()
+                .filter(found -> found == genresIds.size())
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException(ENTITY_LIST_NOT_FOUND_MESSAGE
+                        .getMessage("genre", genresIds))))
+                .then();
+        return author.then(genres);
+    }
+}
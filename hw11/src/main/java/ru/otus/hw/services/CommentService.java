@@ -0,0 +1,23 @@
+package ru.otus.hw.services;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.dto.CommentRestDto;
+import ru.otus.hw.dto.PageDto;
+
+public interface CommentService {
+    Mono<CommentDto> findById(Long id);
+
+    Mono<CommentRestDto> findWithBookById(Long id);
+
+    Flux<CommentDto> findByBookId(Long bookId);
+
+    Mono<PageDto<CommentDto>> findPageByBookId(Long bookId, Long afterId, int limit);
+
+    Mono<CommentDto> insert(String text, Long bookId);
+
+    Mono<CommentDto> update(Long id, String text);
+
+    Mono<Void> deleteById(Long id);
+}
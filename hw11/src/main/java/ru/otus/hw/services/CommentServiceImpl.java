@@ -0,0 +1,107 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.dto.CommentRestDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.mapper.CommentMapper;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Comment;
+import ru.otus.hw.repositories.BookRepository;
+import ru.otus.hw.repositories.CommentRepository;
+import ru.otus.hw.repositories.SequenceIdGenerator;
+import ru.otus.hw.utils.KeysetPages;
+
+import static ru.otus.hw.repositories.SequenceIdGenerator.COMMENT_SEQUENCE;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+
+@Service
+@RequiredArgsConstructor
+public class CommentServiceImpl implements CommentService {
+
+    private final BookRepository bookRepository;
+
+    private final CommentRepository commentRepository;
+
+    private final SequenceIdGenerator idGenerator;
+
+    private final R2dbcEntityTemplate template;
+
+    private final CommentMapper mapper;
+
+    @Override
+    public Mono<CommentDto> findById(Long id) {
+        return commentRepository.findById(id).map(mapper::toCommentDto);
+    }
+
+    @Override
+    public Mono<CommentRestDto> findWithBookById(Long id) {
+        return commentRepository.findById(id)
+                .flatMap(comment -> bookRepository.findById(comment.getBookId())
+                        .map(book -> CommentRestDto.builder()
+                                .id(comment.getId())
+                                .text(comment.getText())
+                                .bookId(book.getId())
+                                .bookTitle(book.getTitle())
+                                .build()));
+    }
+
+    @Override
+    public Flux<CommentDto> findByBookId(Long bookId) {
+        return checkBookExists(bookId)
+                .thenMany(commentRepository.findAllByBookIdOrderByIdAsc(bookId))
+                .map(mapper::toCommentDto);
+    }
+
+    @Override
+    public Mono<PageDto<CommentDto>> findPageByBookId(Long bookId, Long afterId, int limit) {
+        KeysetPages.checkLimit(limit);
+        return checkBookExists(bookId)
+                .thenMany(commentRepository.findPageByBookId(bookId, KeysetPages.startAfter(afterId), limit + 1))
+                .map(mapper::toCommentDto)
+                .collectList()
+                .map(rows -> KeysetPages.toPage(rows, limit, CommentDto::id));
+    }
+
+    @Override
+    @Transactional
+    public Mono<CommentDto> insert(String text, Long bookId) {
+        return checkBookExists(bookId)
+                .then(idGenerator.nextId(COMMENT_SEQUENCE))
+                .flatMap(id -> template.insert(new Comment(id, text, bookId)))
+                .map(mapper::toCommentDto);
+    }
+
+    @Override
+    @Transactional
+    public Mono<CommentDto> update(Long id, String text) {
+        return commentRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                        .getMessage(Comment.class.getSimpleName(), id))))
+                .flatMap(comment -> {
+                    comment.setText(text);
+                    return commentRepository.save(comment);
+                })
+                .map(mapper::toCommentDto);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteById(Long id) {
+        return commentRepository.deleteById(id);
+    }
+
+    private Mono<Void> checkBookExists(Long bookId) {
+        return bookRepository.existsById(bookId)
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                        .getMessage(Book.class.getSimpleName(), bookId))))
+                .then();
+    }
+}
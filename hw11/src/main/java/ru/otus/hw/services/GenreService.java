@@ -0,0 +1,20 @@
+package ru.otus.hw.services;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.dto.PageDto;
+
+public interface GenreService {
+    Flux<GenreDto> findAll();
+
+    Mono<GenreDto> findById(long id);
+
+    Mono<PageDto<GenreDto>> findPage(Long afterId, int limit);
+
+    Mono<GenreDto> insert(String name);
+
+    Mono<GenreDto> update(long id, String name);
+
+    Mono<Void> deleteById(Long id);
+}
@@ -0,0 +1,78 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.dto.mapper.GenreMapper;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Genre;
+import ru.otus.hw.repositories.GenreRepository;
+import ru.otus.hw.repositories.SequenceIdGenerator;
+import ru.otus.hw.utils.KeysetPages;
+
+import static ru.otus.hw.repositories.SequenceIdGenerator.GENRE_SEQUENCE;
+import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+
+@Service
+@RequiredArgsConstructor
+public class GenreServiceImpl implements GenreService {
+
+    private final GenreRepository genreRepository;
+
+    private final SequenceIdGenerator idGenerator;
+
+    private final R2dbcEntityTemplate template;
+
+    private final GenreMapper mapper;
+
+    @Override
+    public Flux<GenreDto> findAll() {
+        return genreRepository.findAllByOrderByIdAsc().map(mapper::toGenreDto);
+    }
+
+    @Override
+    public Mono<GenreDto> findById(long id) {
+        return genreRepository.findById(id).map(mapper::toGenreDto);
+    }
+
+    @Override
+    public Mono<PageDto<GenreDto>> findPage(Long afterId, int limit) {
+        KeysetPages.checkLimit(limit);
+        return genreRepository.findPage(KeysetPages.startAfter(afterId), limit + 1)
+                .map(mapper::toGenreDto)
+                .collectList()
+                .map(rows -> KeysetPages.toPage(rows, limit, GenreDto::id));
+    }
+
+    @Override
+    @Transactional
+    public Mono<GenreDto> insert(String name) {
+        return idGenerator.nextId(GENRE_SEQUENCE)
+                .flatMap(id -> template.insert(new Genre(id, name)))
+                .map(mapper::toGenreDto);
+    }
+
+    @Override
+    @Transactional
+    public Mono<GenreDto> update(long id, String name) {
+        return genreRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                        .getMessage(Genre.class.getSimpleName(), id))))
+                .flatMap(genre -> {
+                    genre.setName(name);
+                    return genreRepository.save(genre);
+                })
+                .map(mapper::toGenreDto);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteById(Long id) {
+        return genreRepository.deleteById(id);
+    }
+}
@@ -0,0 +1 @@
+alter sequence book_seq increment by 50;
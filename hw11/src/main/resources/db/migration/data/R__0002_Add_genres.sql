@@ -0,0 +1,6 @@
+insert into genres(name)
+values ('Боевая фантастика'), ('Борьба за выживание'), ('Внеземные цивилизации'), ('Попаданцы'),
+       ('Внешняя разведка'), ('Военная разведка'), ('Исторические детективы'), ('Книги о войне'),
+       ('Зарубежная классика'), ('Литература 19 века'), ('Исторические приключения'),
+       ('Исторические романы'), ('Классическая проза'), ('Трагедия'),
+       ('Великие русские писатели'), ('Классическая проза'), ('Отечественная война 1812 года');
\ No newline at end of file
@@ -0,0 +1,75 @@
+package ru.otus.hw.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import ru.otus.hw.controllers.page.GenrePageController;
+import ru.otus.hw.services.GenreService;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Раздача статических ресурсов с хэшем содержимого в URL")
+@WebFluxTest(GenrePageController.class)
+class StaticResourcesConfigurationTest {
+
+    private static final Pattern VERSIONED_SCRIPT = Pattern.compile("src=\"(/js/genres-[0-9a-f]{32}\\.js)\"");
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private GenreService genreService;
+
+    @DisplayName("должен ссылаться на версионированные скрипты и отдавать их сжатыми с immutable кэшированием")
+    @Test
+    void whenRenderPage_thenLinksVersionedScriptServedCompressedAndImmutable() {
+        //Given
+        String page = webTestClient.get().uri("/genres")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+        Matcher script = VERSIONED_SCRIPT.matcher(page);
+
+        //When
+        assertThat(script.find()).as("versioned genres.js link in %s", page).isTrue();
+
+        //Then
+        assertThat(page).containsPattern("href=\"/favicon-[0-9a-f]{32}\\.ico\"");
+        webTestClient.get().uri(script.group(1))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "br")
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable");
+        webTestClient.get().uri(script.group(1))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(HttpHeaders.CONTENT_ENCODING)
+                .expectBody(String.class)
+                .value(body -> assertThat(body).contains("class GenresManager"));
+    }
+
+    @DisplayName("должен отдавать ресурсы по адресу без хэша с ежедневной перепроверкой, в том числе сжатыми")
+    @Test
+    void whenGetUnversionedResource_thenCachedForOneDay() {
+        //When - Then
+        webTestClient.get().uri("/favicon.ico")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=86400, public");
+        webTestClient.get().uri("/js/genres.js")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "br")
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=86400, public");
+    }
+}
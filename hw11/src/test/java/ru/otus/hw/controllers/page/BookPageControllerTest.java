@@ -0,0 +1,92 @@
+package ru.otus.hw.controllers.page;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.AuthorDto;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.services.AuthorService;
+import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.GenreService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Реактивный контроллер страниц книг")
+@WebFluxTest(BookPageController.class)
+class BookPageControllerTest {
+
+    private static final Long MISSING_ID = 42L;
+    private static final Long PRESENT_ID = 1L;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private BookService bookService;
+
+    @MockitoBean
+    private AuthorService authorService;
+
+    @MockitoBean
+    private GenreService genreService;
+
+    private final AuthorDto author = new AuthorDto(PRESENT_ID, "Author_1");
+
+    private final GenreDto genre = new GenreDto(PRESENT_ID, "Genre_1");
+
+    private final BookDto book = new BookDto(PRESENT_ID, "Book_1", author, List.of(genre));
+
+    @DisplayName("должен показывать карточку книги")
+    @Test
+    void whenGetBookDetails_thenRenderBookView() {
+        //Given
+        when(bookService.findById(PRESENT_ID)).thenReturn(Mono.just(book));
+
+        //When - Then
+        webTestClient.get().uri("/books/{id}/details", PRESENT_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(html -> assertThat(html).contains("Book_1", "Author_1"));
+    }
+
+    @DisplayName("должен показывать форму редактирования с выбранными автором и жанрами")
+    @Test
+    void whenGetEditForm_thenRenderFormWithAuthorsAndGenres() {
+        //Given
+        when(bookService.findById(PRESENT_ID)).thenReturn(Mono.just(book));
+        when(authorService.findAll()).thenReturn(Flux.just(author, new AuthorDto(2L, "Author_2")));
+        when(genreService.findAll()).thenReturn(Flux.just(genre, new GenreDto(2L, "Genre_2")));
+
+        //When - Then
+        webTestClient.get().uri("/books/{id}/edit", PRESENT_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(html -> assertThat(html)
+                        .contains("Редактирование книги", "Author_2", "Genre_2", "value=\"Book_1\""));
+    }
+
+    @DisplayName("должен показывать страницу ошибки для отсутствующей книги")
+    @Test
+    void whenGetMissingBook_thenRenderErrorPage() {
+        //Given
+        when(bookService.findById(MISSING_ID)).thenReturn(Mono.empty());
+
+        //When - Then
+        webTestClient.get().uri("/books/{id}/details", MISSING_ID)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(String.class)
+                .value(html -> assertThat(html).contains("Book with id 42 not found"));
+    }
+}
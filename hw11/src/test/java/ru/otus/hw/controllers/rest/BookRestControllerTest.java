@@ -0,0 +1,254 @@
+package ru.otus.hw.controllers.rest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.AuthorDto;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.CreateUpdateBookDto;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.dto.PageDto;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.services.AuthorService;
+import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.GenreService;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Реактивный REST контроллер для работы с книгами")
+@WebFluxTest({BookRestController.class, AuthorRestController.class, GenreRestController.class})
+class BookRestControllerTest {
+
+    private static final Long MISSING_ID = 42L;
+    private static final Long PRESENT_ID = 1L;
+    private static final Long PRESENT_ID2 = 2L;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private BookService bookService;
+
+    @MockitoBean
+    private AuthorService authorService;
+
+    @MockitoBean
+    private GenreService genreService;
+
+    private BookDto bookDto;
+
+    private CreateUpdateBookDto createUpdateBookDto;
+
+    @BeforeEach
+    void setUp() {
+        AuthorDto authorDto = AuthorDto.builder().id(PRESENT_ID).fullName("Author_1").build();
+        List<GenreDto> genreDtos = List.of(GenreDto.builder().id(PRESENT_ID).name("Genre_1").build());
+
+        bookDto = BookDto.builder()
+                .id(PRESENT_ID)
+                .title("Test_Book")
+                .author(authorDto)
+                .genres(genreDtos)
+                .build();
+
+        createUpdateBookDto = CreateUpdateBookDto.builder()
+                .title("Test_Book")
+                .authorId(PRESENT_ID)
+                .genreIds(List.of(PRESENT_ID, PRESENT_ID2))
+                .build();
+    }
+
+    @DisplayName("должен возвращать список всех книг")
+    @Test
+    void whenGetAllBooks_thenReturnsBooksList() {
+        //Given
+        when(bookService.findAll()).thenReturn(Flux.just(bookDto));
+
+        //When - Then
+        webTestClient.get().uri("/api/v1/books")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(PRESENT_ID)
+                .jsonPath("$[0].title").isEqualTo("Test_Book")
+                .jsonPath("$[0].author.fullName").isEqualTo("Author_1")
+                .jsonPath("$[0].genres[0].name").isEqualTo("Genre_1");
+    }
+
+    @DisplayName("должен возвращать страницу книг со ссылкой на следующую")
+    @Test
+    void whenGetBooksPage_thenReturnsPageWithNextLink() {
+        //Given
+        when(bookService.findPage(null, 1)).thenReturn(Mono.just(new PageDto<>(List.of(bookDto), PRESENT_ID)));
+
+        //When - Then
+        webTestClient.get().uri("/api/v1/books?limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.LINK, "<.*/api/v1/books\\?limit=1&after=1>; rel=\"next\"")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1);
+    }
+
+    @DisplayName("должен отклонять некорректный размер страницы")
+    @Test
+    void whenGetBooksPageWithIllegalLimit_thenBadRequest() {
+        //When - Then
+        webTestClient.get().uri("/api/v1/books?limit=0")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Некорректные параметры запроса");
+        verify(bookService, never()).findPage(eq(null), anyInt());
+    }
+
+    @DisplayName("должен выгружать каталог в формате NDJSON")
+    @Test
+    void whenExportBooks_thenReturnsOneJsonLinePerBook() {
+        //Given
+        BookDto second = BookDto.builder().id(PRESENT_ID2).title("Second").build();
+        when(bookService.findAll()).thenReturn(Flux.just(bookDto, second));
+
+        //When - Then
+        webTestClient.get().uri("/api/v1/books/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .value(body -> assertThat(body.lines())
+                        .hasSize(2)
+                        .allMatch(line -> line.startsWith("{\"id\":")));
+    }
+
+    @DisplayName("должен возвращать книгу по id")
+    @Test
+    void whenGetBookById_thenReturnsBook() {
+        //Given
+        when(bookService.findById(PRESENT_ID)).thenReturn(Mono.just(bookDto));
+
+        //When - Then
+        webTestClient.get().uri("/api/v1/books/{id}", PRESENT_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(PRESENT_ID)
+                .jsonPath("$.title").isEqualTo("Test_Book");
+    }
+
+    @DisplayName("должен возвращать 404 для отсутствующей книги")
+    @Test
+    void whenGetMissingBook_thenNotFound() {
+        //Given
+        when(bookService.findById(MISSING_ID)).thenReturn(Mono.empty());
+
+        //When - Then
+        webTestClient.get().uri("/api/v1/books/{id}", MISSING_ID)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Book with id 42 not found");
+    }
+
+    @DisplayName("должен создавать книгу")
+    @Test
+    void whenCreateBook_thenReturnsCreatedBook() {
+        //Given
+        when(bookService.insert("Test_Book", PRESENT_ID, Set.of(PRESENT_ID, PRESENT_ID2)))
+                .thenReturn(Mono.just(bookDto));
+
+        //When - Then
+        webTestClient.post().uri("/api/v1/books")
+                .bodyValue(createUpdateBookDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(PRESENT_ID);
+    }
+
+    @DisplayName("должен возвращать ошибки валидации при создании некорректной книги")
+    @Test
+    void whenCreateInvalidBook_thenBadRequestWithFieldErrors() {
+        //Given
+        CreateUpdateBookDto invalid = CreateUpdateBookDto.builder().title("").genreIds(List.of()).build();
+
+        //When - Then
+        webTestClient.post().uri("/api/v1/books")
+                .bodyValue(invalid)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Ошибка валидации")
+                .jsonPath("$.errors.title").exists()
+                .jsonPath("$.errors.authorId").exists()
+                .jsonPath("$.errors.genreIds").exists();
+        verify(bookService, never()).insert(anyString(), anyLong(), anySet());
+    }
+
+    @DisplayName("должен возвращать 404 при обновлении с несуществующим автором")
+    @Test
+    void whenUpdateBookWithMissingAuthor_thenNotFound() {
+        //Given
+        when(bookService.update(PRESENT_ID, "Test_Book", PRESENT_ID, Set.of(PRESENT_ID, PRESENT_ID2)))
+                .thenReturn(Mono.error(new EntityNotFoundException("Author with id 1 not found")));
+
+        //When - Then
+        webTestClient.put().uri("/api/v1/books/{id}", PRESENT_ID)
+                .bodyValue(createUpdateBookDto)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @DisplayName("должен удалять книгу")
+    @Test
+    void whenDeleteBook_thenNoContent() {
+        //Given
+        when(bookService.deleteById(PRESENT_ID)).thenReturn(Mono.empty());
+
+        //When - Then
+        webTestClient.delete().uri("/api/v1/books/{id}", PRESENT_ID)
+                .exchange()
+                .expectStatus().isNoContent();
+        verify(bookService).deleteById(PRESENT_ID);
+    }
+
+    @DisplayName("должен возвращать книги автора и 404 для отсутствующего автора")
+    @Test
+    void whenGetAuthorBooks_thenReturnsBooksOrNotFound() {
+        //Given
+        when(authorService.findById(PRESENT_ID)).thenReturn(Mono.just(bookDto.author()));
+        when(authorService.findById(MISSING_ID)).thenReturn(Mono.empty());
+        when(bookService.findBooksByAuthorId(anyLong())).thenReturn(Flux.just(bookDto));
+
+        //When - Then
+        webTestClient.get().uri("/api/v1/authors/{id}/books", PRESENT_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(PRESENT_ID);
+        webTestClient.get().uri("/api/v1/authors/{id}/books", MISSING_ID)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,103 @@
+package ru.otus.hw.controllers.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.otus.hw.dto.CommentCreateDto;
+import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.dto.CommentRestDto;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.services.CommentService;
+
+import static org.mockito.Mockito.when;
+
+@DisplayName("Реактивный REST контроллер для работы с комментариями")
+@WebFluxTest(CommentRestController.class)
+class CommentRestControllerTest {
+
+    private static final Long MISSING_ID = 42L;
+    private static final Long PRESENT_ID = 1L;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private CommentService commentService;
+
+    @DisplayName("должен возвращать комментарии книги")
+    @Test
+    void whenGetCommentsByBookId_thenReturnsComments() {
+        //Given
+        when(commentService.findByBookId(PRESENT_ID)).thenReturn(Flux.just(
+                new CommentDto(1L, "Comment_1"), new CommentDto(2L, "Comment_2")));
+
+        //When - Then
+        webTestClient.get().uri("/api/v1/comments?bookId={bookId}", PRESENT_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[1].text").isEqualTo("Comment_2");
+    }
+
+    @DisplayName("должен возвращать 404 для комментариев отсутствующей книги")
+    @Test
+    void whenGetCommentsByMissingBook_thenNotFound() {
+        //Given
+        when(commentService.findByBookId(MISSING_ID))
+                .thenReturn(Flux.error(new EntityNotFoundException("Book with id 42 not found")));
+
+        //When - Then
+        webTestClient.get().uri("/api/v1/comments?bookId={bookId}", MISSING_ID)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Book with id 42 not found");
+    }
+
+    @DisplayName("должен возвращать комментарий с названием книги")
+    @Test
+    void whenGetComment_thenReturnsCommentWithBookTitle() {
+        //Given
+        when(commentService.findWithBookById(PRESENT_ID)).thenReturn(Mono.just(CommentRestDto.builder()
+                .id(PRESENT_ID).text("Comment_1").bookId(PRESENT_ID).bookTitle("Book_1").build()));
+        when(commentService.findWithBookById(MISSING_ID)).thenReturn(Mono.empty());
+
+        //When - Then
+        webTestClient.get().uri("/api/v1/comments/{id}", PRESENT_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.bookId").isEqualTo(PRESENT_ID)
+                .jsonPath("$.bookTitle").isEqualTo("Book_1");
+        webTestClient.get().uri("/api/v1/comments/{id}", MISSING_ID)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @DisplayName("должен создавать комментарий и проверять его текст")
+    @Test
+    void whenCreateComment_thenReturnsCreatedOrValidationErrors() {
+        //Given
+        when(commentService.insert("Comment_1", PRESENT_ID)).thenReturn(Mono.just(new CommentDto(23L, "Comment_1")));
+
+        //When - Then
+        webTestClient.post().uri("/api/v1/comments")
+                .bodyValue(new CommentCreateDto("Comment_1", PRESENT_ID))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(23);
+        webTestClient.post().uri("/api/v1/comments")
+                .bodyValue(new CommentCreateDto(" ", PRESENT_ID))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.text").isEqualTo("Текст комментария не может быть пустым");
+    }
+}
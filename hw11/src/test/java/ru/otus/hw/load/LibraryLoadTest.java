@@ -0,0 +1,85 @@
+package ru.otus.hw.load;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Same scenarios, harness and report as {@code ru.otus.hw.load.LibraryLoadTest} of hw10, the servlet/JPA
+ * {@code /books} and {@code /api/v1/books}, so both tables can be put side by side: run
+ * {@code mvn test -Pload-test -Dtest=LibraryLoadTest} in hw10 and in hw11 with the same {@code -Dload.concurrency},
+ * {@code -Dload.warmup} and {@code -Dload.duration}. Excluded from the regular build. The server shuts down
+ * immediately, otherwise Netty waits for the idle keep-alive connections of the client before the JVM exits.
+ */
+@Tag("load")
+@DisplayName("Нагрузочный тест реактивных HTTP эндпоинтов книг")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "server.shutdown=immediate")
+class LibraryLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${load.concurrency:1,8,32,128}")
+    private List<Integer> concurrencyLevels;
+
+    @Value("${load.warmup:PT3S}")
+    private Duration warmUp;
+
+    @Value("${load.duration:PT10S}")
+    private Duration duration;
+
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @DisplayName("должен отдавать страницу и REST список книг без ошибок на всех уровнях нагрузки")
+    @Test
+    void whenLoadBookEndpoints_thenReportThroughputAndLatencies() throws Exception {
+        //Given
+        LoadTestHarness harness = new LoadTestHarness(warmUp, duration);
+        List<LoadReport> reports = new ArrayList<>();
+
+        //When
+        for (String path : List.of("/books", "/api/v1/books")) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+            for (int concurrency : concurrencyLevels) {
+                reports.add(harness.run("GET " + path, concurrency, () -> () -> isOk(request)));
+            }
+        }
+
+        //Then
+        print(reports);
+        assertThat(reports).allSatisfy(report -> {
+            assertThat(report.requests()).isPositive();
+            assertThat(report.errors()).isZero();
+        });
+    }
+
+    private boolean isOk(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    private void print(List<LoadReport> reports) {
+        System.out.printf("%nServer: Reactor Netty + R2DBC (Java %s)%n%s%n", Runtime.version().feature(),
+                LoadReport.header());
+        reports.forEach(report -> System.out.println(report.row()));
+    }
+}
@@ -0,0 +1,159 @@
+package ru.otus.hw.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import reactor.test.StepVerifier;
+import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.dto.mapper.AuthorMapperImpl;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.repositories.BookGenreRepository;
+import ru.otus.hw.repositories.SequenceIdGenerator;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Реактивный сервис для работы с книгами")
+@DataR2dbcTest
+@Import({BookServiceImpl.class,
+        BookGenreRepository.class,
+        SequenceIdGenerator.class,
+        AuthorMapperImpl.class})
+class BookServiceImplTest {
+
+    private static final long MISSING_ID = 42L;
+    private static final long PRESENT_ID = 1L;
+    private static final int BOOKS_COUNT = 8;
+
+    @Autowired
+    private BookService bookService;
+
+    @DisplayName("должен загружать все книги вместе с авторами и жанрами")
+    @Test
+    void whenFindAll_thenReturnBooksWithAuthorsAndGenres() {
+        //Given - BOOKS_COUNT
+
+        //When
+        List<BookDto> books = bookService.findAll().collectList().block();
+
+        //Then
+        assertThat(books).hasSize(BOOKS_COUNT)
+                .isSortedAccordingTo((left, right) -> Long.compare(left.id(), right.id()))
+                .allSatisfy(book -> {
+                    assertThat(book.title()).isNotBlank();
+                    assertThat(book.author()).isNotNull();
+                    assertThat(book.author().fullName()).isNotBlank();
+                    assertThat(book.genres()).isNotEmpty();
+                });
+        assertThat(books.get(0).genres()).extracting(GenreDto::id).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @DisplayName("должен загружать книгу по id и не находить отсутствующую")
+    @Test
+    void whenFindById_thenReturnBookOrEmpty() {
+        //Given - PRESENT_ID, MISSING_ID
+
+        //When - Then
+        StepVerifier.create(bookService.findById(PRESENT_ID))
+                .assertNext(book -> {
+                    assertThat(book.id()).isEqualTo(PRESENT_ID);
+                    assertThat(book.title()).isEqualTo("Землянин");
+                    assertThat(book.author().id()).isEqualTo(1L);
+                })
+                .verifyComplete();
+        StepVerifier.create(bookService.findById(MISSING_ID)).verifyComplete();
+    }
+
+    @DisplayName("должен отдавать страницу книг с курсором следующей страницы")
+    @Test
+    void whenFindPage_thenReturnPageAndNextCursor() {
+        //Given
+        int limit = 3;
+
+        //When - Then
+        StepVerifier.create(bookService.findPage(null, limit))
+                .assertNext(page -> {
+                    assertThat(page.content()).extracting(BookDto::id).containsExactly(1L, 2L, 3L);
+                    assertThat(page.nextAfterId()).isEqualTo(3L);
+                })
+                .verifyComplete();
+        StepVerifier.create(bookService.findPage(6L, limit))
+                .assertNext(page -> {
+                    assertThat(page.content()).extracting(BookDto::id).containsExactly(7L, 8L);
+                    assertThat(page.nextAfterId()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @DisplayName("должен сохранять новую книгу с жанрами и обновлять её")
+    @Test
+    void whenInsertAndUpdateBook_thenBookIsSavedWithGenres() {
+        //Given
+        String title = "Новая книга";
+
+        //When
+        BookDto inserted = bookService.insert(title, 2L, Set.of(1L, 5L)).block();
+        BookDto updated = bookService.update(inserted.id(), "Обновлённая книга", 3L, Set.of(6L)).block();
+
+        //Then
+        assertThat(inserted.id()).isGreaterThan(BOOKS_COUNT);
+        assertThat(inserted.title()).isEqualTo(title);
+        assertThat(inserted.author().id()).isEqualTo(2L);
+        assertThat(inserted.genres()).extracting(GenreDto::id).containsExactly(1L, 5L);
+        assertThat(updated.title()).isEqualTo("Обновлённая книга");
+        assertThat(updated.author().id()).isEqualTo(3L);
+        assertThat(updated.genres()).extracting(GenreDto::id).containsExactly(6L);
+        StepVerifier.create(bookService.findById(inserted.id()))
+                .assertNext(book -> assertThat(book).isEqualTo(updated))
+                .verifyComplete();
+        bookService.deleteById(inserted.id()).block();
+    }
+
+    @DisplayName("не должен сохранять книгу с несуществующим автором или жанром")
+    @Test
+    void whenInsertBookWithMissingReferences_thenError() {
+        //Given - MISSING_ID
+
+        //When - Then
+        StepVerifier.create(bookService.insert("Книга", MISSING_ID, Set.of(1L)))
+                .verifyError(EntityNotFoundException.class);
+        StepVerifier.create(bookService.insert("Книга", PRESENT_ID, Set.of(1L, MISSING_ID)))
+                .verifyError(IllegalArgumentException.class);
+        StepVerifier.create(bookService.insert("Книга", PRESENT_ID, Set.of()))
+                .verifyError(IllegalArgumentException.class);
+        StepVerifier.create(bookService.findAll().count())
+                .expectNext((long) BOOKS_COUNT)
+                .verifyComplete();
+    }
+
+    @DisplayName("должен возвращать ошибку при обновлении несуществующей книги")
+    @Test
+    void whenUpdateMissingBook_thenEntityNotFound() {
+        //Given - MISSING_ID
+
+        //When - Then
+        StepVerifier.create(bookService.update(MISSING_ID, "Книга", PRESENT_ID, Set.of(1L)))
+                .verifyError(EntityNotFoundException.class);
+    }
+
+    @DisplayName("должен удалять книгу")
+    @Test
+    void whenDeleteBook_thenBookIsRemoved() {
+        //Given
+        long id = bookService.insert("Книга на удаление", PRESENT_ID, Set.of(1L)).map(BookDto::id).block();
+
+        //When
+        bookService.deleteById(id).block();
+
+        //Then
+        StepVerifier.create(bookService.findById(id)).verifyComplete();
+        StepVerifier.create(bookService.findAll().count())
+                .expectNext((long) BOOKS_COUNT)
+                .verifyComplete();
+    }
+}
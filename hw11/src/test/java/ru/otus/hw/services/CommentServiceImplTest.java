@@ -0,0 +1,95 @@
+package ru.otus.hw.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import reactor.test.StepVerifier;
+import ru.otus.hw.dto.CommentDto;
+import ru.otus.hw.dto.mapper.CommentMapperImpl;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.repositories.SequenceIdGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Реактивный сервис для работы с комментариями")
+@DataR2dbcTest
+@Import({CommentServiceImpl.class,
+        SequenceIdGenerator.class,
+        CommentMapperImpl.class})
+class CommentServiceImplTest {
+
+    private static final Long MISSING_ID = 42L;
+    private static final Long PRESENT_ID = 1L;
+
+    @Autowired
+    private CommentService commentService;
+
+    @DisplayName("должен загружать комментарии книги и ошибку для отсутствующей книги")
+    @Test
+    void whenFindByBookId_thenReturnCommentsOrEntityNotFound() {
+        //Given - PRESENT_ID, MISSING_ID
+
+        //When - Then
+        StepVerifier.create(commentService.findByBookId(PRESENT_ID))
+                .assertNext(comment -> assertThat(comment.id()).isEqualTo(1L))
+                .assertNext(comment -> assertThat(comment.id()).isEqualTo(2L))
+                .verifyComplete();
+        StepVerifier.create(commentService.findByBookId(MISSING_ID))
+                .verifyError(EntityNotFoundException.class);
+    }
+
+    @DisplayName("должен загружать комментарий вместе с названием книги")
+    @Test
+    void whenFindWithBookById_thenReturnCommentAndBookTitle() {
+        //Given - PRESENT_ID
+
+        //When - Then
+        StepVerifier.create(commentService.findWithBookById(PRESENT_ID))
+                .assertNext(comment -> {
+                    assertThat(comment.id()).isEqualTo(PRESENT_ID);
+                    assertThat(comment.text()).isNotBlank();
+                    assertThat(comment.bookId()).isEqualTo(PRESENT_ID);
+                    assertThat(comment.bookTitle()).isEqualTo("Землянин");
+                })
+                .verifyComplete();
+        StepVerifier.create(commentService.findWithBookById(MISSING_ID)).verifyComplete();
+    }
+
+    @DisplayName("должен отдавать страницу комментариев книги")
+    @Test
+    void whenFindPageByBookId_thenReturnPageAndNextCursor() {
+        //Given - PRESENT_ID
+
+        //When - Then
+        StepVerifier.create(commentService.findPageByBookId(PRESENT_ID, null, 1))
+                .assertNext(page -> {
+                    assertThat(page.content()).extracting(CommentDto::id).containsExactly(1L);
+                    assertThat(page.nextAfterId()).isEqualTo(1L);
+                })
+                .verifyComplete();
+    }
+
+    @DisplayName("должен сохранять, обновлять и удалять комментарий")
+    @Test
+    void whenInsertUpdateAndDeleteComment_thenChangesArePersisted() {
+        //Given
+        String text = "Новый комментарий";
+
+        //When
+        CommentDto inserted = commentService.insert(text, PRESENT_ID).block();
+        CommentDto updated = commentService.update(inserted.id(), "Исправленный комментарий").block();
+
+        //Then
+        assertThat(inserted.text()).isEqualTo(text);
+        assertThat(updated.id()).isEqualTo(inserted.id());
+        StepVerifier.create(commentService.findById(inserted.id()))
+                .assertNext(comment -> assertThat(comment.text()).isEqualTo("Исправленный комментарий"))
+                .verifyComplete();
+        commentService.deleteById(inserted.id()).block();
+        StepVerifier.create(commentService.findById(inserted.id())).verifyComplete();
+        StepVerifier.create(commentService.insert(text, MISSING_ID))
+                .verifyError(EntityNotFoundException.class);
+    }
+}
@@ -0,0 +1,2 @@
+insert into authors(full_name)
+values ('Роман Злотников'), ('Юлиан Семенов'), ('Александр Дюма'), ('Теодор Драйзер'), ('Лев Толстой');
\ No newline at end of file
@@ -0,0 +1,9 @@
+insert into books(title, author_id)
+values ('Землянин', 1),
+       ('Шаг к звездам', 1),
+       ('На службе Великого дома', 1),
+       ('Русские не сдаются!', 1),
+       ('Пароль не нужен', 2),
+       ('Граф Монте-Кристо', 3),
+       ('Американская трагедия', 4),
+       ('Война и мир. В 4-х томах', 5);
\ No newline at end of file
@@ -0,0 +1,9 @@
+insert into books_genres(book_id, genre_id)
+values (1, 1), (1, 2), (1, 3), (1, 4),
+       (2, 1), (2, 2), (2, 3), (2, 4),
+       (3, 1), (3, 2), (3, 3), (3, 4),
+       (4, 1), (4, 2), (4, 3), (4, 4),
+       (5, 5), (5, 6), (5, 7), (5, 8),
+       (6, 9), (6, 10), (6, 11),
+       (7, 9), (7, 12), (7, 13), (7, 14),
+       (8, 12), (8, 15), (8, 16), (8, 17);
@@ -0,0 +1,23 @@
+insert into comments(text, book_id)
+values ('Знакомство с творчеством Злотникова начала именно с этой книги. Очень понравилось. Хороший стройный сюжет, лаконичное повествования, четкая, логичная и понятная речь не перегруженная художественными оборотами.', 1),
+       ('Поучительная история с психологическими и техническими изысками,слегка перегруженная очевидными вещами и подробностями. Тем не менее книга удалась. Было интересно. Множество приведённых мыслей стоит записать.', 1),
+       ('Книгу сильно портит бесконечное количество отсылок и пояснений, при минимуме развитии сюжета. А также перебор с «ретроспективой»', 2),
+       ('Вся книга кусками написана: ретроспектива за ретроспективой в итоге сюжет какой-то дерганый и рваный. Ретроспектива может интерес подогревать но в этой книге перебор выше крыши. Хотя первая книга мне понравилась.', 2),
+       ('Отличное продолжение первой книги, и в отличии от других, оставивших отзыв, мне окончание книги понравилось, так как создаёт некую интригу и желание прочитать следующую книгу серии.', 2),
+       ('Третья книга серии «Землянин». Сюжет становится более плавным, накал страстей немного стих, но автор не «исписался», и продолжении осталось интересным. Герой продолжает идти к своей цели – поиску Земли и тех, кто похитил его, а позже отправил умирать.', 3),
+       ('Закономерное продолжение предыдущих книг. Повествование точно такое же как и раньше. Книга конечно захватывает, но уж сильно всё складно.', 3),
+       ('Руигат и Землянин – мои любимые серии у Злотникова. Они пронизаны героизмом который не возможен без патриотизма. Ставлю 4 – последняя или хочется надеется – крайняя книга, слишком короткая…', 4),
+       ('Отличная книга. Давно ждал окончания. Хороший конец. Хотя некоторые сюжеты не совсем понятно к чему описаны. И да! Русские не сдаются!', 4),
+       ('Первые три книги серии понравились гораздо больше. В этой слишком много пилитической фантастики. Так что о том, что серия закончилась, не жалею.', 4),
+       ('Удивительно, как много в книге параллелей с современностью, наблюдений человеческих характеров, которые и сейчас узнаются в героях наших дней.', 5),
+       ('Большое удовольствие от этого романа. Хотя с высоты современной литературы, полагаю, что можно было правдивее раскрыть судьбы и крестьян, и рабочих, и японских военных. Несколько невнятно о судьбе казачества. Восхищен Семёновым!', 5),
+       ('Как актуальна эта книга в 2023! На одном дыхании, описываются события 1921 года, 102 года прошло, а всë как сегодня. Юлиан Семëнов хорошо знал историю. Дай Бог нам сил и победы!', 5),
+       ('Если вы смотрели фильм или где-то слышали краткий пересказ, а потому считаете, что читать эту книгу нет никакого смысла, вы глубоко ошибаетесь. Эту историю стоит услышать от первой до последней буквы.', 6),
+       ('Великий автор, Великая книга. Настоящий христианский роман. Заново открывается произведение. Монте- Кристо, оказывается, не про «зуб за зуб» а про жддать и надеяться.', 6),
+       ('Когда училась в институте, то каждый год перечитывала эту книгу. За пять институтских лет мнение о героях поменялось. Спустя 11 лет хочется ещё раз прочитать этот прекрасный роман.', 6),
+       ('Эта та КНИГА, прочитав которую, будешь потом помнить ее сюжет всю жизнь. На что способно человеческое тщеславие? На какое преступление готов пойти человек ради лучшей жизни?', 7),
+       ('Отличная книга . Немного напоминает «Преступление и наказание» Достоевского. На мой взгляд такое стоит читать лет в 16-20. Множество мельчайших подробностей душевных переживаний, терзаний, взлетов и падений.', 7),
+       ('Отличная книга для подростков, отрезвляет и заставляет задуматься об отношениях и сиюминутной страсти. Драйзер показывает реакцию на одно и тоже событие людей разных социальных сословий, заставляя посмотреть на ситуацию шире.', 7),
+       ('Удивительное произведение, полное драматизма и жизненных перипетий! Увлекательно и интересно описаны исторические события, еще раз доказывая, уникальность писательского дара Л.Н. Толстого.', 8),
+       ('Книга, которая в рецензиях не нуждается. Это своеобразная Библия русского народа.', 8),
+       ('Вечная классика, прекрасно озвученная. Получила большое удовольствие от прочтения, спасибо! ))))))))))))))))))))))))', 8);
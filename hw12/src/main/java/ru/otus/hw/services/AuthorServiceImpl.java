@@ -16,6 +16,8 @@ import java.util.Optional;
 import java.util.Set;
 
 import static org.springframework.util.CollectionUtils.isEmpty;
+import static ru.otus.hw.services.ListView.AUTHORS;
+import static ru.otus.hw.services.ListView.BOOKS;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
 
@@ -28,6 +30,8 @@ public class AuthorServiceImpl implements AuthorService {
 
     private final AuthorMapper mapper;
 
+    private final ListViewVersions listViewVersions;
+
     @Override
     public List<AuthorDto> findAll() {
         return authorRepository.findAll().stream().map(mapper::toAuthorDto).toList();
@@ -49,12 +53,14 @@ public class AuthorServiceImpl implements AuthorService {
     @Override
     @Transactional
     public AuthorDto insert(@Valid String fullName) {
+        listViewVersions.invalidate(AUTHORS, BOOKS);
         return mapper.toAuthorDto(authorRepository.save(new Author(fullName)));
     }
 
     @Override
     @Transactional
     public AuthorDto update(long id, @Valid String fullName) {
+        listViewVersions.invalidate(AUTHORS, BOOKS);
         Author author = authorRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Author.class.getSimpleName(), id)));
@@ -65,6 +71,7 @@ public class AuthorServiceImpl implements AuthorService {
     @Override
     @Transactional
     public void deleteById(Long id) {
+        listViewVersions.invalidate(AUTHORS, BOOKS);
         authorRepository.deleteById(id);
     }
 }
@@ -0,0 +1,20 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.repositories.AuthorRepository;
+import ru.otus.hw.repositories.GenreRepository;
+
+@Service
+@RequiredArgsConstructor
+public class BookReferenceServiceImpl implements BookReferenceService {
+
+    private final AuthorRepository authorRepository;
+
+    private final GenreRepository genreRepository;
+
+    @Override
+    public BookReferenceResolver newResolver() {
+        return new BookReferenceResolver(authorRepository, genreRepository);
+    }
+}
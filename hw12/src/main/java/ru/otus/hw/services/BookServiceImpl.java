@@ -10,20 +10,16 @@ import ru.otus.hw.dto.mapper.BookMapper;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
-import ru.otus.hw.models.Genre;
 import ru.otus.hw.repositories.AuthorRepository;
 import ru.otus.hw.repositories.BookRepository;
-import ru.otus.hw.repositories.GenreRepository;
 
 import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 
-import static org.springframework.util.CollectionUtils.isEmpty;
-import static ru.otus.hw.utils.ValidationMessages.ENTITY_LIST_NOT_FOUND_MESSAGE;
+import static ru.otus.hw.services.ListView.AUTHORS;
+import static ru.otus.hw.services.ListView.BOOKS;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
-import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
 
 @Service
 @RequiredArgsConstructor
@@ -31,12 +27,14 @@ public class BookServiceImpl implements BookService {
 
     private final AuthorRepository authorRepository;
 
-    private final GenreRepository genreRepository;
-
     private final BookRepository bookRepository;
 
+    private final BookReferenceService bookReferenceService;
+
     private final BookMapper mapper;
 
+    private final ListViewVersions listViewVersions;
+
     @Override
     public List<BookDto> findAll() {
         return bookRepository.findAll().stream().map(mapper::toBookDto).toList();
@@ -66,45 +64,30 @@ public class BookServiceImpl implements BookService {
     @Override
     @Transactional
     public BookDto insert(@Valid String title, Long authorId, Set<Long> genresIds) {
-        ValidationResult validationResult = getValidationResult(authorId, genresIds);
-        return mapper.toBookDto(bookRepository
-                .save(new Book(title, validationResult.author(), validationResult.genres())));
+        listViewVersions.invalidate(BOOKS, AUTHORS);
+        BookReferences references = bookReferenceService.newResolver().resolve(authorId, genresIds);
+        return references.toBookDto(bookRepository
+                .save(new Book(title, references.author(), references.genres())));
     }
 
     @Override
     @Transactional
     public BookDto update(Long id, @Valid String title, Long authorId, Set<Long> genresIds) {
-        ValidationResult validationResult = getValidationResult(authorId, genresIds);
+        listViewVersions.invalidate(BOOKS, AUTHORS);
+        BookReferences references = bookReferenceService.newResolver().resolve(authorId, genresIds);
         Book book = bookRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Book.class.getSimpleName(), id)));
         book.setTitle(title);
-        book.setAuthor(validationResult.author());
-        book.setGenres(validationResult.genres);
-        return mapper.toBookDto(bookRepository.save(book));
+        book.setAuthor(references.author());
+        book.setGenres(references.genres());
+        return references.toBookDto(bookRepository.save(book));
     }
 
     @Override
     @Transactional
     public void deleteById(Long id) {
+        listViewVersions.invalidate(BOOKS, AUTHORS);
         bookRepository.deleteById(id);
     }
-
-    private ValidationResult getValidationResult(Long authorId, Set<Long> genresIds) {
-        if (isEmpty(genresIds)) {
-            throw new IllegalArgumentException(ILLEGAL_ARGUMENT_MESSAGE.getMessage(Genre.class.getSimpleName()));
-        }
-        Author author = authorRepository.findById(authorId)
-                .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
-                        .getMessage(Author.class.getSimpleName(), authorId)));
-        List<Genre> genres = genreRepository.findAllById(genresIds);
-        if (genresIds.size() != genres.size()) {
-            throw new IllegalArgumentException(ENTITY_LIST_NOT_FOUND_MESSAGE
-                    .getMessage(Genre.class.getSimpleName().toLowerCase(Locale.ROOT), genresIds));
-        }
-        return new ValidationResult(author, genres);
-    }
-
-    private record ValidationResult(Author author, List<Genre> genres) {
-    }
 }
@@ -0,0 +1,10 @@
+package ru.otus.hw.services;
+
+/**
+ * Server-rendered list pages whose table rows are cached between writes.
+ */
+public enum ListView {
+    BOOKS,
+    AUTHORS,
+    GENRES
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 import ru.otus.hw.dto.UserDto;
@@ -14,19 +15,37 @@ import java.util.HashSet;
 import java.util.Set;
 
 import static org.springframework.security.core.userdetails.User.builder;
-import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
+import static org.springframework.security.core.userdetails.User.withUserDetails;
+import static ru.otus.hw.utils.ValidationMessages.USERNAME_NOT_FOUND_MESSAGE;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserService userService;
 
+    private final UserDetailsCache userDetailsCache;
+
     @Override
     public UserDetails loadUserByUsername(String username) {
+        return userDetailsCache.get(username, this::load);
+    }
+
+    /**
+     * Stores the hash the password encoder produced for the current encoding after a successful login
+     * with an outdated one.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userService.updatePassword(user.getUsername(), newPassword);
+        log.info("Password hash of user {} upgraded", user.getUsername());
+        return withUserDetails(user).password(newPassword).build();
+    }
+
+    private UserDetails load(String username) {
         UserDto userDto = userService.findByUsername(username)
-                .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
+                .orElseThrow(() -> new EntityNotFoundException(USERNAME_NOT_FOUND_MESSAGE
                         .getMessage(User.class.getSimpleName(), username)));
         Set<GrantedAuthority> grantedAuthorities = new HashSet<>();
         return builder()
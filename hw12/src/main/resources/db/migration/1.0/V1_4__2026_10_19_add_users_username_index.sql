@@ -0,0 +1 @@
+create unique index if not exists ux_users_username on users (username);
@@ -10,18 +10,23 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.repositories.UserRepository;
 
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.unauthenticated;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 @SpringBootTest
@@ -36,6 +41,9 @@ class SecurityIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private UserRepository userRepository;
+
     @DisplayName("должен отображать форму логина без аутентификации")
     @Test
     void whenAccessLoginPageWithoutAuth_thenReturnsLoginView() throws Exception {
@@ -73,6 +81,18 @@ class SecurityIntegrationTest {
                 .andExpect(authenticated());
     }
 
+    @DisplayName("должен перезаписывать хэш пароля без префикса алгоритма после успешного входа")
+    @Test
+    void whenLoginWithLegacyHash_thenPasswordRehashedWithAlgorithmPrefix() throws Exception {
+        mockMvc.perform(formLogin("/login")
+                        .user(TEST_USERNAME)
+                        .password(TEST_PASSWORD))
+                .andExpect(authenticated());
+
+        assertThat(userRepository.findByUsername(TEST_USERNAME))
+                .hasValueSatisfying(user -> assertThat(user.getPassword()).startsWith("{bcrypt}$2a$12$"));
+    }
+
     @DisplayName("должен отображать ошибку при попытке аутентификации с неправильными учетными данными")
     @Test
     void whenLoginWithIncorrectCredentials_thenShowsError() throws Exception {
@@ -101,6 +121,21 @@ class SecurityIntegrationTest {
                 .andExpect(unauthenticated());
     }
 
+    @Test
+    @DisplayName("должен отдавать статические файлы и проверку состояния без сессии, но с заголовками безопасности")
+    void whenRequestStaticResourceAndHealth_thenNoSessionButSecurityHeaders() throws Exception {
+        MvcResult favicon = mockMvc.perform(get("/favicon.ico"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andReturn();
+        MvcResult health = mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(favicon.getRequest().getSession(false)).isNull();
+        assertThat(health.getRequest().getSession(false)).isNull();
+    }
+
     static Stream<Arguments> protectedPageUrlsForAccess() {
         return Stream.of(
                 Arguments.of("/genres"),
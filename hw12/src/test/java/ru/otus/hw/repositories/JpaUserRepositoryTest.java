@@ -0,0 +1,94 @@
+package ru.otus.hw.repositories;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+import ru.otus.hw.models.User;
+import ru.otus.hw.services.UserDetailsCache;
+import ru.otus.hw.services.UserDetailsCacheInvalidator;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.core.userdetails.User.withUsername;
+
+@DisplayName("Репозиторий на основе Jpa для работы с пользователями")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({UserDetailsCache.class, UserDetailsCacheInvalidator.class, SimpleMeterRegistry.class})
+class JpaUserRepositoryTest {
+
+    private static final String USERNAME = "admin";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("должен загружать пользователя по имени одним запросом")
+    @Test
+    void whenFindByUsername_thenLoadUserInOneStatement() {
+        //When
+        Optional<User> user = userRepository.findByUsername(USERNAME);
+
+        //Then
+        assertThat(user).hasValueSatisfying(found -> assertThat(found.getIsActive()).isTrue());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("должен очищать кэш пользователей после изменения пользователя")
+    @Test
+    void whenUserChanged_thenInvalidateUserDetailsCache() {
+        //Given
+        cacheUser();
+        userRepository.findByUsername(USERNAME).orElseThrow().setIsActive(false);
+
+        //When
+        testEntityManager.flush();
+        int sizeBeforeCommit = userDetailsCache.size();
+        TestTransaction.end();
+
+        //Then
+        assertThat(sizeBeforeCommit).isEqualTo(1);
+        assertThat(userDetailsCache.size()).isZero();
+    }
+
+    @DisplayName("не должен очищать кэш пользователей при чтении пользователя")
+    @Test
+    void whenUserOnlyRead_thenKeepUserDetailsCache() {
+        //Given
+        cacheUser();
+        userRepository.findByUsername(USERNAME).orElseThrow();
+
+        //When
+        testEntityManager.flush();
+        TestTransaction.end();
+
+        //Then
+        assertThat(userDetailsCache.size()).isEqualTo(1);
+    }
+
+    private void cacheUser() {
+        userDetailsCache.get(USERNAME, username -> withUsername(username).password("password").build());
+    }
+}
@@ -27,10 +27,12 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 @DisplayName("Сервис для работы с книгами")
 @DataJpaTest
 @Import({BookServiceImpl.class,
+        BookReferenceServiceImpl.class,
         AuthorMapperImpl.class,
         GenreMapperImpl.class,
         CommentMapperImpl.class,
-        BookMapperImpl.class
+        BookMapperImpl.class,
+        ListViewVersions.class
 })
 @Transactional(propagation = Propagation.NEVER)
 class BookServiceImplTest {
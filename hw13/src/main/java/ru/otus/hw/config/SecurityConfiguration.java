@@ -3,30 +3,68 @@ package ru.otus.hw.config;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import ru.otus.hw.services.BoundedAuthenticationProvider;
+import ru.otus.hw.services.ObjectKind;
+import ru.otus.hw.services.ObjectPermissionService;
+import ru.otus.hw.services.Permission;
+
+import java.util.Arrays;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfiguration {
 
-    private final UserDetailsService userDetailsService;
+    private final BoundedAuthenticationProvider authenticationProvider;
+
+    private final ObjectPermissionService objectPermissionService;
 
+    /**
+     * Static files and health probes: no session, CSRF token, security context or request cache, only
+     * the security headers. They are public anyway, so they skip the chain of the pages. Every request is
+     * matched against this chain first, so its patterns are plain path patterns rather than the MVC
+     * matchers that look up the handler of the request.
+     */
     @Bean
+    @Order(0)
+    public SecurityFilterChain staticResourcesSecurityFilterChain(HttpSecurity http) throws Exception {
+        http.securityMatcher(pathMatchers(getStaticAndProbeUrls()))
+                .authorizeHttpRequests(authorize -> authorize.anyRequest().permitAll())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(AbstractHttpConfigurer::disable)
+                .securityContext(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .servletApi(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .exceptionHandling(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable);
+        return http.build();
+    }
+
+    @Bean
+    @Order(1)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         configureCsrfAndHeaders(http);
         configureSessionManagement(http);
         configureAuthorizationRules(http);
         configureExceptionHandling(http);
         configureFormLoginAndLogout(http);
-        configureUserDetailsService(http);
+        configureAuthenticationManager(http);
 
         return http.build();
     }
@@ -43,15 +81,27 @@ public class SecurityConfiguration {
                 session.sessionCreationPolicy(SessionCreationPolicy.ALWAYS));
     }
 
+    /**
+     * The role-to-URL rules of the page chain, compiled into one matcher tree.
+     */
+    @Bean
+    public UrlAuthorizationRules uiAuthorizationRules() {
+        return UrlAuthorizationRules.builder()
+                .permitAll(getPublicUrls())
+                .hasAnyRole(getReaderViewUrls(), "READER", "AUTHOR", "LIBRARIAN", "ADMIN")
+                .hasAnyRole(getCreatorUrls(), "AUTHOR", "LIBRARIAN", "ADMIN")
+                .hasAnyRole(getCommentCreatorUrls(), "READER", "AUTHOR", "LIBRARIAN", "ADMIN")
+                .rule(editorOf(ObjectKind.AUTHOR), "/authors/{id}/edit")
+                .rule(editorOf(ObjectKind.GENRE), "/genres/{id}/edit")
+                .rule(editorOf(ObjectKind.BOOK), "/books/{id}/edit")
+                .rule(editorOf(ObjectKind.COMMENT), "/books/{bookId}/comments/{id}/edit")
+                .hasAnyRole(getDeleterUrls(), "ADMIN")
+                .otherwise(AuthenticatedAuthorizationManager.authenticated());
+    }
+
     private void configureAuthorizationRules(HttpSecurity http) throws Exception {
         http.authorizeHttpRequests(authorize -> authorize
-                .requestMatchers(getPublicUrls()).permitAll()
-                .requestMatchers(getReaderViewUrls()).hasAnyRole("READER", "AUTHOR", "LIBRARIAN", "ADMIN")
-                .requestMatchers(getCreatorUrls()).hasAnyRole("AUTHOR", "LIBRARIAN", "ADMIN")
-                .requestMatchers(getCommentCreatorUrls()).hasAnyRole("READER", "AUTHOR", "LIBRARIAN", "ADMIN")
-                .requestMatchers(getEditorUrls()).hasAnyRole("AUTHOR", "LIBRARIAN", "ADMIN")
-                .requestMatchers(getDeleterUrls()).hasRole("ADMIN")
-                .anyRequest().authenticated());
+                .anyRequest().access(uiAuthorizationRules()));
     }
 
     private void configureExceptionHandling(HttpSecurity http) throws Exception {
@@ -65,7 +115,7 @@ public class SecurityConfiguration {
         http.formLogin(form -> form
                         .loginPage("/login")
                         .defaultSuccessUrl("/", true)
-                        .failureUrl("/login?error")
+                        .failureHandler(new LoginFailureHandler("/login?error"))
                         .permitAll())
                 .logout(logout -> logout
                         .logoutUrl("/logout")
@@ -73,20 +123,46 @@ public class SecurityConfiguration {
                         .permitAll());
     }
 
-    private void configureUserDetailsService(HttpSecurity http) throws Exception {
-        http.userDetailsService(userDetailsService);
+    /**
+     * The only provider, without the global parent manager, so a failed login is checked once.
+     */
+    private void configureAuthenticationManager(HttpSecurity http) {
+        http.authenticationManager(new ProviderManager(authenticationProvider));
+    }
+
+    /**
+     * Lets through those who may edit the entity of the {@code id} path variable, by role or as its creator.
+     */
+    private AuthorizationManager<RequestAuthorizationContext> editorOf(ObjectKind kind) {
+        return (authentication, context) -> {
+            String id = context.getVariables().get("id");
+            return new AuthorizationDecision(id != null && id.matches("\\d+") && objectPermissionService
+                    .hasPermission(authentication.get(), kind, Long.valueOf(id), Permission.EDIT));
+        };
+    }
+
+    private static RequestMatcher pathMatchers(String... patterns) {
+        PathPatternRequestMatcher.Builder paths = PathPatternRequestMatcher.withDefaults();
+        return new OrRequestMatcher(Arrays.stream(patterns).map(paths::matcher).toArray(RequestMatcher[]::new));
     }
 
     private String[] getPublicUrls() {
         return new String[]{
                 "/",
                 "/login",
-                "/favicon.ico",
                 "/actuator/**",
                 "/h2-console/**"
         };
     }
 
+    private String[] getStaticAndProbeUrls() {
+        return new String[]{
+                "/favicon*.ico",
+                "/actuator/health",
+                "/actuator/health/**"
+        };
+    }
+
     private String[] getReaderViewUrls() {
         return new String[]{
                 "/authors",
@@ -113,15 +189,6 @@ public class SecurityConfiguration {
         };
     }
 
-    private String[] getEditorUrls() {
-        return new String[]{
-                "/authors/*/edit",
-                "/genres/*/edit",
-                "/books/*/edit",
-                "/books/*/comments/*/edit"
-        };
-    }
-
     private String[] getDeleterUrls() {
         return new String[]{
                 "/authors/*/delete",
@@ -130,9 +197,4 @@ public class SecurityConfiguration {
                 "/books/*/comments/*/delete"
         };
     }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
-    }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package ru.otus.hw.controllers;
 
 import jakarta.annotation.Nullable;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import ru.otus.hw.dto.BookDto;
 import ru.otus.hw.dto.CommentDto;
 import ru.otus.hw.dto.CreateUpdateBookDto;
+import ru.otus.hw.dto.GenreDto;
 import ru.otus.hw.dto.mapper.BookMapper;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Book;
@@ -24,10 +28,14 @@ import ru.otus.hw.services.AuthorService;
 import ru.otus.hw.services.BookService;
 import ru.otus.hw.services.CommentService;
 import ru.otus.hw.services.GenreService;
+import ru.otus.hw.services.ListView;
+import ru.otus.hw.services.ObjectKind;
+import ru.otus.hw.services.ObjectPermissionService;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Objects.isNull;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
@@ -47,22 +55,31 @@ public class BookController {
 
     private final BookMapper bookMapper;
 
+    private final RenderedFragmentCache fragmentCache;
+
+    private final ObjectPermissionService objectPermissionService;
+
     @GetMapping("/books")
-    public String getAllBooks(Model model) {
-        List<BookDto> books = bookService.findAll();
-        model.addAttribute("books", books);
+    public String getAllBooks(Model model, HttpServletRequest request, HttpServletResponse response) {
+        model.addAttribute("bookRows", fragmentCache.getOrRender(ListView.BOOKS, "books", "book-rows",
+                request, response, () -> Map.of("books", bookService.findAll())));
         return "books";
     }
 
     @GetMapping("/books/{id}/details")
     public String getBook(@RequestHeader(value = HttpHeaders.REFERER, required = false) final String referrer,
                           @PathVariable("id") Long id,
+                          Authentication authentication,
                           Model model) {
         BookDto book = bookService.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Book.class.getSimpleName(), id)));
         List<CommentDto> comments = commentService.findByBookId(book.id());
         prepareModelData(model, book, comments, new ModelAttributes(referrer, null, null));
+        model.addAttribute("genrePermissions", objectPermissionService.permissionsOf(authentication,
+                ObjectKind.GENRE, book.genres().stream().map(GenreDto::id).toList()));
+        model.addAttribute("commentPermissions", objectPermissionService.permissionsOf(authentication,
+                ObjectKind.COMMENT, comments.stream().map(CommentDto::id).toList()));
         return "book-view";
     }
 
@@ -5,6 +5,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -21,6 +22,8 @@ import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Comment;
 import ru.otus.hw.services.BookService;
 import ru.otus.hw.services.CommentService;
+import ru.otus.hw.services.ObjectKind;
+import ru.otus.hw.services.ObjectPermissionService;
 
 import java.util.List;
 import java.util.Map;
@@ -36,11 +39,13 @@ public class CommentController {
 
     private final BookService bookService;
 
+    private final ObjectPermissionService objectPermissionService;
+
     @GetMapping("/books/{bookId}/comments")
     public String getAllCommentsByBookId(@PathVariable("bookId") Long bookId,
                                          @RequestHeader(value = HttpHeaders.REFERER, required = false)
                                          final String referrer,
-                                         Model model) {
+                                         Model model, Authentication authentication) {
         BookDto book = bookService.findById(bookId)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Book.class.getSimpleName(), bookId)));
@@ -48,6 +53,8 @@ public class CommentController {
         model.addAttribute("id", bookId);
         model.addAttribute("bookTitle", book.title());
         model.addAttribute("comments", comments);
+        model.addAttribute("commentPermissions", objectPermissionService.permissionsOf(authentication,
+                ObjectKind.COMMENT, comments.stream().map(CommentDto::id).toList()));
         model.addAttribute("previousUrl", referrer);
         return "comments";
     }
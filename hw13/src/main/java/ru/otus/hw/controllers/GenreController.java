@@ -1,9 +1,12 @@
 package ru.otus.hw.controllers;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -17,8 +20,12 @@ import ru.otus.hw.dto.GenreDto;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Genre;
 import ru.otus.hw.services.GenreService;
+import ru.otus.hw.services.ListView;
+import ru.otus.hw.services.ObjectKind;
+import ru.otus.hw.services.ObjectPermissionService;
 
 import java.util.List;
+import java.util.Map;
 
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 
@@ -29,15 +36,27 @@ public class GenreController {
 
     private final GenreService genreService;
 
+    private final RenderedFragmentCache fragmentCache;
+
+    private final ObjectPermissionService objectPermissionService;
+
     @GetMapping("/genres")
     public String getAllGenres(@RequestHeader(value = HttpHeaders.REFERER, required = false) final String referrer,
-                               Model model) {
-        List<GenreDto> genres = genreService.findAll();
-        model.addAttribute("genres", genres);
+                               Model model, Authentication authentication,
+                               HttpServletRequest request, HttpServletResponse response) {
+        String variant = objectPermissionService.ownershipVariant(authentication, ObjectKind.GENRE);
+        model.addAttribute("genreRows", fragmentCache.getOrRender(ListView.GENRES, variant, "fragments/tables",
+                "genre-rows", request, response, () -> genreRowsVariables(authentication)));
         model.addAttribute("previousUrl", referrer);
         return "genres";
     }
 
+    private Map<String, Object> genreRowsVariables(Authentication authentication) {
+        List<GenreDto> genres = genreService.findAll();
+        return Map.of("genres", genres, "genrePermissions", objectPermissionService.permissionsOf(authentication,
+                ObjectKind.GENRE, genres.stream().map(GenreDto::id).toList()));
+    }
+
     @GetMapping("/genres/{id}/details")
     public String getGenre(@RequestHeader(value = HttpHeaders.REFERER, required = false) final String referrer,
                            @PathVariable("id") Long id,
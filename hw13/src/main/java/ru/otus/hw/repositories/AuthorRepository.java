@@ -1,7 +1,19 @@
 package ru.otus.hw.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.otus.hw.dto.AuthorDto;
 import ru.otus.hw.models.Author;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 public interface AuthorRepository extends JpaRepository<Author, Long> {
+    @Query("select a.id from Author a where a.createdBy = :username")
+    Set<Long> findIdsByCreatedBy(@Param("username") String username);
+
+    @Query("select new ru.otus.hw.dto.AuthorDto(a.id, a.fullName) from Author a where a.id in :ids")
+    List<AuthorDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -3,10 +3,12 @@ package ru.otus.hw.repositories;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.otus.hw.models.Book;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
     @Override
@@ -33,4 +35,6 @@ public interface BookRepository extends JpaRepository<Book, Long> {
 
     List<Book> findBooksByAuthorId(Long id);
 
+    @Query("select b.id from Book b where b.createdBy = :username")
+    Set<Long> findIdsByCreatedBy(@Param("username") String username);
 }
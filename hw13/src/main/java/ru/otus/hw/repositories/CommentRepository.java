@@ -1,10 +1,16 @@
 package ru.otus.hw.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.otus.hw.models.Comment;
 
 import java.util.List;
+import java.util.Set;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findAllByBookId(Long bookId);
+
+    @Query("select c.id from Comment c where c.createdBy = :username")
+    Set<Long> findIdsByCreatedBy(@Param("username") String username);
 }
@@ -1,7 +1,19 @@
 package ru.otus.hw.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.otus.hw.dto.GenreDto;
 import ru.otus.hw.models.Genre;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 public interface GenreRepository extends JpaRepository<Genre, Long> {
+    @Query("select g.id from Genre g where g.createdBy = :username")
+    Set<Long> findIdsByCreatedBy(@Param("username") String username);
+
+    @Query("select new ru.otus.hw.dto.GenreDto(g.id, g.name) from Genre g where g.id in :ids")
+    List<GenreDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
 }
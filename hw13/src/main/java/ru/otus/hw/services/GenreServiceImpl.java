@@ -15,6 +15,8 @@ import java.util.Optional;
 import java.util.Set;
 
 import static org.springframework.util.CollectionUtils.isEmpty;
+import static ru.otus.hw.services.ListView.BOOKS;
+import static ru.otus.hw.services.ListView.GENRES;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
 
@@ -26,6 +28,8 @@ public class GenreServiceImpl implements GenreService {
 
     private final GenreMapper mapper;
 
+    private final ListViewVersions listViewVersions;
+
     @Override
     public List<GenreDto> findAll() {
         return genreRepository.findAll().stream().map(mapper::toGenreDto).toList();
@@ -47,12 +51,14 @@ public class GenreServiceImpl implements GenreService {
     @Override
     @Transactional
     public GenreDto insert(@Valid String name) {
+        listViewVersions.invalidate(GENRES, BOOKS);
         return mapper.toGenreDto(genreRepository.save(new Genre(name)));
     }
 
     @Override
     @Transactional
     public GenreDto update(Long id, @Valid String name) {
+        listViewVersions.invalidate(GENRES, BOOKS);
         Genre genre = genreRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Genre.class.getSimpleName(), id)));
@@ -63,6 +69,7 @@ public class GenreServiceImpl implements GenreService {
     @Override
     @Transactional
     public void deleteById(Long id) {
+        listViewVersions.invalidate(GENRES, BOOKS);
         genreRepository.deleteById(id);
     }
 }
@@ -0,0 +1,31 @@
+package ru.otus.hw.services;
+
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Comment;
+import ru.otus.hw.models.Genre;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Entities that carry their creator in {@code created_by} and are checked per object.
+ */
+public enum ObjectKind {
+    AUTHOR(Author.class),
+    BOOK(Book.class),
+    GENRE(Genre.class),
+    COMMENT(Comment.class);
+
+    private final Class<?> entityType;
+
+    ObjectKind(Class<?> entityType) {
+        this.entityType = entityType;
+    }
+
+    public static Optional<ObjectKind> of(Object entity) {
+        return Arrays.stream(values())
+                .filter(kind -> kind.entityType.isInstance(entity))
+                .findFirst();
+    }
+}
@@ -0,0 +1,42 @@
+package ru.otus.hw.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops the cached ownership of a kind of entities whenever one is inserted, the only write that sets
+ * {@code created_by}; whoever flushes the insert, it is caught at the Hibernate level.
+ */
+@Component
+@RequiredArgsConstructor
+public class ObjectOwnershipInvalidator implements PostInsertEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final ObjectPermissionService objectPermissionService;
+
+    @PostConstruct
+    void register() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_INSERT, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        ObjectKind.of(event.getEntity()).ifPresent(objectPermissionService::invalidateOwnership);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
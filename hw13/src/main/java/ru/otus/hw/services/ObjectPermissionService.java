@@ -0,0 +1,17 @@
+package ru.otus.hw.services;
+
+import org.springframework.security.core.Authentication;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ObjectPermissionService {
+
+    Map<Long, PermissionBitmap> permissionsOf(Authentication authentication, ObjectKind kind, Collection<Long> ids);
+
+    boolean hasPermission(Authentication authentication, ObjectKind kind, Long id, Permission permission);
+
+    String ownershipVariant(Authentication authentication, ObjectKind kind);
+
+    void invalidateOwnership(ObjectKind kind);
+}
@@ -0,0 +1,184 @@
+package ru.otus.hw.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.otus.hw.repositories.AuthorRepository;
+import ru.otus.hw.repositories.BookRepository;
+import ru.otus.hw.repositories.CommentRepository;
+import ru.otus.hw.repositories.GenreRepository;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Object-level permissions: a role grants its permissions on every entity, the creator of an entity may
+ * edit it. Roles mirror the URL rules of the security configuration, so {@code ADMIN} may do anything,
+ * {@code LIBRARIAN} and {@code AUTHOR} may edit anything and everyone may edit what they created.
+ * <p>
+ * The ids a user created are loaded once per kind with one query on the indexed {@code created_by}
+ * column and kept while no entity of that kind is inserted; at most
+ * {@code security.permission-cache.max-size} users are kept, the least recently used is dropped first.
+ * A whole page is then evaluated in memory, and users whose roles already grant everything an owner
+ * gets skip the lookup entirely.
+ */
+@Service
+public class ObjectPermissionServiceImpl implements ObjectPermissionService {
+
+    private static final String METRIC_NAME = "library.permission.cache";
+
+    private static final String SHARED_VARIANT = "";
+
+    private static final int OWNER_MASK = Permission.EDIT.mask();
+
+    private static final Map<String, Integer> ROLE_MASKS = Map.of(
+            "ROLE_ADMIN", Permission.EDIT.mask() | Permission.DELETE.mask(),
+            "ROLE_LIBRARIAN", Permission.EDIT.mask(),
+            "ROLE_AUTHOR", Permission.EDIT.mask());
+
+    private final Map<ObjectKind, Function<String, Set<Long>>> ownedIdsQueries = new EnumMap<>(ObjectKind.class);
+
+    private final Map<ObjectKind, AtomicLong> versions = new EnumMap<>(ObjectKind.class);
+
+    private final Map<OwnerKey, OwnedIds> ownedIds;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    public ObjectPermissionServiceImpl(AuthorRepository authorRepository, BookRepository bookRepository,
+                                       GenreRepository genreRepository, CommentRepository commentRepository,
+                                       @Value("${security.permission-cache.max-size:1000}") int maxSize,
+                                       MeterRegistry meterRegistry) {
+        ownedIdsQueries.put(ObjectKind.AUTHOR, authorRepository::findIdsByCreatedBy);
+        ownedIdsQueries.put(ObjectKind.BOOK, bookRepository::findIdsByCreatedBy);
+        ownedIdsQueries.put(ObjectKind.GENRE, genreRepository::findIdsByCreatedBy);
+        ownedIdsQueries.put(ObjectKind.COMMENT, commentRepository::findIdsByCreatedBy);
+        for (ObjectKind kind : ObjectKind.values()) {
+            versions.put(kind, new AtomicLong());
+        }
+        this.ownedIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<OwnerKey, OwnedIds> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hits = Counter.builder(METRIC_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME).tag("result", "miss").register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", this, ObjectPermissionServiceImpl::size).register(meterRegistry);
+    }
+
+    @Override
+    public Map<Long, PermissionBitmap> permissionsOf(Authentication authentication, ObjectKind kind,
+                                                     Collection<Long> ids) {
+        int roleMask = roleMask(authentication);
+        Set<Long> owned = ownedBeyondRoles(authentication, kind, roleMask);
+        PermissionBitmap roleBitmap = new PermissionBitmap(roleMask);
+        PermissionBitmap ownerBitmap = new PermissionBitmap(roleMask | OWNER_MASK);
+        Map<Long, PermissionBitmap> permissions = new HashMap<>();
+        for (Long id : ids) {
+            permissions.put(id, owned.contains(id) ? ownerBitmap : roleBitmap);
+        }
+        return permissions;
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, ObjectKind kind, Long id, Permission permission) {
+        int roleMask = roleMask(authentication);
+        if ((roleMask & permission.mask()) != 0) {
+            return true;
+        }
+        return (OWNER_MASK & permission.mask()) != 0 && ownedBeyondRoles(authentication, kind, roleMask).contains(id);
+    }
+
+    /**
+     * Tells apart users who see different permissions on the same rows of {@code kind} with the same roles:
+     * the same value for everyone who owns nothing beyond what their roles grant, the username otherwise.
+     */
+    @Override
+    public String ownershipVariant(Authentication authentication, ObjectKind kind) {
+        return ownedBeyondRoles(authentication, kind, roleMask(authentication)).isEmpty()
+                ? SHARED_VARIANT
+                : authentication.getName();
+    }
+
+    /**
+     * Drops the cached ownership of {@code kind} once the current transaction completes, whatever its outcome.
+     * Outside a transaction it is dropped at once.
+     */
+    @Override
+    public void invalidateOwnership(ObjectKind kind) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.get(kind).incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                versions.get(kind).incrementAndGet();
+            }
+        });
+    }
+
+    private int size() {
+        synchronized (ownedIds) {
+            return ownedIds.size();
+        }
+    }
+
+    private Set<Long> ownedBeyondRoles(Authentication authentication, ObjectKind kind, int roleMask) {
+        if (!isAuthenticated(authentication) || (roleMask & OWNER_MASK) == OWNER_MASK) {
+            return Set.of();
+        }
+        OwnerKey key = new OwnerKey(authentication.getName(), kind);
+        long version = versions.get(kind).get();
+        synchronized (ownedIds) {
+            OwnedIds cached = ownedIds.get(key);
+            if (cached != null && cached.version() == version) {
+                hits.increment();
+                return cached.ids();
+            }
+        }
+        misses.increment();
+        Set<Long> ids = Set.copyOf(ownedIdsQueries.get(kind).apply(key.username()));
+        synchronized (ownedIds) {
+            ownedIds.put(key, new OwnedIds(version, ids));
+        }
+        return ids;
+    }
+
+    private static int roleMask(Authentication authentication) {
+        if (!isAuthenticated(authentication)) {
+            return 0;
+        }
+        int mask = 0;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            mask |= ROLE_MASKS.getOrDefault(authority.getAuthority(), 0);
+        }
+        return mask;
+    }
+
+    private static boolean isAuthenticated(Authentication authentication) {
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+
+    private record OwnerKey(String username, ObjectKind kind) {
+    }
+
+    private record OwnedIds(long version, Set<Long> ids) {
+    }
+}
@@ -0,0 +1,13 @@
+package ru.otus.hw.services;
+
+/**
+ * Actions on a single entity, each one bit of a {@link PermissionBitmap}.
+ */
+public enum Permission {
+    EDIT,
+    DELETE;
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+}
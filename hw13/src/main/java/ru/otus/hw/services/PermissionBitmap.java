@@ -0,0 +1,21 @@
+package ru.otus.hw.services;
+
+/**
+ * Permissions of the current user on one entity, precomputed for a whole page so a template only reads bits.
+ */
+public record PermissionBitmap(int bits) {
+
+    public static final PermissionBitmap NONE = new PermissionBitmap(0);
+
+    public boolean has(Permission permission) {
+        return (bits & permission.mask()) != 0;
+    }
+
+    public boolean canEdit() {
+        return has(Permission.EDIT);
+    }
+
+    public boolean canDelete() {
+        return has(Permission.DELETE);
+    }
+}
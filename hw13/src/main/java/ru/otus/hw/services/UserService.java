@@ -6,4 +6,6 @@ import java.util.Optional;
 
 public interface UserService {
     Optional<UserDto> findByUsername(String username);
+
+    void updatePassword(String username, String encodedPassword);
 }
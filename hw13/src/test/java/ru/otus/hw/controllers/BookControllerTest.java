@@ -1,10 +1,12 @@
 package ru.otus.hw.controllers;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -20,11 +22,18 @@ import ru.otus.hw.services.AuthorService;
 import ru.otus.hw.services.BookService;
 import ru.otus.hw.services.CommentService;
 import ru.otus.hw.services.GenreService;
+import ru.otus.hw.services.ListView;
+import ru.otus.hw.services.ListViewVersions;
+import ru.otus.hw.services.ObjectKind;
+import ru.otus.hw.services.ObjectPermissionService;
+import ru.otus.hw.services.PermissionBitmap;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
@@ -47,6 +56,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @DisplayName("Контроллер для работы с книгами ")
 @WebMvcTest(BookController.class)
+@Import({RenderedFragmentCache.class, ListViewVersions.class, SimpleMeterRegistry.class})
 @WithMockUser(username = "admin")
 class BookControllerTest {
 
@@ -57,6 +67,9 @@ class BookControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ListViewVersions listViewVersions;
+
     @MockitoBean
     private BookService bookService;
 
@@ -72,6 +85,9 @@ class BookControllerTest {
     @MockitoBean
     private BookMapper bookMapper;
 
+    @MockitoBean
+    private ObjectPermissionService objectPermissionService;
+
     private BookDto bookDto;
     private CreateUpdateBookDto createUpdateBookDto;
     private List<AuthorDto> authors;
@@ -80,6 +96,7 @@ class BookControllerTest {
 
     @BeforeEach
     void setUp() {
+        listViewVersions.invalidate(ListView.values());
         AuthorDto authorDto = AuthorDto.builder().id(PRESENT_ID).fullName("Author_1").build();
         List<GenreDto> genreDtos = List.of(GenreDto.builder().id(PRESENT_ID).name("Genre_1").build());
 
@@ -114,11 +131,29 @@ class BookControllerTest {
         mockMvc.perform(get("/books"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("books"))
-                .andExpect(model().attribute("books", books));
+                .andExpect(model().attribute("bookRows", containsString("Test_Book")));
 
         verify(bookService, times(1)).findAll();
     }
 
+    @DisplayName("должен отдавать строки списка книг из кэша до изменения данных")
+    @Test
+    void whenGetAllBooksTwice_thenRenderRowsOnceUntilInvalidated() throws Exception {
+        //Given
+        when(bookService.findAll()).thenReturn(List.of(bookDto));
+
+        //When
+        mockMvc.perform(get("/books")).andExpect(status().isOk());
+        mockMvc.perform(get("/books"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("bookRows", containsString("Test_Book")));
+        listViewVersions.invalidate(ListView.BOOKS);
+        mockMvc.perform(get("/books")).andExpect(status().isOk());
+
+        //Then
+        verify(bookService, times(2)).findAll();
+    }
+
     @DisplayName("должен отображать детали книги по существующему ID")
     @Test
     void whenGetBookById_thenReturnsBookView() throws Exception {
@@ -127,6 +162,10 @@ class BookControllerTest {
         when(commentService.findByBookId(PRESENT_ID)).thenReturn(comments);
         when(authorService.findAll()).thenReturn(authors);
         when(genreService.findAll()).thenReturn(genres);
+        when(objectPermissionService.permissionsOf(any(), eq(ObjectKind.GENRE), eq(List.of(PRESENT_ID))))
+                .thenReturn(Map.of(PRESENT_ID, PermissionBitmap.NONE));
+        when(objectPermissionService.permissionsOf(any(), eq(ObjectKind.COMMENT), eq(List.of(PRESENT_ID))))
+                .thenReturn(Map.of(PRESENT_ID, PermissionBitmap.NONE));
 
         //Then
         mockMvc.perform(get("/books/{id}/details", PRESENT_ID))
@@ -134,6 +173,8 @@ class BookControllerTest {
                 .andExpect(view().name("book-view"))
                 .andExpect(model().attribute("book", bookDto))
                 .andExpect(model().attribute("comments", comments))
+                .andExpect(model().attribute("genrePermissions", Map.of(PRESENT_ID, PermissionBitmap.NONE)))
+                .andExpect(model().attribute("commentPermissions", Map.of(PRESENT_ID, PermissionBitmap.NONE)))
                 .andExpect(model().attribute("authors", authors))
                 .andExpect(model().attribute("genres", genres));
 
@@ -13,12 +13,18 @@ import ru.otus.hw.dto.BookDto;
 import ru.otus.hw.dto.CommentDto;
 import ru.otus.hw.services.BookService;
 import ru.otus.hw.services.CommentService;
+import ru.otus.hw.services.ObjectKind;
+import ru.otus.hw.services.ObjectPermissionService;
+import ru.otus.hw.services.PermissionBitmap;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -51,6 +57,9 @@ class CommentControllerTest {
     @MockitoBean
     private BookService bookService;
 
+    @MockitoBean
+    private ObjectPermissionService objectPermissionService;
+
     private BookDto testBookDto;
 
     @BeforeEach
@@ -67,6 +76,8 @@ class CommentControllerTest {
         //When
         when(bookService.findById(PRESENT_ID)).thenReturn(Optional.of(testBookDto));
         when(commentService.findByBookId(PRESENT_ID)).thenReturn(comments);
+        when(objectPermissionService.permissionsOf(any(), eq(ObjectKind.COMMENT), eq(List.of(PRESENT_ID))))
+                .thenReturn(Map.of(PRESENT_ID, PermissionBitmap.NONE));
 
         //Then
         mockMvc.perform(get("/books/{bookId}/comments", PRESENT_ID)
@@ -76,6 +87,7 @@ class CommentControllerTest {
                 .andExpect(model().attribute("id", PRESENT_ID))
                 .andExpect(model().attribute("bookTitle", "Book Title"))
                 .andExpect(model().attribute("comments", comments))
+                .andExpect(model().attribute("commentPermissions", Map.of(PRESENT_ID, PermissionBitmap.NONE)))
                 .andExpect(model().attribute("previousUrl", "/books"));
 
         verify(bookService, times(1)).findById(PRESENT_ID);
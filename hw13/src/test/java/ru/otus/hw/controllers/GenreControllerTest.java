@@ -1,22 +1,41 @@
 package ru.otus.hw.controllers;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.web.csrf.CsrfToken;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.otus.hw.dto.GenreDto;
 import ru.otus.hw.services.GenreService;
-
+import ru.otus.hw.services.ListView;
+import ru.otus.hw.services.ListViewVersions;
+import ru.otus.hw.services.ObjectKind;
+import ru.otus.hw.services.ObjectPermissionService;
+import ru.otus.hw.services.Permission;
+import ru.otus.hw.services.PermissionBitmap;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -24,23 +43,54 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @DisplayName("Контроллер для работы с жанрами")
 @WebMvcTest(GenreController.class)
+@Import({RenderedFragmentCache.class, ListViewVersions.class, SimpleMeterRegistry.class})
 @WithMockUser(username = "admin")
 class GenreControllerTest {
 
     private static final Long MISSING_ID = 42L;
     private static final Long PRESENT_ID = 1L;
+    private static final PermissionBitmap ALL_PERMISSIONS =
+            new PermissionBitmap(Permission.EDIT.mask() | Permission.DELETE.mask());
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ListViewVersions listViewVersions;
+
     @MockitoBean
     private GenreService genreService;
 
+    @MockitoBean
+    private ObjectPermissionService objectPermissionService;
+
     private GenreDto testGenreDto;
 
     @BeforeEach
     void setUp() {
+        listViewVersions.invalidate(ListView.values());
         testGenreDto = new GenreDto(PRESENT_ID, "Fantasy");
+        when(objectPermissionService.ownershipVariant(any(), eq(ObjectKind.GENRE))).thenReturn("");
+        when(objectPermissionService.permissionsOf(any(), eq(ObjectKind.GENRE), anyCollection()))
+                .thenAnswer(invocation -> permissionsOf(invocation.getArgument(2), ALL_PERMISSIONS));
+    }
+
+    @DisplayName("должен скрывать кнопки редактирования и удаления в строках без прав")
+    @Test
+    void whenGetAllGenresWithoutPermissions_thenRowsHaveNoActions() throws Exception {
+        //Given
+        when(genreService.findAll()).thenReturn(List.of(testGenreDto));
+        when(objectPermissionService.permissionsOf(any(), eq(ObjectKind.GENRE), anyCollection()))
+                .thenAnswer(invocation -> permissionsOf(invocation.getArgument(2), PermissionBitmap.NONE));
+
+        //When
+        MvcResult result = mockMvc.perform(get("/genres")).andExpect(status().isOk()).andReturn();
+
+        //Then
+        assertThat(result.getResponse().getContentAsString())
+                .contains("Fantasy")
+                .doesNotContain("/genres/1/edit")
+                .doesNotContain("/genres/1/delete");
     }
 
     @DisplayName("должен отображать список всех жанров")
@@ -57,12 +107,32 @@ class GenreControllerTest {
                         .header("Referer", "/books"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("genres"))
-                .andExpect(model().attribute("genres", genres))
+                .andExpect(model().attribute("genreRows", containsString("Science Fiction")))
                 .andExpect(model().attribute("previousUrl", "/books"));
 
         verify(genreService, times(1)).findAll();
     }
 
+    @DisplayName("должен подставлять CSRF токен текущего запроса в закэшированные формы удаления")
+    @Test
+    void whenGetAllGenresTwice_thenEachResponseContainsItsOwnCsrfToken() throws Exception {
+        //Given
+        when(genreService.findAll()).thenReturn(List.of(testGenreDto));
+
+        //When
+        MvcResult first = mockMvc.perform(get("/genres")).andExpect(status().isOk()).andReturn();
+        MvcResult second = mockMvc.perform(get("/genres")).andExpect(status().isOk()).andReturn();
+
+        //Then
+        verify(genreService, times(1)).findAll();
+        for (MvcResult result : List.of(first, second)) {
+            CsrfToken token = (CsrfToken) result.getRequest().getAttribute(CsrfToken.class.getName());
+            assertThat(result.getResponse().getContentAsString())
+                    .contains("value=\"%s\"".formatted(token.getToken()))
+                    .doesNotContain("__fragment_cache_csrf_token__");
+        }
+    }
+
     @DisplayName("должен отображать детали существующего жанра")
     @Test
     void whenGetExistingGenreById_thenReturnsGenreView() throws Exception {
@@ -256,4 +326,8 @@ class GenreControllerTest {
 
         verify(genreService, times(1)).deleteById(PRESENT_ID);
     }
-}
\ No newline at end of file
+
+    private static Map<Long, PermissionBitmap> permissionsOf(Collection<Long> ids, PermissionBitmap bitmap) {
+        return ids.stream().collect(Collectors.toMap(Function.identity(), id -> bitmap));
+    }
+}
@@ -9,15 +9,19 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.repositories.UserRepository;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
@@ -25,6 +29,7 @@ import static org.springframework.security.test.web.servlet.response.SecurityMoc
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -42,6 +47,9 @@ class SecurityIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private UserRepository userRepository;
+
     private Map<String, String> genreFormData;
     private Map<String, String> authorFormData;
     private Map<String, String> bookFormData;
@@ -106,6 +114,18 @@ class SecurityIntegrationTest {
                 .andExpect(authenticated());
     }
 
+    @DisplayName("должен перезаписывать хэш пароля без префикса алгоритма после успешного входа")
+    @Test
+    void whenLoginWithLegacyHash_thenPasswordRehashedWithAlgorithmPrefix() throws Exception {
+        mockMvc.perform(formLogin("/login")
+                        .user(TEST_USERNAME)
+                        .password(TEST_PASSWORD))
+                .andExpect(authenticated());
+
+        assertThat(userRepository.findByUsername(TEST_USERNAME))
+                .hasValueSatisfying(user -> assertThat(user.getPassword()).startsWith("{bcrypt}$2a$12$"));
+    }
+
     @DisplayName("должен отображать ошибку при попытке аутентификации с неправильными учетными данными")
     @Test
     void whenLoginWithIncorrectCredentials_thenShowsError() throws Exception {
@@ -134,6 +154,21 @@ class SecurityIntegrationTest {
                 .andExpect(unauthenticated());
     }
 
+    @DisplayName("должен отдавать статические файлы и проверку состояния без сессии, но с заголовками безопасности")
+    @Test
+    void whenRequestStaticResourceAndHealth_thenNoSessionButSecurityHeaders() throws Exception {
+        MvcResult favicon = mockMvc.perform(get("/favicon.ico"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andReturn();
+        MvcResult health = mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(favicon.getRequest().getSession(false)).isNull();
+        assertThat(health.getRequest().getSession(false)).isNull();
+    }
+
     @DisplayName("READER должен иметь доступ к чтению и добавлению комментариев")
     @WithMockUser(username = "reader", roles = {"READER"})
     @MethodSource("readerAllowedUrls")
@@ -185,6 +220,24 @@ class SecurityIntegrationTest {
         }
     }
 
+    @DisplayName("READER должен иметь доступ к редактированию своего комментария")
+    @WithMockUser(username = "admin", roles = {"READER"})
+    @Test
+    void whenReaderEditsOwnComment_thenReturnsEditView() throws Exception {
+        mockMvc.perform(get("/books/1/comments/1/edit").header(HttpHeaders.REFERER, "/books/1/comments"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("comment-upsert"));
+    }
+
+    @DisplayName("READER должен перенаправляться при попытке редактировать чужой комментарий")
+    @WithMockUser(username = "reader", roles = {"READER"})
+    @Test
+    void whenReaderEditsForeignComment_thenRedirected() throws Exception {
+        mockMvc.perform(get("/books/1/comments/1/edit"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/access-denied"));
+    }
+
     @DisplayName("AUTHOR должен иметь доступ к созданию и редактированию контента")
     @WithMockUser(username = "author", roles = {"AUTHOR"})
     @MethodSource("authorAllowedUrls")
@@ -0,0 +1,61 @@
+package ru.otus.hw.services;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.otus.hw.dto.AuthorDto;
+import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Genre;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Сервис проверки ссылок книги на автора и жанры")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(BookReferenceServiceImpl.class)
+class BookReferenceServiceImplTest {
+
+    @Autowired
+    private BookReferenceService bookReferenceService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @DisplayName("должен проверять автора и жанры нескольких книг одним запросом на таблицу, не загружая сущности")
+    @Test
+    void whenPrefetchManyWrites_thenResolveEachWriteWithoutLoadingEntities() {
+        //Given
+        Statistics statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        BookReferenceResolver resolver = bookReferenceService.newResolver()
+                .prefetch(List.of(1L, 2L, 1L), List.of(1L, 2L, 3L));
+
+        //When
+        BookReferences first = resolver.resolve(1L, Set.of(1L, 2L));
+        BookReferences second = resolver.resolve(1L, Set.of(2L, 3L));
+
+        //Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(second.author()).isSameAs(first.author()).matches(author -> !Hibernate.isInitialized(author));
+        assertThat(first.genres()).extracting(Genre::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(second.genres()).extracting(Genre::getId)
+                .containsExactlyElementsOf(second.genreDtos().stream().map(GenreDto::id).toList())
+                .containsExactlyInAnyOrder(2L, 3L);
+        assertThat(second.genres()).noneMatch(Hibernate::isInitialized);
+        assertThat(second.authorDto())
+                .isEqualTo(new AuthorDto(1L, testEntityManager.find(Author.class, 1L).getFullName()));
+        assertThat(second.genreDtos()).allSatisfy(genre ->
+                assertThat(genre.name()).isEqualTo(testEntityManager.find(Genre.class, genre.id()).getName()));
+    }
+}
@@ -0,0 +1,126 @@
+package ru.otus.hw.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.context.transaction.TestTransaction;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Comment;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Сервис объектных прав доступа")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ObjectPermissionServiceImpl.class, ObjectOwnershipInvalidator.class, SimpleMeterRegistry.class})
+class ObjectPermissionServiceImplTest {
+
+    private static final Authentication READER = authentication("reader", "ROLE_READER");
+
+    private static final Authentication AUTHOR = authentication("author", "ROLE_AUTHOR");
+
+    private static final Authentication ADMIN = authentication("admin", "ROLE_ADMIN", "ROLE_READER");
+
+    @Autowired
+    private ObjectPermissionService objectPermissionService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @DisplayName("должен давать владельцу право редактирования своих строк, проверяя страницу одним запросом")
+    @Test
+    void whenEvaluatePageAsOwner_thenOwnRowsEditableInOneStatement() {
+        //Given
+        Long ownId = persistCommentOf("reader");
+        List<Long> page = List.of(1L, 2L, ownId);
+        statistics.clear();
+
+        //When
+        Map<Long, PermissionBitmap> first = objectPermissionService.permissionsOf(READER, ObjectKind.COMMENT, page);
+        Map<Long, PermissionBitmap> second = objectPermissionService.permissionsOf(READER, ObjectKind.COMMENT, page);
+
+        //Then
+        assertThat(first).isEqualTo(second);
+        assertThat(first.get(ownId).canEdit()).isTrue();
+        assertThat(first.get(ownId).canDelete()).isFalse();
+        assertThat(first.get(1L)).isEqualTo(PermissionBitmap.NONE);
+        assertThat(first.get(2L)).isEqualTo(PermissionBitmap.NONE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(objectPermissionService.ownershipVariant(READER, ObjectKind.COMMENT)).isEqualTo("reader");
+        assertThat(objectPermissionService.ownershipVariant(READER, ObjectKind.GENRE)).isEmpty();
+    }
+
+    @DisplayName("должен выдавать права по ролям без запросов к базе")
+    @Test
+    void whenEvaluatePageByRoles_thenNoStatements() {
+        //Given
+        statistics.clear();
+
+        //When
+        Map<Long, PermissionBitmap> admin = objectPermissionService.permissionsOf(ADMIN, ObjectKind.GENRE,
+                List.of(1L, 2L));
+        boolean authorMayEdit = objectPermissionService.hasPermission(AUTHOR, ObjectKind.GENRE, 1L, Permission.EDIT);
+        boolean authorMayDelete = objectPermissionService.hasPermission(AUTHOR, ObjectKind.GENRE, 1L,
+                Permission.DELETE);
+
+        //Then
+        assertThat(admin.values()).allSatisfy(bitmap -> {
+            assertThat(bitmap.canEdit()).isTrue();
+            assertThat(bitmap.canDelete()).isTrue();
+        });
+        assertThat(authorMayEdit).isTrue();
+        assertThat(authorMayDelete).isFalse();
+        assertThat(objectPermissionService.ownershipVariant(AUTHOR, ObjectKind.GENRE)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @DisplayName("должен перечитывать владение после завершения транзакции с новой записью")
+    @Test
+    void whenCommentInserted_thenOwnershipReloadedAfterTransaction() {
+        //Given
+        assertThat(objectPermissionService.hasPermission(READER, ObjectKind.COMMENT, 1L, Permission.EDIT)).isFalse();
+        persistCommentOf("reader");
+        statistics.clear();
+
+        //When
+        objectPermissionService.hasPermission(READER, ObjectKind.COMMENT, 1L, Permission.EDIT);
+        long beforeCommit = statistics.getPrepareStatementCount();
+        TestTransaction.end();
+        objectPermissionService.hasPermission(READER, ObjectKind.COMMENT, 1L, Permission.EDIT);
+
+        //Then
+        assertThat(beforeCommit).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Long persistCommentOf(String username) {
+        Comment comment = new Comment("Own comment", testEntityManager.find(Book.class, 1L));
+        comment.setCreatedBy(username);
+        return testEntityManager.persistAndFlush(comment).getId();
+    }
+
+    private static Authentication authentication(String username, String... authorities) {
+        return UsernamePasswordAuthenticationToken.authenticated(username, null,
+                AuthorityUtils.createAuthorityList(authorities));
+    }
+}
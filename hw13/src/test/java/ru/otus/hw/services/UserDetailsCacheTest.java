@@ -0,0 +1,168 @@
+package ru.otus.hw.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Кэш данных пользователей для аутентификации")
+class UserDetailsCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<String, UserDetails> loader = username -> {
+        loads.incrementAndGet();
+        return User.withUsername(username).password("password").roles("READER").build();
+    };
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserDetailsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserDetailsCache(2, TTL, nanoTime::get, meterRegistry);
+    }
+
+    @DisplayName("должен загружать пользователя из базы только при первом обращении")
+    @Test
+    void whenGetSameUserTwice_thenLoadOnce() {
+        //When
+        UserDetails first = cache.get("admin", loader);
+        UserDetails second = cache.get("admin", loader);
+
+        //Then
+        assertThat(loads).hasValue(1);
+        assertThat(second.getUsername()).isEqualTo(first.getUsername());
+        assertThat(second.getAuthorities()).isEqualTo(first.getAuthorities());
+        assertThat(meterRegistry.get("library.user.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("library.user.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("должен отдавать копию, пароль которой не стирается вместе с паролем выданного пользователя")
+    @Test
+    void whenCredentialsOfReturnedUserErased_thenCachedPasswordKept() {
+        //Given
+        UserDetails first = cache.get("admin", loader);
+        ((CredentialsContainer) first).eraseCredentials();
+        UserDetails second = cache.get("admin", loader);
+
+        //When
+        ((CredentialsContainer) second).eraseCredentials();
+
+        //Then
+        assertThat(cache.get("admin", loader).getPassword()).isEqualTo("password");
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("должен заново загружать пользователя по истечении времени жизни записи")
+    @Test
+    void whenTtlExpired_thenReload() {
+        //Given
+        cache.get("admin", loader);
+
+        //When
+        nanoTime.addAndGet(TTL.toNanos() - 1);
+        cache.get("admin", loader);
+        nanoTime.addAndGet(1);
+        cache.get("admin", loader);
+
+        //Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("должен вытеснять давно не использованного пользователя при превышении размера")
+    @Test
+    void whenMaxSizeExceeded_thenEvictLeastRecentlyUsed() {
+        //Given
+        cache.get("admin", loader);
+        cache.get("reader1", loader);
+        cache.get("admin", loader);
+
+        //When
+        cache.get("librarian1", loader);
+        cache.get("admin", loader);
+        cache.get("reader1", loader);
+
+        //Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(loads).hasValue(4);
+    }
+
+    @DisplayName("должен загружать пользователя при каждом обращении, если размер кэша нулевой")
+    @Test
+    void whenMaxSizeZero_thenLoadEveryTime() {
+        //Given
+        UserDetailsCache disabled = new UserDetailsCache(0, TTL, nanoTime::get, meterRegistry);
+
+        //When
+        disabled.get("admin", loader);
+        disabled.get("admin", loader);
+
+        //Then
+        assertThat(loads).hasValue(2);
+        assertThat(disabled.size()).isZero();
+    }
+
+    @DisplayName("должен очищаться при изменении пользователей вне транзакции")
+    @Test
+    void whenInvalidateAllOutsideTransaction_thenClearAtOnce() {
+        //Given
+        cache.get("admin", loader);
+
+        //When
+        cache.invalidateAll();
+        cache.get("admin", loader);
+
+        //Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("не должен сохранять пользователя, загрузка которого началась до очистки кэша")
+    @Test
+    void whenInvalidatedDuringLoad_thenDoNotCacheLoadedUser() {
+        //Given
+        Function<String, UserDetails> racingLoader = username -> {
+            UserDetails user = loader.apply(username);
+            cache.invalidateAll();
+            return user;
+        };
+
+        //When
+        UserDetails user = cache.get("admin", racingLoader);
+
+        //Then
+        assertThat(user.getUsername()).isEqualTo("admin");
+        assertThat(cache.size()).isZero();
+    }
+
+    @DisplayName("не должен сохранять отсутствующего пользователя")
+    @Test
+    void whenLoaderThrows_thenNothingCached() {
+        //Given
+        Function<String, UserDetails> missing = username -> {
+            throw new UsernameNotFoundException(username);
+        };
+
+        //Then
+        assertThatThrownBy(() -> cache.get("ghost", missing)).isInstanceOf(UsernameNotFoundException.class);
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,4 @@
+create index if not exists ix_authors_created_by on authors (created_by, id);
+create index if not exists ix_books_created_by on books (created_by, id);
+create index if not exists ix_genres_created_by on genres (created_by, id);
+create index if not exists ix_comments_created_by on comments (created_by, id);
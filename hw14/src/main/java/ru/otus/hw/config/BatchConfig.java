@@ -4,13 +4,19 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
+import ru.otus.hw.listeners.PartitionThroughputListener;
 import ru.otus.hw.models.h2.Author;
 import ru.otus.hw.models.h2.Book;
 import ru.otus.hw.models.h2.Comment;
@@ -19,6 +25,7 @@ import ru.otus.hw.models.mongo.AuthorDocument;
 import ru.otus.hw.models.mongo.BookDocument;
 import ru.otus.hw.models.mongo.CommentDocument;
 import ru.otus.hw.models.mongo.GenreDocument;
+import ru.otus.hw.partitioners.IdRangePartitioner;
 import ru.otus.hw.processors.AuthorProcessor;
 import ru.otus.hw.processors.BookProcessor;
 import ru.otus.hw.processors.CommentProcessor;
@@ -27,11 +34,21 @@ import ru.otus.hw.readers.AuthorReader;
 import ru.otus.hw.readers.BookReader;
 import ru.otus.hw.readers.CommentReader;
 import ru.otus.hw.readers.GenreReader;
+import ru.otus.hw.readers.KeysetPagingReader;
 import ru.otus.hw.writers.AuthorWriter;
 import ru.otus.hw.writers.BookWriter;
 import ru.otus.hw.writers.CommentWriter;
 import ru.otus.hw.writers.GenreWriter;
 
+import javax.sql.DataSource;
+
+/**
+ * The migration job: authors, genres, comments and books, one step each. With {@code batch.partition.enabled}
+ * every step is partitioned: its table's id range is split into {@code batch.partition.grid-size} slices,
+ * and each slice is read, processed and written by a worker step of its own on the migration thread pool.
+ * Otherwise the steps read their whole tables on the job's thread. Either way the tables are read by keyset
+ * paging, see {@link ru.otus.hw.readers.KeysetPagingReader}.
+ */
 @Configuration
 @EnableBatchProcessing
 @RequiredArgsConstructor
@@ -41,6 +58,10 @@ public class BatchConfig {
 
     private final PlatformTransactionManager transactionManager;
 
+    private final DataSource dataSource;
+
+    private final JdbcTemplate jdbcTemplate;
+
     private final AuthorReader authorReader;
 
     private final GenreReader genreReader;
@@ -65,8 +86,23 @@ public class BatchConfig {
 
     private final CommentWriter commentWriter;
 
+    @Value("${batch.partition.enabled:true}")
+    private boolean partitioned;
+
+    @Value("${batch.partition.grid-size:4}")
+    private int gridSize;
+
     @Bean
     public Job migrateDataJob() {
+        if (partitioned) {
+            return new JobBuilder("migrateDataJob", jobRepository)
+                    .incrementer(new RunIdIncrementer())
+                    .start(migrateAuthorsPartitionedStep())
+                    .next(migrateGenresPartitionedStep())
+                    .next(migrateCommentsPartitionedStep())
+                    .next(migrateBooksPartitionedStep())
+                    .build();
+        }
         return new JobBuilder("migrateDataJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .start(migrateAuthorsStep())
@@ -115,4 +151,122 @@ public class BatchConfig {
                 .writer(bookWriter)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public Step migrateAuthorsPartitionedStep() {
+        return partitioned("migrateAuthorsPartitionedStep", "authors", migrateAuthorsPartitionStep());
+    }
+
+    @Bean
+    public Step migrateAuthorsPartitionStep() {
+        return new StepBuilder("migrateAuthorsPartitionStep", jobRepository)
+                .<Author, AuthorDocument>chunk(100, transactionManager)
+                .reader(authorPartitionReader(null, null))
+                .processor(authorProcessor)
+                .writer(authorWriter)
+                .listener(new PartitionThroughputListener())
+                .build();
+    }
+
+    @Bean
+    public Step migrateGenresPartitionedStep() {
+        return partitioned("migrateGenresPartitionedStep", "genres", migrateGenresPartitionStep());
+    }
+
+    @Bean
+    public Step migrateGenresPartitionStep() {
+        return new StepBuilder("migrateGenresPartitionStep", jobRepository)
+                .<Genre, GenreDocument>chunk(100, transactionManager)
+                .reader(genrePartitionReader(null, null))
+                .processor(genreProcessor)
+                .writer(genreWriter)
+                .listener(new PartitionThroughputListener())
+                .build();
+    }
+
+    @Bean
+    public Step migrateCommentsPartitionedStep() {
+        return partitioned("migrateCommentsPartitionedStep", "comments", migrateCommentsPartitionStep());
+    }
+
+    @Bean
+    public Step migrateCommentsPartitionStep() {
+        return new StepBuilder("migrateCommentsPartitionStep", jobRepository)
+                .<Comment, CommentDocument>chunk(200, transactionManager)
+                .reader(commentPartitionReader(null, null))
+                .processor(commentProcessor)
+                .writer(commentWriter)
+                .listener(new PartitionThroughputListener())
+                .build();
+    }
+
+    @Bean
+    public Step migrateBooksPartitionedStep() {
+        return partitioned("migrateBooksPartitionedStep", "books", migrateBooksPartitionStep());
+    }
+
+    @Bean
+    public Step migrateBooksPartitionStep() {
+        return new StepBuilder("migrateBooksPartitionStep", jobRepository)
+                .<Book, BookDocument>chunk(50, transactionManager)
+                .reader(bookPartitionReader(null, null))
+                .processor(bookProcessor)
+                .writer(bookWriter)
+                .listener(new PartitionThroughputListener())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public KeysetPagingReader<Author> authorPartitionReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return new AuthorReader(dataSource, minId, maxId);
+    }
+
+    @Bean
+    @StepScope
+    public KeysetPagingReader<Genre> genrePartitionReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return new GenreReader(dataSource, minId, maxId);
+    }
+
+    @Bean
+    @StepScope
+    public KeysetPagingReader<Comment> commentPartitionReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return new CommentReader(dataSource, minId, maxId);
+    }
+
+    @Bean
+    @StepScope
+    public KeysetPagingReader<Book> bookPartitionReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return new BookReader(dataSource, minId, maxId);
+    }
+
+    /**
+     * Runs the partitions of the migration steps, one thread per partition of a step.
+     */
+    @Bean
+    public TaskExecutor migrationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize);
+        executor.setMaxPoolSize(gridSize);
+        executor.setThreadNamePrefix("migration-");
+        executor.initialize();
+        return executor;
+    }
+
+    private Step partitioned(String name, String table, Step workerStep) {
+        return new StepBuilder(name, jobRepository)
+                .partitioner(workerStep.getName(), new IdRangePartitioner(jdbcTemplate, table))
+                .step(workerStep)
+                .gridSize(gridSize)
+                .taskExecutor(migrationTaskExecutor())
+                .build();
+    }
+}
@@ -1,5 +1,8 @@
 package ru.otus.hw.config;
 
+import com.mongodb.WriteConcern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.auditing.DateTimeProvider;
@@ -19,6 +22,21 @@ public class MongoConfig {
         return () -> Optional.of(OffsetDateTime.now());
     }
 
+    /**
+     * The write concern of the migration, {@code batch.writer.write-concern.w} as a number of nodes or a mode
+     * such as {@code majority}, with or without waiting for the journal. The application only migrates, so it
+     * is set for the whole client, bulk writes included.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer migrationWriteConcernCustomizer(
+            @Value("${batch.writer.write-concern.w:1}") String w,
+            @Value("${batch.writer.write-concern.journal:false}") boolean journal) {
+        WriteConcern writeConcern = (w.chars().allMatch(Character::isDigit)
+                ? new WriteConcern(Integer.parseInt(w)) : new WriteConcern(w))
+                .withJournal(journal);
+        return settings -> settings.writeConcern(writeConcern);
+    }
+
     @Bean
     public MongoCustomConversions mongoCustomConversions() {
         return new MongoCustomConversions(Arrays.asList(
@@ -0,0 +1,38 @@
+package ru.otus.hw.listeners;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static ru.otus.hw.partitioners.IdRangePartitioner.MAX_ID;
+import static ru.otus.hw.partitioners.IdRangePartitioner.MIN_ID;
+
+/**
+ * Reports the throughput of each partition of a partitioned step: items written, elapsed time and items
+ * per second are logged, and the rate is kept in the partition's execution context as
+ * {@code itemsPerSecond}, next to the id range of the partition in the job repository.
+ */
+@Slf4j
+public class PartitionThroughputListener implements StepExecutionListener {
+
+    public static final String ITEMS_PER_SECOND = "itemsPerSecond";
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        LocalDateTime startTime = stepExecution.getStartTime();
+        long elapsedMillis = startTime == null ? 0 : Duration.between(startTime, LocalDateTime.now()).toMillis();
+        long written = stepExecution.getWriteCount();
+        double itemsPerSecond = written * 1000.0 / Math.max(1, elapsedMillis);
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.putDouble(ITEMS_PER_SECOND, itemsPerSecond);
+        log.info("{} (ids {}..{}): {} items in {} ms, {} items/s", stepExecution.getStepName(),
+                context.getLong(MIN_ID, 0), context.getLong(MAX_ID, 0), written, elapsedMillis,
+                Math.round(itemsPerSecond));
+        return stepExecution.getExitStatus();
+    }
+}
@@ -0,0 +1,59 @@
+package ru.otus.hw.partitioners;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Splits the id range of a table into {@code gridSize} consecutive slices of equal width, one partition each.
+ * The slice bounds are put into the partition's execution context as {@code minId} and {@code maxId},
+ * inclusive, for a step-scoped reader of the worker step. Ids come from sequences, so slices of equal width
+ * hold about the same number of rows.
+ */
+public class IdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+
+    public static final String MAX_ID = "maxId";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String table;
+
+    public IdRangePartitioner(JdbcTemplate jdbcTemplate, String table) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, Object> bounds = jdbcTemplate.queryForMap(
+                "select min(id) as min_id, max(id) as max_id from " + table);
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (bounds.get("min_id") == null) {
+            partitions.put(partitionName(0), range(1, 0));
+            return partitions;
+        }
+        long minId = ((Number) bounds.get("min_id")).longValue();
+        long maxId = ((Number) bounds.get("max_id")).longValue();
+        long width = (maxId - minId) / Math.max(1, gridSize) + 1;
+        for (long start = minId; start <= maxId; start += width) {
+            partitions.put(partitionName(partitions.size()), range(start, Math.min(start + width - 1, maxId)));
+        }
+        return partitions;
+    }
+
+    private String partitionName(int index) {
+        return table + "-partition" + index;
+    }
+
+    private static ExecutionContext range(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        return context;
+    }
+}
@@ -1,20 +1,29 @@
 package ru.otus.hw.readers;
 
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import ru.otus.hw.models.h2.Author;
-import ru.otus.hw.repositories.jpa.AuthorJpaRepository;
 
-import java.util.Map;
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 
 @Component
-public class AuthorReader extends RepositoryItemReader<Author> {
+public class AuthorReader extends KeysetPagingReader<Author> {
 
-    public AuthorReader(AuthorJpaRepository authorRepository) {
-        setRepository(authorRepository);
-        setMethodName("findAll");
-        setPageSize(100);
-        setSort(Map.of("id", Sort.Direction.ASC));
+    @Autowired
+    public AuthorReader(DataSource dataSource) {
+        this(dataSource, null, null);
     }
-}
\ No newline at end of file
+
+    public AuthorReader(DataSource dataSource, Long minId, Long maxId) {
+        super(dataSource, "authorReader", 100, "id, full_name, created, updated", "authors", "id",
+                minId, maxId, AuthorReader::mapAuthor);
+    }
+
+    private static Author mapAuthor(ResultSet rs, int rowNum) throws SQLException {
+        return new Author(rs.getLong("id"), rs.getString("full_name"),
+                rs.getObject("created", LocalDateTime.class), rs.getObject("updated", LocalDateTime.class));
+    }
+}
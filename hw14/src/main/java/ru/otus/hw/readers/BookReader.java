@@ -1,20 +1,72 @@
 package ru.otus.hw.readers;
 
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import ru.otus.hw.models.h2.Author;
 import ru.otus.hw.models.h2.Book;
-import ru.otus.hw.repositories.jpa.BookJpaRepository;
+import ru.otus.hw.models.h2.Comment;
+import ru.otus.hw.models.h2.Genre;
 
-import java.util.Map;
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Reads books with their author in one row each; genre ids and names and comment ids of a book are aggregated
+ * into arrays by subqueries, so there is no query per book and no join multiplying the rows. The columns of
+ * authors are renamed in a derived table: {@code id} stays unique and can be the unqualified sort key, which
+ * the reader looks up by name in every row.
+ */
 @Component
-public class BookReader extends RepositoryItemReader<Book> {
+public class BookReader extends KeysetPagingReader<Book> {
 
-    public BookReader(BookJpaRepository bookRepository) {
-        setRepository(bookRepository);
-        setMethodName("findAll");
-        setPageSize(50);
-        setSort(Map.of("id", Sort.Direction.ASC));
+    private static final String SELECT_CLAUSE = """
+            b.id, b.title, b.created, b.updated, b.author_id, a.author_full_name, a.author_created, a.author_updated,
+            (select array_agg(g.id order by g.id) from books_genres bg join genres g on g.id = bg.genre_id
+             where bg.book_id = b.id) as genre_ids,
+            (select array_agg(g.name order by g.id) from books_genres bg join genres g on g.id = bg.genre_id
+             where bg.book_id = b.id) as genre_names,
+            (select array_agg(c.id order by c.id) from comments c where c.book_id = b.id) as comment_ids""";
+
+    private static final String FROM_CLAUSE = """
+            books b join (select id as author_key, full_name as author_full_name, created as author_created,
+                                 updated as author_updated from authors) a on a.author_key = b.author_id""";
+
+    @Autowired
+    public BookReader(DataSource dataSource) {
+        this(dataSource, null, null);
+    }
+
+    public BookReader(DataSource dataSource, Long minId, Long maxId) {
+        super(dataSource, "bookReader", 50, SELECT_CLAUSE, FROM_CLAUSE, "id",
+                minId, maxId, BookReader::mapBook);
+    }
+
+    private static Book mapBook(ResultSet rs, int rowNum) throws SQLException {
+        Author author = new Author(rs.getLong("author_id"), rs.getString("author_full_name"),
+                rs.getObject("author_created", LocalDateTime.class),
+                rs.getObject("author_updated", LocalDateTime.class));
+        Object[] genreIds = elements(rs.getArray("genre_ids"));
+        Object[] genreNames = elements(rs.getArray("genre_names"));
+        List<Genre> genres = new ArrayList<>(genreIds.length);
+        for (int i = 0; i < genreIds.length; i++) {
+            genres.add(new Genre(((Number) genreIds[i]).longValue(), (String) genreNames[i]));
+        }
+        List<Comment> comments = new ArrayList<>();
+        for (Object commentId : elements(rs.getArray("comment_ids"))) {
+            comments.add(new Comment(((Number) commentId).longValue(), null, null));
+        }
+        Book book = new Book(rs.getLong("id"), rs.getString("title"), author, genres, comments);
+        book.setCreated(rs.getObject("created", LocalDateTime.class));
+        book.setUpdated(rs.getObject("updated", LocalDateTime.class));
+        return book;
+    }
+
+    private static Object[] elements(Array array) throws SQLException {
+        return array == null ? new Object[0] : (Object[]) array.getArray();
     }
-}
\ No newline at end of file
+}
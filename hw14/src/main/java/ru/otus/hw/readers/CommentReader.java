@@ -1,20 +1,32 @@
 package ru.otus.hw.readers;
 
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import ru.otus.hw.models.h2.Book;
 import ru.otus.hw.models.h2.Comment;
-import ru.otus.hw.repositories.jpa.CommentJpaRepository;
 
-import java.util.Map;
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 
 @Component
-public class CommentReader extends RepositoryItemReader<Comment> {
+public class CommentReader extends KeysetPagingReader<Comment> {
 
-    public CommentReader(CommentJpaRepository commentRepository) {
-        setRepository(commentRepository);
-        setMethodName("findAll");
-        setPageSize(200);
-        setSort(Map.of("id", Sort.Direction.ASC));
+    @Autowired
+    public CommentReader(DataSource dataSource) {
+        this(dataSource, null, null);
+    }
+
+    public CommentReader(DataSource dataSource, Long minId, Long maxId) {
+        super(dataSource, "commentReader", 200, "id, text, book_id, created, updated", "comments", "id",
+                minId, maxId, CommentReader::mapComment);
+    }
+
+    private static Comment mapComment(ResultSet rs, int rowNum) throws SQLException {
+        Book book = new Book();
+        book.setId(rs.getLong("book_id"));
+        return new Comment(rs.getLong("id"), rs.getString("text"), book,
+                rs.getObject("created", LocalDateTime.class), rs.getObject("updated", LocalDateTime.class));
     }
 }
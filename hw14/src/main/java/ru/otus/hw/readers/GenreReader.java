@@ -1,20 +1,29 @@
 package ru.otus.hw.readers;
 
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import ru.otus.hw.models.h2.Genre;
-import ru.otus.hw.repositories.jpa.GenreJpaRepository;
 
-import java.util.Map;
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 
 @Component
-public class GenreReader extends RepositoryItemReader<Genre> {
+public class GenreReader extends KeysetPagingReader<Genre> {
 
-    public GenreReader(GenreJpaRepository genreRepository) {
-        setRepository(genreRepository);
-        setMethodName("findAll");
-        setPageSize(100);
-        setSort(Map.of("id", Sort.Direction.ASC));
+    @Autowired
+    public GenreReader(DataSource dataSource) {
+        this(dataSource, null, null);
+    }
+
+    public GenreReader(DataSource dataSource, Long minId, Long maxId) {
+        super(dataSource, "genreReader", 100, "id, name, created, updated", "genres", "id",
+                minId, maxId, GenreReader::mapGenre);
+    }
+
+    private static Genre mapGenre(ResultSet rs, int rowNum) throws SQLException {
+        return new Genre(rs.getLong("id"), rs.getString("name"),
+                rs.getObject("created", LocalDateTime.class), rs.getObject("updated", LocalDateTime.class));
     }
 }
@@ -0,0 +1,47 @@
+package ru.otus.hw.readers;
+
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.support.H2PagingQueryProvider;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Reads a table page by page in the order of its id, each page starting after the last id of the previous one
+ * ({@code where id > :_id order by id fetch first n rows only}), so every page costs the same whatever its
+ * position in the table, unlike {@code offset} paging. With an id range only the rows with ids in
+ * {@code [minId, maxId]} are read, for a partition of a partitioned step.
+ */
+public abstract class KeysetPagingReader<T> extends JdbcPagingItemReader<T> {
+
+    private final DataSource dataSource;
+
+    private final H2PagingQueryProvider queryProvider = new H2PagingQueryProvider();
+
+    protected KeysetPagingReader(DataSource dataSource, String name, int pageSize,
+                                 String selectClause, String fromClause, String idColumn,
+                                 Long minId, Long maxId, RowMapper<T> rowMapper) {
+        this.dataSource = dataSource;
+        queryProvider.setSelectClause(selectClause);
+        queryProvider.setFromClause(fromClause);
+        queryProvider.setSortKeys(Map.of(idColumn, Order.ASCENDING));
+        if (minId != null && maxId != null) {
+            queryProvider.setWhereClause(idColumn + " between :minId and :maxId");
+            setParameterValues(Map.of("minId", minId, "maxId", maxId));
+        }
+        setName(name);
+        setDataSource(dataSource);
+        setQueryProvider(queryProvider);
+        setPageSize(pageSize);
+        setFetchSize(pageSize);
+        setRowMapper(rowMapper);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        queryProvider.init(dataSource);
+        super.afterPropertiesSet();
+    }
+}
@@ -1,78 +1,39 @@
 package ru.otus.hw.writers;
 
-import lombok.Getter;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.item.Chunk;
-import org.springframework.batch.item.ItemWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Component;
 import ru.otus.hw.models.mongo.BookDocument;
-import ru.otus.hw.repositories.mongo.BookMongoRepository;
 
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.time.OffsetDateTime;
 
-@Slf4j
-@Getter
 @Component
-public class BookWriter implements ItemWriter<BookDocument>, AutoCloseable {
+public class BookWriter extends MongoBulkWriter<BookDocument> {
 
-    private final BookMongoRepository bookRepository;
-
-    private final ExecutorService executorService;
-
-    public BookWriter(BookMongoRepository bookRepository,
-                      @Value("${batch.writer.threads:4}") int threadCount) {
-        this.bookRepository = bookRepository;
-        this.executorService = Executors.newFixedThreadPool(threadCount,
-                r -> {
-                    Thread t = new Thread(r, "book-writer-" + r.hashCode());
-                    t.setDaemon(false);
-                    return t;
-                }
-        );
+    @Autowired
+    public BookWriter(MongoTemplate mongoTemplate, @Value("${batch.writer.upsert:false}") boolean upsert) {
+        this(mongoTemplate, upsert, Metrics.globalRegistry);
     }
 
-    @Override
-    public void write(Chunk<? extends BookDocument> chunk) throws Exception {
-        List<? extends BookDocument> items = chunk.getItems();
-        if (items.isEmpty()) {
-            return;
-        }
-        log.debug("Writing {} books to MongoDB", items.size());
-        int batchSize = 50;
-        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-            try {
-                for (int i = 0; i < items.size(); i += batchSize) {
-                    int endIndex = Math.min(i + batchSize, items.size());
-                    List<? extends BookDocument> batch = items.subList(i, endIndex);
-                    bookRepository.saveAll(batch);
-                    log.debug("Written batch of {} books to MongoDB", batch.size());
-                }
-                log.debug("Successfully written {} books to MongoDB", items.size());
-            } catch (Exception e) {
-                log.error("Error writing books to MongoDB", e);
-                throw new RuntimeException(e);
-            }
-        }, executorService);
-        future.get(30, TimeUnit.SECONDS);
+    public BookWriter(MongoTemplate mongoTemplate, boolean upsert, MeterRegistry meterRegistry) {
+        super(mongoTemplate, "books", "title", upsert, meterRegistry);
     }
 
     @Override
-    public void close() {
-        if (executorService != null && !executorService.isShutdown()) {
-            executorService.shutdown();
-            try {
-                if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
-                    executorService.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                executorService.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
+    protected Document toDocument(BookDocument book, OffsetDateTime now) {
+        Document document = auditedDocument(BookDocument.class, book.getId(), book.getCreated(),
+                book.getVersion(), now);
+        document.put("title", book.getTitle());
+        if (book.getAuthor() != null) {
+            document.put("author", objectId(book.getAuthor().getId()));
+        }
+        if (book.getGenres() != null) {
+            document.put("genres", book.getGenres().stream().map(genre -> objectId(genre.getId())).toList());
         }
+        return document;
     }
-}
\ No newline at end of file
+}
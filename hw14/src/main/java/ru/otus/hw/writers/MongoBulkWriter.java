@@ -0,0 +1,117 @@
+package ru.otus.hw.writers;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import ru.otus.hw.config.MongoOffsetDateTimeWriter;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Writes a chunk to MongoDB with one unordered bulk write of documents built by the writer itself, without the
+ * mapping, version checks and lifecycle events of a repository save. Inserts by default; with {@code upsert}
+ * every document replaces the one with the same unique key, so a restarted step can write its chunks again.
+ * The latency of every bulk write is recorded in the {@code migration.mongo.bulk} timer and the number of
+ * documents in the {@code migration.mongo.documents} counter, whose rate is the documents per second; both
+ * are tagged with the collection and logged at debug level.
+ */
+@Slf4j
+public abstract class MongoBulkWriter<T> implements ItemWriter<T> {
+
+    private static final MongoOffsetDateTimeWriter DATE_TIME_WRITER = new MongoOffsetDateTimeWriter();
+
+    private final MongoTemplate mongoTemplate;
+
+    private final String collection;
+
+    private final String keyField;
+
+    private final boolean upsert;
+
+    private final Timer bulkTimer;
+
+    private final Counter documentCounter;
+
+    protected MongoBulkWriter(MongoTemplate mongoTemplate, String collection, String keyField, boolean upsert,
+                              MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.collection = collection;
+        this.keyField = keyField;
+        this.upsert = upsert;
+        this.bulkTimer = Timer.builder("migration.mongo.bulk")
+                .description("Latency of a bulk write of a migration chunk")
+                .tag("collection", collection)
+                .register(meterRegistry);
+        this.documentCounter = Counter.builder("migration.mongo.documents")
+                .description("Documents written by the migration")
+                .baseUnit("documents")
+                .tag("collection", collection)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) {
+        List<? extends T> items = chunk.getItems();
+        if (items.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Document> documents = new ArrayList<>(items.size());
+        for (T item : items) {
+            documents.add(toDocument(item, now));
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, collection);
+        if (upsert) {
+            FindAndReplaceOptions options = FindAndReplaceOptions.options().upsert();
+            documents.forEach(document -> bulkOperations.replaceOne(
+                    Query.query(where(keyField).is(document.get(keyField))), document, options));
+        } else {
+            bulkOperations.insert(documents);
+        }
+        long start = System.nanoTime();
+        bulkOperations.execute();
+        long nanos = Math.max(1, System.nanoTime() - start);
+        bulkTimer.record(nanos, TimeUnit.NANOSECONDS);
+        documentCounter.increment(documents.size());
+        log.debug("Bulk write of {} documents to {} in {} ms ({} documents/s)", documents.size(), collection,
+                nanos / 1_000_000, Math.round(documents.size() * 1e9 / nanos));
+    }
+
+    /**
+     * Builds the document of an item as the repository would save a new one: the class hint, the fields of the
+     * item, the creation and modification times of auditing and the initial version.
+     */
+    protected abstract Document toDocument(T item, OffsetDateTime now);
+
+    protected static Document auditedDocument(Class<?> type, String id, OffsetDateTime created, Long version,
+                                              OffsetDateTime now) {
+        Document document = new Document();
+        if (id != null) {
+            document.put("_id", objectId(id));
+        }
+        document.put("_class", type.getName());
+        document.put("created", DATE_TIME_WRITER.convert(created == null ? now : created));
+        document.put("updated", DATE_TIME_WRITER.convert(now));
+        document.put("version", version == null ? 0L : version);
+        return document;
+    }
+
+    protected static Object objectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
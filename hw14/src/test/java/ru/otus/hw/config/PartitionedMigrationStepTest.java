@@ -0,0 +1,73 @@
+package ru.otus.hw.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.shell.boot.StandardCommandsAutoConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import ru.otus.hw.listeners.PartitionThroughputListener;
+import ru.otus.hw.models.mongo.CommentDocument;
+import ru.otus.hw.writers.CommentWriter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+/**
+ * The partitioned comments step over the H2 test data, with the MongoDB writer replaced by a mock: no MongoDB
+ * server is started, only the partitioning of the reading side is checked.
+ */
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude="
+                + "de.flapdoodle.embed.mongo.spring.autoconfigure.EmbeddedMongoAutoConfiguration",
+        "spring.data.mongodb.auto-index-creation=false",
+        "batch.partition.grid-size=4"
+})
+@SpringBatchTest
+@ImportAutoConfiguration(exclude = StandardCommandsAutoConfiguration.class)
+class PartitionedMigrationStepTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @MockitoBean
+    private CommentWriter commentWriter;
+
+    @Test
+    @DisplayName("Миграция комментариев частями по диапазонам идентификаторов в параллельных потоках")
+    @SuppressWarnings("unchecked")
+    void testMigrateCommentsPartitioned() throws Exception {
+        // given
+        ArgumentCaptor<Chunk<CommentDocument>> chunks = ArgumentCaptor.forClass(Chunk.class);
+
+        // when
+        JobExecution execution = jobLauncherTestUtils.launchStep("migrateCommentsPartitionedStep");
+
+        // then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        List<StepExecution> partitions = execution.getStepExecutions().stream()
+                .filter(step -> step.getStepName().startsWith("migrateCommentsPartitionStep:"))
+                .toList();
+        assertThat(partitions).hasSize(4)
+                .allSatisfy(partition -> assertThat(partition.getExecutionContext()
+                        .containsKey(PartitionThroughputListener.ITEMS_PER_SECOND)).isTrue());
+        assertThat(partitions.stream().mapToLong(StepExecution::getWriteCount).sum()).isEqualTo(22);
+
+        verify(commentWriter, atLeastOnce()).write(chunks.capture());
+        assertThat(chunks.getAllValues().stream().flatMap(chunk -> chunk.getItems().stream()))
+                .extracting(CommentDocument::getText)
+                .hasSize(22)
+                .doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,80 @@
+package ru.otus.hw.partitioners;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdRangePartitionerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Разбиение диапазона идентификаторов на смежные части без пропусков")
+    void testPartitionIdRange() {
+        // given
+        when(jdbcTemplate.queryForMap(anyString())).thenReturn(Map.of("min_id", 1L, "max_id", 22L));
+        IdRangePartitioner partitioner = new IdRangePartitioner(jdbcTemplate, "comments");
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // then
+        assertThat(partitions).containsOnlyKeys(
+                "comments-partition0", "comments-partition1", "comments-partition2", "comments-partition3");
+        assertThat(partitions.values())
+                .extracting(context -> List.of(context.getLong(IdRangePartitioner.MIN_ID),
+                        context.getLong(IdRangePartitioner.MAX_ID)))
+                .containsExactly(List.of(1L, 6L), List.of(7L, 12L), List.of(13L, 18L), List.of(19L, 22L));
+    }
+
+    @Test
+    @DisplayName("Разбиение диапазона короче числа частей")
+    void testPartitionShortIdRange() {
+        // given
+        when(jdbcTemplate.queryForMap(anyString())).thenReturn(Map.of("min_id", 5L, "max_id", 6L));
+        IdRangePartitioner partitioner = new IdRangePartitioner(jdbcTemplate, "genres");
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // then
+        assertThat(partitions.values())
+                .extracting(context -> List.of(context.getLong(IdRangePartitioner.MIN_ID),
+                        context.getLong(IdRangePartitioner.MAX_ID)))
+                .containsExactly(List.of(5L, 5L), List.of(6L, 6L));
+    }
+
+    @Test
+    @DisplayName("Одна пустая часть для пустой таблицы")
+    void testPartitionEmptyTable() {
+        // given
+        Map<String, Object> bounds = new HashMap<>();
+        bounds.put("min_id", null);
+        bounds.put("max_id", null);
+        when(jdbcTemplate.queryForMap(anyString())).thenReturn(bounds);
+        IdRangePartitioner partitioner = new IdRangePartitioner(jdbcTemplate, "books");
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // then
+        assertThat(partitions).hasSize(1);
+        ExecutionContext context = partitions.get("books-partition0");
+        assertThat(context.getLong(IdRangePartitioner.MIN_ID))
+                .isGreaterThan(context.getLong(IdRangePartitioner.MAX_ID));
+    }
+}
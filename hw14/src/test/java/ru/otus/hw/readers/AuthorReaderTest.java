@@ -2,51 +2,48 @@ package ru.otus.hw.readers;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import ru.otus.hw.models.h2.Author;
-import ru.otus.hw.repositories.jpa.AuthorJpaRepository;
 
+import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.*;
 
-@ExtendWith(MockitoExtension.class)
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class AuthorReaderTest {
 
-    @Mock
-    private AuthorJpaRepository authorRepository;
+    @Autowired
+    private DataSource dataSource;
 
     @Test
-    @DisplayName("Чтение всех авторов из репозитория")
+    @DisplayName("Чтение всех авторов постранично по идентификатору")
     void testReadAuthors() throws Exception {
         // given
-        Author author1 = new Author(1L, "Author 1");
-        Author author2 = new Author(2L, "Author 2");
-        List<Author> authors = List.of(author1, author2);
-        Page<Author> authorPage = new PageImpl<>(authors);
-        Page<Author> emptyPage = new PageImpl<>(List.of());
-
-        when(authorRepository.findAll(any(PageRequest.class)))
-                .thenReturn(authorPage)
-                .thenReturn(emptyPage);
-
-        AuthorReader authorReader = new AuthorReader(authorRepository);
+        AuthorReader authorReader = new AuthorReader(dataSource);
 
         // when
-        Author firstAuthor = authorReader.read();
-        Author secondAuthor = authorReader.read();
-        Author thirdAuthor = authorReader.read();
+        List<Author> authors = readAll(authorReader);
 
         // then
-        assertThat(firstAuthor).isEqualTo(author1);
-        assertThat(secondAuthor).isEqualTo(author2);
-        assertThat(thirdAuthor).isNull();
+        assertThat(authors).extracting(Author::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(authors.get(0).getFullName()).isEqualTo("Роман Злотников");
+        assertThat(authors).allSatisfy(author -> assertThat(author.getCreated()).isNotNull());
+    }
+
+    private static List<Author> readAll(AuthorReader reader) throws Exception {
+        reader.afterPropertiesSet();
+        reader.open(new ExecutionContext());
+        List<Author> items = new ArrayList<>();
+        for (Author item = reader.read(); item != null; item = reader.read()) {
+            items.add(item);
+        }
+        reader.close();
+        return items;
     }
-}
\ No newline at end of file
+}
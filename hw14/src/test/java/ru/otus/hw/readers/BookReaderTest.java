@@ -2,56 +2,68 @@ package ru.otus.hw.readers;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import ru.otus.hw.models.h2.Author;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import ru.otus.hw.models.h2.Book;
+import ru.otus.hw.models.h2.Comment;
 import ru.otus.hw.models.h2.Genre;
-import ru.otus.hw.repositories.jpa.BookJpaRepository;
 
+import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.*;
 
-@ExtendWith(MockitoExtension.class)
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class BookReaderTest {
 
-    @Mock
-    private BookJpaRepository bookRepository;
+    @Autowired
+    private DataSource dataSource;
 
     @Test
-    @DisplayName("Чтение всех книг из репозитория")
+    @DisplayName("Чтение книг с автором, жанрами и идентификаторами комментариев одной строкой на книгу")
     void testReadBooks() throws Exception {
         // given
-        Author author = new Author(1L, "Author");
-        Genre genre = new Genre(1L, "Genre");
+        BookReader bookReader = new BookReader(dataSource);
+        bookReader.setPageSize(3);
 
-        Book book1 = new Book(1L, "Book 1", author, List.of(genre));
-        Book book2 = new Book(2L, "Book 2", author, List.of(genre));
-        List<Book> books = List.of(book1, book2);
-        Page<Book> bookPage = new PageImpl<>(books);
-        Page<Book> emptyPage = new PageImpl<>(List.of());
+        // when
+        List<Book> books = readAll(bookReader);
 
-        when(bookRepository.findAll(any(PageRequest.class)))
-                .thenReturn(bookPage)
-                .thenReturn(emptyPage);
+        // then
+        assertThat(books).extracting(Book::getId).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+        Book book = books.get(5);
+        assertThat(book.getTitle()).isEqualTo("Граф Монте-Кристо");
+        assertThat(book.getAuthor().getFullName()).isEqualTo("Александр Дюма");
+        assertThat(book.getGenres()).extracting(Genre::getId).containsExactly(9L, 10L, 11L);
+        assertThat(book.getGenres()).allSatisfy(genre -> assertThat(genre.getName()).isNotBlank());
+        assertThat(books.get(1).getComments()).extracting(Comment::getId).containsExactly(3L, 4L, 5L);
+    }
 
-        BookReader bookReader = new BookReader(bookRepository);
+    @Test
+    @DisplayName("Чтение книг из диапазона идентификаторов")
+    void testReadBooksInIdRange() throws Exception {
+        // given
+        BookReader bookReader = new BookReader(dataSource, 3L, 4L);
 
         // when
-        Book firstBook = bookReader.read();
-        Book secondBook = bookReader.read();
-        Book thirdBook = bookReader.read();
+        List<Book> books = readAll(bookReader);
 
         // then
-        assertThat(firstBook).isEqualTo(book1);
-        assertThat(secondBook).isEqualTo(book2);
-        assertThat(thirdBook).isNull();
+        assertThat(books).extracting(Book::getId).containsExactly(3L, 4L);
+    }
+
+    private static List<Book> readAll(BookReader reader) throws Exception {
+        reader.afterPropertiesSet();
+        reader.open(new ExecutionContext());
+        List<Book> items = new ArrayList<>();
+        for (Book item = reader.read(); item != null; item = reader.read()) {
+            items.add(item);
+        }
+        reader.close();
+        return items;
     }
-}
\ No newline at end of file
+}
@@ -2,51 +2,50 @@ package ru.otus.hw.readers;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import ru.otus.hw.models.h2.Comment;
-import ru.otus.hw.repositories.jpa.CommentJpaRepository;
 
+import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.*;
 
-@ExtendWith(MockitoExtension.class)
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class CommentReaderTest {
 
-    @Mock
-    private CommentJpaRepository commentRepository;
+    @Autowired
+    private DataSource dataSource;
 
     @Test
-    @DisplayName("Чтение всех комментариев из репозитория")
+    @DisplayName("Чтение всех комментариев страницами по ключу")
     void testReadComments() throws Exception {
         // given
-        Comment comment1 = new Comment(1L, "Comment 1", null);
-        Comment comment2 = new Comment(2L, "Comment 2", null);
-        List<Comment> comments = List.of(comment1, comment2);
-        Page<Comment> commentPage = new PageImpl<>(comments);
-        Page<Comment> emptyPage = new PageImpl<>(List.of());
-
-        when(commentRepository.findAll(any(PageRequest.class)))
-                .thenReturn(commentPage)
-                .thenReturn(emptyPage);
-
-        CommentReader commentReader = new CommentReader(commentRepository);
+        CommentReader commentReader = new CommentReader(dataSource);
+        commentReader.setPageSize(5);
 
         // when
-        Comment firstComment = commentReader.read();
-        Comment secondComment = commentReader.read();
-        Comment thirdComment = commentReader.read();
+        List<Comment> comments = readAll(commentReader);
 
         // then
-        assertThat(firstComment).isEqualTo(comment1);
-        assertThat(secondComment).isEqualTo(comment2);
-        assertThat(thirdComment).isNull();
+        assertThat(comments).hasSize(22)
+                .extracting(Comment::getId).isSorted().doesNotHaveDuplicates();
+        assertThat(comments.get(0).getBook().getId()).isEqualTo(1L);
+        assertThat(comments).allSatisfy(comment -> assertThat(comment.getText()).isNotBlank());
+    }
+
+    private static List<Comment> readAll(CommentReader reader) throws Exception {
+        reader.afterPropertiesSet();
+        reader.open(new ExecutionContext());
+        List<Comment> items = new ArrayList<>();
+        for (Comment item = reader.read(); item != null; item = reader.read()) {
+            items.add(item);
+        }
+        reader.close();
+        return items;
     }
-}
\ No newline at end of file
+}
@@ -2,51 +2,47 @@ package ru.otus.hw.readers;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import ru.otus.hw.models.h2.Genre;
-import ru.otus.hw.repositories.jpa.GenreJpaRepository;
 
+import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.*;
 
-@ExtendWith(MockitoExtension.class)
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class GenreReaderTest {
 
-    @Mock
-    private GenreJpaRepository genreRepository;
+    @Autowired
+    private DataSource dataSource;
 
     @Test
-    @DisplayName("Чтение всех жанров из репозитория")
-    void testReadGenres() throws Exception {
+    @DisplayName("Чтение жанров из диапазона идентификаторов")
+    void testReadGenresInIdRange() throws Exception {
         // given
-        Genre genre1 = new Genre(1L, "Genre 1");
-        Genre genre2 = new Genre(2L, "Genre 2");
-        List<Genre> genres = List.of(genre1, genre2);
-        Page<Genre> genrePage = new PageImpl<>(genres);
-        Page<Genre> emptyPage = new PageImpl<>(List.of());
-
-        when(genreRepository.findAll(any(PageRequest.class)))
-                .thenReturn(genrePage)
-                .thenReturn(emptyPage);
-
-        GenreReader genreReader = new GenreReader(genreRepository);
+        GenreReader genreReader = new GenreReader(dataSource, 5L, 8L);
 
         // when
-        Genre firstGenre = genreReader.read();
-        Genre secondGenre = genreReader.read();
-        Genre thirdGenre = genreReader.read();
+        List<Genre> genres = readAll(genreReader);
 
         // then
-        assertThat(firstGenre).isEqualTo(genre1);
-        assertThat(secondGenre).isEqualTo(genre2);
-        assertThat(thirdGenre).isNull();
+        assertThat(genres).extracting(Genre::getId).containsExactly(5L, 6L, 7L, 8L);
+        assertThat(genres).allSatisfy(genre -> assertThat(genre.getName()).isNotBlank());
+    }
+
+    private static List<Genre> readAll(GenreReader reader) throws Exception {
+        reader.afterPropertiesSet();
+        reader.open(new ExecutionContext());
+        List<Genre> items = new ArrayList<>();
+        for (Genre item = reader.read(); item != null; item = reader.read()) {
+            items.add(item);
+        }
+        reader.close();
+        return items;
     }
-}
\ No newline at end of file
+}
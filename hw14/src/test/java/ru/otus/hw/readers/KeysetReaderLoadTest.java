@@ -0,0 +1,157 @@
+package ru.otus.hw.readers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.data.RepositoryItemReader;
+import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.models.h2.Comment;
+import ru.otus.hw.repositories.jpa.CommentJpaRepository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Time to read the whole comments table with the reader the migration used before, {@code findAll} of the
+ * repository page by page with {@code offset}, and with the keyset reader, for a growing number of rows. The
+ * keyset reader reads every page in the same time, so its time per row stays flat while the one of
+ * {@code offset} paging grows with the table. Excluded from the regular build, run with
+ * {@code mvn test -Pload-test -Dtest=KeysetReaderLoadTest}; the row counts are set with
+ * {@code -Dload.rows=25000,50000,100000,200000}, the best of alternating rounds counts.
+ */
+@Tag("load")
+@DisplayName("Микробенчмарк времени чтения комментариев в зависимости от числа строк")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class KeysetReaderLoadTest {
+
+    private static final int ROUNDS = 3;
+
+    private static final int PAGE_SIZE = 200;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CommentJpaRepository commentRepository;
+
+    @Value("${load.rows:25000,50000,100000,200000}")
+    private int[] rowCounts;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from comments where id > 22");
+    }
+
+    @DisplayName("должен читать страницу по ключу за время, не зависящее от ее места в таблице")
+    @Test
+    void whenReadGrowingTable_thenKeysetTimePerRowStaysFlat() throws Exception {
+        //Given
+        List<Row> rows = new ArrayList<>();
+
+        //When
+        for (int rowCount : rowCounts) {
+            fillComments(rowCount);
+            double[] millis = compare(rowCount);
+            rows.add(new Row(rowCount, millis[0], millis[1]));
+        }
+
+        //Then
+        print(rows);
+        Row first = rows.get(0);
+        Row last = rows.get(rows.size() - 1);
+        assertThat(last.keysetMillis()).isLessThan(last.offsetMillis());
+        assertThat(last.keysetNanosPerRow() / first.keysetNanosPerRow())
+                .isLessThan(last.offsetNanosPerRow() / first.offsetNanosPerRow());
+    }
+
+    private void fillComments(int rowCount) {
+        Integer current = jdbcTemplate.queryForObject("select count(*) from comments", Integer.class);
+        List<Object[]> batch = IntStream.range(current == null ? 0 : current, rowCount)
+                .mapToObj(i -> new Object[]{"Comment " + i, i % 8 + 1})
+                .toList();
+        jdbcTemplate.batchUpdate("insert into comments(text, book_id) values (?, ?)", batch);
+    }
+
+    /**
+     * Reads the table with both readers in alternating rounds after warm-up reads of each.
+     *
+     * @return the milliseconds of the best round of each, the offset reader first
+     */
+    private double[] compare(int rowCount) throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            read(offsetReader(), rowCount);
+            read(new CommentReader(dataSource), rowCount);
+        }
+        double[] best = {Double.MAX_VALUE, Double.MAX_VALUE};
+        for (int round = 0; round < ROUNDS; round++) {
+            best[0] = Math.min(best[0], read(offsetReader(), rowCount));
+            best[1] = Math.min(best[1], read(new CommentReader(dataSource), rowCount));
+        }
+        return best;
+    }
+
+    private RepositoryItemReader<Comment> offsetReader() {
+        return new RepositoryItemReaderBuilder<Comment>()
+                .name("offsetCommentReader")
+                .repository(commentRepository)
+                .methodName("findAll")
+                .pageSize(PAGE_SIZE)
+                .sorts(Map.of("id", Sort.Direction.ASC))
+                .build();
+    }
+
+    private static double read(ItemStreamReader<Comment> reader, int rowCount) throws Exception {
+        if (reader instanceof CommentReader commentReader) {
+            commentReader.afterPropertiesSet();
+        }
+        long start = System.nanoTime();
+        reader.open(new ExecutionContext());
+        int read = 0;
+        while (reader.read() != null) {
+            read++;
+        }
+        reader.close();
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+        assertThat(read).isEqualTo(rowCount);
+        return millis;
+    }
+
+    private static void print(List<Row> rows) {
+        System.out.printf("%-10s %14s %14s %16s %16s%n", "rows", "offset, ms", "keyset, ms",
+                "offset, ns/row", "keyset, ns/row");
+        rows.forEach(row -> System.out.printf("%-10d %14.1f %14.1f %16.0f %16.0f%n", row.rowCount(),
+                row.offsetMillis(), row.keysetMillis(), row.offsetNanosPerRow(), row.keysetNanosPerRow()));
+    }
+
+    private record Row(int rowCount, double offsetMillis, double keysetMillis) {
+
+        double offsetNanosPerRow() {
+            return offsetMillis * 1_000_000 / rowCount;
+        }
+
+        double keysetNanosPerRow() {
+            return keysetMillis * 1_000_000 / rowCount;
+        }
+    }
+}
@@ -1,40 +1,60 @@
 package ru.otus.hw.writers;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.item.Chunk;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import ru.otus.hw.models.mongo.BookDocument;
-import ru.otus.hw.repositories.mongo.BookMongoRepository;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class BookWriterTest {
 
     @Mock
-    private BookMongoRepository bookRepository;
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
 
     @Test
-    @DisplayName("Запись книг в MongoDB")
-    void testBookWriter() throws Exception {
+    @DisplayName("Запись книг в MongoDB пакетной заменой с вставкой по названию")
+    void testBookWriterUpsert() {
         // given
         BookDocument bookDocument = new BookDocument();
         bookDocument.setTitle("Test Book");
+        Chunk<BookDocument> chunk = new Chunk<>(List.of(bookDocument));
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Object> replacement = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<FindAndReplaceOptions> options = ArgumentCaptor.forClass(FindAndReplaceOptions.class);
 
-        List<BookDocument> books = List.of(bookDocument);
-        Chunk<BookDocument> chunk = new Chunk<>(books);
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, "books")).thenReturn(bulkOperations);
 
-        // when
-        try (BookWriter bookWriter = new BookWriter(bookRepository, 4)) {
-            bookWriter.write(chunk);
+        BookWriter bookWriter = new BookWriter(mongoTemplate, true, new SimpleMeterRegistry());
 
-            // then
-            verify(bookRepository, times(1)).saveAll(books);
-        }
+        // when
+        bookWriter.write(chunk);
+
+        // then
+        verify(bulkOperations, times(1)).replaceOne(query.capture(), replacement.capture(), options.capture());
+        verify(bulkOperations, never()).insert(any(List.class));
+        verify(bulkOperations, times(1)).execute();
+        assertThat(query.getValue().getQueryObject()).isEqualTo(new Document("title", "Test Book"));
+        assertThat(((Document) replacement.getValue()).getString("title")).isEqualTo("Test Book");
+        assertThat(options.getValue().isUpsert()).isTrue();
     }
 }
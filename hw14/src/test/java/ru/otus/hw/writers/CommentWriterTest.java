@@ -1,40 +1,80 @@
 package ru.otus.hw.writers;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.item.Chunk;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import ru.otus.hw.models.mongo.CommentDocument;
-import ru.otus.hw.repositories.mongo.CommentMongoRepository;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CommentWriterTest {
 
     @Mock
-    private CommentMongoRepository commentRepository;
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
 
     @Test
-    @DisplayName("Запись комментариев в MongoDB")
-    void testCommentWriter() throws Exception {
+    @DisplayName("Запись комментариев в MongoDB одной неупорядоченной пакетной вставкой")
+    @SuppressWarnings("unchecked")
+    void testCommentWriter() {
         // given
-        CommentDocument commentDocument = new CommentDocument();
-        commentDocument.setText("Test Comment");
+        CommentDocument first = new CommentDocument();
+        first.setText("Test Comment 1");
+        CommentDocument second = new CommentDocument();
+        second.setText("Test Comment 2");
+        Chunk<CommentDocument> chunk = new Chunk<>(List.of(first, second));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ArgumentCaptor<List<Document>> documents = ArgumentCaptor.forClass(List.class);
+
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, "comments")).thenReturn(bulkOperations);
+
+        CommentWriter commentWriter = new CommentWriter(mongoTemplate, false, meterRegistry);
+
+        // when
+        commentWriter.write(chunk);
+
+        // then
+        verify(bulkOperations, times(1)).insert(documents.capture());
+        verify(bulkOperations, times(1)).execute();
+        assertThat(documents.getValue())
+                .extracting(document -> document.getString("text"))
+                .containsExactly("Test Comment 1", "Test Comment 2");
+        assertThat(documents.getValue()).allSatisfy(document -> {
+            assertThat(document.getString("_class")).isEqualTo(CommentDocument.class.getName());
+            assertThat(document.getLong("version")).isZero();
+            assertThat(document.get("created", Document.class)).containsKeys("dateTime", "offset");
+        });
+        assertThat(meterRegistry.get("migration.mongo.bulk").tag("collection", "comments").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("migration.mongo.documents").tag("collection", "comments").counter().count())
+                .isEqualTo(2);
+    }
 
-        List<CommentDocument> comments = List.of(commentDocument);
-        Chunk<CommentDocument> chunk = new Chunk<>(comments);
+    @Test
+    @DisplayName("Пустой пакет комментариев не пишется в MongoDB")
+    void testCommentWriterEmptyChunk() {
+        // given
+        CommentWriter commentWriter = new CommentWriter(mongoTemplate, false, new SimpleMeterRegistry());
 
         // when
-        try (CommentWriter commentWriter = new CommentWriter(commentRepository, 4)) {
-            commentWriter.write(chunk);
+        commentWriter.write(new Chunk<>());
 
-            // then
-            verify(commentRepository, times(1)).saveAll(comments);
-        }
+        // then
+        verifyNoInteractions(mongoTemplate);
     }
 }
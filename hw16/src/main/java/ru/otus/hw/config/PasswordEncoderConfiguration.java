@@ -0,0 +1,35 @@
+package ru.otus.hw.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * New hashes are written with the {@code security.password.encoding-id} algorithm, BCrypt of
+ * {@code security.password.bcrypt-strength} by default, under an {@code {id}} prefix. Stored hashes of
+ * another algorithm or cost, and the unprefixed BCrypt hashes of the seed data, still match and are
+ * replaced on the next successful login.
+ */
+@Configuration
+public class PasswordEncoderConfiguration {
+
+    static final String BCRYPT = "bcrypt";
+
+    static final String PBKDF2 = "pbkdf2";
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${security.password.encoding-id:bcrypt}") String encodingId,
+                                           @Value("${security.password.bcrypt-strength:12}") int bcryptStrength) {
+        PasswordEncoder bcrypt = new TargetStrengthBCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encodingId, Map.of(
+                BCRYPT, bcrypt,
+                PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+}
@@ -1,26 +1,91 @@
 package ru.otus.hw.config;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.security.web.header.writers.XXssProtectionHeaderWriter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import ru.otus.hw.services.ApiTokenService;
+import ru.otus.hw.services.BoundedAuthenticationProvider;
+
+import java.util.Arrays;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfiguration {
 
+    private final BoundedAuthenticationProvider authenticationProvider;
+
+    private final ApiTokenService apiTokenService;
+
     private final UserDetailsService userDetailsService;
 
+    /**
+     * Static files: no session, CSRF token, security context or request cache, only the security headers.
+     * They are public anyway, so they skip the other chains ahead of them. Every request is matched against
+     * this chain first, so its patterns are plain path patterns rather than the MVC matchers that look up
+     * the handler of the request.
+     */
     @Bean
+    @Order(0)
+    public SecurityFilterChain staticResourcesSecurityFilterChain(HttpSecurity http) throws Exception {
+        http.securityMatcher(pathMatchers(getStaticUrls()))
+                .authorizeHttpRequests(authorize -> authorize.anyRequest().permitAll())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(AbstractHttpConfigurer::disable)
+                .securityContext(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .servletApi(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .exceptionHandling(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable);
+        configureXssProtection(http);
+        return http.build();
+    }
+
+    /**
+     * API clients and probes: no session and no CSRF token is created for them. A client authenticates
+     * with a bearer token from {@code POST /api/token}, which it gets with HTTP Basic.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http) throws Exception {
+        ApiAuthenticationEntryPoint entryPoint = new ApiAuthenticationEntryPoint();
+        http.securityMatcher(getApiUrls())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(getAdminApiUrls()).hasRole("ADMIN")
+                        .anyRequest().authenticated())
+                .httpBasic(basic -> basic.authenticationEntryPoint(entryPoint))
+                .exceptionHandling(ex -> ex
+                        .authenticationEntryPoint(entryPoint)
+                        .accessDeniedHandler((request, response, accessDeniedException) ->
+                                response.setStatus(HttpServletResponse.SC_FORBIDDEN)))
+                .addFilterBefore(new ApiTokenAuthenticationFilter(apiTokenService, entryPoint, userDetailsService,
+                        pathMatchers(getTokenUrls())), BasicAuthenticationFilter.class);
+        configureAuthenticationManager(http);
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         configureCsrfAndHeaders(http);
         configureXssProtection(http);
@@ -28,7 +93,7 @@ public class SecurityConfiguration {
         configureAuthorizationRules(http);
         configureExceptionHandling(http);
         configureFormLoginAndLogout(http);
-        configureUserDetailsService(http);
+        configureAuthenticationManager(http);
         return http.build();
     }
 
@@ -53,16 +118,25 @@ public class SecurityConfiguration {
                 session.sessionCreationPolicy(SessionCreationPolicy.ALWAYS));
     }
 
+    /**
+     * The role-to-URL rules of the UI chain, compiled into one matcher tree.
+     */
+    @Bean
+    public UrlAuthorizationRules uiAuthorizationRules() {
+        return UrlAuthorizationRules.builder()
+                .permitAll(getPublicUrls())
+                .hasAnyRole(getReaderViewUrls(), "READER", "AUTHOR", "LIBRARIAN", "ADMIN")
+                .hasAnyRole(getCreatorUrls(), "AUTHOR", "LIBRARIAN", "ADMIN")
+                .hasAnyRole(getCommentCreatorUrls(), "READER", "AUTHOR", "LIBRARIAN", "ADMIN")
+                .hasAnyRole(getEditorUrls(), "AUTHOR", "LIBRARIAN", "ADMIN")
+                .hasAnyRole(getDeleterUrls(), "ADMIN")
+                .hasAnyRole(getAdminOnlyUrls(), "ADMIN")
+                .otherwise(AuthenticatedAuthorizationManager.authenticated());
+    }
+
     private void configureAuthorizationRules(HttpSecurity http) throws Exception {
         http.authorizeHttpRequests(authorize -> authorize
-                .requestMatchers(getPublicUrls()).permitAll()
-                .requestMatchers(getReaderViewUrls()).hasAnyRole("READER", "AUTHOR", "LIBRARIAN", "ADMIN")
-                .requestMatchers(getCreatorUrls()).hasAnyRole("AUTHOR", "LIBRARIAN", "ADMIN")
-                .requestMatchers(getCommentCreatorUrls()).hasAnyRole("READER", "AUTHOR", "LIBRARIAN", "ADMIN")
-                .requestMatchers(getEditorUrls()).hasAnyRole("AUTHOR", "LIBRARIAN", "ADMIN")
-                .requestMatchers(getDeleterUrls()).hasRole("ADMIN")
-                .requestMatchers(getAdminOnlyUrls()).hasRole("ADMIN")
-                .anyRequest().authenticated());
+                .anyRequest().access(uiAuthorizationRules()));
     }
 
     private void configureExceptionHandling(HttpSecurity http) throws Exception {
@@ -76,7 +150,7 @@ public class SecurityConfiguration {
         http.formLogin(form -> form
                         .loginPage("/login")
                         .defaultSuccessUrl("/", true)
-                        .failureUrl("/login?error")
+                        .failureHandler(new LoginFailureHandler("/login?error"))
                         .permitAll())
                 .logout(logout -> logout
                         .logoutUrl("/logout")
@@ -84,15 +158,28 @@ public class SecurityConfiguration {
                         .permitAll());
     }
 
-    private void configureUserDetailsService(HttpSecurity http) throws Exception {
-        http.userDetailsService(userDetailsService);
+    /**
+     * The only provider, without the global parent manager, so a failed login is checked once.
+     */
+    private void configureAuthenticationManager(HttpSecurity http) {
+        http.authenticationManager(new ProviderManager(authenticationProvider));
+    }
+
+    private static RequestMatcher pathMatchers(String... patterns) {
+        PathPatternRequestMatcher.Builder paths = PathPatternRequestMatcher.withDefaults();
+        return new OrRequestMatcher(Arrays.stream(patterns).map(paths::matcher).toArray(RequestMatcher[]::new));
     }
 
     private String[] getPublicUrls() {
         return new String[]{
                 "/",
-                "/login",
-                "/favicon.ico",
+                "/login"
+        };
+    }
+
+    private String[] getStaticUrls() {
+        return new String[]{
+                "/favicon*.ico",
                 "/css/**"
         };
     }
@@ -143,14 +230,28 @@ public class SecurityConfiguration {
 
     private String[] getAdminOnlyUrls() {
         return new String[]{
+                "/h2-console/**"
+        };
+    }
+
+    private String[] getTokenUrls() {
+        return new String[]{
+                "/api/token"
+        };
+    }
+
+    private String[] getApiUrls() {
+        return new String[]{
+                "/api/**",
                 "/actuator/**",
-                "/h2-console/**",
                 "/datarest/**"
         };
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    private String[] getAdminApiUrls() {
+        return new String[]{
+                "/actuator/**",
+                "/datarest/**"
+        };
     }
 }
\ No newline at end of file
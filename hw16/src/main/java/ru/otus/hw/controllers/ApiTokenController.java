@@ -0,0 +1,27 @@
+package ru.otus.hw.controllers;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.otus.hw.dto.ApiTokenDto;
+import ru.otus.hw.services.ApiTokenService;
+
+/**
+ * Issues a bearer token to a client authenticated with HTTP Basic, or a fresh one for a still valid token
+ * of a user that is still enabled. Either way the token carries the authorities the user has now, see
+ * {@link ru.otus.hw.config.ApiTokenAuthenticationFilter}.
+ */
+@RestController
+@RequestMapping("/api/token")
+@RequiredArgsConstructor
+public class ApiTokenController {
+
+    private final ApiTokenService apiTokenService;
+
+    @PostMapping
+    public ApiTokenDto issueToken(Authentication authentication) {
+        return apiTokenService.issue(authentication);
+    }
+}
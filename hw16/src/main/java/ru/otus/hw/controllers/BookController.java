@@ -1,6 +1,8 @@
 package ru.otus.hw.controllers;
 
 import jakarta.annotation.Nullable;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,10 +26,12 @@ import ru.otus.hw.services.AuthorService;
 import ru.otus.hw.services.BookService;
 import ru.otus.hw.services.CommentService;
 import ru.otus.hw.services.GenreService;
+import ru.otus.hw.services.ListView;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Objects.isNull;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
@@ -47,10 +51,12 @@ public class BookController {
 
     private final BookMapper bookMapper;
 
+    private final RenderedFragmentCache fragmentCache;
+
     @GetMapping("/books")
-    public String getAllBooks(Model model) {
-        List<BookDto> books = bookService.findAll();
-        model.addAttribute("books", books);
+    public String getAllBooks(Model model, HttpServletRequest request, HttpServletResponse response) {
+        model.addAttribute("bookRows", fragmentCache.getOrRender(ListView.BOOKS, "books", "book-rows",
+                request, response, () -> Map.of("books", bookService.findAll())));
         return "books";
     }
 
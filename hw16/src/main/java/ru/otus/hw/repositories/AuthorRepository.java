@@ -1,9 +1,19 @@
 package ru.otus.hw.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+import ru.otus.hw.dto.AuthorDto;
 import ru.otus.hw.models.Author;
 
+import java.util.Collection;
+import java.util.List;
+
 @RepositoryRestResource(collectionResourceRel = "authors", path = "authors")
 public interface AuthorRepository extends JpaRepository<Author, Long> {
+    @Query("select new ru.otus.hw.dto.AuthorDto(a.id, a.fullName) from Author a where a.id in :ids")
+    @RestResource(exported = false)
+    List<AuthorDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
 }
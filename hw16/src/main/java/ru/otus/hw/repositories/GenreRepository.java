@@ -1,9 +1,19 @@
 package ru.otus.hw.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+import ru.otus.hw.dto.GenreDto;
 import ru.otus.hw.models.Genre;
 
+import java.util.Collection;
+import java.util.List;
+
 @RepositoryRestResource(collectionResourceRel = "genres", path = "genre")
 public interface GenreRepository extends JpaRepository<Genre, Long> {
+    @Query("select new ru.otus.hw.dto.GenreDto(g.id, g.name) from Genre g where g.id in :ids")
+    @RestResource(exported = false)
+    List<GenreDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
 }
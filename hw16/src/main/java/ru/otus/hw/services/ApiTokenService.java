@@ -0,0 +1,13 @@
+package ru.otus.hw.services;
+
+import org.springframework.security.core.Authentication;
+import ru.otus.hw.dto.ApiTokenDto;
+
+import java.util.Optional;
+
+public interface ApiTokenService {
+
+    ApiTokenDto issue(Authentication authentication);
+
+    Optional<Authentication> verify(String token);
+}
@@ -0,0 +1,52 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.core.annotation.HandleAfterCreate;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterLinkDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterLinkSave;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
+
+import static ru.otus.hw.services.ListView.AUTHORS;
+import static ru.otus.hw.services.ListView.BOOKS;
+import static ru.otus.hw.services.ListView.GENRES;
+
+/**
+ * Spring Data REST writes the repositories directly, past the services, so the list pages
+ * are invalidated here for them.
+ */
+@Component
+@RepositoryEventHandler
+@RequiredArgsConstructor
+public class ListViewRepositoryEventHandler {
+
+    private final ListViewVersions listViewVersions;
+
+    @HandleAfterCreate
+    @HandleAfterSave
+    @HandleAfterDelete
+    @HandleAfterLinkSave
+    @HandleAfterLinkDelete
+    public void handleBookChange(Book book) {
+        listViewVersions.invalidate(BOOKS, AUTHORS);
+    }
+
+    @HandleAfterCreate
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void handleAuthorChange(Author author) {
+        listViewVersions.invalidate(AUTHORS, BOOKS);
+    }
+
+    @HandleAfterCreate
+    @HandleAfterSave
+    @HandleAfterDelete
+    public void handleGenreChange(Genre genre) {
+        listViewVersions.invalidate(GENRES, BOOKS);
+    }
+}
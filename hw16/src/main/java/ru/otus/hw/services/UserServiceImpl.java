@@ -5,10 +5,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.otus.hw.dto.UserDto;
 import ru.otus.hw.dto.mapper.UserMapper;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.User;
 import ru.otus.hw.repositories.UserRepository;
 
 import java.util.Optional;
 
+import static ru.otus.hw.utils.ValidationMessages.USERNAME_NOT_FOUND_MESSAGE;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -22,4 +26,13 @@ public class UserServiceImpl implements UserService {
     public Optional<UserDto> findByUsername(String username) {
         return userRepository.findByUsername(username).map(mapper::toUserDto);
     }
+
+    @Override
+    @Transactional
+    public void updatePassword(String username, String encodedPassword) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException(USERNAME_NOT_FOUND_MESSAGE
+                        .getMessage(User.class.getSimpleName(), username)));
+        user.setPassword(encodedPassword);
+    }
 }
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public enum ValidationMessages {
     ENTITY_NOT_FOUND_MESSAGE("%s with id %d not found"),
+    USERNAME_NOT_FOUND_MESSAGE("%s with username %s not found"),
     ILLEGAL_ARGUMENT_MESSAGE("%s id list can't be null or empty"),
     ENTITY_LIST_NOT_FOUND_MESSAGE("One or all %ss with ids %s not found");
 
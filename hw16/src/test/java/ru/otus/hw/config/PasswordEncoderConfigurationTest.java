@@ -0,0 +1,72 @@
+package ru.otus.hw.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Кодировщик паролей с переходом на целевой алгоритм и стоимость")
+class PasswordEncoderConfigurationTest {
+
+    private static final String PASSWORD = "admin";
+
+    private final PasswordEncoderConfiguration configuration = new PasswordEncoderConfiguration();
+
+    @DisplayName("должен принимать хэш BCrypt без префикса и требовать его перезаписи")
+    @Test
+    void whenUnprefixedBcryptHash_thenMatchAndUpgrade() {
+        //Given
+        PasswordEncoder encoder = configuration.passwordEncoder(PasswordEncoderConfiguration.BCRYPT, 4);
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        //Then
+        assertThat(encoder.matches(PASSWORD, legacyHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacyHash)).isTrue();
+    }
+
+    @DisplayName("не должен требовать перезаписи хэша целевого алгоритма и стоимости")
+    @Test
+    void whenCurrentHash_thenNoUpgrade() {
+        //Given
+        PasswordEncoder encoder = configuration.passwordEncoder(PasswordEncoderConfiguration.BCRYPT, 4);
+
+        //When
+        String hash = encoder.encode(PASSWORD);
+
+        //Then
+        assertThat(hash).startsWith("{bcrypt}$2a$04$");
+        assertThat(encoder.matches(PASSWORD, hash)).isTrue();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @DisplayName("должен требовать перезаписи хэша BCrypt как большей, так и меньшей стоимости")
+    @Test
+    void whenBcryptCostDiffers_thenUpgrade() {
+        //Given
+        PasswordEncoder encoder = configuration.passwordEncoder(PasswordEncoderConfiguration.BCRYPT, 5);
+
+        //Then
+        assertThat(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD))).isTrue();
+        assertThat(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(6).encode(PASSWORD))).isTrue();
+    }
+
+    @DisplayName("должен принимать хэш BCrypt и переходить на другой целевой алгоритм")
+    @Test
+    void whenEncodingIdChanged_thenMatchOldHashAndUpgrade() {
+        //Given
+        PasswordEncoder bcrypt = configuration.passwordEncoder(PasswordEncoderConfiguration.BCRYPT, 4);
+        PasswordEncoder pbkdf2 = configuration.passwordEncoder(PasswordEncoderConfiguration.PBKDF2, 4);
+        String bcryptHash = bcrypt.encode(PASSWORD);
+
+        //When
+        String pbkdf2Hash = pbkdf2.encode(PASSWORD);
+
+        //Then
+        assertThat(pbkdf2.matches(PASSWORD, bcryptHash)).isTrue();
+        assertThat(pbkdf2.upgradeEncoding(bcryptHash)).isTrue();
+        assertThat(pbkdf2Hash).startsWith("{pbkdf2}");
+        assertThat(pbkdf2.upgradeEncoding(pbkdf2Hash)).isFalse();
+    }
+}
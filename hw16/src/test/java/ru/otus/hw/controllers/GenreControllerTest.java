@@ -1,20 +1,28 @@
 package ru.otus.hw.controllers;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.web.csrf.CsrfToken;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.otus.hw.dto.GenreDto;
 import ru.otus.hw.services.GenreService;
+import ru.otus.hw.services.ListView;
+import ru.otus.hw.services.ListViewVersions;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -24,6 +32,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @DisplayName("Контроллер для работы с жанрами")
 @WebMvcTest(GenreController.class)
+@Import({RenderedFragmentCache.class, ListViewVersions.class, SimpleMeterRegistry.class})
 @WithMockUser(username = "admin")
 class GenreControllerTest {
 
@@ -33,6 +42,9 @@ class GenreControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ListViewVersions listViewVersions;
+
     @MockitoBean
     private GenreService genreService;
 
@@ -40,6 +52,7 @@ class GenreControllerTest {
 
     @BeforeEach
     void setUp() {
+        listViewVersions.invalidate(ListView.values());
         testGenreDto = new GenreDto(PRESENT_ID, "Fantasy");
     }
 
@@ -57,12 +70,32 @@ class GenreControllerTest {
                         .header("Referer", "/books"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("genres"))
-                .andExpect(model().attribute("genres", genres))
+                .andExpect(model().attribute("genreRows", containsString("Science Fiction")))
                 .andExpect(model().attribute("previousUrl", "/books"));
 
         verify(genreService, times(1)).findAll();
     }
 
+    @DisplayName("должен подставлять CSRF токен текущего запроса в закэшированные формы удаления")
+    @Test
+    void whenGetAllGenresTwice_thenEachResponseContainsItsOwnCsrfToken() throws Exception {
+        //Given
+        when(genreService.findAll()).thenReturn(List.of(testGenreDto));
+
+        //When
+        MvcResult first = mockMvc.perform(get("/genres")).andExpect(status().isOk()).andReturn();
+        MvcResult second = mockMvc.perform(get("/genres")).andExpect(status().isOk()).andReturn();
+
+        //Then
+        verify(genreService, times(1)).findAll();
+        for (MvcResult result : List.of(first, second)) {
+            CsrfToken token = (CsrfToken) result.getRequest().getAttribute(CsrfToken.class.getName());
+            assertThat(result.getResponse().getContentAsString())
+                    .contains("value=\"%s\"".formatted(token.getToken()))
+                    .doesNotContain("__fragment_cache_csrf_token__");
+        }
+    }
+
     @DisplayName("должен отображать детали существующего жанра")
     @Test
     void whenGetExistingGenreById_thenReturnsGenreView() throws Exception {
@@ -0,0 +1,293 @@
+package ru.otus.hw.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import ru.otus.hw.dto.ApiTokenDto;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the real HTTP endpoints of the running application: the books page, the books REST resource and
+ * the form login. Excluded from the regular build, run with {@code mvn test -Pload-test -Dtest=LibraryLoadTest}
+ * for platform request threads and with {@code -Pload-test,virtual-threads} (builds and runs on Java 21) for
+ * virtual ones. The servlet {@code /api/v1/books} list is measured by the load test of hw10.
+ * Levels and timings are set with {@code -Dload.concurrency=1,8,32,128}, {@code -Dload.warmup=PT3S} and
+ * {@code -Dload.duration=PT10S}; the login burst with {@code -Dload.login-burst=64} clients next to
+ * {@code -Dload.books-concurrency=8} page readers.
+ */
+@Tag("load")
+@DisplayName("Нагрузочный тест страницы и REST ресурса книг и входа в систему")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.data.rest.base-path=/datarest", "spring.jpa.show-sql=false"})
+class LibraryLoadTest {
+
+    private static final String USERNAME = "admin";
+
+    private static final String PASSWORD = "admin";
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${load.concurrency:1,8,32,128}")
+    private List<Integer> concurrencyLevels;
+
+    @Value("${load.warmup:PT3S}")
+    private Duration warmUp;
+
+    @Value("${load.duration:PT10S}")
+    private Duration duration;
+
+    @Value("${load.login-burst:64}")
+    private int loginBurst;
+
+    @Value("${load.books-concurrency:8}")
+    private int booksConcurrency;
+
+    @DisplayName("должен отдавать страницу и REST ресурс книг и выполнять вход без ошибок на всех уровнях нагрузки")
+    @Test
+    void whenLoadBooksAndLogin_thenReportThroughputAndLatencies() throws Exception {
+        //Given
+        LoadTestHarness harness = new LoadTestHarness(warmUp, duration);
+        List<LoadReport> reports = new ArrayList<>();
+        String token = issueToken();
+
+        //When
+        for (int concurrency : concurrencyLevels) {
+            reports.add(harness.run("GET /books", concurrency, () -> {
+                HttpClient client = newClient();
+                loginUnchecked(client);
+                return () -> get(client, "/books").statusCode() == 200;
+            }));
+        }
+        for (int concurrency : concurrencyLevels) {
+            reports.add(harness.run("GET /datarest/books", concurrency, () -> {
+                HttpClient client = newClient();
+                return () -> send(client, HttpRequest.newBuilder(uri("/datarest/books"))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .GET()
+                        .build()).statusCode() == 200;
+            }));
+        }
+        for (int concurrency : concurrencyLevels) {
+            reports.add(harness.run("GET /login + POST /login", concurrency, () -> {
+                HttpClient client = newClient();
+                return () -> login(client);
+            }));
+        }
+
+        //Then
+        print(reports);
+        assertThat(reports).allSatisfy(report -> {
+            assertThat(report.requests()).isPositive();
+            assertThat(report.errors()).isZero();
+        });
+    }
+
+    @DisplayName("должен отдавать страницу книг во время всплеска входов, отклоняя лишние входы с 503")
+    @Test
+    void whenLoginBurst_thenBooksPageStaysResponsive() throws Exception {
+        //Given
+        LoadTestHarness harness = new LoadTestHarness(warmUp, duration);
+        List<LoadReport> reports = new ArrayList<>();
+        List<HttpClient> readers = new ArrayList<>();
+        for (int i = 0; i < booksConcurrency; i++) {
+            HttpClient reader = newClient();
+            loginUnchecked(reader);
+            readers.add(reader);
+        }
+        reports.add(runBooksPage(harness, "GET /books, idle", readers));
+        Map<Integer, LongAdder> loginStatuses = new ConcurrentHashMap<>();
+        AtomicBoolean bursting = new AtomicBoolean(true);
+        ExecutorService burst = Executors.newFixedThreadPool(loginBurst);
+
+        //When
+        try {
+            for (int i = 0; i < loginBurst; i++) {
+                burst.submit(() -> {
+                    HttpClient client = newClient();
+                    while (bursting.get()) {
+                        loginStatuses.computeIfAbsent(submitLogin(client), status -> new LongAdder()).increment();
+                    }
+                    return null;
+                });
+            }
+            reports.add(runBooksPage(harness, "GET /books, login burst", readers));
+        } finally {
+            bursting.set(false);
+            burst.shutdown();
+            burst.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        //Then
+        print(reports);
+        System.out.printf("Login burst of %d clients, responses by status: %s%n", loginBurst, loginStatuses);
+        assertThat(loginStatuses).containsKey(302);
+        assertThat(loginStatuses.keySet()).isSubsetOf(302, 503);
+        assertThat(reports).allSatisfy(report -> {
+            assertThat(report.requests()).isPositive();
+            assertThat(report.errors()).isZero();
+        });
+    }
+
+    /**
+     * Reads the books page with clients logged in beforehand, so no reader waits for a login.
+     */
+    private LoadReport runBooksPage(LoadTestHarness harness, String scenario, List<HttpClient> readers)
+            throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        return harness.run(scenario, readers.size(), () -> {
+            HttpClient client = readers.get(next.getAndIncrement() % readers.size());
+            return () -> get(client, "/books").statusCode() == 200;
+        });
+    }
+
+    private static HttpClient newClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    private void loginUnchecked(HttpClient client) {
+        try {
+            if (!login(client)) {
+                throw new IllegalStateException("Login of %s failed".formatted(USERNAME));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Opens the login form for a fresh CSRF token and submits the credentials, waiting out a {@code 503}
+     * as long as {@code Retry-After} asks; a successful login redirects anywhere but back to
+     * {@code /login?error}.
+     */
+    private boolean login(HttpClient client) throws IOException, InterruptedException {
+        Matcher token = CSRF_TOKEN.matcher(get(client, "/login").body());
+        if (!token.find()) {
+            return false;
+        }
+        HttpRequest request = loginRequest(token.group(1));
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        while (response.statusCode() == 503) {
+            Thread.sleep(retryAfter(response).toMillis());
+            response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+        return isLoggedIn(response);
+    }
+
+    /**
+     * Submits the credentials once, without retrying a rejected login.
+     */
+    private int submitLogin(HttpClient client) throws IOException, InterruptedException {
+        Matcher token = CSRF_TOKEN.matcher(get(client, "/login").body());
+        if (!token.find()) {
+            return -1;
+        }
+        HttpResponse<Void> response = client.send(loginRequest(token.group(1)), HttpResponse.BodyHandlers.discarding());
+        return isLoggedIn(response) ? 302 : response.statusCode();
+    }
+
+    private HttpRequest loginRequest(String csrfToken) {
+        String form = "username=%s&password=%s&_csrf=%s".formatted(encode(USERNAME), encode(PASSWORD),
+                encode(csrfToken));
+        return HttpRequest.newBuilder(uri("/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+    }
+
+    private static boolean isLoggedIn(HttpResponse<Void> response) {
+        return response.statusCode() == 302 && response.headers().firstValue("Location")
+                .filter(location -> !location.contains("error"))
+                .isPresent();
+    }
+
+    private static Duration retryAfter(HttpResponse<Void> response) {
+        return Duration.ofSeconds(response.headers().firstValueAsLong("Retry-After").orElse(1));
+    }
+
+    /**
+     * Gets a bearer token for the REST resource once; the API chain accepts only tokens and HTTP Basic.
+     */
+    private String issueToken() throws IOException, InterruptedException {
+        String credentials = Base64.getEncoder()
+                .encodeToString((USERNAME + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+        HttpResponse<String> response = send(newClient(), HttpRequest.newBuilder(uri("/api/token"))
+                .header(HttpHeaders.AUTHORIZATION, "Basic " + credentials)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readValue(response.body(), ApiTokenDto.class).accessToken();
+    }
+
+    private HttpResponse<String> get(HttpClient client, String path) throws IOException, InterruptedException {
+        return send(client, HttpRequest.newBuilder(uri(path)).GET().build());
+    }
+
+    private static HttpResponse<String> send(HttpClient client, HttpRequest request)
+            throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private void print(List<LoadReport> reports) {
+        String mode = Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform";
+        System.out.printf("%nRequest threads: %s (Java %s)%n%s%n", mode, Runtime.version().feature(),
+                LoadReport.header());
+        reports.forEach(report -> System.out.println(report.row()));
+    }
+}
@@ -0,0 +1,96 @@
+package ru.otus.hw.load;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Closed-model load generator: {@code concurrency} workers send requests back to back for a fixed time
+ * and record the latency of every response. A warm-up round with the same concurrency runs first and
+ * is not reported.
+ */
+public final class LoadTestHarness {
+
+    private final Duration warmUp;
+
+    private final Duration duration;
+
+    public LoadTestHarness(Duration warmUp, Duration duration) {
+        this.warmUp = warmUp;
+        this.duration = duration;
+    }
+
+    /**
+     * Runs {@code scenario} with {@code concurrency} workers. Every worker gets its own call from
+     * {@code newWorker}, so per-user state (cookies, tokens) is prepared outside the measured time.
+     */
+    public LoadReport run(String scenario, int concurrency, Supplier<LoadCall> newWorker) throws Exception {
+        drive(concurrency, warmUp, newWorker);
+        return LoadReport.of(scenario, concurrency, duration, drive(concurrency, duration, newWorker));
+    }
+
+    private List<WorkerResult> drive(int concurrency, Duration time, Supplier<LoadCall> newWorker)
+            throws InterruptedException, ExecutionException {
+        List<LoadCall> calls = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            calls.add(newWorker.get());
+        }
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            long deadline = System.nanoTime() + time.toNanos();
+            List<Future<WorkerResult>> futures = new ArrayList<>(concurrency);
+            for (LoadCall call : calls) {
+                futures.add(workers.submit(() -> work(call, deadline)));
+            }
+            List<WorkerResult> results = new ArrayList<>(concurrency);
+            for (Future<WorkerResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static WorkerResult work(LoadCall call, long deadline) throws InterruptedException {
+        long[] latencies = new long[1024];
+        int count = 0;
+        int errors = 0;
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                ok = call.execute();
+            } catch (IOException e) {
+                ok = false;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - start;
+            if (!ok) {
+                errors++;
+            }
+        }
+        return new WorkerResult(Arrays.copyOf(latencies, count), errors);
+    }
+
+    /**
+     * One request (or a fixed sequence of requests) of a scenario; returns whether the answer was the expected one.
+     */
+    @FunctionalInterface
+    public interface LoadCall {
+
+        boolean execute() throws IOException, InterruptedException;
+    }
+
+    record WorkerResult(long[] latencies, int errors) {
+    }
+}
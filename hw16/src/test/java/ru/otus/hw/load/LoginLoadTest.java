@@ -0,0 +1,134 @@
+package ru.otus.hw.load;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import ru.otus.hw.services.UserDetailsCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures what an authentication costs with and without the {@link UserDetailsCache}: the user lookup
+ * alone, and the whole check of a login form with the BCrypt comparison. Excluded from the regular build,
+ * run with {@code mvn test -Pload-test -Dtest=LoginLoadTest}; levels and timings are set with
+ * {@code -Dload.concurrency=1,8}, {@code -Dload.warmup=PT3S} and {@code -Dload.duration=PT10S}.
+ */
+@Tag("load")
+@DisplayName("Нагрузочный тест аутентификации с кэшем пользователей и без него")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class LoginLoadTest {
+
+    private static final String USERNAME = "admin";
+
+    private static final String PASSWORD = "admin";
+
+    private static final int STATEMENT_SAMPLE = 1_000;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${load.concurrency:1,8}")
+    private List<Integer> concurrencyLevels;
+
+    @Value("${load.warmup:PT3S}")
+    private Duration warmUp;
+
+    @Value("${load.duration:PT10S}")
+    private Duration duration;
+
+    private DaoAuthenticationProvider authenticationProvider;
+
+    @BeforeEach
+    void setUp() {
+        authenticationProvider = new DaoAuthenticationProvider(userDetailsService);
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+    }
+
+    @DisplayName("должен убирать запросы к базе из повторных аутентификаций")
+    @Test
+    void whenAuthenticateRepeatedly_thenCachedLookupsSkipDatabase() throws Exception {
+        //Given
+        LoadTestHarness harness = new LoadTestHarness(warmUp, duration);
+        List<LoadReport> reports = new ArrayList<>();
+
+        //When
+        double uncachedStatements = statementsPerCall(this::loadUncached);
+        double cachedStatements = statementsPerCall(this::loadCached);
+        for (int concurrency : concurrencyLevels) {
+            reports.add(harness.run("loadUser, no cache", concurrency, () -> this::loadUncached));
+            reports.add(harness.run("loadUser, cached", concurrency, () -> this::loadCached));
+            reports.add(harness.run("authenticate, no cache", concurrency, () -> () -> {
+                userDetailsCache.invalidateAll();
+                return authenticate();
+            }));
+            reports.add(harness.run("authenticate, cached", concurrency, () -> this::authenticate));
+        }
+
+        //Then
+        print(reports, uncachedStatements, cachedStatements);
+        assertThat(uncachedStatements).isGreaterThanOrEqualTo(1);
+        assertThat(cachedStatements).isZero();
+        assertThat(reports).allSatisfy(report -> {
+            assertThat(report.requests()).isPositive();
+            assertThat(report.errors()).isZero();
+        });
+    }
+
+    private boolean loadUncached() {
+        userDetailsCache.invalidateAll();
+        return loadCached();
+    }
+
+    private boolean loadCached() {
+        return USERNAME.equals(userDetailsService.loadUserByUsername(USERNAME).getUsername());
+    }
+
+    private boolean authenticate() {
+        return authenticationProvider.authenticate(UsernamePasswordAuthenticationToken
+                .unauthenticated(USERNAME, PASSWORD)).isAuthenticated();
+    }
+
+    /**
+     * JDBC statements one call prepares on average, measured on a single thread after a warm-up call.
+     */
+    private double statementsPerCall(LoadTestHarness.LoadCall call) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        call.execute();
+        long before = statistics.getPrepareStatementCount();
+        for (int i = 0; i < STATEMENT_SAMPLE; i++) {
+            call.execute();
+        }
+        return (statistics.getPrepareStatementCount() - before) / (double) STATEMENT_SAMPLE;
+    }
+
+    private static void print(List<LoadReport> reports, double uncachedStatements, double cachedStatements) {
+        System.out.printf(Locale.ROOT, "%nStatements per lookup: no cache %.2f, cached %.2f%n%s%n",
+                uncachedStatements, cachedStatements, LoadReport.header());
+        reports.forEach(report -> System.out.println(report.row()));
+    }
+}
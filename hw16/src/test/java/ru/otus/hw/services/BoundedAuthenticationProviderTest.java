@@ -0,0 +1,138 @@
+package ru.otus.hw.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import ru.otus.hw.exceptions.PasswordCheckRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.core.userdetails.User.withUsername;
+
+@DisplayName("Провайдер аутентификации с ограниченным пулом проверки паролей")
+class BoundedAuthenticationProviderTest {
+
+    private static final String USERNAME = "reader1";
+
+    private static final String PASSWORD = "password";
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(3);
+
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    private final UserDetails user = withUsername(USERNAME).password(passwordEncoder.encode(PASSWORD))
+            .roles("READER").build();
+
+    private UserDetailsServiceImpl userDetailsService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BoundedAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = mock(UserDetailsServiceImpl.class);
+        meterRegistry = new SimpleMeterRegistry();
+        provider = new BoundedAuthenticationProvider(userDetailsService, passwordEncoder, meterRegistry,
+                1, 1, RETRY_AFTER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        provider.destroy();
+    }
+
+    @DisplayName("должен аутентифицировать пользователя с правильным паролем")
+    @Test
+    void whenCorrectPassword_thenAuthenticated() {
+        //Given
+        when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(user);
+
+        //When
+        Authentication authentication = provider.authenticate(token(PASSWORD));
+
+        //Then
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(authentication.getName()).isEqualTo(USERNAME);
+    }
+
+    @DisplayName("должен выбрасывать исключение проверки пароля без обёртки")
+    @Test
+    void whenWrongPassword_thenThrowBadCredentialsException() {
+        //Given
+        when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(user);
+
+        //Then
+        assertThatThrownBy(() -> provider.authenticate(token("wrong")))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+
+    @DisplayName("должен сразу отклонять вход, когда заняты все потоки и очередь")
+    @Test
+    void whenPoolSaturated_thenRejectWithRetryAfter() throws Exception {
+        //Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userDetailsService.loadUserByUsername(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return user;
+        });
+        CompletableFuture<Authentication> running = CompletableFuture.supplyAsync(
+                () -> provider.authenticate(token(PASSWORD)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Authentication> queued = CompletableFuture.supplyAsync(
+                () -> provider.authenticate(token(PASSWORD)));
+        waitForQueued(1);
+
+        //When
+        Throwable rejection = catchRejection();
+        release.countDown();
+
+        //Then
+        assertThat(rejection)
+                .isInstanceOf(PasswordCheckRejectedException.class)
+                .extracting(e -> ((PasswordCheckRejectedException) e).getRetryAfter())
+                .isEqualTo(RETRY_AFTER);
+        assertThat(running.get(5, TimeUnit.SECONDS).isAuthenticated()).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS).isAuthenticated()).isTrue();
+        assertThat(meterRegistry.get("library.password.check.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private Throwable catchRejection() {
+        try {
+            provider.authenticate(token(PASSWORD));
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private void waitForQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password-check").gauge().value() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static UsernamePasswordAuthenticationToken token(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, password);
+    }
+}
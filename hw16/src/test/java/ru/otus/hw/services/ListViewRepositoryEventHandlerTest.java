@@ -0,0 +1,51 @@
+package ru.otus.hw.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.data.rest.base-path=/datarest")
+@AutoConfigureMockMvc
+@DisplayName("Сброс закэшированных списков при изменениях через Spring Data REST")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ListViewRepositoryEventHandlerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ListViewVersions listViewVersions;
+
+    @DisplayName("должен сбрасывать списки жанров и книг после изменения жанра")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    @Test
+    void whenPatchGenreThroughDataRest_thenGenreAndBookListsAreInvalidated() throws Exception {
+        //Given
+        long genres = listViewVersions.current(ListView.GENRES);
+        long books = listViewVersions.current(ListView.BOOKS);
+        long authors = listViewVersions.current(ListView.AUTHORS);
+
+        //When
+        mockMvc.perform(patch("/datarest/genre/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Renamed genre\"}")
+                        .with(csrf()))
+                .andExpect(status().is2xxSuccessful());
+
+        //Then
+        assertThat(listViewVersions.current(ListView.GENRES)).isGreaterThan(genres);
+        assertThat(listViewVersions.current(ListView.BOOKS)).isGreaterThan(books);
+        assertThat(listViewVersions.current(ListView.AUTHORS)).isEqualTo(authors);
+    }
+}
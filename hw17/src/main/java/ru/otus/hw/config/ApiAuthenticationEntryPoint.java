@@ -0,0 +1,30 @@
+package ru.otus.hw.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import ru.otus.hw.exceptions.PasswordCheckRejectedException;
+
+import java.io.IOException;
+
+/**
+ * Answers an unauthenticated API request with a bare {@code 401} and the {@code Bearer} and {@code Basic}
+ * challenges, or with {@code 503} when the password checks are saturated. No error page is dispatched,
+ * as that would go through the session-based chain of the UI.
+ */
+public class ApiAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response,
+                         AuthenticationException authException) throws IOException {
+        if (authException instanceof PasswordCheckRejectedException rejected) {
+            LoginFailureHandler.writeRejected(response, rejected);
+            return;
+        }
+        response.addHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        response.addHeader(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"library\"");
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+    }
+}
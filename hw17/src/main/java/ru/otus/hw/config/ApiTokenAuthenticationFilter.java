@@ -0,0 +1,97 @@
+package ru.otus.hw.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.otus.hw.services.ApiTokenService;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Authenticates a request carrying {@code Authorization: Bearer <token>} for this request only. A request
+ * with an invalid or expired token is answered by the entry point; one without a bearer token is passed
+ * on unauthenticated.
+ * <p>
+ * The token alone is trusted everywhere except on the {@code userReloadRequests}, the token endpoint: there
+ * the user is loaded again and has to be enabled, and the request gets the current authorities instead of
+ * those of the token. So renewing tokens can't keep a deactivated user or revoked roles alive.
+ */
+public class ApiTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final String INVALID_TOKEN_MESSAGE = "Invalid or expired API token";
+
+    private final ApiTokenService apiTokenService;
+
+    private final AuthenticationEntryPoint entryPoint;
+
+    private final UserDetailsService userDetailsService;
+
+    private final RequestMatcher userReloadRequests;
+
+    private final UserDetailsChecker userDetailsChecker = new AccountStatusUserDetailsChecker();
+
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+            SecurityContextHolder.getContextHolderStrategy();
+
+    public ApiTokenAuthenticationFilter(ApiTokenService apiTokenService, AuthenticationEntryPoint entryPoint,
+                                        UserDetailsService userDetailsService, RequestMatcher userReloadRequests) {
+        this.apiTokenService = apiTokenService;
+        this.entryPoint = entryPoint;
+        this.userDetailsService = userDetailsService;
+        this.userReloadRequests = userReloadRequests;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        Optional<Authentication> authentication = apiTokenService.verify(
+                header.substring(BEARER_PREFIX.length()).trim());
+        if (authentication.isPresent() && userReloadRequests.matches(request)) {
+            authentication = authentication.flatMap(this::reloadUser);
+        }
+        if (authentication.isEmpty()) {
+            securityContextHolderStrategy.clearContext();
+            entryPoint.commence(request, response, new BadCredentialsException(INVALID_TOKEN_MESSAGE));
+            return;
+        }
+        SecurityContext context = securityContextHolderStrategy.createEmptyContext();
+        context.setAuthentication(authentication.get());
+        securityContextHolderStrategy.setContext(context);
+        chain.doFilter(request, response);
+    }
+
+    private Optional<Authentication> reloadUser(Authentication authentication) {
+        try {
+            UserDetails user = userDetailsService.loadUserByUsername(authentication.getName());
+            userDetailsChecker.check(user);
+            return Optional.of(UsernamePasswordAuthenticationToken.authenticated(user.getUsername(), null,
+                    user.getAuthorities()));
+        } catch (AuthenticationException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ru.otus.hw.config;
+
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Java serialization of session attributes, deflated. Most of a serialized security context are class
+ * descriptors repeated across the object graph, so it shrinks to about half, and any
+ * {@link java.io.Serializable} attribute is still accepted, such as the last login exception.
+ */
+public class CompressingSessionSerializer implements Serializer<Object>, Deserializer<Object> {
+
+    private final DefaultSerializer serializer = new DefaultSerializer();
+
+    private final DefaultDeserializer deserializer;
+
+    public CompressingSessionSerializer(ClassLoader classLoader) {
+        this.deserializer = new DefaultDeserializer(classLoader);
+    }
+
+    @Override
+    public void serialize(Object object, OutputStream outputStream) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            DeflaterOutputStream deflated = new DeflaterOutputStream(outputStream, deflater);
+            serializer.serialize(object, deflated);
+            deflated.finish();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public Object deserialize(InputStream inputStream) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            return deserializer.deserialize(new InflaterInputStream(inputStream, inflater));
+        } finally {
+            inflater.end();
+        }
+    }
+}
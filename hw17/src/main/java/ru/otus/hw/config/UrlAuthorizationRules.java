@@ -0,0 +1,150 @@
+package ru.otus.hw.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.authorization.SingleResultAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * URL rules of the UI chain compiled once into a tree keyed by the first path segment. A request is matched
+ * only against the rules whose pattern can start with its first segment, in the order they were declared,
+ * with patterns parsed at startup; the chain's own {@code requestMatchers} would walk every pattern in turn
+ * and resolve each one against the MVC handler mappings. The variables of the matched pattern reach its
+ * authorization manager as with {@code requestMatchers}.
+ */
+public final class UrlAuthorizationRules implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final List<Rule> rules;
+
+    private final Map<String, List<Rule>> rulesByFirstSegment;
+
+    private final List<Rule> wildcardRules;
+
+    private final AuthorizationManager<RequestAuthorizationContext> otherwise;
+
+    private UrlAuthorizationRules(List<Rule> rules, AuthorizationManager<RequestAuthorizationContext> otherwise) {
+        this.rules = List.copyOf(rules);
+        this.wildcardRules = rules.stream().filter(rule -> rule.firstSegment() == null).toList();
+        Set<String> firstSegments = new LinkedHashSet<>();
+        rules.stream().map(Rule::firstSegment).filter(segment -> segment != null).forEach(firstSegments::add);
+        Map<String, List<Rule>> tree = new HashMap<>();
+        for (String segment : firstSegments) {
+            tree.put(segment, rules.stream()
+                    .filter(rule -> rule.firstSegment() == null || rule.firstSegment().equals(segment))
+                    .toList());
+        }
+        this.rulesByFirstSegment = Map.copyOf(tree);
+        this.otherwise = otherwise;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication,
+                                         RequestAuthorizationContext context) {
+        HttpServletRequest request = context.getRequest();
+        PathContainer path = RequestPath.parse(request.getRequestURI(), request.getContextPath())
+                .pathWithinApplication();
+        for (Rule rule : candidates(path)) {
+            PathPattern.PathMatchInfo match = rule.pattern().matchAndExtract(path);
+            if (match != null) {
+                return rule.manager().authorize(authentication,
+                        new RequestAuthorizationContext(request, match.getUriVariables()));
+            }
+        }
+        return otherwise.authorize(authentication, context);
+    }
+
+    @Override
+    @Deprecated
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        AuthorizationResult result = authorize(authentication, context);
+        return result == null ? null : new AuthorizationDecision(result.isGranted());
+    }
+
+    /**
+     * The rules in the order they were declared, without the final one.
+     */
+    List<Rule> rules() {
+        return rules;
+    }
+
+    private List<Rule> candidates(PathContainer path) {
+        List<PathContainer.Element> elements = path.elements();
+        String firstSegment = elements.size() > 1 && elements.get(1) instanceof PathContainer.PathSegment segment
+                ? segment.valueToMatch()
+                : "";
+        return rulesByFirstSegment.getOrDefault(firstSegment, wildcardRules);
+    }
+
+    record Rule(String patternText, PathPattern pattern, String firstSegment,
+                AuthorizationManager<RequestAuthorizationContext> manager) {
+
+        static Rule of(String patternText, AuthorizationManager<RequestAuthorizationContext> manager) {
+            return new Rule(patternText, PathPatternParser.defaultInstance.parse(patternText),
+                    literalFirstSegment(patternText), manager);
+        }
+
+        /**
+         * The first segment of the pattern if it is plain text, {@code null} if it has wildcards or variables.
+         */
+        private static String literalFirstSegment(String patternText) {
+            int end = patternText.indexOf('/', 1);
+            String segment = patternText.substring(1, end < 0 ? patternText.length() : end);
+            for (char symbol : segment.toCharArray()) {
+                if (symbol == '*' || symbol == '?' || symbol == '{') {
+                    return null;
+                }
+            }
+            return segment;
+        }
+    }
+
+    public static final class Builder {
+
+        private final List<Rule> rules = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder rule(AuthorizationManager<RequestAuthorizationContext> manager, String... patterns) {
+            for (String pattern : patterns) {
+                rules.add(Rule.of(pattern, manager));
+            }
+            return this;
+        }
+
+        public Builder permitAll(String... patterns) {
+            return rule(SingleResultAuthorizationManager.permitAll(), patterns);
+        }
+
+        public Builder hasAnyRole(String[] patterns, String... roles) {
+            return rule(AuthorityAuthorizationManager.hasAnyRole(roles), patterns);
+        }
+
+        /**
+         * Finishes the rules with the one for every request no pattern matches.
+         */
+        public UrlAuthorizationRules otherwise(AuthorizationManager<RequestAuthorizationContext> manager) {
+            return new UrlAuthorizationRules(rules, manager);
+        }
+    }
+}
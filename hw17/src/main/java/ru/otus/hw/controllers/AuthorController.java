@@ -1,5 +1,7 @@
 package ru.otus.hw.controllers;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +21,7 @@ import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.services.AuthorService;
 import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.ListView;
 
 import java.util.List;
 import java.util.Map;
@@ -36,19 +39,13 @@ public class AuthorController {
 
     private final BookService bookService;
 
+    private final RenderedFragmentCache fragmentCache;
+
     @GetMapping("/authors")
     public String getAllAuthors(@RequestHeader(value = HttpHeaders.REFERER, required = false) final String referrer,
-                                Model model) {
-        Map<AuthorDto, Map<Long, String>> authorsAndTheirBooks = authorService.findAll().stream()
-                .collect(Collectors.toMap(
-                        Function.identity(),
-                        author -> bookService.findBooksByAuthorId(author.id()).stream()
-                                .collect(Collectors.toMap(
-                                        BookDto::id,
-                                        BookDto::title
-                                ))
-                ));
-        model.addAttribute("authorsAndTheirBooks", authorsAndTheirBooks);
+                                Model model, HttpServletRequest request, HttpServletResponse response) {
+        model.addAttribute("authorRows", fragmentCache.getOrRender(ListView.AUTHORS, "authors", "author-rows",
+                request, response, () -> Map.of("authorsAndTheirBooks", findAuthorsAndTheirBooks())));
         model.addAttribute("previousUrl", referrer);
         return "authors";
     }
@@ -143,4 +140,16 @@ public class AuthorController {
 
     private record FormConfig(String formAction, String formTitle, boolean isUpdate) {
     }
+
+    private Map<AuthorDto, Map<Long, String>> findAuthorsAndTheirBooks() {
+        return authorService.findAll().stream()
+                .collect(Collectors.toMap(
+                        Function.identity(), // ключ - сам автор
+                        author -> bookService.findBooksByAuthorId(author.id()).stream()
+                                .collect(Collectors.toMap(
+                                        BookDto::id,      // ключ - id книги
+                                        BookDto::title    // значение - title книги
+                                ))
+                ));
+    }
 }
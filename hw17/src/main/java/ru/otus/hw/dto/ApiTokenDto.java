@@ -0,0 +1,9 @@
+package ru.otus.hw.dto;
+
+/**
+ * Bearer token issued to an API client, valid for {@code expiresIn} seconds.
+ */
+public record ApiTokenDto(String accessToken,
+                          String tokenType,
+                          long expiresIn) {
+}
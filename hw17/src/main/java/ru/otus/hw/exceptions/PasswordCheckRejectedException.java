@@ -0,0 +1,21 @@
+package ru.otus.hw.exceptions;
+
+import lombok.Getter;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the password checks are saturated and a login can't even be queued; the client is asked
+ * to retry after {@link #getRetryAfter()}.
+ */
+@Getter
+public class PasswordCheckRejectedException extends AuthenticationServiceException {
+
+    private final Duration retryAfter;
+
+    public PasswordCheckRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
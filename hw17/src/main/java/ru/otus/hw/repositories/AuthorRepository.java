@@ -1,7 +1,15 @@
 package ru.otus.hw.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.otus.hw.dto.AuthorDto;
 import ru.otus.hw.models.Author;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface AuthorRepository extends JpaRepository<Author, Long> {
+    @Query("select new ru.otus.hw.dto.AuthorDto(a.id, a.fullName) from Author a where a.id in :ids")
+    List<AuthorDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
 }
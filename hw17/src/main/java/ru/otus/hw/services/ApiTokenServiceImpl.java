@@ -0,0 +1,136 @@
+package ru.otus.hw.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.dto.ApiTokenDto;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Issues and verifies HMAC-SHA256 signed bearer tokens, {@code base64url(claims).base64url(signature)},
+ * where the claims are the username, the expiry in epoch seconds and the authorities. A token is
+ * verified with the key alone, without loading the user, so a role change or a deactivation takes
+ * effect when the token expires after {@code security.api-token.ttl}; renewing it loads the user again.
+ * <p>
+ * Instances behind one load balancer need the same {@code security.api-token.secret} of at least
+ * 32 bytes. Without one a random key is generated, and tokens only work on the instance that issued
+ * them until it restarts.
+ */
+@Slf4j
+@Service
+public class ApiTokenServiceImpl implements ApiTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final String TOKEN_TYPE = "Bearer";
+
+    private static final int MIN_SECRET_LENGTH = 32;
+
+    private static final String CLAIM_SEPARATOR = "\n";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    private final Duration ttl;
+
+    private final Clock clock;
+
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    @Autowired
+    public ApiTokenServiceImpl(@Value("${security.api-token.secret:}") String secret,
+                               @Value("${security.api-token.ttl:PT1H}") Duration ttl) {
+        this(keyBytes(secret), ttl, Clock.systemUTC());
+    }
+
+    ApiTokenServiceImpl(byte[] secret, Duration ttl, Clock clock) {
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    @Override
+    public ApiTokenDto issue(Authentication authentication) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+        byte[] claims = String.join(CLAIM_SEPARATOR, authentication.getName(), String.valueOf(expiresAt),
+                authorities).getBytes(StandardCharsets.UTF_8);
+        String token = ENCODER.encodeToString(claims) + "." + ENCODER.encodeToString(sign(claims));
+        return new ApiTokenDto(token, TOKEN_TYPE, ttl.toSeconds());
+    }
+
+    @Override
+    public Optional<Authentication> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        byte[] claims;
+        byte[] signature;
+        try {
+            claims = DECODER.decode(token.substring(0, dot));
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!MessageDigest.isEqual(sign(claims), signature)) {
+            return Optional.empty();
+        }
+        String[] values = new String(claims, StandardCharsets.UTF_8).split(CLAIM_SEPARATOR, -1);
+        if (values.length != 3 || clock.instant().getEpochSecond() >= Long.parseLong(values[1])) {
+            return Optional.empty();
+        }
+        return Optional.of(UsernamePasswordAuthenticationToken.authenticated(values[0], null,
+                AuthorityUtils.commaSeparatedStringToAuthorityList(values[2])));
+    }
+
+    private byte[] sign(byte[] claims) {
+        return macs.get().doFinal(claims);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] keyBytes(String secret) {
+        if (secret.isBlank()) {
+            log.warn("No security.api-token.secret set, API tokens are signed with a random key of this instance");
+            byte[] random = new byte[MIN_SECRET_LENGTH];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_LENGTH) {
+            throw new IllegalStateException("security.api-token.secret must be at least %d bytes long"
+                    .formatted(MIN_SECRET_LENGTH));
+        }
+        return bytes;
+    }
+}
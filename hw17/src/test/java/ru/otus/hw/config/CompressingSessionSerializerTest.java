@@ -0,0 +1,52 @@
+package ru.otus.hw.config;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Сжатая сериализация атрибутов сессии")
+class CompressingSessionSerializerTest {
+
+    private final CompressingSessionSerializer serializer =
+            new CompressingSessionSerializer(CompressingSessionSerializerTest.class.getClassLoader());
+
+    @DisplayName("должен восстанавливать контекст безопасности из меньшего объема, чем обычная сериализация")
+    @Test
+    void whenSerializeSecurityContext_thenRestoredFromFewerBytes() {
+        //Given
+        UserDetails user = User.withUsername("admin").password("password").roles("ADMIN", "READER").build();
+        SecurityContext context = new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+
+        //When
+        byte[] compressed = new SerializingConverter(serializer).convert(context);
+        byte[] plain = new SerializingConverter().convert(context);
+        Object restored = new DeserializingConverter(serializer).convert(compressed);
+
+        //Then
+        assertThat(restored).isEqualTo(context);
+        assertThat(compressed.length).isLessThan(plain.length * 2 / 3);
+    }
+
+    @DisplayName("должен сохранять любые сериализуемые атрибуты, например ошибку входа")
+    @Test
+    void whenSerializeLoginException_thenRestored() {
+        //When
+        Object restored = new DeserializingConverter(serializer).convert(new SerializingConverter(serializer)
+                .convert(new BadCredentialsException("Bad credentials")));
+
+        //Then
+        assertThat(restored).asInstanceOf(InstanceOfAssertFactories.throwable(BadCredentialsException.class))
+                .hasMessage("Bad credentials");
+    }
+}
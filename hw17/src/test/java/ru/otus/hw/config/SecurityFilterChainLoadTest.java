@@ -0,0 +1,242 @@
+package ru.otus.hw.config;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-request overhead of the security filters alone: mock requests go through the filter chain proxy on one
+ * thread and end in an empty servlet. The chains of the application are compared with the ones requests went
+ * through before: static files and probes in the UI and API chains, and the UI rules matched one by one by
+ * the MVC matchers of {@code requestMatchers}. Excluded from the regular build, run with
+ * {@code mvn test -Pload-test -Dtest=SecurityFilterChainLoadTest}; the sample is set with
+ * {@code -Dload.iterations=100000} and split into alternating rounds, the best round of each side counts.
+ */
+@Tag("load")
+@DisplayName("Микробенчмарк накладных расходов цепочек фильтров безопасности на запрос")
+@SpringBootTest
+class SecurityFilterChainLoadTest {
+
+    private static final int ROUNDS = 5;
+
+    private static final List<String> UI_URL_MIX = List.of(
+            "/", "/books", "/books/1/details", "/books/1/comments", "/books/1/comments/add",
+            "/books/1/comments/1/edit", "/books/1/comments/1/delete", "/authors/1/edit", "/genres/1/delete",
+            "/access-denied");
+
+    @Autowired
+    @Qualifier("springSecurityFilterChain")
+    private FilterChainProxy springSecurityFilterChain;
+
+    @Autowired
+    @Qualifier("apiSecurityFilterChain")
+    private SecurityFilterChain apiSecurityFilterChain;
+
+    @Autowired
+    private UrlAuthorizationRules uiAuthorizationRules;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${load.iterations:100000}")
+    private int iterations;
+
+    private SecurityFilterChain linearUiFilterChain;
+
+    private Filter previousFilterChain;
+
+    private Filter currentFilterChain;
+
+    /**
+     * Both proxies are built without the observation of every filter the application's proxy has, which
+     * would otherwise take most of the time measured.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        linearUiFilterChain = linearUiFilterChain();
+        previousFilterChain = new FilterChainProxy(List.of(apiSecurityFilterChain, linearUiFilterChain));
+        currentFilterChain = new FilterChainProxy(springSecurityFilterChain.getFilterChains());
+    }
+
+    @DisplayName("должен пропускать статические файлы и проверки состояния по короткому пути быстрее прежнего")
+    @Test
+    void whenRequestThroughChains_thenFastPathCostsLess() throws Exception {
+        //Given
+        MockHttpSession readerSession = sessionOf(authentication("reader", "ROLE_READER"));
+        MockHttpSession adminSession = sessionOf(authentication("admin", "ROLE_ADMIN"));
+        List<Row> rows = new ArrayList<>();
+
+        //When
+        rows.add(compareChains("GET /favicon.ico, anonymous", () -> request("/favicon.ico", null)));
+        rows.add(compareChains("GET /actuator/health, anonymous", () -> request("/actuator/health", null)));
+        rows.add(compareChains("GET /books, reader", () -> request("/books", readerSession)));
+        rows.add(compareChains("GET /books/1/comments/1/edit, admin",
+                () -> request("/books/1/comments/1/edit", adminSession)));
+
+        //Then
+        print(rows);
+        assertThat(rows).allSatisfy(row -> assertThat(row.sameOutcome()).isTrue());
+        assertThat(rows.subList(0, 2)).allSatisfy(row ->
+                assertThat(row.currentNanos()).isLessThan(row.previousNanos()));
+    }
+
+    @DisplayName("должен проверять права по дереву правил быстрее перебора сопоставителей запросов")
+    @Test
+    void whenAuthorizeUrlMix_thenRuleTreeCostsLessThanLinearMatchers() throws Exception {
+        //Given
+        AuthorizationManager<HttpServletRequest> linearRules = linearUiFilterChain.getFilters().stream()
+                .filter(AuthorizationFilter.class::isInstance)
+                .map(AuthorizationFilter.class::cast)
+                .findFirst()
+                .orElseThrow()
+                .getAuthorizationManager();
+        Authentication admin = authentication("admin", "ROLE_ADMIN");
+        List<MockHttpServletRequest> requests = UI_URL_MIX.stream().map(uri -> request(uri, null)).toList();
+        int[] next = {0};
+        Supplier<MockHttpServletRequest> mix = () -> requests.get(next[0]++ % requests.size());
+
+        //When
+        boolean sameDecisions = requests.stream().allMatch(request ->
+                linearRules.authorize(() -> admin, request).isGranted()
+                        == uiAuthorizationRules.authorize(() -> admin, new RequestAuthorizationContext(request))
+                        .isGranted());
+        double[] nanos = compare(
+                () -> linearRules.authorize(() -> admin, mix.get()),
+                () -> uiAuthorizationRules.authorize(() -> admin, new RequestAuthorizationContext(mix.get())));
+
+        //Then
+        Row row = new Row("authorize " + requests.size() + " UI URLs, admin", nanos[0], nanos[1], sameDecisions);
+        print(List.of(row));
+        assertThat(row.sameOutcome()).isTrue();
+        assertThat(row.currentNanos()).isLessThan(row.previousNanos());
+    }
+
+    /**
+     * The UI chain as it was configured before: the same rules, each one a {@code requestMatchers} entry,
+     * with the static files among the public URLs.
+     */
+    private SecurityFilterChain linearUiFilterChain() throws Exception {
+        HttpSecurity http = applicationContext.getBean(HttpSecurity.class);
+        http.csrf(csrf -> csrf.ignoringRequestMatchers("/h2-console/**"))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.ALWAYS))
+                .authorizeHttpRequests(authorize -> {
+                    authorize.requestMatchers("/favicon*.ico").permitAll();
+                    uiAuthorizationRules.rules().forEach(rule ->
+                            authorize.requestMatchers(rule.patternText()).access(rule.manager()));
+                    authorize.anyRequest().authenticated();
+                })
+                .formLogin(form -> form.loginPage("/login").permitAll())
+                .logout(logout -> logout.logoutUrl("/logout").permitAll());
+        return http.build();
+    }
+
+    private Row compareChains(String scenario, Supplier<MockHttpServletRequest> requests) throws Exception {
+        boolean sameOutcome = passes(previousFilterChain, requests.get())
+                && passes(currentFilterChain, requests.get());
+        double[] nanos = compare(
+                () -> previousFilterChain.doFilter(requests.get(), new MockHttpServletResponse(),
+                        new MockFilterChain()),
+                () -> currentFilterChain.doFilter(requests.get(), new MockHttpServletResponse(),
+                        new MockFilterChain()));
+        return new Row(scenario, nanos[0], nanos[1], sameOutcome);
+    }
+
+    /**
+     * Runs both calls in alternating rounds after a warm-up round of each.
+     *
+     * @return the average nanoseconds of one call in the best round of each, the previous one first
+     */
+    private double[] compare(Call previous, Call current) throws Exception {
+        int perRound = Math.max(1, iterations / ROUNDS);
+        run(previous, perRound);
+        run(current, perRound);
+        double[] best = {Double.MAX_VALUE, Double.MAX_VALUE};
+        for (int round = 0; round < ROUNDS; round++) {
+            best[0] = Math.min(best[0], run(previous, perRound));
+            best[1] = Math.min(best[1], run(current, perRound));
+        }
+        return best;
+    }
+
+    private static double run(Call call, int count) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            call.run();
+        }
+        return (System.nanoTime() - start) / (double) count;
+    }
+
+    private static boolean passes(Filter filter, MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain.getRequest() != null;
+    }
+
+    /**
+     * A request as the container gives it to the dispatcher servlet mapped at {@code /}.
+     */
+    private static MockHttpServletRequest request(String uri, MockHttpSession session) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setServletPath(uri);
+        request.setSession(session);
+        return request;
+    }
+
+    private static Authentication authentication(String username, String authority) {
+        return UsernamePasswordAuthenticationToken.authenticated(username, null,
+                AuthorityUtils.createAuthorityList(authority));
+    }
+
+    private static MockHttpSession sessionOf(Authentication authentication) {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl(authentication));
+        return session;
+    }
+
+    private static void print(List<Row> rows) {
+        System.out.printf(Locale.ROOT, "%n%-40s %14s %14s%n", "Request", "before, ns", "after, ns");
+        rows.forEach(row -> System.out.printf(Locale.ROOT, "%-40s %14.0f %14.0f%n",
+                row.scenario(), row.previousNanos(), row.currentNanos()));
+    }
+
+    @FunctionalInterface
+    private interface Call {
+
+        void run() throws Exception;
+    }
+
+    private record Row(String scenario, double previousNanos, double currentNanos, boolean sameOutcome) {
+    }
+}
@@ -0,0 +1,161 @@
+package ru.otus.hw.controllers;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.otus.hw.models.User;
+import ru.otus.hw.repositories.UserRepository;
+import ru.otus.hw.services.ApiTokenService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Аутентификация клиентов API по токену без сессии")
+class ApiSecurityIntegrationTest {
+
+    private static final String SESSION_COOKIE = "SESSION";
+
+    private static final String DEACTIVATED_USERNAME = "librarian2";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApiTokenService apiTokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        setActive(DEACTIVATED_USERNAME, true);
+    }
+
+    @DisplayName("должен выдавать токен по логину и паролю без создания сессии")
+    @Test
+    void whenRequestTokenWithBasicAuth_thenTokenIssuedWithoutSession() throws Exception {
+        //When
+        MvcResult result = mockMvc.perform(post("/api/token").with(httpBasic("admin", "admin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.expiresIn").isNumber())
+                .andReturn();
+
+        //Then
+        assertThat(apiTokenService.verify(JsonPath.read(result.getResponse().getContentAsString(),
+                "$.accessToken"))).hasValueSatisfying(authentication ->
+                assertThat(authentication.getName()).isEqualTo("admin"));
+        assertThat(result.getResponse().getCookie(SESSION_COOKIE)).isNull();
+    }
+
+    @DisplayName("должен обновлять токен по действующему токену без сессии с текущими ролями пользователя")
+    @Test
+    void whenRenewTokenWithBearerToken_thenIssuedWithCurrentAuthoritiesWithoutSession() throws Exception {
+        //Given
+        String token = tokenFor("admin", "ROLE_READER");
+
+        //When
+        MvcResult result = mockMvc.perform(post("/api/token")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        assertThat(apiTokenService.verify(JsonPath.read(result.getResponse().getContentAsString(),
+                "$.accessToken"))).hasValueSatisfying(authentication ->
+                assertThat(AuthorityUtils.authorityListToSet(authentication.getAuthorities()))
+                        .contains("ROLE_ADMIN", "ROLE_READER"));
+        assertThat(result.getResponse().getCookie(SESSION_COOKIE)).isNull();
+    }
+
+    @DisplayName("должен отказывать в обновлении токена отключенному пользователю")
+    @Test
+    void whenRenewTokenOfDeactivatedUser_thenUnauthorized() throws Exception {
+        //Given
+        String token = tokenFor(DEACTIVATED_USERNAME, "ROLE_LIBRARIAN");
+        mockMvc.perform(post("/api/token")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        //When
+        setActive(DEACTIVATED_USERNAME, false);
+
+        //Then
+        mockMvc.perform(post("/api/token")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().stringValues(HttpHeaders.WWW_AUTHENTICATE, "Bearer", "Basic realm=\"library\""));
+    }
+
+    @DisplayName("должен отвечать 401 без сессии на неверный токен")
+    @Test
+    void whenRequestWithInvalidToken_thenUnauthorizedWithoutSession() throws Exception {
+        //When
+        MvcResult result = mockMvc.perform(post("/api/token")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer forged.token"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().stringValues(HttpHeaders.WWW_AUTHENTICATE, "Bearer", "Basic realm=\"library\""))
+                .andReturn();
+
+        //Then
+        assertThat(result.getResponse().getCookie(SESSION_COOKIE)).isNull();
+    }
+
+    @DisplayName("должен отвечать анонимной проверке actuator без создания сессии")
+    @Test
+    void whenProbeActuatorAnonymously_thenNoSessionCreated() throws Exception {
+        MvcResult result = mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getCookie(SESSION_COOKIE)).isNull();
+    }
+
+    @DisplayName("должен отдавать статические файлы без сессии, но с заголовками безопасности")
+    @Test
+    void whenRequestStaticResource_thenNoSessionButSecurityHeaders() throws Exception {
+        MvcResult result = mockMvc.perform(get("/favicon.ico"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andReturn();
+
+        assertThat(result.getResponse().getCookie(SESSION_COOKIE)).isNull();
+    }
+
+    @DisplayName("должен по-прежнему создавать сессию для страниц интерфейса")
+    @Test
+    void whenRequestUiPage_thenSessionCreated() throws Exception {
+        MvcResult result = mockMvc.perform(get("/login"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getCookie(SESSION_COOKIE)).isNotNull();
+    }
+
+    private void setActive(String username, boolean active) {
+        User user = userRepository.findByUsername(username).orElseThrow();
+        user.setIsActive(active);
+        userRepository.save(user);
+    }
+
+    private String tokenFor(String username, String... authorities) {
+        return apiTokenService.issue(UsernamePasswordAuthenticationToken.authenticated(username, null,
+                AuthorityUtils.createAuthorityList(authorities))).accessToken();
+    }
+}
@@ -1,10 +1,12 @@
 package ru.otus.hw.controllers;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
@@ -13,12 +15,13 @@ import ru.otus.hw.dto.AuthorDto;
 import ru.otus.hw.dto.BookDto;
 import ru.otus.hw.services.AuthorService;
 import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.ListView;
+import ru.otus.hw.services.ListViewVersions;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.HashMap;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
@@ -36,6 +39,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @DisplayName("Контроллер для работы с авторами")
 @WebMvcTest(AuthorController.class)
+@Import({RenderedFragmentCache.class, ListViewVersions.class, SimpleMeterRegistry.class})
 @WithMockUser(username = "admin")
 class AuthorControllerTest {
 
@@ -45,6 +49,9 @@ class AuthorControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ListViewVersions listViewVersions;
+
     @MockitoBean
     private AuthorService authorService;
 
@@ -56,6 +63,7 @@ class AuthorControllerTest {
 
     @BeforeEach
     void setUp() {
+        listViewVersions.invalidate(ListView.values());
         testAuthorDto = new AuthorDto(PRESENT_ID, "Test Author");
         testBookDto = new BookDto(PRESENT_ID, "Test Book", testAuthorDto, List.of());
     }
@@ -67,11 +75,6 @@ class AuthorControllerTest {
         List<AuthorDto> authors = List.of(testAuthorDto);
         List<BookDto> books = List.of(testBookDto);
 
-        Map<AuthorDto, Map<Long, String>> authorsAndTheirBooks = new HashMap<>();
-        Map<Long, String> bookMap = new HashMap<>();
-        bookMap.put(testBookDto.id(), testBookDto.title());
-        authorsAndTheirBooks.put(testAuthorDto, bookMap);
-
         //When
         when(authorService.findAll()).thenReturn(authors);
         when(bookService.findBooksByAuthorId(PRESENT_ID)).thenReturn(books);
@@ -81,7 +84,8 @@ class AuthorControllerTest {
                         .header("Referer", "/books"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("authors"))
-                .andExpect(model().attribute("authorsAndTheirBooks", authorsAndTheirBooks))
+                .andExpect(model().attribute("authorRows", containsString(testAuthorDto.fullName())))
+                .andExpect(model().attribute("authorRows", containsString(testBookDto.title())))
                 .andExpect(model().attribute("previousUrl", "/books"));
 
         verify(authorService, times(1)).findAll();
@@ -0,0 +1,120 @@
+package ru.otus.hw.controllers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import ru.otus.hw.HW17Application;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two instances of the application on one database, as behind a load balancer without sticky sessions:
+ * the client keeps one session cookie and sends its requests to either instance.
+ */
+@DisplayName("Общее хранилище сессий нескольких экземпляров приложения")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class SharedSessionIntegrationTest {
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+
+    @LocalServerPort
+    private int firstPort;
+
+    private ConfigurableApplicationContext secondInstance;
+
+    private int secondPort;
+
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        secondInstance = new SpringApplicationBuilder(HW17Application.class)
+                .properties("server.port=0", "spring.shell.interactive.enabled=false")
+                .run();
+        secondPort = ((WebServerApplicationContext) secondInstance).getWebServer().getPort();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        secondInstance.close();
+    }
+
+    @DisplayName("должен пускать на второй экземпляр пользователя, вошедшего на первом")
+    @Test
+    void whenLoginOnFirstInstance_thenAuthenticatedOnSecond() throws Exception {
+        //When
+        HttpResponse<String> login = post(firstPort, "/login",
+                "username=admin&password=admin&_csrf=" + csrfToken(firstPort));
+        HttpResponse<String> books = get(secondPort, "/books");
+
+        //Then
+        assertThat(login.statusCode()).isEqualTo(302);
+        assertThat(login.headers().firstValue(HttpHeaders.LOCATION)).hasValueSatisfying(location ->
+                assertThat(location).doesNotContain("error"));
+        assertThat(books.statusCode()).isEqualTo(200);
+        assertThat(secondInstance.getBean(MeterRegistry.class).get("library.session.store")
+                .tag("operation", "find").timer().count()).isPositive();
+    }
+
+    @DisplayName("должен завершать сессию на всех экземплярах после выхода на одном из них")
+    @Test
+    void whenLogoutOnSecondInstance_thenSessionEndsOnFirst() throws Exception {
+        //Given
+        post(firstPort, "/login", "username=admin&password=admin&_csrf=" + csrfToken(firstPort));
+
+        //When
+        HttpResponse<String> logout = post(secondPort, "/logout", "_csrf=" + csrfToken(secondPort));
+        HttpResponse<String> books = get(firstPort, "/books");
+
+        //Then
+        assertThat(logout.statusCode()).isEqualTo(302);
+        assertThat(books.statusCode()).isEqualTo(302);
+        assertThat(books.headers().firstValue(HttpHeaders.LOCATION)).hasValueSatisfying(location ->
+                assertThat(location).endsWith("/login"));
+    }
+
+    private String csrfToken(int port) throws IOException, InterruptedException {
+        Matcher token = CSRF_TOKEN.matcher(get(port, "/login").body());
+        assertThat(token.find()).isTrue();
+        return token.group(1);
+    }
+
+    private HttpResponse<String> get(int port, String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(port, path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(int port, String path, String form) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(port, path))
+                        .header(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI uri(int port, String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
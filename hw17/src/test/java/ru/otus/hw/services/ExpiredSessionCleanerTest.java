@@ -0,0 +1,61 @@
+package ru.otus.hw.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Удаление истекших сессий пачками")
+@JdbcTest
+class ExpiredSessionCleanerTest {
+
+    private static final long NOW = Instant.parse("2026-10-19T12:00:00Z").toEpochMilli();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("должен удалять все истекшие сессии вместе с атрибутами и оставлять действующие")
+    @Test
+    void whenCleanUp_thenExpiredSessionsRemovedInBatches() {
+        //Given
+        for (int i = 1; i <= 5; i++) {
+            insertSession(NOW - i);
+        }
+        insertSession(NOW + 60_000);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExpiredSessionCleaner cleaner = new ExpiredSessionCleaner(jdbcTemplate, 2, "spring_session",
+                Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC), meterRegistry);
+
+        //When
+        int deleted = cleaner.cleanUpExpiredSessions();
+
+        //Then
+        assertThat(deleted).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForList("select expiry_time from spring_session", Long.class))
+                .containsExactly(NOW + 60_000);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from spring_session_attributes", Integer.class))
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("library.session.cleanup.deleted").counter().count()).isEqualTo(5);
+    }
+
+    private void insertSession(long expiryTime) {
+        String primaryId = UUID.randomUUID().toString();
+        jdbcTemplate.update("""
+                        insert into spring_session (primary_id, session_id, creation_time, last_access_time,
+                            max_inactive_interval, expiry_time) values (?, ?, ?, ?, ?, ?)""",
+                primaryId, UUID.randomUUID().toString(), NOW - 3_600_000, NOW - 1_800_000, 1800, expiryTime);
+        jdbcTemplate.update("""
+                        insert into spring_session_attributes (session_primary_id, attribute_name, attribute_bytes)
+                        values (?, ?, ?)""",
+                primaryId, "SPRING_SECURITY_CONTEXT", new byte[]{1});
+    }
+}
@@ -0,0 +1,47 @@
+package ru.otus.hw.config;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import ru.otus.hw.exceptions.PasswordCheckRejectedException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Answers a login rejected by saturated password checks with {@code 503} and {@code Retry-After} right
+ * away, without an error page dispatch; any other failure goes back to the login form.
+ */
+public class LoginFailureHandler implements AuthenticationFailureHandler {
+
+    private final AuthenticationFailureHandler formFailureHandler;
+
+    public LoginFailureHandler(String failureUrl) {
+        this.formFailureHandler = new SimpleUrlAuthenticationFailureHandler(failureUrl);
+    }
+
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
+                                        AuthenticationException exception) throws IOException, ServletException {
+        if (exception instanceof PasswordCheckRejectedException rejected) {
+            writeRejected(response, rejected);
+            return;
+        }
+        formFailureHandler.onAuthenticationFailure(request, response, exception);
+    }
+
+    static void writeRejected(HttpServletResponse response, PasswordCheckRejectedException rejected)
+            throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, rejected.getRetryAfter().toSeconds())));
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(rejected.getMessage());
+    }
+}
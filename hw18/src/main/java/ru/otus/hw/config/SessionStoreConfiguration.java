@@ -0,0 +1,57 @@
+package ru.otus.hw.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+
+/**
+ * HTTP sessions live in the {@code spring_session} tables of the library database, so every instance
+ * serves every user and a load balancer needs no sticky sessions. Attributes are stored compressed
+ * with {@link CompressingSessionSerializer}, written only when set and read back only when asked for;
+ * store calls are timed by {@link TimedSessionRepository} and expired sessions are removed in batches
+ * by {@link ru.otus.hw.services.ExpiredSessionCleaner}.
+ */
+@Configuration
+@EnableScheduling
+public class SessionStoreConfiguration {
+
+    /**
+     * Picked up by Spring Session by this name to convert attributes to and from the stored bytes.
+     */
+    @Bean
+    public ConversionService springSessionConversionService() {
+        CompressingSessionSerializer serializer =
+                new CompressingSessionSerializer(SessionStoreConfiguration.class.getClassLoader());
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, new SerializingConverter(serializer));
+        conversionService.addConverter(byte[].class, Object.class, new DeserializingConverter(serializer));
+        return conversionService;
+    }
+
+    @Bean
+    public static BeanPostProcessor timedSessionRepositoryPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof FindByIndexNameSessionRepository<?> repository) {
+                    return timed(repository, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static <S extends Session> TimedSessionRepository<S> timed(FindByIndexNameSessionRepository<S> repository,
+                                                                       MeterRegistry meterRegistry) {
+        return new TimedSessionRepository<>(repository, meterRegistry);
+    }
+}
@@ -0,0 +1,68 @@
+package ru.otus.hw.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+
+import java.util.Map;
+
+/**
+ * Times the calls of the session store as {@code library.session.store} tagged with the operation. A request
+ * with a session loads it once and saves it once, so the {@code find} and {@code save} timers are the store
+ * latency every such request pays, next to its own {@code http.server.requests} time.
+ */
+public class TimedSessionRepository<S extends Session> implements FindByIndexNameSessionRepository<S> {
+
+    private static final String METRIC_NAME = "library.session.store";
+
+    private final FindByIndexNameSessionRepository<S> delegate;
+
+    private final Timer findTimer;
+
+    private final Timer saveTimer;
+
+    private final Timer deleteTimer;
+
+    private final Timer findByIndexTimer;
+
+    public TimedSessionRepository(FindByIndexNameSessionRepository<S> delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.findTimer = timer("find", meterRegistry);
+        this.saveTimer = timer("save", meterRegistry);
+        this.deleteTimer = timer("delete", meterRegistry);
+        this.findByIndexTimer = timer("find-by-index", meterRegistry);
+    }
+
+    @Override
+    public S createSession() {
+        return delegate.createSession();
+    }
+
+    @Override
+    public void save(S session) {
+        saveTimer.record(() -> delegate.save(session));
+    }
+
+    @Override
+    public S findById(String id) {
+        return findTimer.record(() -> delegate.findById(id));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        deleteTimer.record(() -> delegate.deleteById(id));
+    }
+
+    @Override
+    public Map<String, S> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+        return findByIndexTimer.record(() -> delegate.findByIndexNameAndIndexValue(indexName, indexValue));
+    }
+
+    private static Timer timer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder(METRIC_NAME)
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
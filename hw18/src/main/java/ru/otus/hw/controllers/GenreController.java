@@ -1,5 +1,7 @@
 package ru.otus.hw.controllers;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,8 +19,9 @@ import ru.otus.hw.dto.GenreDto;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Genre;
 import ru.otus.hw.services.GenreService;
+import ru.otus.hw.services.ListView;
 
-import java.util.List;
+import java.util.Map;
 
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 
@@ -29,11 +32,13 @@ public class GenreController {
 
     private final GenreService genreService;
 
+    private final RenderedFragmentCache fragmentCache;
+
     @GetMapping("/genres")
     public String getAllGenres(@RequestHeader(value = HttpHeaders.REFERER, required = false) final String referrer,
-                               Model model) {
-        List<GenreDto> genres = genreService.findAll();
-        model.addAttribute("genres", genres);
+                               Model model, HttpServletRequest request, HttpServletResponse response) {
+        model.addAttribute("genreRows", fragmentCache.getOrRender(ListView.GENRES, "fragments/tables", "genre-rows",
+                request, response, () -> Map.of("genres", genreService.findAll())));
         model.addAttribute("previousUrl", referrer);
         return "genres";
     }
@@ -19,6 +19,8 @@ import java.util.Optional;
 import java.util.Set;
 
 import static org.springframework.util.CollectionUtils.isEmpty;
+import static ru.otus.hw.services.ListView.AUTHORS;
+import static ru.otus.hw.services.ListView.BOOKS;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
 
@@ -35,6 +37,8 @@ public class AuthorServiceImpl implements AuthorService {
 
     private final AuthorMapper mapper;
 
+    private final ListViewVersions listViewVersions;
+
     @Override
     @CircuitBreaker(name = AUTHOR_SERVICE, fallbackMethod = "findAllCircuitBreakerFallback")
     public List<AuthorDto> findAll() {
@@ -75,6 +79,7 @@ public class AuthorServiceImpl implements AuthorService {
     @Transactional
     @CircuitBreaker(name = AUTHOR_SERVICE, fallbackMethod = "insertCircuitBreakerFallback")
     public AuthorDto insert(@Valid String fullName) {
+        listViewVersions.invalidate(AUTHORS, BOOKS);
         return mapper.toAuthorDto(authorRepository.save(new Author(fullName)));
     }
 
@@ -87,6 +92,7 @@ public class AuthorServiceImpl implements AuthorService {
     @Transactional
     @CircuitBreaker(name = AUTHOR_SERVICE, fallbackMethod = "updateCircuitBreakerFallback")
     public AuthorDto update(Long id, @Valid String fullName) {
+        listViewVersions.invalidate(AUTHORS, BOOKS);
         Author author = authorRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Author.class.getSimpleName(), id)));
@@ -104,6 +110,7 @@ public class AuthorServiceImpl implements AuthorService {
     @Transactional
     @CircuitBreaker(name = AUTHOR_SERVICE, fallbackMethod = "deleteByIdCircuitBreakerFallback")
     public void deleteById(Long id) {
+        listViewVersions.invalidate(AUTHORS, BOOKS);
         authorRepository.deleteById(id);
     }
 
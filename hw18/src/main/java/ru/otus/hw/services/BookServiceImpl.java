@@ -12,21 +12,17 @@ import ru.otus.hw.dto.mapper.BookMapper;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
-import ru.otus.hw.models.Genre;
 import ru.otus.hw.repositories.AuthorRepository;
 import ru.otus.hw.repositories.BookRepository;
-import ru.otus.hw.repositories.GenreRepository;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 
-import static org.springframework.util.CollectionUtils.isEmpty;
-import static ru.otus.hw.utils.ValidationMessages.ENTITY_LIST_NOT_FOUND_MESSAGE;
+import static ru.otus.hw.services.ListView.AUTHORS;
+import static ru.otus.hw.services.ListView.BOOKS;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
-import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
 
 @Slf4j
 @Service
@@ -38,12 +34,14 @@ public class BookServiceImpl implements BookService {
 
     private final AuthorRepository authorRepository;
 
-    private final GenreRepository genreRepository;
-
     private final BookRepository bookRepository;
 
+    private final BookReferenceService bookReferenceService;
+
     private final BookMapper mapper;
 
+    private final ListViewVersions listViewVersions;
+
     @Override
     @CircuitBreaker(name = BOOK_SERVICE, fallbackMethod = "findAllCircuitBreakerFallback")
     public List<BookDto> findAll() {
@@ -99,9 +97,10 @@ public class BookServiceImpl implements BookService {
     @Transactional
     @CircuitBreaker(name = BOOK_SERVICE, fallbackMethod = "insertCircuitBreakerFallback")
     public BookDto insert(@Valid String title, Long authorId, Set<Long> genresIds) {
-        ValidationResult validationResult = getValidationResult(authorId, genresIds);
-        Book book = new Book(title, validationResult.author(), validationResult.genres());
-        return mapper.toBookDto(bookRepository.save(book));
+        listViewVersions.invalidate(BOOKS, AUTHORS);
+        BookReferences references = bookReferenceService.newResolver().resolve(authorId, genresIds);
+        Book book = new Book(title, references.author(), references.genres());
+        return references.toBookDto(bookRepository.save(book));
     }
 
     private BookDto insertCircuitBreakerFallback(String title, Long authorId, Set<Long> genresIds, Exception e) {
@@ -113,14 +112,15 @@ public class BookServiceImpl implements BookService {
     @Transactional
     @CircuitBreaker(name = BOOK_SERVICE, fallbackMethod = "updateCircuitBreakerFallback")
     public BookDto update(Long id, @Valid String title, Long authorId, Set<Long> genresIds) {
-        ValidationResult validationResult = getValidationResult(authorId, genresIds);
+        listViewVersions.invalidate(BOOKS, AUTHORS);
+        BookReferences references = bookReferenceService.newResolver().resolve(authorId, genresIds);
         Book book = bookRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Book.class.getSimpleName(), id)));
         book.setTitle(title);
-        book.setAuthor(validationResult.author());
-        book.setGenres(validationResult.genres);
-        return mapper.toBookDto(bookRepository.save(book));
+        book.setAuthor(references.author());
+        book.setGenres(references.genres());
+        return references.toBookDto(bookRepository.save(book));
     }
 
     private BookDto updateCircuitBreakerFallback(Long id, String title, Long authorId, Set<Long> genresIds,
@@ -134,28 +134,11 @@ public class BookServiceImpl implements BookService {
     @Transactional
     @CircuitBreaker(name = BOOK_SERVICE, fallbackMethod = "deleteByIdCircuitBreakerFallback")
     public void deleteById(Long id) {
+        listViewVersions.invalidate(BOOKS, AUTHORS);
         bookRepository.deleteById(id);
     }
 
     private void deleteByIdCircuitBreakerFallback(Long id, Exception e) {
         log.warn("Circuit Breaker fallback: deleteById method called for id: {}. Error: {}", id, e.getMessage());
     }
-
-    private ValidationResult getValidationResult(Long authorId, Set<Long> genresIds) {
-        if (isEmpty(genresIds)) {
-            throw new IllegalArgumentException(ILLEGAL_ARGUMENT_MESSAGE.getMessage(Genre.class.getSimpleName()));
-        }
-        Author author = authorRepository.findById(authorId)
-                .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
-                        .getMessage(Author.class.getSimpleName(), authorId)));
-        List<Genre> genres = genreRepository.findAllById(genresIds);
-        if (genresIds.size() != genres.size()) {
-            throw new IllegalArgumentException(ENTITY_LIST_NOT_FOUND_MESSAGE
-                    .getMessage(Genre.class.getSimpleName().toLowerCase(Locale.ROOT), genresIds));
-        }
-        return new ValidationResult(author, genres);
-    }
-
-    private record ValidationResult(Author author, List<Genre> genres) {
-    }
 }
\ No newline at end of file
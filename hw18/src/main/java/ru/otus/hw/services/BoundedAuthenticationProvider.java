@@ -0,0 +1,98 @@
+package ru.otus.hw.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.exceptions.PasswordCheckRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks login passwords on a pool of {@code security.password-check.threads} threads instead of the
+ * request threads, so a burst of logins can use only that many cores for hashing and page rendering
+ * goes on. Up to {@code security.password-check.queue-capacity} logins wait for a free thread; beyond
+ * that a login is rejected at once with {@link PasswordCheckRejectedException}.
+ * <p>
+ * The pool is published as the {@code password-check} executor metrics ({@code executor.queued},
+ * {@code executor.active} and others) and rejections as {@code library.password.check.rejected}.
+ * A successful login with an outdated hash stores a new one through {@link UserDetailsServiceImpl}.
+ */
+@Component
+public class BoundedAuthenticationProvider implements AuthenticationProvider, DisposableBean {
+
+    private static final String REJECTED_MESSAGE = "Too many logins are being checked, retry later";
+
+    private final DaoAuthenticationProvider delegate;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Duration retryAfter;
+
+    private final Counter rejected;
+
+    public BoundedAuthenticationProvider(UserDetailsServiceImpl userDetailsService, PasswordEncoder passwordEncoder,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${security.password-check.threads:4}") int threads,
+                                         @Value("${security.password-check.queue-capacity:32}") int queueCapacity,
+                                         @Value("${security.password-check.retry-after:PT2S}") Duration retryAfter) {
+        this.delegate = new DaoAuthenticationProvider(userDetailsService);
+        this.delegate.setPasswordEncoder(passwordEncoder);
+        this.delegate.setUserDetailsPasswordService(userDetailsService);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-check-"));
+        this.retryAfter = retryAfter;
+        this.rejected = Counter.builder("library.password.check.rejected").register(meterRegistry);
+        new ExecutorServiceMetrics(executor, "password-check", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        Future<Authentication> result;
+        try {
+            result = executor.submit(() -> delegate.authenticate(authentication));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordCheckRejectedException(REJECTED_MESSAGE, retryAfter);
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AuthenticationException authenticationException) {
+                throw authenticationException;
+            }
+            throw new AuthenticationServiceException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,77 @@
+package ru.otus.hw.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+
+/**
+ * Removes expired HTTP sessions in batches of {@code security.session-store.cleanup-batch-size} on the
+ * {@code security.session-store.cleanup-cron} schedule, instead of the single unbounded delete of Spring
+ * Session. Every batch is a statement of its own, so after a long idle period the cleanup never holds
+ * locks on thousands of rows that logged-in users are about to read. The attributes of a session go
+ * with it by the cascading foreign key. Removed sessions are counted as
+ * {@code library.session.cleanup.deleted}.
+ */
+@Slf4j
+@Component
+public class ExpiredSessionCleaner {
+
+    private static final String DELETE_EXPIRED_BATCH = """
+            delete from %1$s where primary_id in (
+                select primary_id from %1$s where expiry_time < ? order by expiry_time limit ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int batchSize;
+
+    private final String deleteQuery;
+
+    private final Clock clock;
+
+    private final Counter deleted;
+
+    @Autowired
+    public ExpiredSessionCleaner(JdbcTemplate jdbcTemplate,
+                                 @Value("${security.session-store.cleanup-batch-size:500}") int batchSize,
+                                 @Value("${spring.session.jdbc.table-name:spring_session}") String tableName,
+                                 MeterRegistry meterRegistry) {
+        this(jdbcTemplate, batchSize, tableName, Clock.systemUTC(), meterRegistry);
+    }
+
+    ExpiredSessionCleaner(JdbcTemplate jdbcTemplate, int batchSize, String tableName, Clock clock,
+                          MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.deleteQuery = DELETE_EXPIRED_BATCH.formatted(tableName);
+        this.clock = clock;
+        this.deleted = Counter.builder("library.session.cleanup.deleted").register(meterRegistry);
+    }
+
+    /**
+     * Deletes the sessions expired by now, oldest first, until a batch comes back short.
+     *
+     * @return the number of deleted sessions
+     */
+    @Scheduled(cron = "${security.session-store.cleanup-cron:0 * * * * *}")
+    public int cleanUpExpiredSessions() {
+        long now = clock.millis();
+        int total = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.update(deleteQuery, now, batchSize);
+            total += batch;
+        } while (batch == batchSize);
+        deleted.increment(total);
+        if (total > 0) {
+            log.debug("Removed {} expired sessions", total);
+        }
+        return total;
+    }
+}
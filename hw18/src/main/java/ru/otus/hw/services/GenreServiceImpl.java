@@ -18,6 +18,8 @@ import java.util.Optional;
 import java.util.Set;
 
 import static org.springframework.util.CollectionUtils.isEmpty;
+import static ru.otus.hw.services.ListView.BOOKS;
+import static ru.otus.hw.services.ListView.GENRES;
 import static ru.otus.hw.utils.ValidationMessages.ENTITY_NOT_FOUND_MESSAGE;
 import static ru.otus.hw.utils.ValidationMessages.ILLEGAL_ARGUMENT_MESSAGE;
 
@@ -33,6 +35,8 @@ public class GenreServiceImpl implements GenreService {
 
     private final GenreMapper mapper;
 
+    private final ListViewVersions listViewVersions;
+
     @Override
     @CircuitBreaker(name = GENRE_SERVICE, fallbackMethod = "findAllCircuitBreakerFallback")
     public List<GenreDto> findAll() {
@@ -73,6 +77,7 @@ public class GenreServiceImpl implements GenreService {
     @Transactional
     @CircuitBreaker(name = GENRE_SERVICE, fallbackMethod = "insertCircuitBreakerFallback")
     public GenreDto insert(@Valid String name) {
+        listViewVersions.invalidate(GENRES, BOOKS);
         return mapper.toGenreDto(genreRepository.save(new Genre(name)));
     }
 
@@ -85,6 +90,7 @@ public class GenreServiceImpl implements GenreService {
     @Transactional
     @CircuitBreaker(name = GENRE_SERVICE, fallbackMethod = "updateCircuitBreakerFallback")
     public GenreDto update(Long id, @Valid String name) {
+        listViewVersions.invalidate(GENRES, BOOKS);
         Genre genre = genreRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_MESSAGE
                         .getMessage(Genre.class.getSimpleName(), id)));
@@ -102,6 +108,7 @@ public class GenreServiceImpl implements GenreService {
     @Transactional
     @CircuitBreaker(name = GENRE_SERVICE, fallbackMethod = "deleteByIdCircuitBreakerFallback")
     public void deleteById(Long id) {
+        listViewVersions.invalidate(GENRES, BOOKS);
         genreRepository.deleteById(id);
     }
 
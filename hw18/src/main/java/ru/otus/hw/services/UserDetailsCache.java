@@ -0,0 +1,137 @@
+package ru.otus.hw.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of the loaded {@link UserDetails}, so a repeated authentication of the same user skips
+ * the database. The least recently used entry is dropped above {@code security.user-cache.max-size}
+ * entries and every entry expires {@code security.user-cache.ttl} after it was loaded.
+ * <p>
+ * Any change of a user or a role clears the whole cache once the transaction completes. A load that
+ * started before such a change is not stored, so a stale user can't outlive the invalidation.
+ * Callers get a copy of the cached entry because the authentication manager erases the password of
+ * the principal it returns.
+ * <p>
+ * The invalidation only reaches the cache of the instance that flushed the change. Other instances
+ * working with the same database, such as those sharing the JDBC session store, keep serving the old
+ * user, a disabled one or one with revoked roles included, until the entry expires: the
+ * {@code security.user-cache.ttl} of 5 minutes by default is the longest such a change goes unnoticed
+ * there. Lower it, or set {@code security.user-cache.max-size} to 0 to turn the cache off, where that
+ * is too long.
+ */
+@Component
+public class UserDetailsCache {
+
+    private static final String METRIC_NAME = "library.user.cache";
+
+    private final int maxSize;
+
+    private final long ttlNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Entry> entries;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private long generation;
+
+    @Autowired
+    public UserDetailsCache(@Value("${security.user-cache.max-size:1000}") int maxSize,
+                            @Value("${security.user-cache.ttl:PT5M}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this(maxSize, ttl, System::nanoTime, meterRegistry);
+    }
+
+    UserDetailsCache(int maxSize, Duration ttl, LongSupplier nanoClock, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > UserDetailsCache.this.maxSize;
+            }
+        };
+        this.hits = Counter.builder(METRIC_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME).tag("result", "miss").register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", this, UserDetailsCache::size).register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached user, or the one {@code loader} loads. Exceptions of {@code loader} are passed
+     * through and nothing is cached for them.
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry cached = entries.get(username);
+            if (cached != null && nanoClock.getAsLong() - cached.loadedAt() < ttlNanos) {
+                hits.increment();
+                return copyOf(cached.user());
+            }
+            if (cached != null) {
+                entries.remove(username);
+            }
+            loadGeneration = generation;
+        }
+        misses.increment();
+        UserDetails user = loader.apply(username);
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                entries.put(username, new Entry(copyOf(user), nanoClock.getAsLong()));
+            }
+        }
+        return user;
+    }
+
+    /**
+     * Clears the cache once the current transaction completes, whatever its outcome. Outside
+     * a transaction the cache is cleared at once.
+     */
+    public void invalidateAll() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                clear();
+            }
+        });
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    private static UserDetails copyOf(UserDetails user) {
+        return User.withUserDetails(user).build();
+    }
+
+    private record Entry(UserDetails user, long loadedAt) {
+    }
+}
@@ -7,10 +7,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.otus.hw.dto.UserDto;
 import ru.otus.hw.dto.mapper.UserMapper;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.User;
 import ru.otus.hw.repositories.UserRepository;
 
 import java.util.Optional;
 
+import static ru.otus.hw.utils.ValidationMessages.USERNAME_NOT_FOUND_MESSAGE;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -30,6 +34,15 @@ public class UserServiceImpl implements UserService {
         return userRepository.findByUsername(username).map(mapper::toUserDto);
     }
 
+    @Override
+    @Transactional
+    public void updatePassword(String username, String encodedPassword) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException(USERNAME_NOT_FOUND_MESSAGE
+                        .getMessage(User.class.getSimpleName(), username)));
+        user.setPassword(encodedPassword);
+    }
+
     private Optional<UserDto> findByUsernameCircuitBreakerFallback(String username, Exception e) {
         log.warn("Circuit Breaker fallback: findByUsername method called. username: {}, Error: {}", username,
                 e.getMessage());
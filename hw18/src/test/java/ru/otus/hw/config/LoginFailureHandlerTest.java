@@ -0,0 +1,48 @@
+package ru.otus.hw.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import ru.otus.hw.exceptions.PasswordCheckRejectedException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Обработчик неудачного входа")
+class LoginFailureHandlerTest {
+
+    private final LoginFailureHandler handler = new LoginFailureHandler("/login?error");
+
+    @DisplayName("должен отвечать 503 с Retry-After, когда проверка пароля отклонена из-за перегрузки")
+    @Test
+    void whenPasswordCheckRejected_thenServiceUnavailableWithRetryAfter() throws Exception {
+        //Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //When
+        handler.onAuthenticationFailure(new MockHttpServletRequest(), response,
+                new PasswordCheckRejectedException("busy", Duration.ofSeconds(2)));
+
+        //Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getRedirectedUrl()).isNull();
+    }
+
+    @DisplayName("должен перенаправлять на форму входа при неверном пароле")
+    @Test
+    void whenBadCredentials_thenRedirectToLoginError() throws Exception {
+        //Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //When
+        handler.onAuthenticationFailure(new MockHttpServletRequest(), response,
+                new BadCredentialsException("bad"));
+
+        //Then
+        assertThat(response.getRedirectedUrl()).isEqualTo("/login?error");
+    }
+}
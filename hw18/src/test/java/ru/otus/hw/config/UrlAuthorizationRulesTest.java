@@ -0,0 +1,67 @@
+package ru.otus.hw.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Правила доступа к URL, собранные в дерево по первому сегменту пути")
+class UrlAuthorizationRulesTest {
+
+    private static final Authentication ANONYMOUS = new AnonymousAuthenticationToken("key", "anonymous",
+            AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+    private static final Authentication READER = UsernamePasswordAuthenticationToken.authenticated("reader",
+            null, AuthorityUtils.createAuthorityList("ROLE_READER"));
+
+    private static final Authentication ADMIN = UsernamePasswordAuthenticationToken.authenticated("admin",
+            null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+
+    private final UrlAuthorizationRules rules = UrlAuthorizationRules.builder()
+            .permitAll("/", "/login")
+            .hasAnyRole(new String[]{"/books", "/books/{id}/details"}, "READER", "ADMIN")
+            .rule((authentication, context) -> new AuthorizationDecision("7".equals(context.getVariables().get("id"))),
+                    "/*/{id}/edit")
+            .hasAnyRole(new String[]{"/books/*/edit", "/books/*/delete"}, "ADMIN")
+            .otherwise(AuthenticatedAuthorizationManager.authenticated());
+
+    @DisplayName("должен применять роли правила, совпавшего по первому сегменту пути")
+    @Test
+    void whenPathMatchesRule_thenItsRolesApply() {
+        assertThat(isGranted(ANONYMOUS, "/login")).isTrue();
+        assertThat(isGranted(ANONYMOUS, "/")).isTrue();
+        assertThat(isGranted(ANONYMOUS, "/books")).isFalse();
+        assertThat(isGranted(READER, "/books/1/details")).isTrue();
+        assertThat(isGranted(READER, "/books/1/delete")).isFalse();
+        assertThat(isGranted(ADMIN, "/books/1/delete")).isTrue();
+    }
+
+    @DisplayName("должен сохранять порядок объявления правил с шаблоном и передавать переменные пути")
+    @Test
+    void whenWildcardRuleDeclaredFirst_thenItWinsWithPathVariables() {
+        assertThat(isGranted(READER, "/books/7/edit")).isTrue();
+        assertThat(isGranted(ADMIN, "/books/8/edit")).isFalse();
+        assertThat(isGranted(READER, "/authors/7/edit")).isTrue();
+    }
+
+    @DisplayName("должен применять последнее правило к путям без совпадений")
+    @Test
+    void whenNoRuleMatches_thenOtherwiseApplies() {
+        assertThat(isGranted(ANONYMOUS, "/access-denied")).isFalse();
+        assertThat(isGranted(READER, "/access-denied")).isTrue();
+        assertThat(isGranted(READER, "/books/1/unknown")).isTrue();
+    }
+
+    private boolean isGranted(Authentication authentication, String uri) {
+        return rules.authorize(() -> authentication,
+                new RequestAuthorizationContext(new MockHttpServletRequest("GET", uri))).isGranted();
+    }
+}
@@ -1,10 +1,15 @@
 package ru.otus.hw.controllers;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -20,11 +25,15 @@ import ru.otus.hw.services.AuthorService;
 import ru.otus.hw.services.BookService;
 import ru.otus.hw.services.CommentService;
 import ru.otus.hw.services.GenreService;
+import ru.otus.hw.services.ListView;
+import ru.otus.hw.services.ListViewVersions;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
@@ -47,6 +56,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @DisplayName("Контроллер для работы с книгами ")
 @WebMvcTest(BookController.class)
+@Import({RenderedFragmentCache.class, ListViewVersions.class, SimpleMeterRegistry.class})
 @WithMockUser(username = "admin")
 class BookControllerTest {
 
@@ -57,6 +67,12 @@ class BookControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ListViewVersions listViewVersions;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
     @MockitoBean
     private BookService bookService;
 
@@ -80,6 +96,7 @@ class BookControllerTest {
 
     @BeforeEach
     void setUp() {
+        listViewVersions.invalidate(ListView.values());
         AuthorDto authorDto = AuthorDto.builder().id(PRESENT_ID).fullName("Author_1").build();
         List<GenreDto> genreDtos = List.of(GenreDto.builder().id(PRESENT_ID).name("Genre_1").build());
 
@@ -114,11 +131,49 @@ class BookControllerTest {
         mockMvc.perform(get("/books"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("books"))
-                .andExpect(model().attribute("books", books));
+                .andExpect(model().attribute("bookRows", containsString("Test_Book")));
 
         verify(bookService, times(1)).findAll();
     }
 
+    @DisplayName("должен отдавать строки списка книг из кэша до изменения данных")
+    @Test
+    void whenGetAllBooksTwice_thenRenderRowsOnceUntilInvalidated() throws Exception {
+        //Given
+        when(bookService.findAll()).thenReturn(List.of(bookDto));
+
+        //When
+        mockMvc.perform(get("/books")).andExpect(status().isOk());
+        mockMvc.perform(get("/books"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("bookRows", containsString("Test_Book")));
+        listViewVersions.invalidate(ListView.BOOKS);
+        mockMvc.perform(get("/books")).andExpect(status().isOk());
+
+        //Then
+        verify(bookService, times(2)).findAll();
+    }
+
+    @DisplayName("не должен кэшировать строки, отрисованные по ответу fallback-метода")
+    @Test
+    void whenBreakerCallFailsWhileRendering_thenRowsAreNotCached() throws Exception {
+        //Given
+        when(bookService.findAll()).thenAnswer(invocation -> {
+            circuitBreakerRegistry.circuitBreaker("bookService")
+                    .onError(0, TimeUnit.MILLISECONDS, new IllegalStateException("db is down"));
+            return List.of();
+        }).thenReturn(List.of(bookDto));
+
+        //When
+        mockMvc.perform(get("/books")).andExpect(status().isOk());
+        mockMvc.perform(get("/books"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("bookRows", containsString("Test_Book")));
+
+        //Then
+        verify(bookService, times(2)).findAll();
+    }
+
     @DisplayName("должен отображать детали книги по существующему ID")
     @Test
     void whenGetBookById_thenReturnsBookView() throws Exception {
@@ -344,4 +399,13 @@ class BookControllerTest {
 
         verify(bookService).deleteById(MISSING_ID);
     }
-}
\ No newline at end of file
+
+    @TestConfiguration
+    static class CircuitBreakerConfiguration {
+
+        @Bean
+        CircuitBreakerRegistry circuitBreakerRegistry() {
+            return CircuitBreakerRegistry.ofDefaults();
+        }
+    }
+}
@@ -12,12 +12,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.repositories.UserRepository;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
@@ -42,6 +44,9 @@ class SecurityIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private UserRepository userRepository;
+
     private Map<String, String> genreFormData;
     private Map<String, String> authorFormData;
     private Map<String, String> bookFormData;
@@ -106,6 +111,18 @@ class SecurityIntegrationTest {
                 .andExpect(authenticated());
     }
 
+    @DisplayName("должен перезаписывать хэш пароля без префикса алгоритма после успешного входа")
+    @Test
+    void whenLoginWithLegacyHash_thenPasswordRehashedWithAlgorithmPrefix() throws Exception {
+        mockMvc.perform(formLogin("/login")
+                        .user(TEST_USERNAME)
+                        .password(TEST_PASSWORD))
+                .andExpect(authenticated());
+
+        assertThat(userRepository.findByUsername(TEST_USERNAME))
+                .hasValueSatisfying(user -> assertThat(user.getPassword()).startsWith("{bcrypt}$2a$12$"));
+    }
+
     @DisplayName("должен отображать ошибку при попытке аутентификации с неправильными учетными данными")
     @Test
     void whenLoginWithIncorrectCredentials_thenShowsError() throws Exception {
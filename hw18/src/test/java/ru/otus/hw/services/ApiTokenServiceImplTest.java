@@ -0,0 +1,90 @@
+package ru.otus.hw.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import ru.otus.hw.dto.ApiTokenDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Сервис подписанных токенов API")
+class ApiTokenServiceImplTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private static final Instant NOW = Instant.parse("2026-10-19T10:00:00Z");
+
+    private static final Authentication ADMIN = UsernamePasswordAuthenticationToken.authenticated("admin", null,
+            AuthorityUtils.createAuthorityList("ROLE_ADMIN", "ROLE_READER"));
+
+    private final ApiTokenService service = serviceAt(NOW);
+
+    @DisplayName("должен восстанавливать пользователя и его роли из выданного токена")
+    @Test
+    void whenVerifyIssuedToken_thenAuthenticationRestored() {
+        //Given
+        ApiTokenDto token = service.issue(ADMIN);
+
+        //When
+        Optional<Authentication> authentication = service.verify(token.accessToken());
+
+        //Then
+        assertThat(token.tokenType()).isEqualTo("Bearer");
+        assertThat(token.expiresIn()).isEqualTo(TTL.toSeconds());
+        assertThat(authentication).hasValueSatisfying(restored -> {
+            assertThat(restored.isAuthenticated()).isTrue();
+            assertThat(restored.getName()).isEqualTo("admin");
+            assertThat(AuthorityUtils.authorityListToSet(restored.getAuthorities()))
+                    .containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_READER");
+        });
+    }
+
+    @DisplayName("должен отклонять токен с измененными данными или подписью другого ключа")
+    @Test
+    void whenVerifyTamperedToken_thenRejected() {
+        //Given
+        String token = service.issue(ADMIN).accessToken();
+        String signature = token.substring(token.indexOf('.'));
+        String forgedClaims = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("admin\n9999999999\nROLE_ADMIN".getBytes(StandardCharsets.UTF_8));
+        ApiTokenService otherKey = new ApiTokenServiceImpl(
+                "fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8), TTL, clockAt(NOW));
+
+        //When //Then
+        assertThat(service.verify(forgedClaims + signature)).isEmpty();
+        assertThat(service.verify(otherKey.issue(ADMIN).accessToken())).isEmpty();
+        assertThat(service.verify("not a token")).isEmpty();
+        assertThat(service.verify("%%%.%%%")).isEmpty();
+    }
+
+    @DisplayName("должен отклонять токен по истечении срока действия")
+    @Test
+    void whenVerifyExpiredToken_thenRejected() {
+        //Given
+        String token = service.issue(ADMIN).accessToken();
+
+        //When //Then
+        assertThat(serviceAt(NOW.plus(TTL).minusSeconds(1)).verify(token)).isPresent();
+        assertThat(serviceAt(NOW.plus(TTL)).verify(token)).isEmpty();
+    }
+
+    private static ApiTokenService serviceAt(Instant now) {
+        return new ApiTokenServiceImpl(SECRET, TTL, clockAt(now));
+    }
+
+    private static Clock clockAt(Instant now) {
+        return Clock.fixed(now, ZoneOffset.UTC);
+    }
+}
@@ -62,6 +62,8 @@ class BookServiceCircuitBreakerTest {
     private BookDto mockBookDto;
     private Author mockAuthor;
     private Genre mockGenre;
+    private AuthorDto authorDto;
+    private GenreDto genreDto;
 
     @BeforeEach
     void setUp() {
@@ -73,14 +75,17 @@ class BookServiceCircuitBreakerTest {
         mockGenre = new Genre(1L, "Test Genre");
         mockBook = new Book(1L, "Test Book", mockAuthor, List.of(mockGenre));
 
-        AuthorDto authorDto = new AuthorDto(1L, "Test Author");
-        GenreDto genreDto = new GenreDto(1L, "Test Genre");
+        authorDto = new AuthorDto(1L, "Test Author");
+        genreDto = new GenreDto(1L, "Test Genre");
         mockBookDto = new BookDto(1L, "Test Book", authorDto, List.of(genreDto));
 
         when(bookRepository.findAll()).thenReturn(List.of(mockBook));
         when(bookRepository.findById(1L)).thenReturn(Optional.of(mockBook));
         when(authorRepository.findById(1L)).thenReturn(Optional.of(mockAuthor));
-        when(genreRepository.findAllById(Set.of(1L))).thenReturn(List.of(mockGenre));
+        when(authorRepository.findDtosByIdIn(Set.of(1L))).thenReturn(List.of(authorDto));
+        when(authorRepository.getReferenceById(1L)).thenReturn(mockAuthor);
+        when(genreRepository.findDtosByIdIn(Set.of(1L))).thenReturn(List.of(genreDto));
+        when(genreRepository.getReferenceById(1L)).thenReturn(mockGenre);
         when(bookRepository.save(any(Book.class))).thenReturn(mockBook);
         when(bookMapper.toBookDto(any(Book.class))).thenReturn(mockBookDto);
     }
@@ -171,8 +176,8 @@ class BookServiceCircuitBreakerTest {
     @Test
     void whenInsertAndRepositoryThrowsException_thenCircuitBreakerFallbackIsCalled() {
         // Given
-        when(authorRepository.findById(1L)).thenReturn(Optional.of(mockAuthor));
-        when(genreRepository.findAllById(Set.of(1L))).thenReturn(List.of(mockGenre));
+        when(authorRepository.findDtosByIdIn(Set.of(1L))).thenReturn(List.of(authorDto));
+        when(genreRepository.findDtosByIdIn(Set.of(1L))).thenReturn(List.of(genreDto));
         when(bookRepository.save(any(Book.class))).thenThrow(new RuntimeException("Database error"));
 
         // When
@@ -187,8 +192,8 @@ class BookServiceCircuitBreakerTest {
     @Test
     void whenUpdateAndRepositoryThrowsException_thenCircuitBreakerFallbackIsCalled() {
         // Given
-        when(authorRepository.findById(1L)).thenReturn(Optional.of(mockAuthor));
-        when(genreRepository.findAllById(Set.of(1L))).thenReturn(List.of(mockGenre));
+        when(authorRepository.findDtosByIdIn(Set.of(1L))).thenReturn(List.of(authorDto));
+        when(genreRepository.findDtosByIdIn(Set.of(1L))).thenReturn(List.of(genreDto));
         when(bookRepository.findById(1L)).thenReturn(Optional.of(mockBook));
         when(bookRepository.save(any(Book.class))).thenThrow(new RuntimeException("Database error"));
 
@@ -9,7 +9,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import ru.otus.hw.dto.AuthorDto;
 import ru.otus.hw.dto.BookDto;
+import ru.otus.hw.dto.GenreDto;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Genre;
@@ -66,8 +68,10 @@ class BookServiceResilienceIntegrationTest {
         when(bookRepository.findAll()).thenReturn(List.of(mockBook));
         when(bookRepository.findById(1L)).thenReturn(Optional.of(mockBook));
         when(bookRepository.save(any(Book.class))).thenReturn(mockBook);
-        when(authorRepository.findById(1L)).thenReturn(Optional.of(mockAuthor));
-        when(genreRepository.findAllById(Set.of(1L))).thenReturn(List.of(mockGenre));
+        when(authorRepository.findDtosByIdIn(Set.of(1L))).thenReturn(List.of(new AuthorDto(1L, "Test Author")));
+        when(authorRepository.getReferenceById(1L)).thenReturn(mockAuthor);
+        when(genreRepository.findDtosByIdIn(Set.of(1L))).thenReturn(List.of(new GenreDto(1L, "Test Genre")));
+        when(genreRepository.getReferenceById(1L)).thenReturn(mockGenre);
     }
 
     @DisplayName("должен использовать fallback при сбое в репозитории findAll")
@@ -116,28 +120,28 @@ class BookServiceResilienceIntegrationTest {
     @Test
     void whenAuthorRepositoryFails_thenUseFallback() {
         // Given
-        when(authorRepository.findById(any(Long.class))).thenThrow(new RuntimeException("Author / Database error"));
+        when(authorRepository.findDtosByIdIn(any())).thenThrow(new RuntimeException("Author / Database error"));
 
         // When
         BookDto result = bookService.insert("New Book", 1L, Set.of(1L));
 
         // Then
         assertThat(result).isNull();
-        verify(authorRepository, times(1)).findById(1L);
+        verify(authorRepository, times(1)).findDtosByIdIn(Set.of(1L));
     }
 
     @DisplayName("должен использовать fallback при сбое в genreRepository")
     @Test
     void whenGenreRepositoryFails_thenUseFallback() {
         // Given
-        when(genreRepository.findAllById(any())).thenThrow(new RuntimeException("Genre / Database error"));
+        when(genreRepository.findDtosByIdIn(any())).thenThrow(new RuntimeException("Genre / Database error"));
 
         // When
         BookDto result = bookService.insert("New Book", 1L, Set.of(1L));
 
         // Then
         assertThat(result).isNull();
-        verify(genreRepository, times(1)).findAllById(any());
+        verify(genreRepository, times(1)).findDtosByIdIn(any());
     }
 
     @DisplayName("должен корректно работать при нормальных условиях")